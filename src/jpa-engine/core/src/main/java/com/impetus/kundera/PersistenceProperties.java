@@ -48,6 +48,52 @@ public interface PersistenceProperties
     /** The Constant KUNDERA_FETCH_MAX_DEPTH. */
     public static final String KUNDERA_FETCH_MAX_DEPTH = "kundera.fetch.max.depth";
 
+    /**
+     * Maximum number of related entities loaded with a single findAll while
+     * populating eager relations of a query result, or while initializing
+     * pending lazy proxies of an entity class. Disabled when not set.
+     */
+    public static final String KUNDERA_FETCH_BATCH_SIZE = "kundera.fetch.batch.size";
+
+    /**
+     * Entity manager property, when set to true entities are neither copied
+     * nor snapshotted by persistence context. Meant for read heavy entity
+     * managers, which do not modify found entities.
+     */
+    public static final String KUNDERA_PERSISTENCE_CONTEXT_READ_ONLY = "kundera.persistence.context.read.only";
+
+    /**
+     * When set to true, updates of managed entities write modified attributes
+     * only, for clients supporting partial updates.
+     */
+    public static final String KUNDERA_PARTIAL_UPDATE = "kundera.partial.update";
+
+    /**
+     * Maximum number of parsed JPQL queries cached per entity manager
+     * factory, 0 disables caching. Defaults to 256.
+     */
+    public static final String KUNDERA_QUERY_PLAN_CACHE_SIZE = "kundera.query.plan.cache.size";
+
+    /**
+     * Number of threads flushing independent clients of polyglot persistence
+     * units concurrently. Flush is serial if not set or less than 2.
+     */
+    public static final String KUNDERA_FLUSH_PARALLELISM = "kundera.flush.parallelism";
+
+    /**
+     * {@link java.util.concurrent.ExecutorService} instance to flush
+     * independent clients, provided as entity manager factory property.
+     * Overrides {@link #KUNDERA_FLUSH_PARALLELISM}.
+     */
+    public static final String KUNDERA_FLUSH_EXECUTOR = "kundera.flush.executor";
+
+    /**
+     * Number of threads parsing class files of persistence unit roots, which
+     * have no entity index ({@link com.impetus.kundera.classreading.EntityIndex}).
+     * Defaults to number of available processors, serial if less than 2.
+     */
+    public static final String KUNDERA_SCAN_PARALLELISM = "kundera.scan.parallelism";
+
     /** Connection Pooling related constants. */
 
     // Cap on the number of object instances managed by the pool per node.
@@ -70,6 +116,37 @@ public interface PersistenceProperties
      */
     public static final String KUNDERA_INDEX_HOME_DIR = "index.home.dir";
 
+    /**
+     * Lucene directory type for index home directory, one of ram, mmap, nio or
+     * fs. ram loads index into heap, others work on index files in place and
+     * commit to disk. Defaults to ram.
+     */
+    public static final String KUNDERA_INDEX_DIRECTORY = "kundera.index.directory";
+
+    /**
+     * Whether to cache small segments of near real time searchers in memory,
+     * in front of mmap, nio or fs Lucene directory. Defaults to false.
+     */
+    public static final String KUNDERA_INDEX_NRT_CACHING = "kundera.index.nrt.caching";
+
+    /**
+     * Interval in milliseconds to refresh Lucene searcher in background, 0
+     * refreshes it on search if index is modified. Defaults to 0.
+     */
+    public static final String KUNDERA_INDEX_REFRESH_INTERVAL = "kundera.index.refresh.interval";
+
+    /**
+     * Interval in milliseconds to commit Lucene index changes, 0 disables
+     * time based commit. Defaults to 1000.
+     */
+    public static final String KUNDERA_INDEX_COMMIT_INTERVAL = "kundera.index.commit.interval";
+
+    /**
+     * Number of Lucene index changes to commit together, 0 disables count
+     * based commit. Defaults to 1000.
+     */
+    public static final String KUNDERA_INDEX_COMMIT_BATCH_SIZE = "kundera.index.commit.batch.size";
+
     /** Option to create schema. */
     public static final String KUNDERA_DDL_AUTO_PREPARE = "kundera.ddl.auto.prepare";
 
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.classreading;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.impetus.kundera.Constants;
+
+/**
+ * Entity index of a classpath root (directory or jar), generated at build time
+ * by {@link EntityIndexProcessor}. Lists names of entity classes of the root,
+ * one per line, so that entities can be loaded without scanning every class
+ * file of the root.
+ */
+public final class EntityIndex
+{
+    /** The log. */
+    private static Logger log = LoggerFactory.getLogger(EntityIndex.class);
+
+    /** Location of index within a classpath root. */
+    public static final String INDEX_LOCATION = "META-INF/kundera-entities.idx";
+
+    /** Prefix of comment lines. */
+    static final String COMMENT = "#";
+
+    private EntityIndex()
+    {
+    }
+
+    /**
+     * Reads entity index of given classpath root.
+     *
+     * @param root
+     *            url of a directory or jar
+     * @return entity class names, or null if root has no index.
+     */
+    public static List<String> read(URL root)
+    {
+        URL indexUrl = getIndexUrl(root);
+        if (indexUrl == null)
+        {
+            return null;
+        }
+
+        InputStream is = null;
+        try
+        {
+            URLConnection connection = indexUrl.openConnection();
+            // Do not keep jar file open, once index is read.
+            connection.setUseCaches(false);
+            is = connection.getInputStream();
+            return read(is);
+        }
+        catch (FileNotFoundException e)
+        {
+            return null;
+        }
+        catch (IOException e)
+        {
+            log.warn("Unable to read entity index " + indexUrl + ", classes will be scanned. Caused by: "
+                    + e.getMessage());
+            return null;
+        }
+        finally
+        {
+            if (is != null)
+            {
+                try
+                {
+                    is.close();
+                }
+                catch (IOException e)
+                {
+                    log.debug("Unable to close entity index " + indexUrl);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads entity class names from given index stream.
+     *
+     * @param is
+     *            the index stream
+     * @return entity class names
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    static List<String> read(InputStream is) throws IOException
+    {
+        List<String> classNames = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, Constants.CHARSET_UTF8));
+        String line;
+        while ((line = reader.readLine()) != null)
+        {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith(COMMENT))
+            {
+                classNames.add(line);
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Returns url of index within given classpath root, or null if root is a
+     * single class file.
+     */
+    private static URL getIndexUrl(URL root)
+    {
+        String urlString = root.toString();
+        if (urlString.endsWith(".class"))
+        {
+            return null;
+        }
+
+        try
+        {
+            if (urlString.endsWith("/"))
+            {
+                return new URL(root, INDEX_LOCATION);
+            }
+            return new URL("jar:" + urlString + "!/" + INDEX_LOCATION);
+        }
+        catch (MalformedURLException e)
+        {
+            log.debug("Unable to resolve entity index of " + root + ", Caused by: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.classreading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.persistence.Entity;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.impetus.kundera.Constants;
+
+/**
+ * Annotation processor, which writes {@link EntityIndex} of compiled entity
+ * classes to {@link EntityIndex#INDEX_LOCATION}. Metamodel is then loaded from
+ * index instead of scanning class files of directory or jar. Not registered
+ * as a service, enable it explicitly with
+ * <code>-processor com.impetus.kundera.classreading.EntityIndexProcessor</code>
+ * (or <code>annotationProcessors</code> of maven compiler plugin).
+ *
+ * Index of an earlier compilation, found in class output, is merged, so that
+ * incremental compilation keeps entities not compiled again. Jars merging
+ * several indexes (e.g. shaded jars) must append them.
+ */
+@SupportedAnnotationTypes("javax.persistence.Entity")
+public class EntityIndexProcessor extends AbstractProcessor
+{
+    /** Binary names of entity classes. */
+    private final Set<String> entities = new TreeSet<String>();
+
+    /** Binary names of classes of this compilation, entities or not. */
+    private final Set<String> compiledTypes = new HashSet<String>();
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set,
+     * javax.annotation.processing.RoundEnvironment)
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        for (Element element : roundEnv.getRootElements())
+        {
+            addCompiledTypes(element);
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Entity.class))
+        {
+            if (element.getKind() == ElementKind.CLASS)
+            {
+                entities.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+            }
+        }
+
+        if (roundEnv.processingOver())
+        {
+            boolean merged = mergeIndex();
+            if (merged || !entities.isEmpty())
+            {
+                writeIndex();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds binary names of given type and its nested types to compiled types.
+     */
+    private void addCompiledTypes(Element element)
+    {
+        if (element instanceof TypeElement)
+        {
+            compiledTypes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+            for (Element enclosed : element.getEnclosedElements())
+            {
+                addCompiledTypes(enclosed);
+            }
+        }
+    }
+
+    /**
+     * Merges index of an earlier compilation, if any, keeping entities which
+     * are not compiled again and still exist. Entities compiled again are
+     * already listed, if they still are entities.
+     *
+     * @return true, if an earlier index was found.
+     */
+    private boolean mergeIndex()
+    {
+        List<String> previous;
+        InputStream is = null;
+        try
+        {
+            is = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.INDEX_LOCATION)
+                    .openInputStream();
+            previous = EntityIndex.read(is);
+        }
+        catch (IOException e)
+        {
+            // no earlier index.
+            return false;
+        }
+        finally
+        {
+            if (is != null)
+            {
+                try
+                {
+                    is.close();
+                }
+                catch (IOException e)
+                {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "Unable to close " + EntityIndex.INDEX_LOCATION);
+                }
+            }
+        }
+
+        Elements elements = processingEnv.getElementUtils();
+        for (String entity : previous)
+        {
+            if (!compiledTypes.contains(entity) && elements.getTypeElement(entity.replace('$', '.')) != null)
+            {
+                entities.add(entity);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes index to class output.
+     */
+    private void writeIndex()
+    {
+        Writer writer = null;
+        try
+        {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    EntityIndex.INDEX_LOCATION);
+            writer = new OutputStreamWriter(index.openOutputStream(), Constants.CHARSET_UTF8);
+            writer.write(EntityIndex.COMMENT + " Generated by " + EntityIndexProcessor.class.getName() + "\n");
+            for (String entity : entities)
+            {
+                writer.write(entity);
+                writer.write("\n");
+            }
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + EntityIndex.INDEX_LOCATION + ", Caused by: " + e.getMessage());
+        }
+        finally
+        {
+            if (writer != null)
+            {
+                try
+                {
+                    writer.close();
+                }
+                catch (IOException e)
+                {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "Unable to close " + EntityIndex.INDEX_LOCATION);
+                }
+            }
+        }
+    }
+}
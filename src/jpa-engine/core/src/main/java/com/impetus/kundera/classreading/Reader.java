@@ -98,6 +98,44 @@ public abstract class Reader
         }
     }
 
+    /**
+     * Parses given class file and returns its name, if it carries one of valid
+     * annotations. Safe to call concurrently, once valid annotations are set.
+     * 
+     * @param bits
+     *            the bits
+     * @return class name, or null if class has none of valid annotations.
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public String findAnnotatedClass(InputStream bits) throws IOException
+    {
+        DataInputStream dstream = new DataInputStream(new BufferedInputStream(bits));
+        try
+        {
+            ClassFile cf = new ClassFile(dstream);
+
+            List<String> annotations = new ArrayList<String>();
+            accumulateAnnotations(annotations, (AnnotationsAttribute) cf.getAttribute(AnnotationsAttribute.visibleTag));
+            accumulateAnnotations(annotations,
+                    (AnnotationsAttribute) cf.getAttribute(AnnotationsAttribute.invisibleTag));
+
+            for (String validAnn : getValidAnnotations())
+            {
+                if (annotations.contains(validAnn))
+                {
+                    return cf.getName();
+                }
+            }
+            return null;
+        }
+        finally
+        {
+            dstream.close();
+            bits.close();
+        }
+    }
+
     // helper method to accumulate annotations.
     /**
      * Accumulate annotations.
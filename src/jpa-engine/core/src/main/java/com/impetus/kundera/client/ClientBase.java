@@ -19,8 +19,12 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.PreUpdate;
 
 import com.impetus.kundera.db.RelationHolder;
+import com.impetus.kundera.generator.HiLoAllocator;
 import com.impetus.kundera.graph.Node;
 import com.impetus.kundera.graph.NodeLink;
 import com.impetus.kundera.graph.NodeLink.LinkProperty;
@@ -29,9 +33,11 @@ import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.MetadataUtils;
 import com.impetus.kundera.metadata.model.ClientMetadata;
 import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
 import com.impetus.kundera.metadata.model.Relation;
 import com.impetus.kundera.metadata.model.Relation.ForeignKey;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.persistence.event.CallbackMethod;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.utils.KunderaCoreUtils;
 
@@ -62,6 +68,9 @@ public abstract class ClientBase
 
     protected boolean isUpdate;
 
+    /** Attributes modified by current update, null to write entity as whole. */
+    protected Set<String> modifiedAttributes;
+
     protected ClientMetadata clientMetadata;
 
     protected final KunderaMetadata kunderaMetadata;
@@ -99,6 +108,17 @@ public abstract class ClientBase
         return persistenceUnit;
     }
 
+    /**
+     * Returns allocator of generated ids, shared across clients of entity
+     * manager factory.
+     *
+     * @return the id allocator
+     */
+    public HiLoAllocator getIdAllocator()
+    {
+        return kunderaMetadata.getIdAllocator();
+    }
+
     /**
      * Method to handle
      * 
@@ -110,6 +130,7 @@ public abstract class ClientBase
         Object id = node.getEntityId();
         EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, node.getDataClass());
         isUpdate = node.isUpdate();
+        modifiedAttributes = isUpdate && isPartialUpdate(metadata) ? node.getModifiedAttributes() : null;
         List<RelationHolder> relationHolders = getRelationHolders(node);
         onPersist(metadata, entity, id, relationHolders);
         id = PropertyAccessorHelper.getId(entity, metadata);
@@ -117,6 +138,34 @@ public abstract class ClientBase
         indexNode(node, metadata);
     }
 
+    /**
+     * Returns true, if given attribute is to be written by current persist.
+     * 
+     * @param attributeName
+     *            name of entity attribute.
+     * @return true, if entity is written as whole or attribute is modified.
+     */
+    protected boolean isModified(String attributeName)
+    {
+        return modifiedAttributes == null || modifiedAttributes.contains(attributeName);
+    }
+
+    /**
+     * Partial updates are skipped for entities with pre update callbacks, as
+     * these may modify any attribute.
+     */
+    protected boolean isPartialUpdate(EntityMetadata metadata)
+    {
+        PersistenceUnitMetadata puMetadata = KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata,
+                metadata.getPersistenceUnit());
+        if (puMetadata == null || !puMetadata.isPartialUpdate())
+        {
+            return false;
+        }
+        List<? extends CallbackMethod> callbacks = metadata.getCallbackMethods(PreUpdate.class);
+        return callbacks == null || callbacks.isEmpty();
+    }
+
     public void remove(Object entity, Object pKey){
         delete(entity, pKey);
         EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entity.getClass());
@@ -15,8 +15,7 @@
  ******************************************************************************/
 package com.impetus.kundera.configure;
 
-import java.io.BufferedInputStream;
-import java.io.DataInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
@@ -24,14 +23,19 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-import javassist.bytecode.AnnotationsAttribute;
-import javassist.bytecode.ClassFile;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Table;
 import javax.persistence.metamodel.Metamodel;
@@ -40,8 +44,11 @@ import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.io.ByteStreams;
+
 import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.classreading.ClasspathReader;
+import com.impetus.kundera.classreading.EntityIndex;
 import com.impetus.kundera.classreading.Reader;
 import com.impetus.kundera.classreading.ResourceIterator;
 import com.impetus.kundera.loader.MetamodelLoaderException;
@@ -52,13 +59,16 @@ import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.IdDiscriptor;
 import com.impetus.kundera.metadata.model.MetamodelImpl;
 import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
+import com.impetus.kundera.metadata.model.Relation;
 import com.impetus.kundera.metadata.processor.GeneratedValueProcessor;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.proxy.LazyInitializerFactory;
+import com.impetus.kundera.proxy.cglib.CglibLazyInitializerFactory;
 import com.impetus.kundera.utils.KunderaCoreUtils;
+import com.impetus.kundera.utils.KunderaThreadFactory;
 import com.impetus.kundera.validation.ValidationFactory;
 import com.impetus.kundera.validation.ValidationFactoryGenerator;
 import com.impetus.kundera.validation.ValidationFactoryGenerator.ValidationFactoryType;
-import com.impetus.kundera.validation.rules.RuleValidationException;
 
 /**
  * The Metamodel configurer: a) Configure application meta data b) loads entity
@@ -219,24 +229,47 @@ public class MetamodelConfiguration extends AbstractSchemaConfiguration implemen
         List<Class<?>> classes = new ArrayList<Class<?>>();
         if (resources != null && resources.length > 0)
         {
-            for (URL resource : resources)
+            int scanParallelism = getScanParallelism(persistenceUnit);
+            ThreadPoolExecutor executor = null;
+            try
             {
-                try
+                for (URL resource : resources)
                 {
-                    ResourceIterator itr = reader.getResourceIterator(resource, reader.getFilter());
+                    List<String> classNames = EntityIndex.read(resource);
+                    if (classNames != null && isValidIndex(resource, classNames))
+                    {
+                        log.debug("Loading entities of " + resource + " from entity index.");
+                    }
+                    else
+                    {
+                        if (executor == null && scanParallelism > 1)
+                        {
+                            executor = new ThreadPoolExecutor(scanParallelism, scanParallelism, 0L,
+                                    TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(scanParallelism * 16),
+                                    new KunderaThreadFactory(MetamodelConfiguration.class.getName()),
+                                    new ThreadPoolExecutor.CallerRunsPolicy());
+                        }
+                        classNames = scanResource(resource, reader, executor);
+                    }
 
-                    InputStream is = null;
-                    while ((is = itr.next()) != null)
+                    for (String className : classNames)
                     {
-                        classes.addAll(scanClassAndPutMetadata(is, reader, entityMetadataMap, entityNameToClassMap,
+                        classes.addAll(putMetadata(className, entityMetadataMap, entityNameToClassMap,
                                 persistenceUnit, client, puToClazzMap, entityNameToKeyDiscriptorMap));
                     }
                 }
-                catch (IOException e)
-                {
-                    log.error("Error while retrieving and storing entity metadata. Details:", e);
-                    throw new MetamodelLoaderException("Error while retrieving and storing entity metadata");
+            }
+            catch (IOException e)
+            {
+                log.error("Error while retrieving and storing entity metadata. Details:", e);
+                throw new MetamodelLoaderException("Error while retrieving and storing entity metadata");
 
+            }
+            finally
+            {
+                if (executor != null)
+                {
+                    executor.shutdownNow();
                 }
             }
         }
@@ -248,8 +281,12 @@ public class MetamodelConfiguration extends AbstractSchemaConfiguration implemen
                 {
                     try
                     {
-                        classes.addAll(scanClassAndPutMetadata(is, reader, entityMetadataMap, entityNameToClassMap,
-                                persistenceUnit, client, puToClazzMap, entityNameToKeyDiscriptorMap));
+                        String className = reader.findAnnotatedClass(is);
+                        if (className != null)
+                        {
+                            classes.addAll(putMetadata(className, entityMetadataMap, entityNameToClassMap,
+                                    persistenceUnit, client, puToClazzMap, entityNameToKeyDiscriptorMap));
+                        }
                     }
                     finally
                     {
@@ -279,126 +316,296 @@ public class MetamodelConfiguration extends AbstractSchemaConfiguration implemen
                 .getMetaModelBuilder(persistenceUnit).getManagedTypes());
         ((MetamodelImpl) metamodel).assignMappedSuperClass(kunderaMetadata.getApplicationMetadata()
                 .getMetaModelBuilder(persistenceUnit).getMappedSuperClassTypes());
+
+        generateProxyClasses(entityMetadataMap.values());
+    }
+
+    /**
+     * Generates proxy classes of entities referred by lazy unary relations,
+     * so that proxies can be created without generating any class on the
+     * fly, if proxies are created by {@link CglibLazyInitializerFactory}.
+     * Classes which fail to generate are left to be generated (and reported)
+     * on first proxy creation.
+     * 
+     * @param entityMetadatas
+     *            the entity metadatas
+     */
+    private void generateProxyClasses(Collection<EntityMetadata> entityMetadatas)
+    {
+        LazyInitializerFactory lazyInitializerFactory = kunderaMetadata.getCoreMetadata() != null ? kunderaMetadata
+                .getCoreMetadata().getLazyInitializerFactory() : null;
+        if (!(lazyInitializerFactory instanceof CglibLazyInitializerFactory))
+        {
+            return;
+        }
+
+        for (EntityMetadata m : entityMetadatas)
+        {
+            for (Relation relation : m.getRelations())
+            {
+                if (relation != null && relation.isUnary() && FetchType.LAZY.equals(relation.getFetchType()))
+                {
+                    try
+                    {
+                        ((CglibLazyInitializerFactory) lazyInitializerFactory).getProxyClass(relation
+                                .getTargetEntity());
+                    }
+                    catch (RuntimeException e)
+                    {
+                        log.warn("Unable to generate proxy class for " + relation.getTargetEntity().getName()
+                                + ", Caused by: " + e.getMessage());
+                    }
+                }
+            }
+        }
     }
 
     /**
-     * Scan class and put metadata.
+     * Scans class files of given resource, and returns names of classes
+     * carrying a valid annotation, in order of class files. Class files are
+     * parsed on executor, if provided.
      * 
-     * @param bits
-     *            the bits
+     * @param resource
+     *            the resource
      * @param reader
      *            the reader
-     * @param entityMetadataMap
-     *            the entity metadata map
-     * @param entityNameToClassMap
-     *            the entity name to class map
-     * @param keyDiscriptor
-     * @param persistence
-     *            unit the persistence unit.
+     * @param executor
+     *            the executor, null to parse serially.
+     * @return annotated class names.
      * @throws IOException
      *             Signals that an I/O exception has occurred.
-     * @throws RuleValidationException
      */
-    private List<Class<?>> scanClassAndPutMetadata(InputStream bits, Reader reader,
-            Map<String, EntityMetadata> entityMetadataMap, Map<String, Class<?>> entityNameToClassMap,
-            String persistenceUnit, String client, Map<String, List<String>> clazzToPuMap,
-            Map<String, IdDiscriptor> entityNameToKeyDiscriptorMap) throws IOException
+    private List<String> scanResource(URL resource, final Reader reader, ThreadPoolExecutor executor)
+            throws IOException
     {
-        DataInputStream dstream = new DataInputStream(new BufferedInputStream(bits));
-        ClassFile cf = null;
-        String className = null;
-
-        List<Class<?>> classes = new ArrayList<Class<?>>();
-
-        try
+        List<String> classNames = new ArrayList<String>();
+        ResourceIterator itr = reader.getResourceIterator(resource, reader.getFilter());
+        InputStream is = null;
+        if (executor == null)
         {
-            cf = new ClassFile(dstream);
-
-            className = cf.getName();
-
-            List<String> annotations = new ArrayList<String>();
-
-            reader.accumulateAnnotations(annotations,
-                    (AnnotationsAttribute) cf.getAttribute(AnnotationsAttribute.visibleTag));
-            reader.accumulateAnnotations(annotations,
-                    (AnnotationsAttribute) cf.getAttribute(AnnotationsAttribute.invisibleTag));
-            
+            while ((is = itr.next()) != null)
+            {
+                String className = reader.findAnnotatedClass(is);
+                if (className != null)
+                {
+                    classNames.add(className);
+                }
+            }
+            return classNames;
+        }
 
-            // iterate through all valid annotations
-            for (String validAnn : reader.getValidAnnotations())
+        // Class files are read in order by iterator, and parsed concurrently.
+        List<Future<String>> results = new ArrayList<Future<String>>();
+        while ((is = itr.next()) != null)
+        {
+            final byte[] bits;
+            try
+            {
+                bits = ByteStreams.toByteArray(is);
+            }
+            finally
             {
-            	
+                is.close();
+            }
 
-                // check if the current class has one?
-                if (annotations.contains(validAnn))
+            results.add(executor.submit(new Callable<String>()
+            {
+                @Override
+                public String call() throws IOException
                 {
-                	
-                	Class<?> clazz = this.getClass().getClassLoader().loadClass(className);
-                    this.factory.validate(clazz);
-
-                    // get the name of entity to be used for entity to class map
-                    // if or not annotated with name
-                    String entityName = getEntityName(clazz);
+                    return reader.findAnnotatedClass(new ByteArrayInputStream(bits));
+                }
+            }));
+        }
 
-                    if ((entityNameToClassMap.containsKey(entityName) && !entityNameToClassMap.get(entityName)
-                            .getName().equals(clazz.getName())))
-                    {
-                        throw new MetamodelLoaderException("Name conflict between classes "
-                                + entityNameToClassMap.get(entityName).getName() + " and " + clazz.getName()
-                                + ". Make sure no two entity classes with the same name "
-                                + " are specified for persistence unit " + persistenceUnit);
-                    }
-                    entityNameToClassMap.put(entityName, clazz);
+        try
+        {
+            for (Future<String> result : results)
+            {
+                String className = result.get();
+                if (className != null)
+                {
+                    classNames.add(className);
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new MetamodelLoaderException("Interrupted while scanning " + resource, e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw new MetamodelLoaderException("Error while scanning " + resource, e.getCause());
+        }
+        return classNames;
+    }
 
-                    EntityMetadata metadata = entityMetadataMap.get(clazz);
-                    if (null == metadata)
-                    {
-                        log.debug("Metadata not found in cache for " + clazz.getName());
-                        // double check locking.
-                        synchronized (clazz)
-                        {
-                            if (null == metadata)
-                            {
-                                MetadataBuilder metadataBuilder = new MetadataBuilder(persistenceUnit, client,
-                                        KunderaCoreUtils.getExternalProperties(persistenceUnit, externalPropertyMap,
-                                                persistenceUnits), kunderaMetadata);
-                                metadata = metadataBuilder.buildEntityMetadata(clazz);
-
-                                // in case entity's pu does not belong to parse
-                                // persistence unit, it will be null.
-                                if (metadata != null)
-                                {
-                                    entityMetadataMap.put(clazz.getName(), metadata);
-                                    mapClazztoPu(clazz, persistenceUnit, clazzToPuMap);
-                                    processGeneratedValueAnnotation(clazz, persistenceUnit, metadata,
-                                            entityNameToKeyDiscriptorMap);
-                                }
-                            }
-                        }
-                    }
+    /**
+     * Checks whether every class of given entity index loads and is an
+     * entity. Otherwise index is stale, built before classes of resource
+     * changed, and resource is to be scanned instead.
+     * 
+     * @param resource
+     *            the resource
+     * @param classNames
+     *            class names of entity index.
+     * @return true, if index is valid.
+     */
+    private boolean isValidIndex(URL resource, List<String> classNames)
+    {
+        for (String className : classNames)
+        {
+            Class<?> clazz;
+            try
+            {
+                clazz = this.getClass().getClassLoader().loadClass(className);
+            }
+            catch (ClassNotFoundException e)
+            {
+                clazz = null;
+            }
+            catch (LinkageError e)
+            {
+                clazz = null;
+            }
 
-                    // TODO :
-                    onValidateClientProperties(classes, clazz, persistenceUnit);
-                }
+            if (clazz == null || !clazz.isAnnotationPresent(Entity.class))
+            {
+                log.warn("Entity index of " + resource + " is stale, " + className
+                        + (clazz == null ? " not found" : " is not an entity") + ", classes will be scanned.");
+                return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * Loads class, or returns null if not found.
+     */
+    private Class<?> loadClass(String className)
+    {
+        try
+        {
+            return this.getClass().getClassLoader().loadClass(className);
+        }
         catch (ClassNotFoundException e)
         {
             log.error("Class " + className + " not found, it won't be loaded as entity");
+            return null;
+        }
+    }
+
+    /**
+     * Returns number of threads parsing class files of a persistence unit,
+     * defaults to number of available processors.
+     */
+    private int getScanParallelism(String persistenceUnit)
+    {
+        Map<String, Object> externalProperties = KunderaCoreUtils.getExternalProperties(persistenceUnit,
+                externalPropertyMap, persistenceUnits);
+
+        Object parallelism = externalProperties != null ? externalProperties
+                .get(PersistenceProperties.KUNDERA_SCAN_PARALLELISM) : null;
+        if (parallelism == null)
+        {
+            parallelism = KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata, persistenceUnit)
+                    .getProperty(PersistenceProperties.KUNDERA_SCAN_PARALLELISM);
         }
 
-        finally
+        if (parallelism != null && !StringUtils.isBlank(parallelism.toString()))
         {
-            if (dstream != null)
+            try
             {
-                dstream.close();
+                return Integer.parseInt(parallelism.toString().trim());
             }
-            if (bits != null)
+            catch (NumberFormatException e)
             {
-                bits.close();
+                log.warn("Invalid " + PersistenceProperties.KUNDERA_SCAN_PARALLELISM + " " + parallelism
+                        + ", class files will be scanned by available processors.");
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Loads entity class and puts its metadata.
+     * 
+     * @param className
+     *            the class name
+     * @param entityMetadataMap
+     *            the entity metadata map
+     * @param entityNameToClassMap
+     *            the entity name to class map
+     * @param persistenceUnit
+     *            the persistence unit.
+     * @param client
+     *            the client factory name
+     * @param clazzToPuMap
+     *            the class to persistence unit map
+     * @param entityNameToKeyDiscriptorMap
+     *            the entity name to key discriptor map
+     */
+    private List<Class<?>> putMetadata(String className, Map<String, EntityMetadata> entityMetadataMap,
+            Map<String, Class<?>> entityNameToClassMap, String persistenceUnit, String client,
+            Map<String, List<String>> clazzToPuMap, Map<String, IdDiscriptor> entityNameToKeyDiscriptorMap)
+    {
+        List<Class<?>> classes = new ArrayList<Class<?>>();
+
+        Class<?> clazz = loadClass(className);
+        if (clazz == null)
+        {
+            return classes;
+        }
+        this.factory.validate(clazz);
+
+        // get the name of entity to be used for entity to class map
+        // if or not annotated with name
+        String entityName = getEntityName(clazz);
+
+        if ((entityNameToClassMap.containsKey(entityName) && !entityNameToClassMap.get(entityName).getName()
+                .equals(clazz.getName())))
+        {
+            throw new MetamodelLoaderException("Name conflict between classes "
+                    + entityNameToClassMap.get(entityName).getName() + " and " + clazz.getName()
+                    + ". Make sure no two entity classes with the same name "
+                    + " are specified for persistence unit " + persistenceUnit);
+        }
+        entityNameToClassMap.put(entityName, clazz);
+
+        EntityMetadata metadata = entityMetadataMap.get(clazz);
+        if (null == metadata)
+        {
+            log.debug("Metadata not found in cache for " + clazz.getName());
+            // double check locking.
+            synchronized (clazz)
+            {
+                if (null == metadata)
+                {
+                    MetadataBuilder metadataBuilder = new MetadataBuilder(persistenceUnit, client,
+                            KunderaCoreUtils.getExternalProperties(persistenceUnit, externalPropertyMap,
+                                    persistenceUnits), kunderaMetadata);
+                    metadata = metadataBuilder.buildEntityMetadata(clazz);
+
+                    // in case entity's pu does not belong to parse
+                    // persistence unit, it will be null.
+                    if (metadata != null)
+                    {
+                        entityMetadataMap.put(clazz.getName(), metadata);
+                        mapClazztoPu(clazz, persistenceUnit, clazzToPuMap);
+                        processGeneratedValueAnnotation(clazz, persistenceUnit, metadata,
+                                entityNameToKeyDiscriptorMap);
+                    }
+                }
             }
         }
 
+        // TODO :
+        onValidateClientProperties(classes, clazz, persistenceUnit);
         return classes;
     }
 
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.generator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hi/lo allocator of ids for {@link SequenceGenerator} and
+ * {@link TableGenerator} implementations. Datastore counter holds number of
+ * id blocks allocated (hi), ids within a block (lo) are handed out locally, so
+ * datastore is called once per allocationSize ids. Block n holds ids
+ * initialValue + (n - 1) * allocationSize onwards. Holds one per entity manager
+ * factory.
+ */
+public final class HiLoAllocator
+{
+    /** Sequences, keyed by name. */
+    private final ConcurrentMap<String, Sequence> sequences = new ConcurrentHashMap<String, Sequence>();
+
+    /**
+     * Source of id blocks, usually a counter in datastore.
+     */
+    public interface BlockSource
+    {
+        /**
+         * Allocates next block, by incrementing counter in datastore.
+         *
+         * @return number of blocks allocated so far, 1 for first block.
+         */
+        long nextBlock();
+    }
+
+    /**
+     * Returns next id of given sequence, allocating a new block from source
+     * if current block is exhausted.
+     *
+     * @param name
+     *            sequence name, unique across persistence units.
+     * @param initialValue
+     *            first id of first block
+     * @param allocationSize
+     *            number of ids in a block
+     * @param source
+     *            the block source
+     * @return the id
+     */
+    public long next(String name, long initialValue, int allocationSize, BlockSource source)
+    {
+        Sequence sequence = sequences.get(name);
+        if (sequence == null)
+        {
+            Sequence existing = sequences.putIfAbsent(name, sequence = new Sequence());
+            sequence = existing != null ? existing : sequence;
+        }
+        return sequence.next(initialValue, Math.max(allocationSize, 1), source);
+    }
+
+    /**
+     * Discards blocks allocated so far, rest of their ids are not handed out.
+     */
+    public void clear()
+    {
+        sequences.clear();
+    }
+
+    /**
+     * Block of ids.
+     */
+    private static final class Block
+    {
+        /** Next id to hand out. */
+        private final AtomicLong next;
+
+        /** Id past last one of block. */
+        private final long end;
+
+        private Block(long start, long end)
+        {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+
+    /**
+     * Sequence handing out ids from current block. Ids are handed out lock
+     * free, only allocation of new block is serialized.
+     */
+    private static final class Sequence
+    {
+        /** Current block, null till first allocation. */
+        private final AtomicReference<Block> current = new AtomicReference<Block>();
+
+        private long next(long initialValue, int allocationSize, BlockSource source)
+        {
+            while (true)
+            {
+                Block block = current.get();
+                if (block != null)
+                {
+                    long id = block.next.getAndIncrement();
+                    if (id < block.end)
+                    {
+                        return id;
+                    }
+                }
+
+                synchronized (this)
+                {
+                    // allocate, unless another thread already did.
+                    if (current.get() == block)
+                    {
+                        long start = initialValue + (source.nextBlock() - 1) * allocationSize;
+                        current.set(new Block(start, start + allocationSize));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -33,9 +33,9 @@ import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.Relation;
 import com.impetus.kundera.persistence.PersistenceDelegator;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
 import com.impetus.kundera.persistence.context.PersistenceCache;
 import com.impetus.kundera.proxy.ProxyHelper;
-import com.impetus.kundera.utils.DeepEquals;
 
 /**
  * Assign head node set relational node: 1. check for proxy 2. graph status of
@@ -369,9 +369,11 @@ public class GraphBuilder
         {
             if (!node.isInState(TransientState.class))
             {
-                if (!DeepEquals.deepEquals(node.getData(), entity))
+                Set<String> modifiedAttributes = EntitySnapshot.getModifiedAttributes(node.getData(), entity, node
+                        .getPersistenceDelegator().getKunderaMetadata());
+                if (!modifiedAttributes.isEmpty())
                 {
-                    node.setDirty(true);
+                    node.setModified(modifiedAttributes);
                 }
                 else if (node.isProcessed())
                 {
@@ -151,7 +151,7 @@ public final class GraphGenerator
             {
                 if (relation != null)
                 {
-                    Object childObject = PropertyAccessorHelper.getObject(entity, relation.getProperty());
+                    Object childObject = PropertyAccessorHelper.getObject(entity, relation.getPropertyAccessor());
 
                     // if child object is valid and not a proxy
                     if (childObject != null && !ProxyHelper.isProxyOrCollection(childObject))
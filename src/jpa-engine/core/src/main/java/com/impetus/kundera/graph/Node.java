@@ -16,7 +16,9 @@
 package com.impetus.kundera.graph;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import javax.persistence.PostLoad;
 import javax.persistence.PostPersist;
@@ -39,6 +41,7 @@ import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.Relation.ForeignKey;
 import com.impetus.kundera.persistence.PersistenceDelegator;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
 import com.impetus.kundera.persistence.context.PersistenceCache;
 import com.impetus.kundera.persistence.event.EntityEventDispatcher;
 import com.impetus.kundera.utils.ObjectUtils;
@@ -81,6 +84,9 @@ public class Node implements NodeStateContext
     // Whether this node for update.
     private boolean isUpdate;
 
+    // Attributes modified since last flush, null if not known.
+    private Set<String> modifiedAttributes;
+
     /** Client for this node */
     private Client client;
 
@@ -94,6 +100,9 @@ public class Node implements NodeStateContext
 
     private Node originalNode;
 
+    // State of node data to restore original node from, if required.
+    private EntitySnapshot originalSnapshot;
+
     private boolean isProcessed;
 
     private EntityEventDispatcher eventDispatcher = new EntityEventDispatcher();
@@ -368,6 +377,38 @@ public class Node implements NodeStateContext
     public void setDirty(boolean dirty)
     {
         this.dirty = dirty;
+        this.modifiedAttributes = null;
+    }
+
+    /**
+     * Marks this node dirty for given modified attributes. Attributes are
+     * accumulated until node is flushed. Node already marked dirty without
+     * known attributes remains dirty as a whole.
+     * 
+     * @param attributes
+     *            names of modified attributes.
+     */
+    public void setModified(Set<String> attributes)
+    {
+        if (!dirty)
+        {
+            this.dirty = true;
+            this.modifiedAttributes = new HashSet<String>(attributes);
+        }
+        else if (modifiedAttributes != null)
+        {
+            modifiedAttributes.addAll(attributes);
+        }
+    }
+
+    /**
+     * Returns names of attributes modified since this node was last flushed.
+     * 
+     * @return modified attributes, or null if node is dirty as a whole.
+     */
+    public Set<String> getModifiedAttributes()
+    {
+        return modifiedAttributes;
     }
 
     /**
@@ -599,6 +640,16 @@ public class Node implements NodeStateContext
      */
     public Node getOriginalNode()
     {
+        if (originalNode == null && originalSnapshot != null)
+        {
+            Node original = new Node(this.nodeId, originalSnapshot.restore(), this.persistenceCache, this.entityId,
+                    this.pd);
+            original.setChildren(this.children);
+            original.setParents(this.parents);
+            original.setDataClass(this.dataClass);
+            original.setTraversed(this.traversed);
+            originalNode = original;
+        }
         return originalNode;
     }
 
@@ -609,6 +660,21 @@ public class Node implements NodeStateContext
     public void setOriginalNode(Node originalNode)
     {
         this.originalNode = originalNode;
+        this.originalSnapshot = null;
+    }
+
+    /**
+     * Sets snapshot of node data, original node is restored from when
+     * required. Cheaper alternative to {@link #setOriginalNode(Node)} with a
+     * {@link #clone()}.
+     * 
+     * @param originalSnapshot
+     *            the originalSnapshot to set
+     */
+    public void setOriginalSnapshot(EntitySnapshot originalSnapshot)
+    {
+        this.originalSnapshot = originalSnapshot;
+        this.originalNode = null;
     }
 
     /**
@@ -36,12 +36,12 @@ import com.impetus.kundera.metadata.model.Relation;
 import com.impetus.kundera.persistence.IdGenerator;
 import com.impetus.kundera.persistence.PersistenceDelegator;
 import com.impetus.kundera.persistence.PersistenceValidator;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
 import com.impetus.kundera.persistence.context.PersistenceCache;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.proxy.KunderaProxy;
 import com.impetus.kundera.proxy.ProxyHelper;
 import com.impetus.kundera.proxy.collection.ProxyCollection;
-import com.impetus.kundera.utils.DeepEquals;
 
 /**
  * Responsible for generating {@link ObjectGraph} of nodes from a given entity
@@ -156,9 +156,11 @@ public class ObjectGraphBuilder
             // Determine whether this node is dirty based on comparison between
             // Node data and entity data
             // If dirty, set the entity data into node and mark it as dirty
-            if (!DeepEquals.deepEquals(node.getData(), entity))
+            Set<String> modifiedAttributes = EntitySnapshot.getModifiedAttributes(node.getData(), entity,
+                    pd.getKunderaMetadata());
+            if (!modifiedAttributes.isEmpty())
             {
-                node.setDirty(true);
+                node.setModified(modifiedAttributes);
             }
             else if (node.isProcessed())
             {
@@ -180,7 +182,7 @@ public class ObjectGraphBuilder
             if (relation != null)
             {
                 // Child Object set in this entity
-                Object childObject = PropertyAccessorHelper.getObject(entity, relation.getProperty());
+                Object childObject = PropertyAccessorHelper.getObject(entity, relation.getPropertyAccessor());
 
                 if (childObject != null && !ProxyHelper.isProxy(childObject))
                 {
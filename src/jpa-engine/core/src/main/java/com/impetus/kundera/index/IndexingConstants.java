@@ -38,6 +38,9 @@ public final class IndexingConstants
     /** The Constant KUNDERA_ID_FIELD. */
     public static final String KUNDERA_ID_FIELD = UUID + ".kundera.id";
 
+    /** Untokenized kundera id, to update or delete documents by term. */
+    public static final String ENTITY_UID_FIELD = UUID + ".entity.uid";
+
     /** The Constant ENTITY_INDEXNAME_FIELD. */
     public static final String ENTITY_INDEXNAME_FIELD = UUID + ".entity.indexname";
 
@@ -27,6 +27,7 @@ import com.impetus.kundera.lifecycle.NodeStateContext;
 import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.persistence.EntityReader;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 
 /**
@@ -168,8 +169,11 @@ public class ManagedState extends NodeState
             // This node is fresh and hence NOT dirty
             nodeStateContext.setDirty(false);
             // One time set as required for rollback.
-            Object original = ((Node) nodeStateContext).clone();
-            ((Node) nodeStateContext).setOriginalNode((Node) original);
+            if (!nodeStateContext.getPersistenceDelegator().isReadOnly())
+            {
+                ((Node) nodeStateContext).setOriginalSnapshot(EntitySnapshot.take(nodeData, nodeStateContext
+                        .getPersistenceDelegator().getKunderaMetadata()));
+            }
         }
 
         // No state change, Node to remain in Managed state
@@ -17,7 +17,7 @@ package com.impetus.kundera.lifecycle.states;
 
 import com.impetus.kundera.graph.Node;
 import com.impetus.kundera.lifecycle.NodeStateContext;
-import com.impetus.kundera.utils.ObjectUtils;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
 
 /**
  * @author amresh
@@ -68,7 +68,7 @@ public class TransientState extends NodeState
     {
         // create a new managed entity and copy state of original entity into
         // this one.
-        Object copiedNodeData = ObjectUtils.deepCopy(nodeStateContext.getData(), nodeStateContext.getPersistenceDelegator().getKunderaMetadata());
+        Object copiedNodeData = EntitySnapshot.copy(nodeStateContext.getData(), nodeStateContext.getPersistenceDelegator().getKunderaMetadata());
         nodeStateContext.setData(copiedNodeData);
         moveNodeToNextState(nodeStateContext, new ManagedState());
 
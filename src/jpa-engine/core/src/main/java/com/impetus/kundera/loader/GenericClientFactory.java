@@ -18,6 +18,7 @@ package com.impetus.kundera.loader;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -171,9 +172,22 @@ public abstract class GenericClientFactory implements ClientFactory, ClientLifeC
             try
             {
                 Method method = Class.forName(IndexingConstants.LUCENE_INDEXER).getDeclaredMethod("getInstance",
-                        String.class);
-
-                Indexer indexer = (Indexer) method.invoke(null, luceneDirectoryPath);
+                        String.class, Map.class);
+
+                // external properties override persistence unit properties.
+                Properties puMetadataProperties = kunderaMetadata.getApplicationMetadata()
+                        .getPersistenceUnitMetadata(persistenceUnit).getProperties();
+                Map<String, Object> indexerProperties = new HashMap<String, Object>();
+                for (String name : puMetadataProperties.stringPropertyNames())
+                {
+                    indexerProperties.put(name, puMetadataProperties.getProperty(name));
+                }
+                if (puProperties != null)
+                {
+                    indexerProperties.putAll(puProperties);
+                }
+
+                Indexer indexer = (Indexer) method.invoke(null, luceneDirectoryPath, indexerProperties);
                 indexManager = new IndexManager(indexer, kunderaMetadata);
             }
             catch (Exception e)
@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 
 import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.loader.PersistenceLoaderException;
+import com.impetus.kundera.query.QueryPlanCache;
 
 /**
  * The Class PersistenceUnitMetadata.
@@ -568,6 +569,88 @@ public class PersistenceUnitMetadata implements PersistenceUnitInfo
         return 0;
     }
 
+    /**
+     * Return fetch.batch.size value.
+     * 
+     * @return integer value for relation fetch batch size, 0 if not
+     *         specified.
+     */
+    public int getFetchBatchSize()
+    {
+        String fetchBatchSize = getProperty(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE);
+        if (fetchBatchSize != null)
+        {
+            int fetch_Batch_Size;
+            try
+            {
+                fetch_Batch_Size = Integer.parseInt(fetchBatchSize.trim());
+            }
+            catch (NumberFormatException e)
+            {
+                fetch_Batch_Size = -1;
+            }
+            if (fetch_Batch_Size < 0)
+            {
+                throw new IllegalArgumentException("kundera.fetch.batch.size property must be numeric and >= 0");
+            }
+            return fetch_Batch_Size;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Returns true, if updates should write modified attributes only.
+     * 
+     * @return true, if partial update is enabled.
+     */
+    public boolean isPartialUpdate()
+    {
+        return Boolean.parseBoolean(getProperty(PersistenceProperties.KUNDERA_PARTIAL_UPDATE));
+    }
+
+    /**
+     * Returns maximum number of parsed JPQL queries to cache.
+     * 
+     * @return query plan cache size, default size if not specified.
+     */
+    public int getQueryPlanCacheSize()
+    {
+        String cacheSize = getProperty(PersistenceProperties.KUNDERA_QUERY_PLAN_CACHE_SIZE);
+        if (cacheSize != null)
+        {
+            int queryPlanCacheSize = Integer.valueOf(cacheSize);
+            if (queryPlanCacheSize < 0)
+            {
+                throw new IllegalArgumentException("kundera.query.plan.cache.size property must be numeric and >= 0");
+            }
+            return queryPlanCacheSize;
+        }
+
+        return QueryPlanCache.DEFAULT_SIZE;
+    }
+
+    /**
+     * Returns number of threads flushing independent clients concurrently.
+     * 
+     * @return flush parallelism, 0 if not specified.
+     */
+    public int getFlushParallelism()
+    {
+        String parallelism = getProperty(PersistenceProperties.KUNDERA_FLUSH_PARALLELISM);
+        if (parallelism != null)
+        {
+            int flushParallelism = Integer.valueOf(parallelism);
+            if (flushParallelism < 0)
+            {
+                throw new IllegalArgumentException("kundera.flush.parallelism property must be numeric and >= 0");
+            }
+            return flushParallelism;
+        }
+
+        return 0;
+    }
+
     /**
      * @return the mappedUrl
      */
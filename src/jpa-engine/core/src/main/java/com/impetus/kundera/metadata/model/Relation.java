@@ -28,6 +28,8 @@ import javax.persistence.JoinColumn;
 import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.property.FieldAccessor;
+import com.impetus.kundera.property.FieldAccessorFactory;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.utils.ReflectUtils;
 
@@ -40,6 +42,9 @@ public final class Relation
     /** The property. */
     private Field property;
 
+    /** Accessor to read and write property value. */
+    private FieldAccessor propertyAccessor;
+
     /** The target entity. */
     private Class<?> targetEntity;
 
@@ -128,6 +133,7 @@ public final class Relation
     {
         super();
         this.property = property;
+        this.propertyAccessor = property != null ? FieldAccessorFactory.createFieldAccessor(property) : null;
         this.targetEntity = targetEntity;
         this.propertyType = propertyType;
         this.fetchType = fetchType;
@@ -147,6 +153,16 @@ public final class Relation
         return property;
     }
 
+    /**
+     * Gets the property accessor, resolved once for the relation.
+     * 
+     * @return property accessor
+     */
+    public FieldAccessor getPropertyAccessor()
+    {
+        return propertyAccessor;
+    }
+
     /**
      * Gets the target entity.
      * 
@@ -33,6 +33,8 @@ import org.slf4j.LoggerFactory;
 import com.impetus.kundera.metadata.model.annotation.DefaultFieldAnnotationProcessor;
 import com.impetus.kundera.metadata.model.annotation.FieldAnnotationProcessor;
 import com.impetus.kundera.metadata.model.type.AbstractManagedType;
+import com.impetus.kundera.property.FieldAccessor;
+import com.impetus.kundera.property.FieldAccessorFactory;
 
 /**
  * Abstract class for to provide generalisation, abstraction to
@@ -73,6 +75,9 @@ public abstract class AbstractAttribute<X, T>
 
     private FieldAnnotationProcessor fieldAnnotationProcessor;
 
+    /** Accessor to read and write member value. */
+    private FieldAccessor fieldAccessor;
+
     /**
      * Instantiates a new abstract attribute.
      * 
@@ -102,6 +107,7 @@ public abstract class AbstractAttribute<X, T>
         this.fieldAnnotationProcessor.validateFieldAnnotation(
                 fieldAnnotationProcessor.getAnnotation(Column.class.getName()), (Field) member, this.managedType);
         this.tableName = getTableName();
+        this.fieldAccessor = member != null ? FieldAccessorFactory.createFieldAccessor(member) : null;
     }
 
     /*
@@ -169,6 +175,17 @@ public abstract class AbstractAttribute<X, T>
         return member;
     }
 
+    /**
+     * Returns accessor to read and write value of this attribute, resolved
+     * while building metamodel.
+     * 
+     * @return field accessor
+     */
+    public FieldAccessor getFieldAccessor()
+    {
+        return fieldAccessor;
+    }
+
     /*
      * (non-Javadoc)
      * 
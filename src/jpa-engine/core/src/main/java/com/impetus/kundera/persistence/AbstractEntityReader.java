@@ -17,7 +17,10 @@ package com.impetus.kundera.persistence;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +40,7 @@ import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.Relation;
 import com.impetus.kundera.metadata.model.Relation.ForeignKey;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
 import com.impetus.kundera.persistence.context.PersistenceCacheManager;
 import com.impetus.kundera.property.PropertyAccessException;
 import com.impetus.kundera.property.PropertyAccessorHelper;
@@ -61,6 +65,9 @@ public class AbstractEntityReader
 
     protected KunderaMetadata kunderaMetadata;
 
+    /** Relational entities loaded in batches, keyed by target class and id. */
+    private Map<PrefetchKey, PrefetchedRelation> prefetchedRelations;
+
     public AbstractEntityReader(final KunderaMetadata kunderaMetadata)
     {
         this.kunderaMetadata = kunderaMetadata;
@@ -78,7 +85,12 @@ public class AbstractEntityReader
     {
         try
         {
-            Object o = client.find(m.getEntityClazz(), primaryKey);
+            Object o = getPrefetchedRelation(m.getEntityClazz(), primaryKey);
+
+            if (o == null)
+            {
+                o = client.find(m.getEntityClazz(), primaryKey);
+            }
 
             if (o == null)
             {
@@ -118,7 +130,7 @@ public class AbstractEntityReader
             {
                 ForeignKey relationType = relation.getType();
 
-                Object relationalObject = PropertyAccessorHelper.getObject(entity, relation.getProperty());
+                Object relationalObject = PropertyAccessorHelper.getObject(entity, relation.getPropertyAccessor());
 
                 if (KunderaCoreUtils.isEmptyOrNull(relationalObject)
                         || ProxyHelper.isProxyOrCollection(relationalObject))
@@ -280,15 +292,15 @@ public class AbstractEntityReader
 
             if (relation.isUnary())
             {
-                PropertyAccessorHelper.set(entity, relation.getProperty(), getEntity(relationEntity));
+                PropertyAccessorHelper.set(entity, relation.getPropertyAccessor(), getEntity(relationEntity));
             }
             else
             {
-                Object associationObject = PropertyAccessorHelper.getObject(entity, relation.getProperty());
+                Object associationObject = PropertyAccessorHelper.getObject(entity, relation.getPropertyAccessor());
                 if (associationObject == null || ProxyHelper.isProxyOrCollection(associationObject))
                 {
                     associationObject = PropertyAccessorHelper.getCollectionInstance(relation.getProperty());
-                    PropertyAccessorHelper.set(entity, relation.getProperty(), associationObject);
+                    PropertyAccessorHelper.set(entity, relation.getPropertyAccessor(), associationObject);
                 }
 
                 ((Collection) associationObject).add(getEntity(relationEntity));
@@ -330,18 +342,19 @@ public class AbstractEntityReader
                     if (relation.isUnary() && relation.getTargetEntity().isAssignableFrom(originalEntity.getClass()))
                     {
                         Object associationObject = PropertyAccessorHelper.getObject(relationEntity,
-                                relation.getProperty());
+                                relation.getPropertyAccessor());
                         if (relation.getType().equals(ForeignKey.ONE_TO_ONE))
                         {
                             if ((associationObject == null || ProxyHelper.isProxyOrCollection(associationObject)))
                             {
-                                PropertyAccessorHelper.set(relationEntity, relation.getProperty(), originalEntity);
+                                PropertyAccessorHelper.set(relationEntity, relation.getPropertyAccessor(),
+                                        originalEntity);
                             }
                         }
                         else if (relationsMap != null
                                 && relationsMap.containsKey(relation.getJoinColumnName(kunderaMetadata)))
                         {
-                            PropertyAccessorHelper.set(relationEntity, relation.getProperty(), originalEntity);
+                            PropertyAccessorHelper.set(relationEntity, relation.getPropertyAccessor(), originalEntity);
                         }
                     }
                     else
@@ -474,9 +487,14 @@ public class AbstractEntityReader
 
         if ((relationValue != null && relation.isUnary()) || (relation.isJoinedByPrimaryKey()))
         {
-            // Call it
-            Object relationEntity = pd.getClient(targetEntityMetadata).find(relation.getTargetEntity(),
-                    relationValue != null ? relationValue : entityId);
+            Object relationKey = relationValue != null ? relationValue : entityId;
+            Object relationEntity = getPrefetchedRelation(relation.getTargetEntity(), relationKey);
+
+            if (relationEntity == null)
+            {
+                // Call it
+                relationEntity = pd.getClient(targetEntityMetadata).find(relation.getTargetEntity(), relationKey);
+            }
             if (relationEntity != null)
             {
                 relationalEntities.add(relationEntity);
@@ -505,6 +523,275 @@ public class AbstractEntityReader
         return relationalEntities;
     }
 
+    /**
+     * Loads unary eager relations of all given entities up front, using one
+     * {@link Client#findAll(Class, String[], Object...)} per target entity
+     * class and per <code>batchSize</code> keys. Loaded entities are served
+     * to subsequent {@link #recursivelyFindEntities} calls instead of
+     * invoking find for each of them, until
+     * {@link #clearPrefetchedRelations()} is called.
+     * 
+     * @param enhanceEntities
+     *            entities (or enhance entities) of a result set.
+     * @param m
+     *            entity metadata of the result set.
+     * @param pd
+     *            persistence delegator
+     * @param batchSize
+     *            maximum number of keys per findAll call.
+     */
+    public void prefetchRelations(List enhanceEntities, EntityMetadata m, PersistenceDelegator pd, int batchSize)
+    {
+        if (batchSize <= 0 || enhanceEntities == null || enhanceEntities.size() < 2 || m.getRelations() == null
+                || m.getRelations().isEmpty())
+        {
+            return;
+        }
+
+        Map<Class<?>, List<Object>> keysByTarget = new HashMap<Class<?>, List<Object>>();
+        Map<PrefetchKey, Integer> usages = new HashMap<PrefetchKey, Integer>();
+
+        for (Object e : enhanceEntities)
+        {
+            if (e == null)
+            {
+                continue;
+            }
+            Object entity = getEntity(e);
+            Map<String, Object> relationsMap = getPersistedRelations(e);
+
+            for (Relation relation : m.getRelations())
+            {
+                if (relation == null || !relation.isUnary() || relation.getFetchType().equals(FetchType.LAZY))
+                {
+                    continue;
+                }
+
+                Object relationValue = relationsMap != null ? relationsMap.get(relation
+                        .getJoinColumnName(kunderaMetadata)) : null;
+                Object relationKey = relationValue != null ? relationValue : relation.isJoinedByPrimaryKey() ? getId(
+                        entity, m) : null;
+
+                if (relationKey != null)
+                {
+                    PrefetchKey usageKey = new PrefetchKey(relation.getTargetEntity(), relationKey);
+                    Integer count = usages.get(usageKey);
+                    usages.put(usageKey, count == null ? 1 : count + 1);
+                    if (count == null)
+                    {
+                        List<Object> keys = keysByTarget.get(relation.getTargetEntity());
+                        if (keys == null)
+                        {
+                            keys = new ArrayList<Object>();
+                            keysByTarget.put(relation.getTargetEntity(), keys);
+                        }
+                        keys.add(relationKey);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<Class<?>, List<Object>> entry : keysByTarget.entrySet())
+        {
+            prefetch(entry.getKey(), entry.getValue(), pd, batchSize, usages);
+        }
+    }
+
+    /**
+     * Loads entities of given class up front, using one
+     * {@link Client#findAll(Class, String[], Object...)} per
+     * <code>batchSize</code> keys. Loaded entities are served to subsequent
+     * {@link #findById(Object, EntityMetadata, Client)} calls, until
+     * {@link #clearPrefetchedEntities(Class, Collection)} is called.
+     * 
+     * @param entityClass
+     *            entity class.
+     * @param keys
+     *            primary keys to load.
+     * @param pd
+     *            persistence delegator
+     * @param batchSize
+     *            maximum number of keys per findAll call.
+     */
+    public void prefetchEntities(Class<?> entityClass, Collection<Object> keys, PersistenceDelegator pd,
+            int batchSize)
+    {
+        if (batchSize <= 0 || keys == null || keys.size() < 2)
+        {
+            return;
+        }
+
+        prefetch(entityClass, new ArrayList<Object>(keys), pd, batchSize, Collections.<PrefetchKey, Integer> emptyMap());
+    }
+
+    /**
+     * Discards entities of given class and keys loaded by
+     * {@link #prefetchEntities(Class, Collection, PersistenceDelegator, int)}
+     * and not served yet.
+     * 
+     * @param entityClass
+     *            entity class.
+     * @param keys
+     *            primary keys.
+     */
+    public void clearPrefetchedEntities(Class<?> entityClass, Collection<Object> keys)
+    {
+        if (prefetchedRelations != null && keys != null)
+        {
+            for (Object key : keys)
+            {
+                prefetchedRelations.remove(new PrefetchKey(entityClass, key));
+            }
+        }
+    }
+
+    /**
+     * Loads entities of given class in batches of <code>batchSize</code> keys
+     * and holds them until served.
+     */
+    private void prefetch(Class<?> targetClass, List<Object> keys, PersistenceDelegator pd, int batchSize,
+            Map<PrefetchKey, Integer> usages)
+    {
+        if (prefetchedRelations == null)
+        {
+            prefetchedRelations = new HashMap<PrefetchKey, PrefetchedRelation>();
+        }
+
+        EntityMetadata targetEntityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, targetClass);
+        Client client = pd.getClient(targetEntityMetadata);
+
+        for (int start = 0; start < keys.size(); start += batchSize)
+        {
+            List<Object> batch = keys.subList(start, Math.min(start + batchSize, keys.size()));
+            List results = client.findAll(targetEntityMetadata.getEntityClazz(), null, batch.toArray());
+
+            if (results == null)
+            {
+                // client does not support multi get, fall back to find.
+                break;
+            }
+
+            for (Object result : results)
+            {
+                if (result != null)
+                {
+                    PrefetchKey prefetchKey = new PrefetchKey(targetClass, getId(getEntity(result),
+                            targetEntityMetadata));
+                    Integer count = usages.get(prefetchKey);
+                    prefetchedRelations.put(prefetchKey, new PrefetchedRelation(result, count != null ? count : 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards relational entities loaded by
+     * {@link #prefetchRelations(List, EntityMetadata, PersistenceDelegator, int)}
+     * .
+     */
+    public void clearPrefetchedRelations()
+    {
+        if (prefetchedRelations != null)
+        {
+            prefetchedRelations.clear();
+            prefetchedRelations = null;
+        }
+    }
+
+    /**
+     * Returns prefetched relation entity for given target class and key, or
+     * null if it was not loaded in batch. Every caller gets its own instance,
+     * since relations get populated on returned entity.
+     * 
+     * @param targetClass
+     *            relation target entity class.
+     * @param relationKey
+     *            relation key.
+     * @return prefetched relation entity or null.
+     */
+    private Object getPrefetchedRelation(Class<?> targetClass, Object relationKey)
+    {
+        if (prefetchedRelations == null || relationKey == null)
+        {
+            return null;
+        }
+
+        PrefetchKey prefetchKey = new PrefetchKey(targetClass, relationKey);
+        PrefetchedRelation prefetched = prefetchedRelations.get(prefetchKey);
+
+        if (prefetched == null)
+        {
+            return null;
+        }
+
+        if (--prefetched.usages <= 0)
+        {
+            prefetchedRelations.remove(prefetchKey);
+            return prefetched.relationEntity;
+        }
+
+        Object entity = EntitySnapshot.copy(getEntity(prefetched.relationEntity), kunderaMetadata);
+        return prefetched.relationEntity instanceof EnhanceEntity ? new EnhanceEntity(entity,
+                ((EnhanceEntity) prefetched.relationEntity).getEntityId(),
+                getPersistedRelations(prefetched.relationEntity)) : entity;
+    }
+
+    /**
+     * Key of a prefetched entity, i.e. its class and primary key. Array keys
+     * (e.g. byte[]) are compared by content.
+     */
+    private static final class PrefetchKey
+    {
+        private final Class<?> entityClass;
+
+        private final Object id;
+
+        private PrefetchKey(Class<?> entityClass, Object id)
+        {
+            this.entityClass = entityClass;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (!(obj instanceof PrefetchKey))
+            {
+                return false;
+            }
+            PrefetchKey other = (PrefetchKey) obj;
+            return entityClass.equals(other.entityClass)
+                    && Arrays.deepEquals(new Object[] { id }, new Object[] { other.id });
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * entityClass.hashCode() + Arrays.deepHashCode(new Object[] { id });
+        }
+    }
+
+    /**
+     * Holder for a relational entity loaded in batch, along with number of
+     * owning entities still to be populated with it.
+     */
+    private static class PrefetchedRelation
+    {
+        private final Object relationEntity;
+
+        private int usages;
+
+        private PrefetchedRelation(Object relationEntity, int usages)
+        {
+            this.relationEntity = relationEntity;
+            this.usages = usages;
+        }
+    }
+
     /**
      * Recursively fetches associated entities for a given <code>entity</code>
      * 
@@ -279,7 +279,7 @@ public final class AssociationBuilder
         }
 
         // Set relationship collection into original entity
-        PropertyAccessorHelper.set(entity, relation.getProperty(), relObject);
+        PropertyAccessorHelper.set(entity, relation.getPropertyAccessor(), relObject);
 
         // Add target entities into persistence cache
         if (relObject != null && !ProxyHelper.isProxyCollection(relObject))
@@ -346,7 +346,7 @@ public final class AssociationBuilder
                         Object proxy = getLazyEntity(entityName, relation.getTargetEntity(),
                                 parentEntityMetadata.getReadIdentifierMethod(),
                                 parentEntityMetadata.getWriteIdentifierMethod(), relationValue, pd);
-                        PropertyAccessorHelper.set(entity, relation.getProperty(), proxy);
+                        PropertyAccessorHelper.set(entity, relation.getPropertyAccessor(), proxy);
                     }
                 }
 
@@ -365,7 +365,7 @@ public final class AssociationBuilder
 
                 Object proxy = getLazyEntity(entityName, relation.getTargetEntity(), m.getReadIdentifierMethod(),
                         m.getWriteIdentifierMethod(), relationValue, pd);
-                PropertyAccessorHelper.set(entity, relation.getProperty(), proxy);
+                PropertyAccessorHelper.set(entity, relation.getPropertyAccessor(), proxy);
 
             }
             else if (relation.isJoinedByPrimaryKey())
@@ -381,7 +381,7 @@ public final class AssociationBuilder
 
                 Object proxy = getLazyEntity(entityName, relation.getTargetEntity(), m.getReadIdentifierMethod(),
                         m.getWriteIdentifierMethod(), entityId, pd);
-                PropertyAccessorHelper.set(entity, relation.getProperty(), proxy);
+                PropertyAccessorHelper.set(entity, relation.getPropertyAccessor(), proxy);
             }
 
         }
@@ -408,15 +408,17 @@ public final class AssociationBuilder
             proxyCollection.setOwner(entity);
             proxyCollection.setRelationsMap(relationsMap);
 
-            PropertyAccessorHelper.set(entity, relation.getProperty(), proxyCollection);
+            PropertyAccessorHelper.set(entity, relation.getPropertyAccessor(), proxyCollection);
         }
     }
 
     private KunderaProxy getLazyEntity(String entityName, Class<?> persistentClass, Method getIdentifierMethod,
             Method setIdentifierMethod, Object id, PersistenceDelegator pd)
     {
-        return pd.getKunderaMetadata().getCoreMetadata().getLazyInitializerFactory()
+        KunderaProxy proxy = pd.getKunderaMetadata().getCoreMetadata().getLazyInitializerFactory()
                 .getProxy(entityName, persistentClass, getIdentifierMethod, setIdentifierMethod, id, pd);
+        pd.addPendingProxy(proxy.getKunderaLazyInitializer());
+        return proxy;
     }
 
 }
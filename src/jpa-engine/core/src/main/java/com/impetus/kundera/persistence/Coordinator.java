@@ -16,11 +16,19 @@
 
 package com.impetus.kundera.persistence;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.impetus.kundera.client.Client;
+import com.impetus.kundera.graph.Node;
 import com.impetus.kundera.persistence.KunderaEntityTransaction.TxAction;
 import com.impetus.kundera.persistence.TransactionResource.Response;
+import com.impetus.kundera.persistence.context.FlushScheduler;
 
 /**
  * @author vivek
@@ -34,9 +42,11 @@ class Coordinator
 
     private Map<String, TransactionResource> txResources = new HashMap<String, TransactionResource>();
 
-    public Coordinator()
-    {
+    private final FlushScheduler flushScheduler;
 
+    public Coordinator(FlushScheduler flushScheduler)
+    {
+        this.flushScheduler = flushScheduler;
     }
 
     void addResource(TransactionResource resource, final String pu)
@@ -74,10 +84,7 @@ class Coordinator
 
         case COMMIT:
 
-            for (TransactionResource res : txResources.values())
-            {
-                res.onCommit();
-            }
+            commit();
             break;
 
         case ROLLBACK:
@@ -95,6 +102,84 @@ class Coordinator
         return response;
     }
 
+    /**
+     * Commits resources, independent resources are committed concurrently if
+     * flush scheduler is parallel.
+     */
+    private void commit()
+    {
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        for (final Set<TransactionResource> resources : partitionResources())
+        {
+            tasks.add(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    for (TransactionResource res : resources)
+                    {
+                        res.onCommit();
+                    }
+                }
+            });
+        }
+        flushScheduler.run(tasks);
+    }
+
+    /**
+     * Partitions resources, resources holding related nodes are kept in the
+     * same partition.
+     * 
+     * @return partitions of resources.
+     */
+    private List<Set<TransactionResource>> partitionResources()
+    {
+        List<Set<TransactionResource>> partitions = new ArrayList<Set<TransactionResource>>();
+        if (!flushScheduler.isParallel() || txResources.size() < 2)
+        {
+            partitions.add(new LinkedHashSet<TransactionResource>(txResources.values()));
+            return partitions;
+        }
+
+        Map<Client, TransactionResource> resources = new IdentityHashMap<Client, TransactionResource>();
+        List<Node> nodes = new ArrayList<Node>();
+        for (TransactionResource res : txResources.values())
+        {
+            if (res instanceof DefaultTransactionResource)
+            {
+                for (Node node : ((DefaultTransactionResource) res).getNodes())
+                {
+                    resources.put(node.getClient(), res);
+                    nodes.add(node);
+                }
+            }
+        }
+
+        Set<TransactionResource> partitioned = new LinkedHashSet<TransactionResource>();
+        for (List<Node> partition : flushScheduler.partition(nodes))
+        {
+            Set<TransactionResource> resourceSet = new LinkedHashSet<TransactionResource>();
+            for (Node node : partition)
+            {
+                resourceSet.add(resources.get(node.getClient()));
+            }
+            partitioned.addAll(resourceSet);
+            partitions.add(resourceSet);
+        }
+
+        // resources without synchronized nodes.
+        for (TransactionResource res : txResources.values())
+        {
+            if (!partitioned.contains(res))
+            {
+                Set<TransactionResource> resourceSet = new LinkedHashSet<TransactionResource>();
+                resourceSet.add(res);
+                partitions.add(resourceSet);
+            }
+        }
+        return partitions;
+    }
+
     boolean isTransactionActive()
     {
         for (TransactionResource res : txResources.values())
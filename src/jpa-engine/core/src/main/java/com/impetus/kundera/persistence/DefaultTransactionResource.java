@@ -127,6 +127,16 @@ public class DefaultTransactionResource implements TransactionResource
         nodes.add(node);
     }
 
+    /**
+     * Returns nodes synchronized with this resource.
+     * 
+     * @return synchronized nodes
+     */
+    List<Node> getNodes()
+    {
+        return nodes;
+    }
+
     /*
      * (non-Javadoc)
      * 
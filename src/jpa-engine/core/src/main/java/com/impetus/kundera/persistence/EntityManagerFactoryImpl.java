@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 import javax.persistence.Cache;
 import javax.persistence.EntityGraph;
@@ -51,6 +52,7 @@ import com.impetus.kundera.client.ClientResolverException;
 import com.impetus.kundera.configure.ClientMetadataBuilder;
 import com.impetus.kundera.configure.MetamodelConfiguration;
 import com.impetus.kundera.configure.PersistenceUnitConfiguration;
+import com.impetus.kundera.generator.HiLoAllocator;
 import com.impetus.kundera.loader.ClientFactory;
 import com.impetus.kundera.loader.ClientLifeCycleManager;
 import com.impetus.kundera.loader.CoreLoader;
@@ -60,7 +62,10 @@ import com.impetus.kundera.metadata.model.CoreMetadata;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.MetamodelImpl;
 import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
+import com.impetus.kundera.persistence.context.FlushScheduler;
 import com.impetus.kundera.property.PropertyAccessorHelper;
+import com.impetus.kundera.query.QueryPlanCache;
 
 /**
  * Implementation class for {@link EntityManagerFactory}
@@ -177,6 +182,9 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory
             }
         }
 
+        kunderaMetadata.setQueryPlanCache(initQueryPlanCache());
+        kunderaMetadata.setFlushScheduler(initFlushScheduler());
+
         if (txTypes.size() != 1)
         {
             throw new IllegalArgumentException(
@@ -217,6 +225,18 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory
                 cacheProvider.shutdown();
             }
 
+            if (kunderaMetadata.getQueryPlanCache() != null)
+            {
+                kunderaMetadata.getQueryPlanCache().clear();
+            }
+
+            if (kunderaMetadata.getFlushScheduler() != null)
+            {
+                kunderaMetadata.getFlushScheduler().shutdown();
+            }
+
+            kunderaMetadata.getIdAllocator().clear();
+
             for (String pu : persistenceUnits)
             {
                 ((ClientLifeCycleManager) clientFactories.get(pu)).destroy();
@@ -408,6 +428,73 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory
         builder.buildClientFactoryMetadata(clientFactories, kunderaMetadata);
     }
 
+    /**
+     * Initializes query plan cache, shared by all persistence units of this
+     * factory.
+     * 
+     * @return the query plan cache
+     */
+    private QueryPlanCache initQueryPlanCache()
+    {
+        Object cacheSize = getProperties().get(PersistenceProperties.KUNDERA_QUERY_PLAN_CACHE_SIZE);
+        if (cacheSize != null)
+        {
+            int queryPlanCacheSize = Integer.valueOf(cacheSize.toString());
+            if (queryPlanCacheSize < 0)
+            {
+                throw new IllegalArgumentException("kundera.query.plan.cache.size property must be numeric and >= 0");
+            }
+            return new QueryPlanCache(queryPlanCacheSize);
+        }
+
+        int queryPlanCacheSize = 0;
+        for (String pu : persistenceUnits)
+        {
+            queryPlanCacheSize = Math.max(queryPlanCacheSize,
+                    KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata, pu).getQueryPlanCacheSize());
+        }
+        return new QueryPlanCache(queryPlanCacheSize);
+    }
+
+    /**
+     * Initializes flush scheduler, shared by all persistence units of this
+     * factory.
+     * 
+     * @return the flush scheduler
+     */
+    private FlushScheduler initFlushScheduler()
+    {
+        Object executor = getProperties().get(PersistenceProperties.KUNDERA_FLUSH_EXECUTOR);
+        if (executor != null)
+        {
+            if (!(executor instanceof ExecutorService))
+            {
+                throw new IllegalArgumentException("kundera.flush.executor property must be an instance of "
+                        + ExecutorService.class.getName());
+            }
+            return new FlushScheduler((ExecutorService) executor);
+        }
+
+        Object parallelism = getProperties().get(PersistenceProperties.KUNDERA_FLUSH_PARALLELISM);
+        if (parallelism != null)
+        {
+            int flushParallelism = Integer.valueOf(parallelism.toString());
+            if (flushParallelism < 0)
+            {
+                throw new IllegalArgumentException("kundera.flush.parallelism property must be numeric and >= 0");
+            }
+            return new FlushScheduler(flushParallelism);
+        }
+
+        int flushParallelism = 0;
+        for (String pu : persistenceUnits)
+        {
+            flushParallelism = Math.max(flushParallelism,
+                    KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata, pu).getFlushParallelism());
+        }
+        return new FlushScheduler(flushParallelism);
+    }
+
     /**
      * Inits the second level cache.
      * 
@@ -507,6 +594,18 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory
         /** The application metadata. */
         private ApplicationMetadata applicationMetadata;
 
+        /** Parsed JPQL queries. */
+        private QueryPlanCache queryPlanCache;
+
+        /** Flush scheduler. */
+        private FlushScheduler flushScheduler;
+
+        /** Allocator of generated ids. */
+        private final HiLoAllocator idAllocator = new HiLoAllocator();
+
+        /** Entity snapshot attributes. */
+        private final EntitySnapshot.AttributeCache snapshotCache = new EntitySnapshot.AttributeCache();
+
         /**
          * Instantiates a new kundera metadata.
          */
@@ -560,6 +659,68 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory
         {
             this.coreMetadata = coreMetadata;
         }
+
+        /**
+         * Gets the query plan cache.
+         * 
+         * @return the queryPlanCache
+         */
+        public QueryPlanCache getQueryPlanCache()
+        {
+            return queryPlanCache;
+        }
+
+        /**
+         * Sets the query plan cache.
+         * 
+         * @param queryPlanCache
+         *            the queryPlanCache to set
+         */
+        public void setQueryPlanCache(QueryPlanCache queryPlanCache)
+        {
+            this.queryPlanCache = queryPlanCache;
+        }
+
+        /**
+         * Gets the flush scheduler.
+         * 
+         * @return the flushScheduler
+         */
+        public FlushScheduler getFlushScheduler()
+        {
+            return flushScheduler;
+        }
+
+        /**
+         * Sets the flush scheduler.
+         * 
+         * @param flushScheduler
+         *            the flushScheduler to set
+         */
+        public void setFlushScheduler(FlushScheduler flushScheduler)
+        {
+            this.flushScheduler = flushScheduler;
+        }
+
+        /**
+         * Gets the id allocator.
+         * 
+         * @return the idAllocator
+         */
+        public HiLoAllocator getIdAllocator()
+        {
+            return idAllocator;
+        }
+
+        /**
+         * Gets the entity snapshot attribute cache.
+         * 
+         * @return the snapshotCache
+         */
+        public EntitySnapshot.AttributeCache getSnapshotCache()
+        {
+            return snapshotCache;
+        }
     }
 
     /**
@@ -49,6 +49,7 @@ import org.slf4j.LoggerFactory;
 
 import com.impetus.kundera.Constants;
 import com.impetus.kundera.KunderaException;
+import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.cache.Cache;
 import com.impetus.kundera.client.Client;
 import com.impetus.kundera.client.ClientResolverException;
@@ -110,6 +111,7 @@ public class EntityManagerImpl implements EntityManager, ResourceManager
         this(factory, transactionType, persistenceContextType);
         this.properties = properties;
 
+        populateReadOnly(this.properties);
         getPersistenceDelegator().populateClientProperties(this.properties);
     }
 
@@ -691,9 +693,26 @@ public class EntityManagerImpl implements EntityManager, ResourceManager
         }
 
         this.properties.put(paramString, paramObject);
+        populateReadOnly(this.properties);
         getPersistenceDelegator().populateClientProperties(this.properties);
     }
 
+    /**
+     * Sets read only persistence context, if specified in given properties.
+     * 
+     * @param properties
+     *            entity manager properties.
+     */
+    private void populateReadOnly(Map properties)
+    {
+        Object readOnly = properties != null ? properties
+                .get(PersistenceProperties.KUNDERA_PERSISTENCE_CONTEXT_READ_ONLY) : null;
+        if (readOnly != null)
+        {
+            getPersistenceDelegator().setReadOnly(Boolean.parseBoolean(readOnly.toString()));
+        }
+    }
+
     /*
      * (non-Javadoc)
      * 
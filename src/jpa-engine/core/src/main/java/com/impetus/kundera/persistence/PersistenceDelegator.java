@@ -16,14 +16,20 @@
 
 package com.impetus.kundera.persistence;
 
+import java.io.Flushable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.persistence.FlushModeType;
@@ -50,16 +56,19 @@ import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
 import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
 import com.impetus.kundera.persistence.api.Batcher;
+import com.impetus.kundera.persistence.context.EntitySnapshot;
 import com.impetus.kundera.persistence.context.EventLog.EventType;
 import com.impetus.kundera.persistence.context.FlushManager;
+import com.impetus.kundera.persistence.context.FlushScheduler;
 import com.impetus.kundera.persistence.context.MainCache;
+import com.impetus.kundera.persistence.context.PendingProxies;
 import com.impetus.kundera.persistence.context.PersistenceCache;
 import com.impetus.kundera.persistence.context.jointable.JoinTableData;
 import com.impetus.kundera.persistence.context.jointable.JoinTableData.OPERATION;
 import com.impetus.kundera.persistence.event.EntityEventDispatcher;
+import com.impetus.kundera.proxy.LazyInitializer;
 import com.impetus.kundera.proxy.LazyInitializerFactory;
 import com.impetus.kundera.query.QueryResolver;
-import com.impetus.kundera.utils.ObjectUtils;
 
 /**
  * The Class PersistenceDelegator.
@@ -70,6 +79,9 @@ public final class PersistenceDelegator
     /** The Constant log. */
     private static final Logger log = LoggerFactory.getLogger(PersistenceDelegator.class);
 
+    /** Flush scheduler, if none configured. */
+    private static final FlushScheduler SERIAL_FLUSH_SCHEDULER = new FlushScheduler(0);
+
     /** The closed. */
     private boolean closed;
 
@@ -90,12 +102,18 @@ public final class PersistenceDelegator
 
     private final FlushManager flushManager = new FlushManager();
 
+    /** Nodes added to batch clients, since last batch execution. */
+    private final List<Node> batchNodes = new ArrayList<Node>();
+
     private boolean enableFlush;
 
     private Coordinator coordinator;
 
     private final KunderaMetadata kunderaMetadata;
 
+    // Whether entities are shared with persistence cache as is.
+    private boolean readOnly;
+
     /**
      * Instantiates a new persistence delegator.
      * 
@@ -240,7 +258,7 @@ public final class PersistenceDelegator
         }
         else
         {
-            E e = (E) ObjectUtils.deepCopy(nodeData, getKunderaMetadata());
+            E e = readOnly ? (E) nodeData : (E) EntitySnapshot.copy(nodeData, getKunderaMetadata());
             onSetProxyOwners(entityMetadata, e);
             return e;
         }
@@ -276,6 +294,102 @@ public final class PersistenceDelegator
         return entities;
     }
 
+    /**
+     * Initializes given lazy proxy. If fetch batch size is set for
+     * persistence unit of proxied entity, up to that many uninitialized
+     * proxies of same entity class pending in this persistence context are
+     * initialized along with it, loading them by one
+     * {@link Client#findAll(Class, String[], Object...)} per batch instead of
+     * a find per proxy.
+     * 
+     * @param initializer
+     *            lazy initializer of proxy to initialize.
+     */
+    public void initialize(LazyInitializer initializer)
+    {
+        Class<?> entityClass = initializer.getPersistentClass();
+        Object primaryKey = initializer.getIdentifier();
+
+        PendingProxies pendingProxies = getPersistenceCache().getPendingProxies();
+        pendingProxies.remove(initializer);
+
+        EntityMetadata entityMetadata = getMetadata(entityClass);
+        int batchSize = getFetchBatchSize(entityMetadata);
+        Map<Object, List<LazyInitializer>> siblings = batchSize > 1 ? pendingProxies.poll(entityClass,
+                batchSize - 1) : Collections.<Object, List<LazyInitializer>> emptyMap();
+
+        EntityReader reader = siblings.isEmpty() ? null : getClient(entityMetadata).getReader();
+        List<Object> keys = new ArrayList<Object>();
+        if (reader instanceof AbstractEntityReader)
+        {
+            // Entities already in persistence cache are not loaded again.
+            MainCache mainCache = (MainCache) getPersistenceCache().getMainCache();
+            Set<Object> primaryKeys = new LinkedHashSet<Object>();
+            primaryKeys.add(primaryKey);
+            primaryKeys.addAll(siblings.keySet());
+            for (Object key : primaryKeys)
+            {
+                Node node = mainCache.getNodeFromCache(ObjectGraphUtils.getNodeId(key, entityClass), this);
+                if (node == null || node.isDirty())
+                {
+                    keys.add(key);
+                }
+            }
+            ((AbstractEntityReader) reader).prefetchEntities(entityClass, keys, this, batchSize);
+        }
+
+        try
+        {
+            initializer.setImplementation(findById(entityClass, primaryKey));
+            for (Map.Entry<Object, List<LazyInitializer>> sibling : siblings.entrySet())
+            {
+                for (LazyInitializer siblingInitializer : sibling.getValue())
+                {
+                    if (siblingInitializer.isUninitialized())
+                    {
+                        siblingInitializer.setImplementation(findById(entityClass, sibling.getKey()));
+                    }
+                }
+            }
+        }
+        finally
+        {
+            if (!keys.isEmpty())
+            {
+                ((AbstractEntityReader) reader).clearPrefetchedEntities(entityClass, keys);
+            }
+        }
+    }
+
+    /**
+     * Adds given lazy proxy to pending proxies of this persistence context,
+     * if it may be initialized in batch.
+     * 
+     * @param initializer
+     *            lazy initializer of proxy.
+     */
+    void addPendingProxy(LazyInitializer initializer)
+    {
+        if (getFetchBatchSize(getMetadata(initializer.getPersistentClass())) > 1)
+        {
+            getPersistenceCache().getPendingProxies().add(initializer);
+        }
+    }
+
+    /**
+     * Returns fetch batch size set for persistence unit of given entity.
+     * 
+     * @param m
+     *            the entity metadata
+     * @return fetch batch size, 0 if batch fetching is disabled.
+     */
+    private int getFetchBatchSize(EntityMetadata m)
+    {
+        PersistenceUnitMetadata puMetadata = kunderaMetadata.getApplicationMetadata().getPersistenceUnitMetadata(
+                m.getPersistenceUnit());
+        return puMetadata != null ? puMetadata.getFetchBatchSize() : 0;
+    }
+
     /**
      * Retrieves {@link List} of entities for a given {@link Map} of embedded
      * column values. Purpose of this method is to provide functionality of
@@ -375,6 +489,7 @@ public final class PersistenceDelegator
         if (fs != null)
         {
             boolean isBatch = false;
+            List<Node> nodes = new ArrayList<Node>();
             while (!fs.isEmpty())
             {
                 Node node = fs.pop();
@@ -391,6 +506,10 @@ public final class PersistenceDelegator
                     {
                         isBatch = true;
                         ((Batcher) (node.getClient())).addBatch(node);
+                        if (getFlushScheduler().isParallel())
+                        {
+                            batchNodes.add(node);
+                        }
                     }
                     else if (isTransactionInProgress
                             && MetadataUtils
@@ -400,12 +519,15 @@ public final class PersistenceDelegator
                     }
                     else
                     {
-                        node.flush();
+                        nodes.add(node);
                     }
                 }
 
             }
 
+            // flush independent clients concurrently, if configured.
+            getFlushScheduler().flush(nodes);
+
             if (!isBatch)
             {
                 // TODO : This needs to be look for different
@@ -822,18 +944,143 @@ public final class PersistenceDelegator
      */
     private void execute()
     {
+        final List<Client> batchers = new ArrayList<Client>();
+        boolean flushJoinTable = false;
         for (Client client : clientMap.values())
         {
             if (client != null && client instanceof Batcher)
             {
                 // if no batch operation performed{may be running in
                 // transaction?}
-                if (((Batcher) client).getBatchSize() == 0 || ((Batcher) client).executeBatch() > 0)
+                if (((Batcher) client).getBatchSize() == 0)
+                {
+                    flushJoinTable = true;
+                }
+                else
+                {
+                    batchers.add(client);
+                }
+            }
+        }
+
+        final AtomicInteger executed = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        for (final List<Client> clients : partitionBatchers(batchers))
+        {
+            tasks.add(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    for (Client client : clients)
+                    {
+                        if (((Batcher) client).executeBatch() > 0)
+                        {
+                            executed.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+
+        try
+        {
+            getFlushScheduler().run(tasks);
+        }
+        finally
+        {
+            batchNodes.clear();
+        }
+
+        if (flushJoinTable || executed.get() > 0)
+        {
+            flushJoinTableData();
+        }
+        flushClients();
+    }
+
+    /**
+     * Flushes clients buffering writes on their own, such as clients with
+     * buffered mutators, so that all writes are sent on flush or commit.
+     */
+    private void flushClients()
+    {
+        for (Client client : clientMap.values())
+        {
+            if (client instanceof Flushable)
+            {
+                try
+                {
+                    ((Flushable) client).flush();
+                }
+                catch (IOException e)
+                {
+                    log.error("Error while flushing client of persistence unit {}, Caused by: .",
+                            client.getPersistenceUnit(), e);
+                    throw new KunderaException("Error while flushing client of persistence unit "
+                            + client.getPersistenceUnit(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Partitions batch clients, clients holding related batched nodes are
+     * executed in the same partition.
+     * 
+     * @param batchers
+     *            batch clients
+     * @return partitions of batch clients.
+     */
+    private List<List<Client>> partitionBatchers(List<Client> batchers)
+    {
+        List<List<Client>> partitions = new ArrayList<List<Client>>();
+        if (!getFlushScheduler().isParallel() || batchers.size() < 2)
+        {
+            if (!batchers.isEmpty())
+            {
+                partitions.add(batchers);
+            }
+            return partitions;
+        }
+
+        Set<Client> partitioned = Collections.newSetFromMap(new IdentityHashMap<Client, Boolean>());
+        for (List<Node> nodes : getFlushScheduler().partition(batchNodes))
+        {
+            List<Client> clients = new ArrayList<Client>();
+            for (Node node : nodes)
+            {
+                if (batchers.contains(node.getClient()) && partitioned.add(node.getClient()))
                 {
-                    flushJoinTableData();
+                    clients.add(node.getClient());
                 }
             }
+            if (!clients.isEmpty())
+            {
+                partitions.add(clients);
+            }
+        }
+
+        // clients with batches added outside of flush.
+        for (Client client : batchers)
+        {
+            if (partitioned.add(client))
+            {
+                partitions.add(Collections.singletonList(client));
+            }
         }
+        return partitions;
+    }
+
+    /**
+     * Returns flush scheduler of entity manager factory.
+     * 
+     * @return the flush scheduler
+     */
+    FlushScheduler getFlushScheduler()
+    {
+        FlushScheduler flushScheduler = kunderaMetadata.getFlushScheduler();
+        return flushScheduler != null ? flushScheduler : SERIAL_FLUSH_SCHEDULER;
     }
 
     /**
@@ -888,7 +1135,7 @@ public final class PersistenceDelegator
      */
     Coordinator getCoordinator()
     {
-        coordinator = new Coordinator();
+        coordinator = new Coordinator(getFlushScheduler());
         try
         {
             for (String pu : clientMap.keySet())
@@ -958,4 +1205,28 @@ public final class PersistenceDelegator
     {
         return this.kunderaMetadata;
     }
+
+    /**
+     * Returns true, if persistence context is read only. Entities of a read
+     * only persistence context are neither copied nor snapshotted for
+     * rollback.
+     * 
+     * @return true, if read only.
+     * @see PersistenceProperties#KUNDERA_PERSISTENCE_CONTEXT_READ_ONLY
+     */
+    public boolean isReadOnly()
+    {
+        return readOnly;
+    }
+
+    /**
+     * Sets read only for persistence context.
+     * 
+     * @param readOnly
+     *            the readOnly to set
+     */
+    void setReadOnly(boolean readOnly)
+    {
+        this.readOnly = readOnly;
+    }
 }
@@ -34,7 +34,6 @@ import com.impetus.kundera.lifecycle.states.ManagedState;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.persistence.PersistenceDelegator;
 import com.impetus.kundera.property.PropertyAccessorHelper;
-import com.impetus.kundera.utils.ObjectUtils;
 
 /**
  * Base class for all cache required in persistence context
@@ -89,8 +88,13 @@ public class CacheBase
         // Make a deep copy of Node data and and set into node
         // Original data object is now detached from Node and is possibly
         // referred by user code
-        Object nodeDataCopy = ObjectUtils.deepCopy(node.getData(), node.getPersistenceDelegator().getKunderaMetadata());
-        node.setData(nodeDataCopy);
+        // Read only persistence context shares data with user code as is.
+        if (!node.getPersistenceDelegator().isReadOnly())
+        {
+            Object nodeDataCopy = EntitySnapshot.copy(node.getData(), node.getPersistenceDelegator()
+                    .getKunderaMetadata());
+            node.setData(nodeDataCopy);
+        }
 
         /*
          * check if this node already exists in cache node mappings If yes,
@@ -0,0 +1,899 @@
+/**
+ * Copyright 2026 Impetus Infotech.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.impetus.kundera.persistence.context;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.impetus.kundera.metadata.KunderaMetadataManager;
+import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.metadata.model.MetamodelImpl;
+import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.property.FieldAccessor;
+import com.impetus.kundera.property.FieldAccessorFactory;
+import com.impetus.kundera.property.PropertyAccessorFactory;
+import com.impetus.kundera.property.PropertyAccessorHelper;
+import com.impetus.kundera.proxy.KunderaProxy;
+import com.impetus.kundera.proxy.ProxyHelper;
+import com.impetus.kundera.proxy.collection.ProxyCollection;
+import com.impetus.kundera.utils.KunderaCoreUtils;
+import com.impetus.kundera.utils.ObjectUtils;
+
+/**
+ * Point in time state of an entity, held as a flat array of attribute values.
+ * Immutable values (strings, numbers, UUIDs, enums) are shared with the
+ * entity, mutable values are copied and embeddables are flattened into
+ * nested value arrays. Relations are held by reference, as their state is
+ * tracked by their own nodes.
+ *
+ * A snapshot is much cheaper than a deep copy of the entity graph and is
+ * restored into a new entity instance when needed (e.g. for rollback).
+ * {@link #getModifiedAttributes(Object, Object, KunderaMetadata)} compares two
+ * states of an entity attribute by attribute, and
+ * {@link #copy(Object, KunderaMetadata)} copies an entity graph using same
+ * per class attribute plan.
+ */
+public final class EntitySnapshot
+{
+    /** The log. */
+    private static final Logger log = LoggerFactory.getLogger(EntitySnapshot.class);
+
+    /** Maximum depth, non entity objects are flattened to. */
+    private static final int MAX_DEPTH = 16;
+
+    /** Immutable value types, shared with entity instead of being copied. */
+    private static final Set<Class<?>> immutableTypes = new HashSet<Class<?>>(Arrays.<Class<?>> asList(
+            String.class, Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, Class.class));
+
+    /** The entity class. */
+    private final Class<?> entityClass;
+
+    /** The attributes. */
+    private final SnapshotAttribute[] attributes;
+
+    /** The attribute values. */
+    private final Object[] values;
+
+    /** Attribute cache of entity's factory, used on restore. */
+    private final AttributeCache cache;
+
+    private EntitySnapshot(Class<?> entityClass, SnapshotAttribute[] attributes, Object[] values,
+            AttributeCache cache)
+    {
+        this.entityClass = entityClass;
+        this.attributes = attributes;
+        this.values = values;
+        this.cache = cache;
+    }
+
+    /**
+     * Takes snapshot of given entity.
+     *
+     * @param entity
+     *            the entity
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @return entity snapshot or null, if entity is null.
+     */
+    public static EntitySnapshot take(Object entity, final KunderaMetadata kunderaMetadata)
+    {
+        if (entity == null)
+        {
+            return null;
+        }
+
+        AttributeCache cache = kunderaMetadata.getSnapshotCache();
+        SnapshotAttribute[] attributes = getAttributes(entity.getClass(), kunderaMetadata);
+        Object[] values = new Object[attributes.length];
+        for (int i = 0; i < attributes.length; i++)
+        {
+            Object value = attributes[i].accessor.get(entity);
+            values[i] = attributes[i].relation ? snapshotRelation(value, attributes[i].collection) : snapshotValue(
+                    value, 0, cache);
+        }
+        return new EntitySnapshot(entity.getClass(), attributes, values, cache);
+    }
+
+    /**
+     * Returns names of attributes which differ between two states of an
+     * entity. Values are compared field by field, relations by ids of
+     * referred entities.
+     *
+     * @param original
+     *            original state of entity
+     * @param entity
+     *            current state of entity
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @return set of modified attribute names, empty if nothing is modified.
+     */
+    public static Set<String> getModifiedAttributes(Object original, Object entity,
+            final KunderaMetadata kunderaMetadata)
+    {
+        Set<String> modified = new LinkedHashSet<String>();
+        if (original == null && entity == null)
+        {
+            return modified;
+        }
+        else if (original == null || entity == null || !original.getClass().equals(entity.getClass()))
+        {
+            for (SnapshotAttribute attribute : getAttributes((entity != null ? entity : original).getClass(),
+                    kunderaMetadata))
+            {
+                modified.add(attribute.name);
+            }
+            return modified;
+        }
+
+        AttributeCache cache = kunderaMetadata.getSnapshotCache();
+        for (SnapshotAttribute attribute : getAttributes(entity.getClass(), kunderaMetadata))
+        {
+            Object originalValue = attribute.accessor.get(original);
+            Object value = attribute.accessor.get(entity);
+            if (!(attribute.relation ? sameRelation(originalValue, value, kunderaMetadata) : sameValue(
+                    originalValue, value, 0, cache)))
+            {
+                modified.add(attribute.name);
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * Copies given entity, along with entities it refers to. Immutable values
+     * are shared, mutable values and embeddables are copied and lazy
+     * relations are kept as is, as with
+     * {@link ObjectUtils#deepCopy(Object, KunderaMetadata)}, which remains the
+     * fall back for entities this copy can not handle.
+     *
+     * @param entity
+     *            the entity
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @return copy of entity, or entity itself if it is not an entity.
+     */
+    public static Object copy(Object entity, final KunderaMetadata kunderaMetadata)
+    {
+        try
+        {
+            return copyEntity(entity, new IdentityHashMap<Object, Object>(), kunderaMetadata);
+        }
+        catch (RuntimeException e)
+        {
+            log.debug("Falling back to deep copy of {}, Caused by: {}.", entity.getClass(), e.getMessage());
+            return ObjectUtils.deepCopy(entity, kunderaMetadata);
+        }
+    }
+
+    /**
+     * Creates a new entity instance holding state of this snapshot.
+     *
+     * @return restored entity.
+     */
+    public Object restore()
+    {
+        Object entity = KunderaCoreUtils.createNewInstance(entityClass);
+        for (int i = 0; i < attributes.length; i++)
+        {
+            attributes[i].accessor.set(entity, attributes[i].relation ? restoreRelation(values[i], cache)
+                    : restoreValue(values[i], cache));
+        }
+        return entity;
+    }
+
+    /**
+     * @return the entityClass
+     */
+    public Class<?> getEntityClass()
+    {
+        return entityClass;
+    }
+
+    /**
+     * Returns snapshot attributes of entity class, resolved once per class.
+     */
+    private static SnapshotAttribute[] getAttributes(Class<?> entityClass, final KunderaMetadata kunderaMetadata)
+    {
+        AttributeCache cache = kunderaMetadata.getSnapshotCache();
+        SnapshotAttribute[] attributes = cache.entityAttributes.get(entityClass);
+        if (attributes == null)
+        {
+            EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClass);
+            if (metadata == null)
+            {
+                throw new IllegalArgumentException("Can't take snapshot of non entity class " + entityClass);
+            }
+            MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
+                    metadata.getPersistenceUnit());
+            EntityType entityType = metaModel.entity(entityClass);
+
+            List<SnapshotAttribute> attributeList = new ArrayList<SnapshotAttribute>();
+            for (Object o : entityType.getAttributes())
+            {
+                Attribute attribute = (Attribute) o;
+                PersistentAttributeType type = attribute.getPersistentAttributeType();
+                boolean relation = !(PersistentAttributeType.BASIC.equals(type)
+                        || PersistentAttributeType.EMBEDDED.equals(type) || PersistentAttributeType.ELEMENT_COLLECTION
+                        .equals(type));
+                FieldAccessor accessor = attribute instanceof AbstractAttribute ? ((AbstractAttribute) attribute)
+                        .getFieldAccessor() : FieldAccessorFactory.createFieldAccessor((Field) attribute
+                        .getJavaMember());
+                attributeList.add(new SnapshotAttribute(((Field) attribute.getJavaMember()).getName(), accessor,
+                        relation, attribute.isCollection()));
+            }
+            attributes = attributeList.toArray(new SnapshotAttribute[attributeList.size()]);
+            SnapshotAttribute[] existing = cache.entityAttributes.putIfAbsent(entityClass, attributes);
+            attributes = existing != null ? existing : attributes;
+        }
+        return attributes;
+    }
+
+    /**
+     * Returns non static, non transient fields of given value class and it's
+     * super classes.
+     */
+    private static FieldAccessor[] getValueFields(Class<?> valueClass, AttributeCache cache)
+    {
+        FieldAccessor[] fields = cache.valueFields.get(valueClass);
+        if (fields == null)
+        {
+            List<FieldAccessor> fieldList = new ArrayList<FieldAccessor>();
+            for (Class<?> clazz = valueClass; clazz != null && !Object.class.equals(clazz); clazz = clazz
+                    .getSuperclass())
+            {
+                for (Field field : clazz.getDeclaredFields())
+                {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                    {
+                        fieldList.add(FieldAccessorFactory.createFieldAccessor(field));
+                    }
+                }
+            }
+            fields = fieldList.toArray(new FieldAccessor[fieldList.size()]);
+            FieldAccessor[] existing = cache.valueFields.putIfAbsent(valueClass, fields);
+            fields = existing != null ? existing : fields;
+        }
+        return fields;
+    }
+
+    private static boolean isImmutable(Object value)
+    {
+        return immutableTypes.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    /**
+     * Captures a non relational value.
+     */
+    private static Object snapshotValue(Object value, int depth, AttributeCache cache)
+    {
+        if (value == null || isImmutable(value))
+        {
+            return value;
+        }
+        else if (value instanceof Date || value instanceof Calendar)
+        {
+            return PropertyAccessorFactory.getPropertyAccessor(value.getClass()).getCopy(value);
+        }
+        else if (depth >= MAX_DEPTH)
+        {
+            return value;
+        }
+        else if (value.getClass().isArray())
+        {
+            return copyArray(value, depth, cache);
+        }
+        else if (value instanceof Collection)
+        {
+            Collection<?> collection = (Collection<?>) value;
+            Object[] elements = new Object[collection.size()];
+            int i = 0;
+            for (Object element : collection)
+            {
+                elements[i++] = snapshotValue(element, depth + 1, cache);
+            }
+            return new ContainerValue(value.getClass(), elements, value instanceof Set);
+        }
+        else if (value instanceof Map)
+        {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Object[] entries = new Object[map.size() * 2];
+            int i = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet())
+            {
+                entries[i++] = snapshotValue(entry.getKey(), depth + 1, cache);
+                entries[i++] = snapshotValue(entry.getValue(), depth + 1, cache);
+            }
+            return new ContainerValue(value.getClass(), entries, false);
+        }
+
+        FieldAccessor[] fields = getValueFields(value.getClass(), cache);
+        Object[] fieldValues = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++)
+        {
+            fieldValues[i] = snapshotValue(fields[i].get(value), depth + 1, cache);
+        }
+        return new ObjectValue(value.getClass(), fieldValues);
+    }
+
+    /**
+     * Copies an array, elements of object arrays are copied as well.
+     */
+    private static Object copyArray(Object array, int depth, AttributeCache cache)
+    {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        Object copy = Array.newInstance(componentType, length);
+        if (componentType.isPrimitive())
+        {
+            System.arraycopy(array, 0, copy, 0, length);
+            return copy;
+        }
+        for (int i = 0; i < length; i++)
+        {
+            Array.set(copy, i, copyValue(Array.get(array, i), depth + 1, cache));
+        }
+        return copy;
+    }
+
+    /**
+     * Copies an entity, entities already copied in this graph are reused.
+     */
+    private static Object copyEntity(Object entity, Map<Object, Object> copies, final KunderaMetadata kunderaMetadata)
+    {
+        if (entity == null)
+        {
+            return null;
+        }
+        Object copy = copies.get(entity);
+        if (copy != null)
+        {
+            return copy;
+        }
+
+        AttributeCache cache = kunderaMetadata.getSnapshotCache();
+        SnapshotAttribute[] attributes = cache.entityAttributes.get(entity.getClass());
+        if (attributes == null)
+        {
+            if (KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entity.getClass()) == null)
+            {
+                return entity;
+            }
+            attributes = getAttributes(entity.getClass(), kunderaMetadata);
+        }
+
+        copy = KunderaCoreUtils.createNewInstance(entity.getClass());
+        if (copy == null)
+        {
+            throw new IllegalArgumentException("No default constructor in entity class " + entity.getClass());
+        }
+        copies.put(entity, copy);
+        for (SnapshotAttribute attribute : attributes)
+        {
+            Object value = attribute.accessor.get(entity);
+            attribute.accessor.set(copy, attribute.relation ? copyRelation(value, copy, copies, kunderaMetadata)
+                    : copyValue(value, 0, cache));
+        }
+        return copy;
+    }
+
+    /**
+     * Copies a relation. Lazy proxies are shared and lazy collections are
+     * copied uninitialized, for new owner.
+     */
+    private static Object copyRelation(Object value, Object owner, Map<Object, Object> copies,
+            final KunderaMetadata kunderaMetadata)
+    {
+        if (value == null || value instanceof KunderaProxy || ProxyHelper.isPersistentCollection(value))
+        {
+            return value;
+        }
+        else if (ProxyHelper.isKunderaProxyCollection(value))
+        {
+            ProxyCollection copy = ((ProxyCollection) value).getCopy();
+            copy.setOwner(owner);
+            return copy;
+        }
+        else if (value instanceof Collection)
+        {
+            Collection<Object> copy = (Collection<Object>) newContainer(value.getClass(), value instanceof Set);
+            for (Object element : (Collection<?>) value)
+            {
+                copy.add(copyEntity(element, copies, kunderaMetadata));
+            }
+            return copy;
+        }
+        else if (value instanceof Map)
+        {
+            Map<Object, Object> copy = (Map<Object, Object>) newContainer(value.getClass(), false);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+            {
+                copy.put(copyEntity(entry.getKey(), copies, kunderaMetadata),
+                        copyEntity(entry.getValue(), copies, kunderaMetadata));
+            }
+            return copy;
+        }
+        return copyEntity(value, copies, kunderaMetadata);
+    }
+
+    /**
+     * Copies a non relational value, same as capturing and restoring it
+     * without intermediate snapshot. Objects which can not be instantiated
+     * are shared.
+     */
+    private static Object copyValue(Object value, int depth, AttributeCache cache)
+    {
+        if (value == null || isImmutable(value))
+        {
+            return value;
+        }
+        else if (value instanceof Date || value instanceof Calendar)
+        {
+            return PropertyAccessorFactory.getPropertyAccessor(value.getClass()).getCopy(value);
+        }
+        else if (depth >= MAX_DEPTH)
+        {
+            return value;
+        }
+        else if (value.getClass().isArray())
+        {
+            return copyArray(value, depth, cache);
+        }
+        else if (value instanceof Collection)
+        {
+            Collection<Object> copy = (Collection<Object>) newContainer(value.getClass(), value instanceof Set);
+            for (Object element : (Collection<?>) value)
+            {
+                copy.add(copyValue(element, depth + 1, cache));
+            }
+            return copy;
+        }
+        else if (value instanceof Map)
+        {
+            Map<Object, Object> copy = (Map<Object, Object>) newContainer(value.getClass(), false);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+            {
+                copy.put(copyValue(entry.getKey(), depth + 1, cache), copyValue(entry.getValue(), depth + 1, cache));
+            }
+            return copy;
+        }
+
+        Object copy = KunderaCoreUtils.createNewInstance(value.getClass());
+        if (copy == null)
+        {
+            return value;
+        }
+        for (FieldAccessor field : getValueFields(value.getClass(), cache))
+        {
+            field.set(copy, copyValue(field.get(value), depth + 1, cache));
+        }
+        return copy;
+    }
+
+    /**
+     * Captures a relation, by reference.
+     */
+    private static Object snapshotRelation(Object value, boolean collection)
+    {
+        if (value == null || !collection || ProxyHelper.isProxyOrCollection(value) || !(value instanceof Collection))
+        {
+            return value;
+        }
+        return new ContainerValue(value.getClass(), ((Collection<?>) value).toArray(), value instanceof Set);
+    }
+
+    /**
+     * Compares two non relational values.
+     */
+    private static boolean sameValue(Object original, Object value, int depth, AttributeCache cache)
+    {
+        if (original == value)
+        {
+            return true;
+        }
+        else if (original == null || value == null || !original.getClass().equals(value.getClass()))
+        {
+            return false;
+        }
+        else if (isImmutable(original) || original instanceof Date || original instanceof Calendar)
+        {
+            return original.equals(value);
+        }
+        else if (depth >= MAX_DEPTH)
+        {
+            return original.equals(value);
+        }
+        else if (original.getClass().isArray())
+        {
+            return sameArray(original, value, depth, cache);
+        }
+        else if (original instanceof Collection)
+        {
+            Collection<?> originalCollection = (Collection<?>) original;
+            Collection<?> collection = (Collection<?>) value;
+            if (originalCollection.size() != collection.size())
+            {
+                return false;
+            }
+            if (original instanceof Set)
+            {
+                for (Object element : originalCollection)
+                {
+                    if (!containsValue(collection, element, depth + 1, cache))
+                    {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            Iterator<?> iterator = collection.iterator();
+            for (Object element : originalCollection)
+            {
+                if (!sameValue(element, iterator.next(), depth + 1, cache))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        else if (original instanceof Map)
+        {
+            Map<?, ?> originalMap = (Map<?, ?>) original;
+            Map<?, ?> map = (Map<?, ?>) value;
+            if (originalMap.size() != map.size())
+            {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : originalMap.entrySet())
+            {
+                Object key = entry.getKey();
+                if (key == null || isImmutable(key))
+                {
+                    if (!map.containsKey(key) || !sameValue(entry.getValue(), map.get(key), depth + 1, cache))
+                    {
+                        return false;
+                    }
+                }
+                else if (!containsValue(map.entrySet(), entry, depth + 1, cache))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        for (FieldAccessor field : getValueFields(original.getClass(), cache))
+        {
+            if (!sameValue(field.get(original), field.get(value), depth + 1, cache))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two arrays of same type, element by element.
+     */
+    private static boolean sameArray(Object original, Object value, int depth, AttributeCache cache)
+    {
+        if (original.getClass().getComponentType().isPrimitive())
+        {
+            return Arrays.deepEquals(new Object[] { original }, new Object[] { value });
+        }
+        Object[] originalArray = (Object[]) original;
+        Object[] array = (Object[]) value;
+        if (originalArray.length != array.length)
+        {
+            return false;
+        }
+        for (int i = 0; i < originalArray.length; i++)
+        {
+            if (!sameValue(originalArray[i], array[i], depth + 1, cache))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsValue(Collection<?> collection, Object element, int depth, AttributeCache cache)
+    {
+        if (element == null || isImmutable(element))
+        {
+            return collection.contains(element);
+        }
+        for (Object candidate : collection)
+        {
+            if (element instanceof Map.Entry && candidate instanceof Map.Entry)
+            {
+                if (sameValue(((Map.Entry<?, ?>) element).getKey(), ((Map.Entry<?, ?>) candidate).getKey(), depth,
+                        cache)
+                        && sameValue(((Map.Entry<?, ?>) element).getValue(),
+                                ((Map.Entry<?, ?>) candidate).getValue(), depth, cache))
+                {
+                    return true;
+                }
+            }
+            else if (sameValue(element, candidate, depth, cache))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares two relations. Relations are same if they refer to same
+     * entities.
+     */
+    private static boolean sameRelation(Object original, Object value, final KunderaMetadata kunderaMetadata)
+    {
+        if (ProxyHelper.isProxyCollection(original) || ProxyHelper.isProxyCollection(value))
+        {
+            return sameProxyCollection(original, value);
+        }
+        else if (original == value)
+        {
+            return true;
+        }
+        else if (original == null || value == null || original instanceof Map || value instanceof Map)
+        {
+            return false;
+        }
+        else if (original instanceof Collection && value instanceof Collection)
+        {
+            Collection<?> originalCollection = (Collection<?>) original;
+            Collection<?> collection = (Collection<?>) value;
+            if (originalCollection.size() != collection.size())
+            {
+                return false;
+            }
+            Set<Object> ids = new HashSet<Object>();
+            for (Object element : originalCollection)
+            {
+                ids.add(getRelationId(element, kunderaMetadata));
+            }
+            for (Object element : collection)
+            {
+                if (!ids.contains(getRelationId(element, kunderaMetadata)))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return !(original instanceof Collection) && !(value instanceof Collection)
+                && getRelationId(original, kunderaMetadata).equals(getRelationId(value, kunderaMetadata));
+    }
+
+    /**
+     * Compares relations, of which at least one is a lazy proxy collection. A
+     * proxy collection is unchanged only while it is not initialized, either
+     * as same instance or as a copy for same relation (as handed out by find).
+     * Replaced or initialized proxy collections are modified, as their loaded
+     * content is not known to the original.
+     */
+    private static boolean sameProxyCollection(Object original, Object value)
+    {
+        if (!ProxyHelper.isKunderaProxyCollection(original) || !ProxyHelper.isKunderaProxyCollection(value))
+        {
+            // persistent collections are only matched by reference.
+            return original == value && ProxyHelper.isPersistentCollection(original);
+        }
+        ProxyCollection originalProxy = (ProxyCollection) original;
+        ProxyCollection proxy = (ProxyCollection) value;
+        return originalProxy.getDataCollection() == null && proxy.getDataCollection() == null
+                && (originalProxy == proxy || originalProxy.getRelation() == proxy.getRelation());
+    }
+
+    private static Object getRelationId(Object relation, final KunderaMetadata kunderaMetadata)
+    {
+        if (relation == null)
+        {
+            return Collections.emptyList();
+        }
+        else if (relation instanceof KunderaProxy)
+        {
+            return ((KunderaProxy) relation).getKunderaLazyInitializer().getIdentifier();
+        }
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, relation.getClass());
+        if (metadata == null)
+        {
+            return relation;
+        }
+        Object id = PropertyAccessorHelper.getId(relation, metadata);
+        // entity without id yet, can only be matched by reference.
+        return id != null ? id : relation;
+    }
+
+    /**
+     * Creates a new value out of captured value.
+     */
+    private static Object restoreValue(Object snapshot, AttributeCache cache)
+    {
+        if (snapshot == null || isImmutable(snapshot))
+        {
+            return snapshot;
+        }
+        else if (snapshot instanceof ObjectValue)
+        {
+            ObjectValue objectValue = (ObjectValue) snapshot;
+            Object value = KunderaCoreUtils.createNewInstance(objectValue.type);
+            if (value == null)
+            {
+                return null;
+            }
+            FieldAccessor[] fields = getValueFields(objectValue.type, cache);
+            for (int i = 0; i < fields.length; i++)
+            {
+                fields[i].set(value, restoreValue(objectValue.values[i], cache));
+            }
+            return value;
+        }
+        else if (snapshot instanceof ContainerValue)
+        {
+            return restoreContainer((ContainerValue) snapshot, false, cache);
+        }
+        return snapshotValue(snapshot, 0, cache);
+    }
+
+    /**
+     * Creates relation out of captured relation, holding same references.
+     */
+    private static Object restoreRelation(Object snapshot, AttributeCache cache)
+    {
+        return snapshot instanceof ContainerValue ? restoreContainer((ContainerValue) snapshot, true, cache)
+                : snapshot;
+    }
+
+    private static Object restoreContainer(ContainerValue snapshot, boolean byReference, AttributeCache cache)
+    {
+        Object container = newContainer(snapshot.type, snapshot.unordered);
+
+        if (container instanceof Map)
+        {
+            for (int i = 0; i < snapshot.values.length; i += 2)
+            {
+                ((Map) container).put(restoreValue(snapshot.values[i], cache),
+                        restoreValue(snapshot.values[i + 1], cache));
+            }
+        }
+        else
+        {
+            for (Object element : snapshot.values)
+            {
+                ((Collection) container).add(byReference ? element : restoreValue(element, cache));
+            }
+        }
+        return container;
+    }
+
+    /**
+     * Creates an empty collection or map of given type.
+     */
+    private static Object newContainer(Class<?> type, boolean unordered)
+    {
+        Object container = KunderaCoreUtils.createNewInstance(type);
+        if (container == null)
+        {
+            // no accessible default constructor, fall back to generic type.
+            container = Map.class.isAssignableFrom(type) ? new LinkedHashMap<Object, Object>()
+                    : unordered ? new LinkedHashSet<Object>() : new ArrayList<Object>();
+        }
+        return container;
+    }
+
+    /**
+     * Snapshot attributes and value fields, resolved once per class. Held by
+     * {@link KunderaMetadata}, so that classes are not referred beyond life of
+     * their entity manager factory.
+     */
+    public static final class AttributeCache
+    {
+        /** Snapshot attributes per entity class. */
+        private final ConcurrentMap<Class<?>, SnapshotAttribute[]> entityAttributes = new ConcurrentHashMap<Class<?>, SnapshotAttribute[]>();
+
+        /** Snapshot fields per embeddable/ value class. */
+        private final ConcurrentMap<Class<?>, FieldAccessor[]> valueFields = new ConcurrentHashMap<Class<?>, FieldAccessor[]>();
+    }
+
+    /**
+     * Attribute captured in a snapshot.
+     */
+    private static final class SnapshotAttribute
+    {
+        private final String name;
+
+        private final FieldAccessor accessor;
+
+        private final boolean relation;
+
+        private final boolean collection;
+
+        private SnapshotAttribute(String name, FieldAccessor accessor, boolean relation, boolean collection)
+        {
+            this.name = name;
+            this.accessor = accessor;
+            this.relation = relation;
+            this.collection = collection;
+        }
+    }
+
+    /**
+     * Flattened state of an embeddable or other non entity object.
+     */
+    private static final class ObjectValue
+    {
+        private final Class<?> type;
+
+        private final Object[] values;
+
+        private ObjectValue(Class<?> type, Object[] values)
+        {
+            this.type = type;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Captured elements of a collection, or alternating keys and values of a
+     * map.
+     */
+    private static final class ContainerValue
+    {
+        private final Class<?> type;
+
+        private final Object[] values;
+
+        private final boolean unordered;
+
+        private ContainerValue(Class<?> type, Object[] values, boolean unordered)
+        {
+            this.type = type;
+            this.values = values;
+            this.unordered = unordered;
+        }
+    }
+}
@@ -425,11 +425,12 @@ public class FlushManager
                 {
                     EventLog event = iter.next();
                     Node node = event.getNode();
-                    if (node.isProcessed())
+                    // Read only persistence context never rolls back.
+                    if (node.isProcessed() && !node.getPersistenceDelegator().isReadOnly())
                     {
                         // One time set as required for rollback.
-                        Node original = node.clone();
-                        node.setOriginalNode(original);
+                        node.setOriginalSnapshot(EntitySnapshot.take(node.getData(), node
+                                .getPersistenceDelegator().getKunderaMetadata()));
                     }
 
                     // mark it null for garbage collection.
@@ -0,0 +1,289 @@
+/**
+ * Copyright 2026 Impetus Infotech.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.impetus.kundera.persistence.context;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.impetus.kundera.KunderaException;
+import com.impetus.kundera.client.Client;
+import com.impetus.kundera.graph.Node;
+import com.impetus.kundera.utils.KunderaThreadFactory;
+
+/**
+ * Schedules flush of nodes popped from flush stack. Nodes are partitioned by
+ * client, and clients holding related nodes are kept in the same partition, so
+ * that each partition retains the order of flush stack. Independent partitions
+ * are flushed concurrently if an executor is available, else serially.
+ */
+public class FlushScheduler
+{
+    /** The Constant log. */
+    private static final Logger log = LoggerFactory.getLogger(FlushScheduler.class);
+
+    /** The executor, null if flush is serial. */
+    private final ExecutorService executor;
+
+    /** Whether executor is owned, and shut down by this scheduler. */
+    private final boolean ownExecutor;
+
+    /**
+     * Instantiates a new flush scheduler.
+     *
+     * @param parallelism
+     *            number of threads, serial flush if less than 2.
+     */
+    public FlushScheduler(int parallelism)
+    {
+        this.executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, new KunderaThreadFactory(
+                FlushScheduler.class.getName())) : null;
+        this.ownExecutor = true;
+    }
+
+    /**
+     * Instantiates a new flush scheduler on provided executor. Executor is not
+     * shut down by scheduler.
+     *
+     * @param executor
+     *            the executor
+     */
+    public FlushScheduler(ExecutorService executor)
+    {
+        this.executor = executor;
+        this.ownExecutor = false;
+    }
+
+    /**
+     * Returns true, if independent partitions are flushed concurrently.
+     *
+     * @return true, if parallel
+     */
+    public boolean isParallel()
+    {
+        return executor != null;
+    }
+
+    /**
+     * Flushes given nodes, in given order within each partition.
+     *
+     * @param nodes
+     *            nodes to flush, with client set.
+     */
+    public void flush(List<Node> nodes)
+    {
+        if (!isParallel())
+        {
+            flushNodes(nodes);
+            return;
+        }
+
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        for (final List<Node> partition : partition(nodes))
+        {
+            tasks.add(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    flushNodes(partition);
+                }
+            });
+        }
+        run(tasks);
+    }
+
+    /**
+     * Partitions nodes by client. Clients are merged into one partition if any
+     * of their nodes are related to each other.
+     *
+     * @param nodes
+     *            nodes with client set.
+     * @return partitions, in order of their first node.
+     */
+    public List<List<Node>> partition(List<Node> nodes)
+    {
+        Map<Client, Client> roots = new IdentityHashMap<Client, Client>();
+        for (Node node : nodes)
+        {
+            roots.put(node.getClient(), node.getClient());
+        }
+
+        if (roots.size() > 1)
+        {
+            for (Node node : nodes)
+            {
+                union(roots, node, node.getParents());
+                union(roots, node, node.getChildren());
+            }
+        }
+
+        Map<Client, List<Node>> partitions = new LinkedHashMap<Client, List<Node>>();
+        for (Node node : nodes)
+        {
+            Client root = find(roots, node.getClient());
+            List<Node> partition = partitions.get(root);
+            if (partition == null)
+            {
+                partition = new ArrayList<Node>();
+                partitions.put(root, partition);
+            }
+            partition.add(node);
+        }
+        return new ArrayList<List<Node>>(partitions.values());
+    }
+
+    /**
+     * Runs given tasks, concurrently if parallel. Waits for all tasks to
+     * finish, first failure is thrown with rest of failures suppressed into
+     * it.
+     *
+     * @param tasks
+     *            the tasks
+     */
+    public void run(List<? extends Runnable> tasks)
+    {
+        if (!isParallel() || tasks.size() < 2)
+        {
+            for (Runnable task : tasks)
+            {
+                task.run();
+            }
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<Future<?>>(tasks.size() - 1);
+        for (Runnable task : tasks.subList(1, tasks.size()))
+        {
+            futures.add(executor.submit(task));
+        }
+
+        // caller thread takes first task.
+        Throwable failure = null;
+        try
+        {
+            tasks.get(0).run();
+        }
+        catch (Throwable t)
+        {
+            failure = t;
+        }
+
+        boolean interrupted = false;
+        for (Future<?> future : futures)
+        {
+            Throwable error = null;
+            try
+            {
+                future.get();
+            }
+            catch (ExecutionException e)
+            {
+                error = e.getCause();
+            }
+            catch (InterruptedException e)
+            {
+                interrupted = true;
+                future.cancel(true);
+                error = e;
+            }
+
+            if (error != null)
+            {
+                if (failure == null)
+                {
+                    failure = error;
+                }
+                else
+                {
+                    failure.addSuppressed(error);
+                }
+            }
+        }
+
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure != null)
+        {
+            log.error("Error while flushing, caused by: ", failure);
+            if (failure instanceof RuntimeException)
+            {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error)
+            {
+                throw (Error) failure;
+            }
+            throw new KunderaException(failure);
+        }
+    }
+
+    /**
+     * Shuts down executor, if owned by this scheduler.
+     */
+    public void shutdown()
+    {
+        if (executor != null && ownExecutor)
+        {
+            executor.shutdown();
+        }
+    }
+
+    private void flushNodes(List<Node> nodes)
+    {
+        for (Node node : nodes)
+        {
+            node.flush();
+        }
+    }
+
+    private void union(Map<Client, Client> roots, Node node, Map<?, Node> relatedNodes)
+    {
+        if (relatedNodes != null)
+        {
+            for (Node related : relatedNodes.values())
+            {
+                Client client = related.getClient();
+                if (client != null && client != node.getClient() && roots.containsKey(client))
+                {
+                    roots.put(find(roots, client), find(roots, node.getClient()));
+                }
+            }
+        }
+    }
+
+    private Client find(Map<Client, Client> roots, Client client)
+    {
+        Client root = client;
+        while (roots.get(root) != root)
+        {
+            root = roots.get(root);
+        }
+        return root;
+    }
+}
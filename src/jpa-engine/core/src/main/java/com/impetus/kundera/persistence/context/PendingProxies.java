@@ -0,0 +1,150 @@
+/**
+ * Copyright 2026 Impetus Infotech.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.impetus.kundera.persistence.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.impetus.kundera.proxy.LazyInitializer;
+
+/**
+ * Uninitialized lazy proxies of a persistence context, grouped by proxied
+ * entity class and id. Used to initialize proxies of same entity class
+ * together, when one of them is touched.
+ */
+public class PendingProxies
+{
+    /** Proxy initializers, keyed by entity class and id. */
+    private final Map<Class<?>, Map<Object, List<LazyInitializer>>> proxies = new HashMap<Class<?>, Map<Object, List<LazyInitializer>>>();
+
+    /**
+     * Adds an uninitialized proxy.
+     *
+     * @param initializer
+     *            lazy initializer of proxy.
+     */
+    public void add(LazyInitializer initializer)
+    {
+        if (initializer.getIdentifier() == null || !initializer.isUninitialized())
+        {
+            return;
+        }
+
+        Map<Object, List<LazyInitializer>> byId = proxies.get(initializer.getPersistentClass());
+        if (byId == null)
+        {
+            byId = new LinkedHashMap<Object, List<LazyInitializer>>();
+            proxies.put(initializer.getPersistentClass(), byId);
+        }
+
+        List<LazyInitializer> initializers = byId.get(initializer.getIdentifier());
+        if (initializers == null)
+        {
+            initializers = new ArrayList<LazyInitializer>(1);
+            byId.put(initializer.getIdentifier(), initializers);
+        }
+        initializers.add(initializer);
+    }
+
+    /**
+     * Removes given proxy, if pending.
+     *
+     * @param initializer
+     *            lazy initializer of proxy.
+     */
+    public void remove(LazyInitializer initializer)
+    {
+        Map<Object, List<LazyInitializer>> byId = proxies.get(initializer.getPersistentClass());
+        if (byId == null || initializer.getIdentifier() == null)
+        {
+            return;
+        }
+
+        List<LazyInitializer> initializers = byId.get(initializer.getIdentifier());
+        if (initializers != null)
+        {
+            // Identity match, proxies may not be compared by equals.
+            for (Iterator<LazyInitializer> iter = initializers.iterator(); iter.hasNext();)
+            {
+                if (iter.next() == initializer)
+                {
+                    iter.remove();
+                }
+            }
+
+            if (initializers.isEmpty())
+            {
+                byId.remove(initializer.getIdentifier());
+            }
+        }
+    }
+
+    /**
+     * Removes and returns pending proxies of given entity class, for up to
+     * <code>maxIds</code> ids, in order they were added. Proxies initialized
+     * meanwhile are dropped.
+     *
+     * @param entityClass
+     *            entity class.
+     * @param maxIds
+     *            maximum number of ids to return.
+     * @return pending proxy initializers, keyed by id.
+     */
+    public Map<Object, List<LazyInitializer>> poll(Class<?> entityClass, int maxIds)
+    {
+        Map<Object, List<LazyInitializer>> byId = proxies.get(entityClass);
+        if (byId == null || byId.isEmpty() || maxIds <= 0)
+        {
+            return Collections.emptyMap();
+        }
+
+        Map<Object, List<LazyInitializer>> polled = new LinkedHashMap<Object, List<LazyInitializer>>();
+        for (Iterator<Map.Entry<Object, List<LazyInitializer>>> iter = byId.entrySet().iterator(); iter.hasNext()
+                && polled.size() < maxIds;)
+        {
+            Map.Entry<Object, List<LazyInitializer>> entry = iter.next();
+            iter.remove();
+
+            List<LazyInitializer> initializers = new ArrayList<LazyInitializer>(entry.getValue().size());
+            for (LazyInitializer initializer : entry.getValue())
+            {
+                if (initializer.isUninitialized())
+                {
+                    initializers.add(initializer);
+                }
+            }
+
+            if (!initializers.isEmpty())
+            {
+                polled.put(entry.getKey(), initializers);
+            }
+        }
+        return polled;
+    }
+
+    /**
+     * Clears all pending proxies.
+     */
+    public void clear()
+    {
+        proxies.clear();
+    }
+}
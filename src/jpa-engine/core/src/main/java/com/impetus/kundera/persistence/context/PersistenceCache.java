@@ -41,6 +41,9 @@ public class PersistenceCache
 
     private PersistenceContextType persistenceContextType;
 
+    /* Lazy proxies yet to be initialized */
+    private PendingProxies pendingProxies = new PendingProxies();
+
     /**
      * Stack containing Nodes to be flushed Entities are always flushed from the
      * top, there way to bottom until stack is empty
@@ -89,6 +92,8 @@ public class PersistenceCache
             mainCache.clear();
         }
 
+        pendingProxies.clear();
+
 /*        if (embeddedCache != null)
         {
             embeddedCache.clear();
@@ -171,6 +176,14 @@ public class PersistenceCache
         this.transactionalCache = transactionalCache;
     }
 */
+    /**
+     * @return the pendingProxies
+     */
+    public PendingProxies getPendingProxies()
+    {
+        return pendingProxies;
+    }
+
     /**
      * @return the persistenceContextType
      */
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.property;
+
+/**
+ * Reads and writes value of a single entity field. Implementations are
+ * resolved once per field by {@link FieldAccessorFactory} and are free of
+ * per call access checks.
+ */
+public interface FieldAccessor
+{
+    /**
+     * Returns field value of given target.
+     * 
+     * @param target
+     *            the target
+     * @return field value, primitives are returned boxed.
+     * @throws IllegalArgumentException
+     *             if target is not an instance of field's declaring class.
+     */
+    Object get(Object target);
+
+    /**
+     * Sets value onto field of given target.
+     * 
+     * @param target
+     *            the target
+     * @param value
+     *            the value
+     * @throws IllegalArgumentException
+     *             if target is not an instance of field's declaring class or
+     *             value is not assignable to field.
+     */
+    void set(Object target, Object value);
+}
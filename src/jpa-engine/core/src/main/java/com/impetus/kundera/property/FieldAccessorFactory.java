@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.property;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory of {@link FieldAccessor}s. Accessors are method handle accessors
+ * where JVM permits it, with reflection as fall back. Factory holds no state,
+ * accessors are created once per field while building metamodel and are held
+ * by attributes of owning persistence unit, so that entity classes are never
+ * pinned beyond lifetime of their entity manager factory.
+ */
+public final class FieldAccessorFactory
+{
+    /** The log. */
+    private static final Logger log = LoggerFactory.getLogger(FieldAccessorFactory.class);
+
+    /**
+     * Instantiates a new field accessor factory.
+     */
+    private FieldAccessorFactory()
+    {
+    }
+
+    /**
+     * Creates accessor for given field. Resolving method handles is costly,
+     * so returned accessor is meant to be held by caller (e.g. attribute of
+     * metamodel) rather than created per access.
+     * 
+     * @param field
+     *            the field
+     * @return field accessor
+     */
+    public static FieldAccessor createFieldAccessor(Field field)
+    {
+        if (!Modifier.isStatic(field.getModifiers()))
+        {
+            try
+            {
+                return new MethodHandleFieldAccessor(field);
+            }
+            catch (IllegalAccessException e)
+            {
+                log.debug("Method handle access not permitted for field {}, falling back to reflection.", field);
+            }
+            catch (RuntimeException e)
+            {
+                log.debug("Method handle access not supported for field {}, falling back to reflection.", field);
+            }
+        }
+        return createReflectionAccessor(field);
+    }
+
+    /**
+     * Creates reflection based accessor for given field, cheap enough to be
+     * created per access.
+     * 
+     * @param field
+     *            the field
+     * @return reflection field accessor
+     */
+    static FieldAccessor createReflectionAccessor(Field field)
+    {
+        return new ReflectionFieldAccessor(field);
+    }
+}
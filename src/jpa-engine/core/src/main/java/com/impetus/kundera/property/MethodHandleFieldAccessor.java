@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.property;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessor} backed by getter and setter method handles, resolved
+ * once from the field. Avoids access checks and accessor dispatch of
+ * reflection on each call. Target and value types are validated before
+ * invoking handles, with same exceptions as {@link Field}.
+ */
+final class MethodHandleFieldAccessor implements FieldAccessor
+{
+    /** Erased getter type. */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** Erased setter type. */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** The field. */
+    private final Field field;
+
+    /** The declaring class. */
+    private final Class<?> declaringClass;
+
+    /** Wrapper of field type. */
+    private final Class<?> type;
+
+    /** The getter. */
+    private final MethodHandle getter;
+
+    /** The setter. */
+    private final MethodHandle setter;
+
+    /** Reflection accessor, for widening conversions and invalid values. */
+    private final FieldAccessor reflectionAccessor;
+
+    /**
+     * Instantiates a new method handle field accessor.
+     * 
+     * @param field
+     *            non static field
+     * @throws IllegalAccessException
+     *             if field can not be accessed through method handles.
+     */
+    MethodHandleFieldAccessor(Field field) throws IllegalAccessException
+    {
+        if (!field.isAccessible())
+        {
+            field.setAccessible(true);
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.field = field;
+        this.declaringClass = field.getDeclaringClass();
+        this.type = MethodType.methodType(field.getType()).wrap().returnType();
+        this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        this.reflectionAccessor = FieldAccessorFactory.createReflectionAccessor(field);
+    }
+
+    @Override
+    public Object get(Object target)
+    {
+        checkTarget(target);
+        try
+        {
+            return (Object) getter.invokeExact(target);
+        }
+        catch (RuntimeException e)
+        {
+            throw e;
+        }
+        catch (Error e)
+        {
+            throw e;
+        }
+        catch (Throwable t)
+        {
+            throw new PropertyAccessException(t);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value)
+    {
+        checkTarget(target);
+        if (!type.isInstance(value) && (value != null || field.getType().isPrimitive()))
+        {
+            // widening conversions and invalid values are left to reflection.
+            reflectionAccessor.set(target, value);
+            return;
+        }
+
+        try
+        {
+            setter.invokeExact(target, value);
+        }
+        catch (RuntimeException e)
+        {
+            throw e;
+        }
+        catch (Error e)
+        {
+            throw e;
+        }
+        catch (Throwable t)
+        {
+            throw new PropertyAccessException(t);
+        }
+    }
+
+    /**
+     * Validates target before invoking handles.
+     * 
+     * @param target
+     *            the target
+     */
+    private void checkTarget(Object target)
+    {
+        if (target == null)
+        {
+            throw new NullPointerException("Can not access field " + field.getName() + " of null object");
+        }
+        if (!declaringClass.isInstance(target))
+        {
+            throw new IllegalArgumentException("Can not access field " + declaringClass.getName() + "."
+                    + field.getName() + " on " + target.getClass().getName());
+        }
+    }
+}
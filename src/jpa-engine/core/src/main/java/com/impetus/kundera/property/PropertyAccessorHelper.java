@@ -30,6 +30,7 @@ import java.util.Set;
 
 import com.impetus.kundera.client.EnhanceEntity;
 import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
 import com.impetus.kundera.utils.ReflectUtils;
 
 /**
@@ -97,22 +98,35 @@ public class PropertyAccessorHelper
     {
         if (target != null)
         {
-            if (!field.isAccessible())
-            {
-                field.setAccessible(true);
-            }
+            set(target, FieldAccessorFactory.createReflectionAccessor(field), value);
+        } // ignore if object is null;
+    }
+
+    /**
+     * Sets an object onto a field, using resolved field accessor.
+     * 
+     * @param target
+     *            the target
+     * @param accessor
+     *            the field accessor
+     * @param value
+     *            the value
+     * 
+     * @throws PropertyAccessException
+     *             the property access exception
+     */
+    public static void set(Object target, FieldAccessor accessor, Object value)
+    {
+        if (target != null)
+        {
             try
             {
-                field.set(target, value);
+                accessor.set(target, value);
             }
             catch (IllegalArgumentException iarg)
             {
                 throw new PropertyAccessException(iarg);
             }
-            catch (IllegalAccessException iacc)
-            {
-                throw new PropertyAccessException(iacc);
-            }
         } // ignore if object is null;
     }
 
@@ -131,22 +145,32 @@ public class PropertyAccessorHelper
      */
     public static Object getObject(Object from, Field field)
     {
-        if (!field.isAccessible())
-        {
-            field.setAccessible(true);
-        }
+        return getObject(from, FieldAccessorFactory.createReflectionAccessor(field));
+    }
+
+    /**
+     * Gets object from field, using resolved field accessor.
+     * 
+     * @param from
+     *            the from
+     * @param accessor
+     *            the field accessor
+     * 
+     * @return the object
+     * 
+     * @throws PropertyAccessException
+     *             the property access exception
+     */
+    public static Object getObject(Object from, FieldAccessor accessor)
+    {
         try
         {
-            return field.get(from);
+            return accessor.get(from);
         }
         catch (IllegalArgumentException iarg)
         {
             throw new PropertyAccessException(iarg);
         }
-        catch (IllegalAccessException iacc)
-        {
-            throw new PropertyAccessException(iacc);
-        }
     }
 
     /**
@@ -158,23 +182,8 @@ public class PropertyAccessorHelper
      */
     public static Object getObjectCopy(Object from, Field field)
     {
-        if (!field.isAccessible())
-        {
-            field.setAccessible(true);
-        }
-        try
-        {
-            PropertyAccessor<?> accessor = PropertyAccessorFactory.getPropertyAccessor(field);
-            return accessor.getCopy(field.get(from));
-        }
-        catch (IllegalArgumentException iarg)
-        {
-            throw new PropertyAccessException(iarg);
-        }
-        catch (IllegalAccessException iacc)
-        {
-            throw new PropertyAccessException(iacc);
-        }
+        PropertyAccessor<?> accessor = PropertyAccessorFactory.getPropertyAccessor(field);
+        return accessor.getCopy(getObject(from, field));
     }
 
     /**
@@ -242,7 +251,21 @@ public class PropertyAccessorHelper
         // Otherwise, as Kundera currently supports only field access, access
         // the underlying Entity's id field
 
-        return getObject(entity, (Field) metadata.getIdAttribute().getJavaMember());
+        return getObject(entity, getIdAccessor(metadata));
+    }
+
+    /**
+     * Returns field accessor of @Id attribute.
+     * 
+     * @param metadata
+     *            the metadata
+     * @return id field accessor
+     */
+    private static FieldAccessor getIdAccessor(EntityMetadata metadata)
+    {
+        Object idAttribute = metadata.getIdAttribute();
+        return idAttribute instanceof AbstractAttribute ? ((AbstractAttribute) idAttribute).getFieldAccessor()
+                : FieldAccessorFactory.createReflectionAccessor((Field) metadata.getIdAttribute().getJavaMember());
     }
 
     /**
@@ -261,8 +284,7 @@ public class PropertyAccessorHelper
     {
         try
         {
-            Field idField = (Field) metadata.getIdAttribute().getJavaMember();
-            set(entity, idField, rowKey);
+            set(entity, getIdAccessor(metadata), rowKey);
         }
         catch (IllegalArgumentException iarg)
         {
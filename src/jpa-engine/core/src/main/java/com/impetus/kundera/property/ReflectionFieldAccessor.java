@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.property;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessor} backed by {@link Field#get(Object)} and
+ * {@link Field#set(Object, Object)}, made accessible once on creation. Used
+ * wherever direct field access is not available.
+ */
+final class ReflectionFieldAccessor implements FieldAccessor
+{
+    /** The field. */
+    private final Field field;
+
+    /**
+     * Instantiates a new reflection field accessor.
+     * 
+     * @param field
+     *            the field
+     */
+    ReflectionFieldAccessor(Field field)
+    {
+        if (!field.isAccessible())
+        {
+            field.setAccessible(true);
+        }
+        this.field = field;
+    }
+
+    @Override
+    public Object get(Object target)
+    {
+        try
+        {
+            return field.get(target);
+        }
+        catch (IllegalAccessException iacc)
+        {
+            throw new PropertyAccessException(iacc);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value)
+    {
+        try
+        {
+            field.set(target, value);
+        }
+        catch (IllegalAccessException iacc)
+        {
+            throw new PropertyAccessException(iacc);
+        }
+    }
+}
@@ -87,8 +87,8 @@ public class BigIntegerAccessor implements PropertyAccessor<BigInteger>
     @Override
     public BigInteger getCopy(Object object)
     {
-        BigInteger i = (BigInteger) object;
-        return object != null ? new BigInteger(i.toByteArray()) : null;
+        // BigInteger is immutable, no need to copy.
+        return (BigInteger) object;
     }
 
     public BigInteger getInstance(Class<?> clazz)
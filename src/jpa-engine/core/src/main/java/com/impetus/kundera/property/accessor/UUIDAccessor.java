@@ -192,9 +192,8 @@ public class UUIDAccessor implements PropertyAccessor<UUID>
     @Override
     public UUID getCopy(Object object)
     {
-        UUID uuid = (UUID) object;
-
-        return uuid != null ? UUID.fromString(uuid.toString()) : null;
+        // UUID is immutable, no need to copy.
+        return (UUID) object;
     }
 
     public UUID getInstance(Class<?> clazz)
@@ -23,6 +23,7 @@ import javax.persistence.PersistenceException;
 import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.CallbackFilter;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.InvocationHandler;
 import net.sf.cglib.proxy.NoOp;
 
@@ -125,14 +126,44 @@ public final class CglibLazyInitializer implements LazyInitializer, InvocationHa
             final Class<?>[] interfaces, final Method getIdentifierMethod, final Method setIdentifierMethod,
             final Object id, final PersistenceDelegator pd) throws PersistenceException
     {
+        return getProxy(entityName, getProxyFactory(persistentClass, interfaces), persistentClass, interfaces,
+                getIdentifierMethod, setIdentifierMethod, id, pd);
+    }
+
+    /**
+     * Gets the proxy, as an instance of a proxy class generated earlier by
+     * {@link #getProxyFactory(Class, Class[])}.
+     * 
+     * @param entityName
+     *            the entity name
+     * @param proxyClass
+     *            the proxy class
+     * @param persistentClass
+     *            the persistent class
+     * @param interfaces
+     *            the interfaces
+     * @param getIdentifierMethod
+     *            the get identifier method
+     * @param setIdentifierMethod
+     *            the set identifier method
+     * @param id
+     *            the id
+     * @param persistenceDelegator
+     *            the persistence delegator
+     * @return the proxy
+     * @throws PersistenceException
+     *             the persistence exception
+     */
+    public static KunderaProxy getProxy(final String entityName, final Class<?> proxyClass,
+            final Class<?> persistentClass, final Class<?>[] interfaces, final Method getIdentifierMethod,
+            final Method setIdentifierMethod, final Object id, final PersistenceDelegator pd)
+            throws PersistenceException
+    {
 
         final CglibLazyInitializer instance = new CglibLazyInitializer(entityName, persistentClass, interfaces, id,
                 getIdentifierMethod, setIdentifierMethod, pd);
 
-        final KunderaProxy proxy;
-        Class factory = getProxyFactory(persistentClass, interfaces);
-
-        proxy = getProxyInstance(factory, instance);
+        final KunderaProxy proxy = getProxyInstance(proxyClass, instance);
 
         instance.constructed = true;
         return proxy;
@@ -140,7 +171,9 @@ public final class CglibLazyInitializer implements LazyInitializer, InvocationHa
     }
 
     /**
-     * Gets the proxy instance.
+     * Gets the proxy instance. Proxy is constructed without callbacks and
+     * then given its own, so no thread bound callback registration is
+     * needed.
      * 
      * @param factory
      *            the factory
@@ -154,11 +187,11 @@ public final class CglibLazyInitializer implements LazyInitializer, InvocationHa
      */
     private static KunderaProxy getProxyInstance(Class factory, CglibLazyInitializer instance)
     {
-        KunderaProxy proxy;
         try
         {
-            Enhancer.registerCallbacks(factory, new Callback[] { instance, null });
-            proxy = (KunderaProxy) factory.newInstance();
+            KunderaProxy proxy = (KunderaProxy) factory.newInstance();
+            ((Factory) proxy).setCallbacks(new Callback[] { instance, NoOp.INSTANCE });
+            return proxy;
         }
         catch (IllegalAccessException e)
         {
@@ -168,11 +201,6 @@ public final class CglibLazyInitializer implements LazyInitializer, InvocationHa
         {
             throw new LazyInitializationException(e);
         }
-        finally
-        {
-            Enhancer.registerCallbacks(factory, null);
-        }
-        return proxy;
     }
 
     /**
@@ -193,7 +221,7 @@ public final class CglibLazyInitializer implements LazyInitializer, InvocationHa
         e.setInterfaces(interfaces);
         e.setCallbackTypes(new Class[] { InvocationHandler.class, NoOp.class, });
         e.setCallbackFilter(FINALIZE_FILTER);
-        e.setUseFactory(false);
+        e.setUseFactory(true);
         e.setInterceptDuringConstruction(false);
         return e.createClass();
     }
@@ -270,7 +298,7 @@ public final class CglibLazyInitializer implements LazyInitializer, InvocationHa
                 Relation r = m.getRelation(fieldName);
                 if (r != null)
                 {
-                    PropertyAccessorHelper.set(owner, r.getProperty(), target);
+                    PropertyAccessorHelper.set(owner, r.getPropertyAccessor(), target);
                 }
                 if (r.getBiDirectionalField() != null && method.getReturnType().equals(m.getEntityClazz()))
                 {
@@ -400,7 +428,9 @@ public final class CglibLazyInitializer implements LazyInitializer, InvocationHa
                 // TODO: consider not calling em.find from here. Not sure 'why',
                 // but something
                 // doesn't feel right.
-                target = persistenceDelegator.findById(persistentClass, id);
+                // Pending proxies of same entity class may get initialized
+                // along with this one.
+                persistenceDelegator.initialize(this);
                 initialized = true;
             }
         }
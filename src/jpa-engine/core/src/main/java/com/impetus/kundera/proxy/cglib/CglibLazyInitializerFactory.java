@@ -33,6 +33,8 @@ package com.impetus.kundera.proxy.cglib;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.persistence.Entity;
 
@@ -51,19 +53,46 @@ import com.impetus.kundera.proxy.LazyInitializerFactory;
 public class CglibLazyInitializerFactory implements LazyInitializerFactory
 {
 
+    /** Interfaces implemented by proxies. */
+    private static final Class<?>[] PROXY_INTERFACES = new Class[] { KunderaProxy.class };
+
     Map<String, KunderaProxy> proxies = new HashMap<String, KunderaProxy>();
 
+    /** Generated proxy classes, keyed by entity class. */
+    private final ConcurrentMap<Class<?>, Class<?>> proxyClasses = new ConcurrentHashMap<Class<?>, Class<?>>();
+
     @Override
     public KunderaProxy getProxy(String entityName, Class<?> persistentClass, Method getIdentifierMethod,
             Method setIdentifierMethod, Object id, PersistenceDelegator pd)
     {
-        KunderaProxy kunderaProxy = (KunderaProxy) CglibLazyInitializer.getProxy(entityName, persistentClass,
-                new Class[] { KunderaProxy.class }, getIdentifierMethod, setIdentifierMethod, id, pd);
+        KunderaProxy kunderaProxy = CglibLazyInitializer.getProxy(entityName, getProxyClass(persistentClass),
+                persistentClass, PROXY_INTERFACES, getIdentifierMethod, setIdentifierMethod, id, pd);
         proxies.put(entityName, kunderaProxy);
 
         return kunderaProxy;
     }
 
+    /**
+     * Returns lazily loadable proxy class of given @Entity class, generating
+     * it on first call only. Called while loading metamodel, so that proxy
+     * classes are ready before first proxy is created.
+     * 
+     * @param persistentClass
+     *            the persistent class
+     * @return the proxy class
+     */
+    public Class<?> getProxyClass(Class<?> persistentClass)
+    {
+        Class<?> proxyClass = proxyClasses.get(persistentClass);
+        if (proxyClass == null)
+        {
+            proxyClass = CglibLazyInitializer.getProxyFactory(persistentClass, PROXY_INTERFACES);
+            Class<?> existing = proxyClasses.putIfAbsent(persistentClass, proxyClass);
+            proxyClass = existing != null ? existing : proxyClass;
+        }
+        return proxyClass;
+    }
+
     @Override
     public KunderaProxy getProxy(String entityName)
     {
@@ -119,11 +119,13 @@ public abstract class AbstractProxyBase implements ProxyCollection
 
             if (getRelation().getProperty().getType().isAssignableFrom(Map.class))
             {
-                dataCollection = (Map) PropertyAccessorHelper.getObject(getOwner(), getRelation().getProperty());
+                dataCollection = (Map) PropertyAccessorHelper.getObject(getOwner(),
+                        getRelation().getPropertyAccessor());
             }
             else
             {
-                dataCollection = (Collection) PropertyAccessorHelper.getObject(getOwner(), getRelation().getProperty());
+                dataCollection = (Collection) PropertyAccessorHelper.getObject(getOwner(),
+                        getRelation().getPropertyAccessor());
             }
 
             if (dataCollection instanceof ProxyCollection)
@@ -141,7 +143,7 @@ public abstract class AbstractProxyBase implements ProxyCollection
                     dataCollection = null;
                 }
             }
-            PropertyAccessorHelper.set(getOwner(), getRelation().getProperty(), dataCollection);
+            PropertyAccessorHelper.set(getOwner(), getRelation().getPropertyAccessor(), dataCollection);
         }
     }
 
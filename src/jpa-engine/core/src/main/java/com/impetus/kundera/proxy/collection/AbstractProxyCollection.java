@@ -73,7 +73,7 @@ public abstract class AbstractProxyCollection extends AbstractProxyBase
         {
             // getPersistenceDelegator().persist(object);
             ((Collection) dataCollection).add(object);
-            PropertyAccessorHelper.set(getOwner(), getRelation().getProperty(), dataCollection);
+            PropertyAccessorHelper.set(getOwner(), getRelation().getPropertyAccessor(), dataCollection);
             result = true;
         }
         return result;
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -131,6 +132,9 @@ public class KunderaQuery
     /** The jpql expression. */
     private JPQLExpression jpqlExpression;
 
+    /** True, if jpql expression of a copy is yet to be parsed. */
+    private boolean expressionPending;
+
     /** The expression factory. */
     private ExpressionFactory expressionFactory;
 
@@ -161,6 +165,11 @@ public class KunderaQuery
      */
     public JPQLExpression getJpqlExpression()
     {
+        if (expressionPending)
+        {
+            expressionPending = false;
+            initiateJPQLObject(jpaQuery);
+        }
         return jpqlExpression;
     }
 
@@ -179,6 +188,77 @@ public class KunderaQuery
         initiateJPQLObject(jpaQuery);
     }
 
+    /**
+     * Instantiates a copy of parsed kundera query. Derived results of parsing
+     * (entity, selected columns, orderings) are shared with template, clauses
+     * and parameters are copied to bind parameter values independently. JPQL
+     * expression tree resolves it's children lazily on traversal and can not
+     * be shared between threads, so it is parsed again only if a copy walks
+     * it.
+     * 
+     * @param template
+     *            parsed query
+     */
+    private KunderaQuery(final KunderaQuery template)
+    {
+        this.jpaQuery = template.jpaQuery;
+        this.kunderaMetadata = template.kunderaMetadata;
+        this.expressionPending = template.jpqlExpression != null;
+        this.expressionFactory = template.expressionFactory;
+        this.result = template.result;
+        this.aggregationResult = template.aggregationResult;
+        this.from = template.from;
+        this.filter = template.filter;
+        this.ordering = template.ordering;
+        this.entityName = template.entityName;
+        this.entityAlias = template.entityAlias;
+        this.entityClass = template.entityClass;
+        this.sortOrders = template.sortOrders;
+        this.isAggregate = template.isAggregate;
+        this.persistenceUnit = template.persistenceUnit;
+        this.isDeleteUpdate = template.isDeleteUpdate;
+        this.isNativeQuery = template.isNativeQuery;
+        this.parametersMap.putAll(template.parametersMap);
+
+        Map<Object, Object> clauses = new IdentityHashMap<Object, Object>();
+        for (Object clause : template.filtersQueue)
+        {
+            if (clause instanceof FilterClause)
+            {
+                FilterClause filterClause = new FilterClause((FilterClause) clause);
+                clauses.put(clause, filterClause);
+                filtersQueue.add(filterClause);
+            }
+            else
+            {
+                filtersQueue.add(clause);
+            }
+        }
+
+        for (UpdateClause clause : template.updateClauseQueue)
+        {
+            UpdateClause updateClause = new UpdateClause(clause);
+            clauses.put(clause, updateClause);
+            updateClauseQueue.add(updateClause);
+        }
+
+        if (template.typedParameter != null)
+        {
+            this.typedParameter = template.typedParameter.copy(clauses);
+        }
+    }
+
+    /**
+     * Returns a copy of this parsed query, to bind parameters without
+     * parsing query again.
+     * 
+     * @return copy of query
+     */
+    KunderaQuery copy()
+    {
+        return new KunderaQuery(this);
+    }
+
     /**
      * Initiate jpql object.
      * 
@@ -232,6 +312,7 @@ public class KunderaQuery
      */
     public SelectStatement getSelectStatement()
     {
+        getJpqlExpression();
         return selectStatement;
     }
 
@@ -264,6 +345,7 @@ public class KunderaQuery
      */
     public UpdateStatement getUpdateStatement()
     {
+        getJpqlExpression();
         return updateStatement;
     }
 
@@ -274,6 +356,7 @@ public class KunderaQuery
      */
     public DeleteStatement getDeleteStatement()
     {
+        getJpqlExpression();
         return deleteStatement;
     }
 
@@ -1097,6 +1180,21 @@ public class KunderaQuery
             }
         }
 
+        /**
+         * Instantiates a copy of filter clause.
+         * 
+         * @param clause
+         *            the clause
+         */
+        private FilterClause(FilterClause clause)
+        {
+            this.property = clause.property;
+            this.condition = clause.condition;
+            this.fieldName = clause.fieldName;
+            this.value.addAll(clause.value);
+            this.ignoreCase = clause.ignoreCase;
+        }
+
         /**
          * Gets the property.
          * 
@@ -1220,6 +1318,18 @@ public class KunderaQuery
             this.value = KunderaQuery.getValue(value);
         }
 
+        /**
+         * Instantiates a copy of update clause.
+         * 
+         * @param clause
+         *            the clause
+         */
+        private UpdateClause(UpdateClause clause)
+        {
+            this.property = clause.property;
+            this.value = clause.value;
+        }
+
         /**
          * Gets the property.
          * 
@@ -1626,6 +1736,37 @@ public class KunderaQuery
             updateParameters.put(key, clause);
         }
 
+        /**
+         * Returns a copy of typed parameter, bound to copied clauses.
+         * 
+         * @param clauses
+         *            copied clauses, keyed by original clause.
+         * @return the typed parameter
+         */
+        TypedParameter copy(Map<Object, Object> clauses)
+        {
+            TypedParameter copy = new TypedParameter(type);
+            copy.jpaParameters.addAll(jpaParameters);
+            if (parameters != null)
+            {
+                for (Map.Entry<String, List<FilterClause>> entry : parameters.entrySet())
+                {
+                    for (FilterClause clause : entry.getValue())
+                    {
+                        copy.addParameters(entry.getKey(), (FilterClause) clauses.get(clause));
+                    }
+                }
+            }
+            if (updateParameters != null)
+            {
+                for (Map.Entry<String, UpdateClause> entry : updateParameters.entrySet())
+                {
+                    copy.addParameters(entry.getKey(), (UpdateClause) clauses.get(entry.getValue()));
+                }
+            }
+            return copy;
+        }
+
         /**
          * Adds the jpa parameter.
          * 
@@ -48,15 +48,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.impetus.kundera.Constants;
+import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.client.Client;
 import com.impetus.kundera.client.EnhanceEntity;
 import com.impetus.kundera.index.IndexingConstants;
 import com.impetus.kundera.metadata.model.ApplicationMetadata;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.MetamodelImpl;
+import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
 import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
 import com.impetus.kundera.metadata.model.type.DefaultEntityType;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.persistence.AbstractEntityReader;
 import com.impetus.kundera.persistence.EntityReader;
 import com.impetus.kundera.persistence.PersistenceDelegator;
 import com.impetus.kundera.persistence.context.PersistenceCacheManager;
@@ -237,22 +240,77 @@ public abstract class QueryImpl<E> implements Query, com.impetus.kundera.query.Q
 
         if (enhanceEntities != null)
         {
-            for (Object e : enhanceEntities)
+            EntityReader reader = getReader();
+            int fetchBatchSize = getFetchBatchSize(m);
+            if (fetchBatchSize > 0 && reader instanceof AbstractEntityReader)
+            {
+                ((AbstractEntityReader) reader).prefetchRelations(enhanceEntities, m, persistenceDelegeator,
+                        fetchBatchSize);
+            }
+
+            try
             {
-                if (!(e instanceof EnhanceEntity))
+                for (Object e : enhanceEntities)
                 {
-                    e = new EnhanceEntity(e, PropertyAccessorHelper.getId(e, m), null);
-                }
-                EnhanceEntity ee = (EnhanceEntity) e;
-                result.add(getReader().recursivelyFindEntities(ee.getEntity(), ee.getRelations(), m,
-                        persistenceDelegeator, false, relationStack));
+                    if (!(e instanceof EnhanceEntity))
+                    {
+                        e = new EnhanceEntity(e, PropertyAccessorHelper.getId(e, m), null);
+                    }
+                    EnhanceEntity ee = (EnhanceEntity) e;
+                    result.add(reader.recursivelyFindEntities(ee.getEntity(), ee.getRelations(), m,
+                            persistenceDelegeator, false, relationStack));
 
+                }
+            }
+            finally
+            {
+                if (reader instanceof AbstractEntityReader)
+                {
+                    ((AbstractEntityReader) reader).clearPrefetchedRelations();
+                }
             }
         }
 
         return result;
     }
 
+    /**
+     * Returns batch size to load relations of query result with. Query hint
+     * {@link PersistenceProperties#KUNDERA_FETCH_BATCH_SIZE} takes precedence
+     * over persistence unit property.
+     * 
+     * @param m
+     *            the entity metadata
+     * @return fetch batch size, 0 if batch fetching is disabled.
+     */
+    protected int getFetchBatchSize(EntityMetadata m)
+    {
+        Object hint = hints.get(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE);
+        if (hint != null)
+        {
+            int fetchBatchSize;
+            try
+            {
+                fetchBatchSize = hint instanceof Number ? ((Number) hint).intValue() : Integer.parseInt(hint
+                        .toString().trim());
+            }
+            catch (NumberFormatException e)
+            {
+                fetchBatchSize = -1;
+            }
+            if (fetchBatchSize < 0)
+            {
+                throw new IllegalArgumentException("Invalid value " + hint + " of query hint "
+                        + PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE + ", it must be numeric and >= 0");
+            }
+            return fetchBatchSize;
+        }
+
+        PersistenceUnitMetadata puMetadata = kunderaMetadata.getApplicationMetadata().getPersistenceUnitMetadata(
+                m.getPersistenceUnit());
+        return puMetadata != null ? puMetadata.getFetchBatchSize() : 0;
+    }
+
     // Adds an object to the stack for referring
     /**
      * Adds the to relation stack.
@@ -576,7 +634,7 @@ public abstract class QueryImpl<E> implements Query, com.impetus.kundera.query.Q
         {
             String fieldName = field.substring(field.indexOf(".") + 1, field.length());
             Attribute attribute = entityType.getAttribute(fieldName);
-            return PropertyAccessorHelper.getObject(entity, (Field) attribute.getJavaMember());
+            return PropertyAccessorHelper.getObject(entity, ((AbstractAttribute) attribute).getFieldAccessor());
         }
         else
         {
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of parsed JPQL queries, keyed by query string. Holds one per
+ * entity manager factory. Cached {@link KunderaQuery} instances are templates
+ * and never handed out, each query gets a parameter binding copy of it. Least
+ * recently used plans are evicted once cache is full.
+ */
+public final class QueryPlanCache
+{
+    /** Default number of cached query plans. */
+    public static final int DEFAULT_SIZE = 256;
+
+    /** Parsed queries, in access order. Guarded by itself. */
+    private final Map<String, KunderaQuery> plans;
+
+    /** Maximum number of cached query plans, 0 disables caching. */
+    private final int maxSize;
+
+    /** The hit count. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The miss count. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new query plan cache.
+     *
+     * @param maxSize
+     *            maximum number of cached query plans, 0 to disable caching.
+     */
+    public QueryPlanCache(int maxSize)
+    {
+        if (maxSize < 0)
+        {
+            throw new IllegalArgumentException("Query plan cache size must be >= 0");
+        }
+        this.maxSize = maxSize;
+        this.plans = new LinkedHashMap<String, KunderaQuery>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, KunderaQuery> eldest)
+            {
+                return size() > QueryPlanCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of cached query plan, or null if query is not cached yet.
+     *
+     * @param jpaQuery
+     *            the jpa query
+     * @return copy of parsed query, or null.
+     */
+    KunderaQuery get(String jpaQuery)
+    {
+        if (!isEnabled())
+        {
+            return null;
+        }
+
+        KunderaQuery plan;
+        synchronized (plans)
+        {
+            plan = plans.get(jpaQuery);
+        }
+        if (plan == null)
+        {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return plan.copy();
+    }
+
+    /**
+     * Caches a parsed query plan. Once cached, plan must not be modified or
+     * executed.
+     *
+     * @param jpaQuery
+     *            the jpa query
+     * @param plan
+     *            parsed query
+     */
+    void put(String jpaQuery, KunderaQuery plan)
+    {
+        if (!isEnabled())
+        {
+            return;
+        }
+
+        synchronized (plans)
+        {
+            plans.put(jpaQuery, plan);
+        }
+    }
+
+    /**
+     * Returns true, if caching is enabled.
+     *
+     * @return true, if enabled
+     */
+    public boolean isEnabled()
+    {
+        return maxSize > 0;
+    }
+
+    /**
+     * Returns number of cached query plans.
+     *
+     * @return size of cache
+     */
+    public int size()
+    {
+        synchronized (plans)
+        {
+            return plans.size();
+        }
+    }
+
+    /**
+     * Returns number of queries served from cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount()
+    {
+        return hits.get();
+    }
+
+    /**
+     * Returns number of queries parsed as not found in cache.
+     *
+     * @return the miss count
+     */
+    public long getMissCount()
+    {
+        return misses.get();
+    }
+
+    /**
+     * Clears cached query plans and counters.
+     */
+    public void clear()
+    {
+        synchronized (plans)
+        {
+            plans.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+}
@@ -78,12 +78,7 @@ public class QueryResolver
         // In case of named native query
         if (!isNative)
         {
-            kunderaQuery = new KunderaQuery(mappedQuery != null ? mappedQuery : jpaQuery, kunderaMetadata);
-            KunderaQueryParser parser = new KunderaQueryParser(kunderaQuery);
-
-            parser.parse();
-
-            kunderaQuery.postParsingInit();
+            kunderaQuery = getParsedQuery(mappedQuery != null ? mappedQuery : jpaQuery, kunderaMetadata);
             m = kunderaQuery.getEntityMetadata();
         }
         else
@@ -132,6 +127,39 @@ public class QueryResolver
         return query;
     }
 
+    /**
+     * Returns parsed kundera query, from query plan cache if available.
+     * 
+     * @param jpaQuery
+     *            the jpa query
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @return parsed kundera query
+     */
+    private KunderaQuery getParsedQuery(String jpaQuery, final KunderaMetadata kunderaMetadata)
+    {
+        QueryPlanCache planCache = kunderaMetadata.getQueryPlanCache();
+        KunderaQuery kunderaQuery = planCache != null ? planCache.get(jpaQuery) : null;
+
+        if (kunderaQuery == null)
+        {
+            kunderaQuery = new KunderaQuery(jpaQuery, kunderaMetadata);
+            KunderaQueryParser parser = new KunderaQueryParser(kunderaQuery);
+
+            parser.parse();
+
+            kunderaQuery.postParsingInit();
+
+            if (planCache != null && planCache.isEnabled())
+            {
+                // parsed instance is kept as template, never executed.
+                planCache.put(jpaQuery, kunderaQuery);
+                kunderaQuery = kunderaQuery.copy();
+            }
+        }
+        return kunderaQuery;
+    }
+
     /**
      * Gets the query instance.
      * 
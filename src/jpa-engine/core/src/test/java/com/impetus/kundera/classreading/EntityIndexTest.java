@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.classreading;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link EntityIndex} and {@link EntityIndexProcessor}.
+ */
+public class EntityIndexTest
+{
+    private static final String INDEX = "# comment\ncom.impetus.kundera.query.Person\n\n  com.impetus.kundera.PersonnelDTO  \n";
+
+    private File dir;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        dir = File.createTempFile("kundera-index", "");
+        dir.delete();
+        dir.mkdirs();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        delete(dir);
+    }
+
+    @Test
+    public void testReadStream() throws IOException
+    {
+        List<String> classNames = EntityIndex.read(new ByteArrayInputStream(INDEX.getBytes("UTF-8")));
+        Assert.assertEquals(Arrays.asList("com.impetus.kundera.query.Person", "com.impetus.kundera.PersonnelDTO"),
+                classNames);
+    }
+
+    @Test
+    public void testReadDirectory() throws IOException
+    {
+        Assert.assertNull(EntityIndex.read(dir.toURI().toURL()));
+
+        File index = new File(dir, EntityIndex.INDEX_LOCATION);
+        index.getParentFile().mkdirs();
+        write(new FileOutputStream(index));
+
+        Assert.assertEquals(2, EntityIndex.read(dir.toURI().toURL()).size());
+        Assert.assertNull(EntityIndex.read(new File(dir, "Person.class").toURI().toURL()));
+    }
+
+    @Test
+    public void testReadJar() throws IOException
+    {
+        File jar = new File(dir, "entities.jar");
+        JarOutputStream jos = new JarOutputStream(new FileOutputStream(jar));
+        jos.putNextEntry(new JarEntry("META-INF/MANIFEST.MF"));
+        jos.closeEntry();
+        jos.close();
+        Assert.assertNull(EntityIndex.read(jar.toURI().toURL()));
+
+        jos = new JarOutputStream(new FileOutputStream(jar));
+        jos.putNextEntry(new JarEntry(EntityIndex.INDEX_LOCATION));
+        write(jos);
+        Assert.assertEquals(2, EntityIndex.read(jar.toURI().toURL()).size());
+    }
+
+    @Test
+    public void testProcessor() throws IOException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeNotNull(compiler);
+
+        File source = new File(dir, "IndexedEntity.java");
+        OutputStream os = new FileOutputStream(source);
+        os.write(("@javax.persistence.Entity public class IndexedEntity {"
+                + " @javax.persistence.Entity public static class Nested {} }\n"
+                + "class NotAnEntity {}\n").getBytes("UTF-8"));
+        os.close();
+
+        int result = compiler.run(null, null, null, "-proc:only", "-processor",
+                EntityIndexProcessor.class.getName(), "-classpath", System.getProperty("java.class.path"), "-d",
+                dir.getAbsolutePath(), source.getAbsolutePath());
+        Assert.assertEquals(0, result);
+
+        Assert.assertEquals(Arrays.asList("IndexedEntity", "IndexedEntity$Nested"),
+                EntityIndex.read(dir.toURI().toURL()));
+    }
+
+    @Test
+    public void testProcessorMergesIndex() throws IOException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeNotNull(compiler);
+
+        // first pass compiles every class.
+        Assert.assertEquals(0, compile(compiler, source("Kept", true), source("Changed", true)));
+        Assert.assertEquals(Arrays.asList("Changed", "Kept"), EntityIndex.read(dir.toURI().toURL()));
+
+        // second pass compiles changed and new classes only, Kept stays listed.
+        Assert.assertEquals(0, compile(compiler, source("Changed", false), source("Added", true)));
+        Assert.assertEquals(Arrays.asList("Added", "Kept"), EntityIndex.read(dir.toURI().toURL()));
+    }
+
+    private File source(String className, boolean entity) throws IOException
+    {
+        File source = new File(dir, className + ".java");
+        OutputStream os = new FileOutputStream(source);
+        os.write(((entity ? "@javax.persistence.Entity " : "") + "public class " + className + " {}\n")
+                .getBytes("UTF-8"));
+        os.close();
+        return source;
+    }
+
+    private int compile(JavaCompiler compiler, File... sources)
+    {
+        String[] args = new String[7 + sources.length];
+        args[0] = "-processor";
+        args[1] = EntityIndexProcessor.class.getName();
+        args[2] = "-classpath";
+        args[3] = System.getProperty("java.class.path") + File.pathSeparator + dir.getAbsolutePath();
+        args[4] = "-implicit:none";
+        args[5] = "-d";
+        args[6] = dir.getAbsolutePath();
+        for (int i = 0; i < sources.length; i++)
+        {
+            args[7 + i] = sources[i].getAbsolutePath();
+        }
+        return compiler.run(null, null, null, args);
+    }
+
+    private void write(OutputStream os) throws IOException
+    {
+        try
+        {
+            os.write(INDEX.getBytes("UTF-8"));
+        }
+        finally
+        {
+            os.close();
+        }
+    }
+
+    private void delete(File file)
+    {
+        File[] files = file.listFiles();
+        if (files != null)
+        {
+            for (File f : files)
+            {
+                delete(f);
+            }
+        }
+        file.delete();
+    }
+}
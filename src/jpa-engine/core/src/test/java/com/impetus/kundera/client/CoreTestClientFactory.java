@@ -36,6 +36,7 @@ public class CoreTestClientFactory extends GenericClientFactory
     {
         schemaManager.dropSchema();
         super.unload();
+        indexManager.close();
     }
 
     @Override
@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.configure;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.impetus.kundera.PersistenceProperties;
+import com.impetus.kundera.classreading.EntityIndex;
+import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.metadata.model.MetamodelImpl;
+import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+
+/**
+ * Test case for {@link MetamodelConfiguration}, loading entities of a
+ * persistence unit root from entity index or by scanning class files.
+ */
+public class MetamodelConfigurationTest
+{
+    private static final String PU = "cassandra";
+
+    private EntityManagerFactory emf;
+
+    private KunderaMetadata kunderaMetadata;
+
+    private File dir;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        emf = Persistence.createEntityManagerFactory("kunderatest");
+        kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+
+        dir = File.createTempFile("kundera-root", "");
+        dir.delete();
+        dir.mkdirs();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        emf.close();
+        delete(dir);
+    }
+
+    @Test
+    public void testLoadFromEntityIndex() throws IOException
+    {
+        // root has no class files, so entities can only come from index.
+        writeIndex(CoreEntitySimple.class.getName(), CoreEntityAddressUni1To1.class.getName());
+
+        Map<String, EntityMetadata> entities = configure(null);
+        Assert.assertEquals(2, entities.size());
+        Assert.assertTrue(entities.containsKey(CoreEntitySimple.class.getName()));
+        Assert.assertTrue(entities.containsKey(CoreEntityAddressUni1To1.class.getName()));
+        Assert.assertEquals(PU, entities.get(CoreEntitySimple.class.getName()).getPersistenceUnit());
+    }
+
+    @Test
+    public void testStaleEntityIndex() throws IOException
+    {
+        copyClass(CoreEntitySimple.class);
+        copyClass(CoreEntityAddressUni1ToM.class);
+
+        // index listing a missing class is stale, so root is scanned.
+        writeIndex(CoreEntitySimple.class.getName(), "com.impetus.kundera.configure.RemovedEntity");
+        Map<String, EntityMetadata> entities = configure(null);
+        Assert.assertEquals(2, entities.size());
+        Assert.assertTrue(entities.containsKey(CoreEntitySimple.class.getName()));
+        Assert.assertTrue(entities.containsKey(CoreEntityAddressUni1ToM.class.getName()));
+    }
+
+    @Test
+    public void testEntityIndexOfNonEntity() throws IOException
+    {
+        copyClass(CoreEntitySimple.class);
+        copyClass(CoreEntityAddressUni1ToM.class);
+
+        // index listing a class which is no longer an entity is stale too.
+        writeIndex(CoreEntitySimple.class.getName(), DummyPropertyReader.class.getName());
+        Map<String, EntityMetadata> entities = configure(null);
+        Assert.assertEquals(2, entities.size());
+        Assert.assertTrue(entities.containsKey(CoreEntityAddressUni1ToM.class.getName()));
+        Assert.assertFalse(entities.containsKey(DummyPropertyReader.class.getName()));
+    }
+
+    @Test
+    public void testParallelScan() throws IOException
+    {
+        copyClass(CoreEntitySimple.class);
+        copyClass(CoreEntityAddressUni1To1.class);
+        copyClass(CoreEntityAddressUni1ToM.class);
+        copyClass(DummyPropertyReader.class);
+
+        Map<String, EntityMetadata> entities = configure("4");
+        Assert.assertEquals(3, entities.size());
+        Assert.assertTrue(entities.containsKey(CoreEntitySimple.class.getName()));
+        Assert.assertTrue(entities.containsKey(CoreEntityAddressUni1To1.class.getName()));
+        Assert.assertTrue(entities.containsKey(CoreEntityAddressUni1ToM.class.getName()));
+        Assert.assertFalse(entities.containsKey(DummyPropertyReader.class.getName()));
+    }
+
+    /**
+     * Loads metamodel of a persistence unit, having temporary directory as its
+     * only root.
+     */
+    private Map<String, EntityMetadata> configure(String scanParallelism)
+    {
+        Properties properties = new Properties();
+        properties.put(PersistenceProperties.KUNDERA_CLIENT_FACTORY,
+                "com.impetus.kundera.client.CoreTestClientFactory");
+        properties.put(PersistenceProperties.KUNDERA_KEYSPACE, "KunderaCoreExmples");
+        if (scanParallelism != null)
+        {
+            properties.put(PersistenceProperties.KUNDERA_SCAN_PARALLELISM, scanParallelism);
+        }
+
+        PersistenceUnitMetadata puMetadata = new PersistenceUnitMetadata();
+        puMetadata.setPersistenceUnitName(PU);
+        puMetadata.setExcludeUnlistedClasses(true);
+        puMetadata.addJarFile(dir.getAbsolutePath());
+        puMetadata.setProperties(properties);
+
+        Map<String, PersistenceUnitMetadata> puMetadataMap = new HashMap<String, PersistenceUnitMetadata>();
+        puMetadataMap.put(PU, puMetadata);
+        kunderaMetadata.getApplicationMetadata().addPersistenceUnitMetadata(puMetadataMap);
+
+        new MetamodelConfiguration(null, kunderaMetadata, PU).configure();
+        return ((MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(PU)).getEntityMetadataMap();
+    }
+
+    private void writeIndex(String... classNames) throws IOException
+    {
+        File index = new File(dir, EntityIndex.INDEX_LOCATION);
+        index.getParentFile().mkdirs();
+        OutputStream os = new FileOutputStream(index);
+        try
+        {
+            for (String className : classNames)
+            {
+                os.write((className + "\n").getBytes("UTF-8"));
+            }
+        }
+        finally
+        {
+            os.close();
+        }
+    }
+
+    private void copyClass(Class<?> clazz) throws IOException
+    {
+        String path = clazz.getName().replace('.', '/') + ".class";
+        File file = new File(dir, path);
+        file.getParentFile().mkdirs();
+        InputStream is = clazz.getClassLoader().getResourceAsStream(path);
+        OutputStream os = new FileOutputStream(file);
+        try
+        {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = is.read(buffer)) != -1)
+            {
+                os.write(buffer, 0, read);
+            }
+        }
+        finally
+        {
+            is.close();
+            os.close();
+        }
+    }
+
+    private void delete(File file)
+    {
+        File[] files = file.listFiles();
+        if (files != null)
+        {
+            for (File f : files)
+            {
+                delete(f);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2026 Impetus Infotech.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.impetus.kundera.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link HiLoAllocator}.
+ */
+public class HiLoAllocatorTest
+{
+    @Test
+    public void testBlocks()
+    {
+        HiLoAllocator allocator = new HiLoAllocator();
+        CounterSource source = new CounterSource();
+        for (int i = 0; i < 25; i++)
+        {
+            Assert.assertEquals(i + 1, allocator.next("seq", 1, 10, source));
+        }
+        Assert.assertEquals(3, source.counter.get());
+
+        // independent sequences share nothing.
+        Assert.assertEquals(100, allocator.next("other", 100, 10, new CounterSource()));
+
+        // blocks are discarded on clear, next block starts past them.
+        allocator.clear();
+        Assert.assertEquals(31, allocator.next("seq", 1, 10, source));
+        Assert.assertEquals(4, source.counter.get());
+    }
+
+    @Test
+    public void testConcurrentAllocation() throws Exception
+    {
+        final HiLoAllocator allocator = new HiLoAllocator();
+        final CounterSource source = new CounterSource();
+        final Set<Long> ids = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 8; t++)
+            {
+                futures.add(executor.submit(new Callable<Void>()
+                {
+                    @Override
+                    public Void call()
+                    {
+                        for (int i = 0; i < 5000; i++)
+                        {
+                            Assert.assertTrue(ids.add(allocator.next("seq", 0, 50, source)));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(40000, ids.size());
+        Assert.assertEquals(800, source.counter.get());
+    }
+
+    /**
+     * Block source over an in memory counter.
+     */
+    private static class CounterSource implements HiLoAllocator.BlockSource
+    {
+        private final AtomicLong counter = new AtomicLong();
+
+        @Override
+        public long nextBlock()
+        {
+            return counter.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright 2026 Impetus Infotech.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.impetus.kundera.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.impetus.kundera.CoreTestUtilities;
+import com.impetus.kundera.client.ClientBase;
+import com.impetus.kundera.client.EnhanceEntity;
+import com.impetus.kundera.client.crud.associations.MobileHandset;
+import com.impetus.kundera.client.crud.associations.MobileManufacturer;
+import com.impetus.kundera.client.crud.associations.MobileOperatingSystem;
+import com.impetus.kundera.metadata.KunderaMetadataManager;
+import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.query.CoreTestEntityReader;
+
+/**
+ * Test case for batch relation fetching of {@link AbstractEntityReader}.
+ */
+public class AbstractEntityReaderTest
+{
+    private static final String PU = "kunderatest";
+
+    private EntityManagerFactory emf;
+
+    private EntityManager em;
+
+    private KunderaMetadata kunderaMetadata;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        emf = Persistence.createEntityManagerFactory(PU);
+        kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        em = emf.createEntityManager();
+    }
+
+    @Test
+    public void testPrefetchRelations() throws Exception
+    {
+        MobileManufacturer manufacturer = new MobileManufacturer();
+        manufacturer.setId("ma1");
+        manufacturer.setName("manufacturer1");
+
+        MobileOperatingSystem os1 = new MobileOperatingSystem();
+        os1.setId("o1");
+        os1.setName("os1");
+
+        MobileOperatingSystem os2 = new MobileOperatingSystem();
+        os2.setId("o2");
+        os2.setName("os2");
+
+        em.persist(manufacturer);
+        em.persist(os1);
+        em.persist(os2);
+
+        PersistenceDelegator delegator = CoreTestUtilities.getDelegator(em);
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, MobileHandset.class);
+
+        List<EnhanceEntity> enhanceEntities = new ArrayList<EnhanceEntity>();
+        enhanceEntities.add(newHandset("m1", "o1"));
+        enhanceEntities.add(newHandset("m2", "o1"));
+        enhanceEntities.add(newHandset("m3", "o2"));
+
+        CoreTestEntityReader reader = new CoreTestEntityReader(kunderaMetadata);
+        reader.prefetchRelations(enhanceEntities, metadata, delegator, 2);
+
+        // relations must be served from prefetched entities from here on.
+        ClientBase client = (ClientBase) delegator.getClient(metadata);
+        client.remove(manufacturer, "ma1");
+        client.remove(os1, "o1");
+        client.remove(os2, "o2");
+
+        for (EnhanceEntity ee : enhanceEntities)
+        {
+            reader.recursivelyFindEntities(ee.getEntity(), ee.getRelations(), metadata, delegator, false,
+                    new HashMap<Object, Object>());
+        }
+        reader.clearPrefetchedRelations();
+
+        MobileHandset m1 = (MobileHandset) enhanceEntities.get(0).getEntity();
+        MobileHandset m2 = (MobileHandset) enhanceEntities.get(1).getEntity();
+        MobileHandset m3 = (MobileHandset) enhanceEntities.get(2).getEntity();
+
+        Assert.assertEquals("manufacturer1", m1.getManufacturer().getName());
+        Assert.assertEquals("manufacturer1", m2.getManufacturer().getName());
+        Assert.assertEquals("manufacturer1", m3.getManufacturer().getName());
+        Assert.assertEquals("os1", m1.getOs().getName());
+        Assert.assertEquals("os1", m2.getOs().getName());
+        Assert.assertEquals("os2", m3.getOs().getName());
+
+        // shared relation is handed out as a distinct instance per owner.
+        Assert.assertNotSame(m1.getOs(), m2.getOs());
+        Assert.assertNotSame(m1.getManufacturer(), m2.getManufacturer());
+    }
+
+    private EnhanceEntity newHandset(String id, String osId)
+    {
+        MobileHandset handset = new MobileHandset();
+        handset.setId(id);
+        handset.setName("mobile" + id);
+
+        Map<String, Object> relations = new HashMap<String, Object>();
+        relations.put("manufacturer", "ma1");
+        relations.put("os", osId);
+        return new EnhanceEntity(handset, id, relations);
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        em.close();
+        emf.close();
+    }
+}
@@ -33,6 +33,7 @@ public class PersonalDetailEmbedded
 
     private String address;
 
+    private byte[] photo;
 
     public String getEmailId()
     {
@@ -64,4 +65,14 @@ public class PersonalDetailEmbedded
         this.phoneNo = phoneNo;
     }
 
+    public byte[] getPhoto()
+    {
+        return photo;
+    }
+
+    public void setPhoto(byte[] photo)
+    {
+        this.photo = photo;
+    }
+
 }
\ No newline at end of file
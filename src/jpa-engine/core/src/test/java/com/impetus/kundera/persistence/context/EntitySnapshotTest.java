@@ -0,0 +1,362 @@
+/**
+ * Copyright 2026 Impetus Infotech.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.impetus.kundera.persistence.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.impetus.kundera.CoreTestUtilities;
+import com.impetus.kundera.PersistenceProperties;
+import com.impetus.kundera.client.crud.associations.MobileHandset;
+import com.impetus.kundera.client.crud.associations.MobileOperatingSystem;
+import com.impetus.kundera.graph.Node;
+import com.impetus.kundera.graph.ObjectGraphUtils;
+import com.impetus.kundera.metadata.KunderaMetadataManager;
+import com.impetus.kundera.metadata.model.Relation;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.persistence.PersistenceDelegator;
+import com.impetus.kundera.persistence.PersonalDetailEmbedded;
+import com.impetus.kundera.persistence.PersonnelEmbedded;
+import com.impetus.kundera.persistence.event.AddressEntityWithList;
+import com.impetus.kundera.proxy.collection.ProxyList;
+
+/**
+ * Test case for {@link EntitySnapshot}.
+ */
+public class EntitySnapshotTest
+{
+    private EntityManagerFactory emf;
+
+    private KunderaMetadata kunderaMetadata;
+
+    @Test
+    public void testEmbeddedSnapshot()
+    {
+        init("patest");
+
+        PersonnelEmbedded personnel = new PersonnelEmbedded();
+        personnel.setId(1);
+        personnel.setName("vivek");
+        personnel.setAge(30);
+        PersonalDetailEmbedded detail = new PersonalDetailEmbedded();
+        detail.setEmailId("vivek@impetus.com");
+        detail.setPhoneNo(12345L);
+        detail.setPhoto(new byte[] { 1, 2, 3 });
+        personnel.setPersonalDetail(detail);
+
+        EntitySnapshot snapshot = EntitySnapshot.take(personnel, kunderaMetadata);
+        Assert.assertEquals(PersonnelEmbedded.class, snapshot.getEntityClass());
+        Assert.assertTrue(EntitySnapshot.getModifiedAttributes(snapshot.restore(), personnel, kunderaMetadata)
+                .isEmpty());
+
+        personnel.setAge(31);
+        detail.setEmailId("mishra@impetus.com");
+
+        Set<String> modified = EntitySnapshot.getModifiedAttributes(snapshot.restore(), personnel, kunderaMetadata);
+        Assert.assertEquals(2, modified.size());
+        Assert.assertTrue(modified.contains("age"));
+        Assert.assertTrue(modified.contains("personalDetail"));
+
+        PersonnelEmbedded restored = (PersonnelEmbedded) snapshot.restore();
+        Assert.assertNotSame(personnel, restored);
+        Assert.assertNotSame(detail, restored.getPersonalDetail());
+        Assert.assertNotSame(detail.getPhoto(), restored.getPersonalDetail().getPhoto());
+        Assert.assertEquals(1, restored.getId());
+        Assert.assertEquals("vivek", restored.getName());
+        Assert.assertEquals(30, restored.getAge());
+        Assert.assertEquals("vivek@impetus.com", restored.getPersonalDetail().getEmailId());
+        Assert.assertEquals(12345L, restored.getPersonalDetail().getPhoneNo());
+    }
+
+    @Test
+    public void testArraySnapshot()
+    {
+        init("patest");
+
+        PersonnelEmbedded personnel = new PersonnelEmbedded();
+        personnel.setId(1);
+        PersonalDetailEmbedded detail = new PersonalDetailEmbedded();
+        detail.setPhoto(new byte[] { 1, 2, 3 });
+        personnel.setPersonalDetail(detail);
+
+        EntitySnapshot snapshot = EntitySnapshot.take(personnel, kunderaMetadata);
+
+        // element changes of array are not shared with snapshot.
+        detail.getPhoto()[1] = 5;
+        Set<String> modified = EntitySnapshot.getModifiedAttributes(snapshot.restore(), personnel, kunderaMetadata);
+        Assert.assertEquals(1, modified.size());
+        Assert.assertTrue(modified.contains("personalDetail"));
+
+        byte[] photo = ((PersonnelEmbedded) snapshot.restore()).getPersonalDetail().getPhoto();
+        Assert.assertEquals(2, photo[1]);
+        photo[1] = 5;
+        Assert.assertEquals(2, ((PersonnelEmbedded) snapshot.restore()).getPersonalDetail().getPhoto()[1]);
+    }
+
+    @Test
+    public void testRelationSnapshot()
+    {
+        init("kunderatest");
+
+        MobileOperatingSystem os = new MobileOperatingSystem();
+        os.setId("o1");
+        os.setName("os1");
+
+        MobileHandset handset = new MobileHandset();
+        handset.setId("m1");
+        handset.setName("mobile1");
+        handset.setOs(os);
+
+        EntitySnapshot snapshot = EntitySnapshot.take(handset, kunderaMetadata);
+
+        // relations are compared by identity, not by state.
+        os.setName("os2");
+        Assert.assertTrue(EntitySnapshot.getModifiedAttributes(snapshot.restore(), handset, kunderaMetadata)
+                .isEmpty());
+
+        MobileOperatingSystem other = new MobileOperatingSystem();
+        other.setId("o2");
+        handset.setOs(other);
+        Set<String> modified = EntitySnapshot.getModifiedAttributes(snapshot.restore(), handset, kunderaMetadata);
+        Assert.assertEquals(1, modified.size());
+        Assert.assertTrue(modified.contains("os"));
+
+        MobileHandset restored = (MobileHandset) snapshot.restore();
+        Assert.assertSame(os, restored.getOs());
+        Assert.assertEquals("mobile1", restored.getName());
+    }
+
+    @Test
+    public void testCopy()
+    {
+        init("kunderatest");
+
+        MobileOperatingSystem os = new MobileOperatingSystem();
+        os.setId("o1");
+        os.setName("os1");
+        MobileHandset handset = new MobileHandset();
+        handset.setId("m1");
+        handset.setName("mobile1");
+        handset.setOs(os);
+        os.setHandsets(new HashSet<MobileHandset>(Arrays.asList(handset)));
+
+        MobileHandset copy = (MobileHandset) EntitySnapshot.copy(handset, kunderaMetadata);
+        Assert.assertNotSame(handset, copy);
+        Assert.assertEquals("m1", copy.getId());
+        Assert.assertEquals("mobile1", copy.getName());
+
+        // related entities are copied once per graph.
+        Assert.assertNotSame(os, copy.getOs());
+        Assert.assertEquals("os1", copy.getOs().getName());
+        Assert.assertNotSame(os.getHandsets(), copy.getOs().getHandsets());
+        Assert.assertSame(copy, copy.getOs().getHandsets().iterator().next());
+        emf.close();
+
+        init("patest");
+        PersonnelEmbedded personnel = new PersonnelEmbedded();
+        personnel.setId(1);
+        personnel.setName("vivek");
+        PersonalDetailEmbedded detail = new PersonalDetailEmbedded();
+        detail.setEmailId("vivek@impetus.com");
+        detail.setPhoto(new byte[] { 1, 2, 3 });
+        personnel.setPersonalDetail(detail);
+
+        PersonnelEmbedded personnelCopy = (PersonnelEmbedded) EntitySnapshot.copy(personnel, kunderaMetadata);
+        Assert.assertSame(personnel.getName(), personnelCopy.getName());
+        Assert.assertNotSame(detail, personnelCopy.getPersonalDetail());
+        Assert.assertNotSame(detail.getPhoto(), personnelCopy.getPersonalDetail().getPhoto());
+        Assert.assertEquals("vivek@impetus.com", personnelCopy.getPersonalDetail().getEmailId());
+        Assert.assertTrue(EntitySnapshot.getModifiedAttributes(personnel, personnelCopy, kunderaMetadata).isEmpty());
+
+        // non entities are not copied.
+        Assert.assertSame(detail, EntitySnapshot.copy(detail, kunderaMetadata));
+        Assert.assertNull(EntitySnapshot.copy(null, kunderaMetadata));
+    }
+
+    @Test
+    public void testModifiedAttributes()
+    {
+        init("patest");
+
+        PersonnelEmbedded original = new PersonnelEmbedded();
+        original.setId(1);
+        original.setName("vivek");
+        PersonalDetailEmbedded detail = new PersonalDetailEmbedded();
+        detail.setEmailId("vivek@impetus.com");
+        original.setPersonalDetail(detail);
+
+        PersonnelEmbedded entity = new PersonnelEmbedded();
+        entity.setId(1);
+        entity.setName("vivek");
+        PersonalDetailEmbedded otherDetail = new PersonalDetailEmbedded();
+        otherDetail.setEmailId("vivek@impetus.com");
+        entity.setPersonalDetail(otherDetail);
+
+        Assert.assertTrue(EntitySnapshot.getModifiedAttributes(original, entity, kunderaMetadata).isEmpty());
+
+        otherDetail.setAddress("noida");
+        entity.setName("mishra");
+        Set<String> modified = EntitySnapshot.getModifiedAttributes(original, entity, kunderaMetadata);
+        Assert.assertEquals(2, modified.size());
+        Assert.assertTrue(modified.contains("name"));
+        Assert.assertTrue(modified.contains("personalDetail"));
+    }
+
+    @Test
+    public void testNodeModifiedAttributes() throws Exception
+    {
+        init("kunderatest");
+
+        MobileOperatingSystem os = new MobileOperatingSystem();
+        os.setId("o1");
+        os.setName("os1");
+
+        EntityManager em = emf.createEntityManager();
+        em.persist(os);
+
+        MobileOperatingSystem found = em.find(MobileOperatingSystem.class, "o1");
+        found.setName("os2");
+
+        // keep node dirty till commit.
+        em.getTransaction().begin();
+        em.merge(found);
+
+        PersistenceDelegator delegator = CoreTestUtilities.getDelegator(em);
+        Node node = delegator.getPersistenceCache().getMainCache()
+                .getNodeFromCache(ObjectGraphUtils.getNodeId("o1", MobileOperatingSystem.class), delegator);
+        Assert.assertTrue(node.isDirty());
+        Assert.assertNotNull(node.getModifiedAttributes());
+        Assert.assertEquals(1, node.getModifiedAttributes().size());
+        Assert.assertTrue(node.getModifiedAttributes().contains("name"));
+
+        em.getTransaction().commit();
+        Assert.assertFalse(node.isDirty());
+        Assert.assertNull(node.getModifiedAttributes());
+        em.close();
+    }
+
+    @Test
+    public void testReplaceLazyCollection() throws Exception
+    {
+        init("kunderatest");
+
+        AddressEntityWithList address = new AddressEntityWithList();
+        address.setAddressId("a1");
+        address.setCity("noida");
+
+        EntityManager em = emf.createEntityManager();
+        em.persist(address);
+        AddressEntityWithList found = em.find(AddressEntityWithList.class, "a1");
+
+        // lazily loaded collection, as set by association builder.
+        PersistenceDelegator delegator = CoreTestUtilities.getDelegator(em);
+        Node node = delegator.getPersistenceCache().getMainCache()
+                .getNodeFromCache(ObjectGraphUtils.getNodeId("a1", AddressEntityWithList.class), delegator);
+        Relation relation = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, AddressEntityWithList.class)
+                .getRelation("subaddresses");
+        ProxyList proxy = new ProxyList(delegator, relation);
+        proxy.setOwner(node.getData());
+        ((AddressEntityWithList) node.getData()).setSubaddresses(proxy);
+
+        // same or copied proxy, not initialized.
+        found.setSubaddresses(proxy);
+        Assert.assertTrue(EntitySnapshot.getModifiedAttributes(node.getData(), found, kunderaMetadata).isEmpty());
+        ProxyList copy = (ProxyList) proxy.getCopy();
+        copy.setOwner(found);
+        found.setSubaddresses(copy);
+        Assert.assertTrue(EntitySnapshot.getModifiedAttributes(node.getData(), found, kunderaMetadata).isEmpty());
+
+        // initialized proxy.
+        copy.add(new AddressEntityWithList());
+        Assert.assertTrue(EntitySnapshot.getModifiedAttributes(node.getData(), found, kunderaMetadata).contains(
+                "subaddresses"));
+
+        // replaced collection.
+        AddressEntityWithList subaddress = new AddressEntityWithList();
+        subaddress.setAddressId("a2");
+        subaddress.setCity("noida");
+        found.setSubaddresses(new ArrayList<AddressEntityWithList>(Arrays.asList(subaddress)));
+
+        em.getTransaction().begin();
+        em.merge(found);
+        Assert.assertTrue(node.isDirty());
+        Assert.assertEquals(1, node.getModifiedAttributes().size());
+        Assert.assertTrue(node.getModifiedAttributes().contains("subaddresses"));
+        em.getTransaction().commit();
+
+        em.clear();
+        found = em.find(AddressEntityWithList.class, "a1");
+        Assert.assertEquals(1, found.getSubaddresses().size());
+        Assert.assertEquals("a2", found.getSubaddresses().get(0).getAddressId());
+        em.close();
+    }
+
+    @Test
+    public void testReadOnlyFind()
+    {
+        init("kunderatest");
+
+        MobileOperatingSystem os = new MobileOperatingSystem();
+        os.setId("o1");
+        os.setName("os1");
+
+        EntityManager em = emf.createEntityManager();
+        em.persist(os);
+        em.clear();
+
+        MobileOperatingSystem found = em.find(MobileOperatingSystem.class, "o1");
+        Assert.assertNotSame(found, em.find(MobileOperatingSystem.class, "o1"));
+        em.close();
+
+        Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(PersistenceProperties.KUNDERA_PERSISTENCE_CONTEXT_READ_ONLY, "true");
+        em = emf.createEntityManager(properties);
+
+        found = em.find(MobileOperatingSystem.class, "o1");
+        Assert.assertEquals("os1", found.getName());
+        Assert.assertSame(found, em.find(MobileOperatingSystem.class, "o1"));
+        em.close();
+    }
+
+    private void init(final String persistenceUnit)
+    {
+        emf = Persistence.createEntityManagerFactory(persistenceUnit);
+        kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        if (emf != null)
+        {
+            emf.close();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright 2026 Impetus Infotech.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.impetus.kundera.persistence.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.impetus.kundera.PersistenceProperties;
+import com.impetus.kundera.client.Client;
+import com.impetus.kundera.client.CoreTestClient;
+import com.impetus.kundera.client.crud.associations.MobileHandset;
+import com.impetus.kundera.client.crud.associations.MobileManufacturer;
+import com.impetus.kundera.client.crud.associations.MobileOperatingSystem;
+import com.impetus.kundera.graph.Node;
+import com.impetus.kundera.graph.NodeLink;
+import com.impetus.kundera.lifecycle.states.ManagedState;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+
+/**
+ * Test case for {@link FlushScheduler}.
+ */
+public class FlushSchedulerTest
+{
+    private static final String PU = "kunderatest";
+
+    private EntityManagerFactory emf;
+
+    private FlushScheduler scheduler;
+
+    @Test
+    public void testPartition()
+    {
+        init(null);
+        KunderaMetadata kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        Client c1 = new CoreTestClient(null, PU, kunderaMetadata);
+        Client c2 = new CoreTestClient(null, PU, kunderaMetadata);
+        Client c3 = new CoreTestClient(null, PU, kunderaMetadata);
+
+        Node a = newNode("a", c1);
+        Node b = newNode("b", c2);
+        Node c = newNode("c", c1);
+        Node d = newNode("d", c3);
+
+        // b and d are related, so must be flushed in stack order.
+        NodeLink link = new NodeLink("b", "d");
+        b.addChildNode(link, d);
+        d.addParentNode(link, b);
+
+        scheduler = new FlushScheduler(2);
+        List<List<Node>> partitions = scheduler.partition(Arrays.asList(d, a, b, c));
+        Assert.assertEquals(2, partitions.size());
+        Assert.assertEquals(Arrays.asList(d, b), partitions.get(0));
+        Assert.assertEquals(Arrays.asList(a, c), partitions.get(1));
+    }
+
+    @Test
+    public void testRunAggregatesErrors()
+    {
+        init(null);
+        scheduler = new FlushScheduler(2);
+        Assert.assertTrue(scheduler.isParallel());
+
+        final List<String> executed = new ArrayList<String>();
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        tasks.add(failingTask("first"));
+        tasks.add(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                synchronized (executed)
+                {
+                    executed.add("second");
+                }
+            }
+        });
+        tasks.add(failingTask("third"));
+
+        try
+        {
+            scheduler.run(tasks);
+            Assert.fail("Should have failed");
+        }
+        catch (IllegalStateException e)
+        {
+            Assert.assertEquals("first", e.getMessage());
+            Assert.assertEquals(1, e.getSuppressed().length);
+            Assert.assertEquals("third", e.getSuppressed()[0].getMessage());
+        }
+        Assert.assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testParallelFlush()
+    {
+        Map<String, String> properties = new HashMap<String, String>();
+        properties.put(PersistenceProperties.KUNDERA_FLUSH_PARALLELISM, "4");
+        init(properties);
+        Assert.assertTrue(((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance().getFlushScheduler()
+                .isParallel());
+
+        MobileManufacturer manufacturer = new MobileManufacturer();
+        manufacturer.setId("ma1");
+        manufacturer.setName("manufacturer1");
+        MobileOperatingSystem os = new MobileOperatingSystem();
+        os.setId("o1");
+        os.setName("os1");
+        MobileHandset handset = new MobileHandset();
+        handset.setId("m1");
+        handset.setName("mobile1");
+        handset.setManufacturer(manufacturer);
+        handset.setOs(os);
+
+        EntityManager em = emf.createEntityManager();
+        em.getTransaction().begin();
+        em.persist(handset);
+        em.getTransaction().commit();
+        em.clear();
+
+        MobileHandset found = em.find(MobileHandset.class, "m1");
+        Assert.assertNotNull(found);
+        Assert.assertEquals("manufacturer1", found.getManufacturer().getName());
+        Assert.assertEquals("os1", found.getOs().getName());
+        em.close();
+    }
+
+    private Runnable failingTask(final String message)
+    {
+        return new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                throw new IllegalStateException(message);
+            }
+        };
+    }
+
+    private Node newNode(String id, Client client)
+    {
+        Node node = new Node(id, MobileHandset.class, new ManagedState(), null, id, null);
+        node.setClient(client);
+        return node;
+    }
+
+    private void init(Map<String, String> properties)
+    {
+        emf = Persistence.createEntityManagerFactory(PU, properties);
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        if (scheduler != null)
+        {
+            scheduler.shutdown();
+        }
+        if (emf != null)
+        {
+            emf.close();
+        }
+    }
+}
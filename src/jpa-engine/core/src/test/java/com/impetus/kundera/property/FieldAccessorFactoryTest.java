@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.property;
+
+import java.lang.reflect.Field;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link FieldAccessorFactory}.
+ */
+public class FieldAccessorFactoryTest
+{
+    private static String staticField = "static";
+
+    private String name;
+
+    private long count;
+
+    private int size;
+
+    private boolean flag;
+
+    private final char grade = 'A';
+
+    @Test
+    public void testReferenceField() throws Exception
+    {
+        FieldAccessor accessor = FieldAccessorFactory.createFieldAccessor(getField("name"));
+        // factory holds no state, accessors are held by callers.
+        Assert.assertNotSame(accessor, FieldAccessorFactory.createFieldAccessor(getField("name")));
+        Assert.assertTrue(accessor instanceof MethodHandleFieldAccessor);
+
+        accessor.set(this, "kundera");
+        Assert.assertEquals("kundera", name);
+        Assert.assertEquals("kundera", accessor.get(this));
+
+        accessor.set(this, null);
+        Assert.assertNull(accessor.get(this));
+
+        try
+        {
+            accessor.set(this, 1);
+            Assert.fail("Should have failed for invalid value type");
+        }
+        catch (IllegalArgumentException iaex)
+        {
+            Assert.assertNull(name);
+        }
+    }
+
+    @Test
+    public void testPrimitiveFields() throws Exception
+    {
+        FieldAccessor countAccessor = FieldAccessorFactory.createFieldAccessor(getField("count"));
+        countAccessor.set(this, 10L);
+        Assert.assertEquals(10L, count);
+        Assert.assertEquals(10L, countAccessor.get(this));
+
+        // widening conversion, as with reflection.
+        countAccessor.set(this, 20);
+        Assert.assertEquals(20L, count);
+
+        FieldAccessor sizeAccessor = FieldAccessorFactory.createFieldAccessor(getField("size"));
+        sizeAccessor.set(this, 5);
+        Assert.assertEquals(5, size);
+        Assert.assertEquals(5, sizeAccessor.get(this));
+
+        FieldAccessor flagAccessor = FieldAccessorFactory.createFieldAccessor(getField("flag"));
+        flagAccessor.set(this, true);
+        Assert.assertTrue(flag);
+        Assert.assertEquals(Boolean.TRUE, flagAccessor.get(this));
+
+        Assert.assertEquals('A', FieldAccessorFactory.createFieldAccessor(getField("grade")).get(this));
+
+        try
+        {
+            sizeAccessor.set(this, null);
+            Assert.fail("Should have failed for null primitive value");
+        }
+        catch (IllegalArgumentException iaex)
+        {
+            Assert.assertEquals(5, size);
+        }
+    }
+
+    @Test
+    public void testInvalidTarget() throws Exception
+    {
+        try
+        {
+            PropertyAccessorHelper.getObject(new Object(), getField("name"));
+            Assert.fail("Should have failed for invalid target");
+        }
+        catch (PropertyAccessException paex)
+        {
+            Assert.assertTrue(paex.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void testStaticField() throws Exception
+    {
+        FieldAccessor accessor = FieldAccessorFactory.createFieldAccessor(getField("staticField"));
+        Assert.assertTrue(accessor instanceof ReflectionFieldAccessor);
+        Assert.assertEquals("static", accessor.get(null));
+    }
+
+    private Field getField(String fieldName) throws NoSuchFieldException
+    {
+        return FieldAccessorFactoryTest.class.getDeclaredField(fieldName);
+    }
+}
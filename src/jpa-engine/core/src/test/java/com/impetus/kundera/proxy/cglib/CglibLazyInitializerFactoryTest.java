@@ -93,4 +93,25 @@ public class CglibLazyInitializerFactoryTest
 
     }
 
+    @Test
+    public void testProxyClassIsGeneratedOnce()
+    {
+        CglibLazyInitializerFactory factory = (CglibLazyInitializerFactory) kunderaMetadata.getCoreMetadata()
+                .getLazyInitializerFactory();
+        Class<?> proxyClass = factory.getProxyClass(PersonnelDTO.class);
+        Assert.assertNotNull(proxyClass);
+        Assert.assertSame(proxyClass, factory.getProxyClass(PersonnelDTO.class));
+
+        KunderaProxy first = factory.getProxy("personnel_1#dto", PersonnelDTO.class, null, null, "1", null);
+        KunderaProxy second = factory.getProxy("personnel_2#dto", PersonnelDTO.class, null, null, "2", null);
+        Assert.assertSame(proxyClass, first.getClass());
+        Assert.assertSame(proxyClass, second.getClass());
+        Assert.assertTrue(first instanceof PersonnelDTO);
+
+        // each proxy holds its own initializer.
+        Assert.assertNotSame(first.getKunderaLazyInitializer(), second.getKunderaLazyInitializer());
+        Assert.assertEquals("1", first.getKunderaLazyInitializer().getIdentifier());
+        Assert.assertEquals("2", second.getKunderaLazyInitializer().getIdentifier());
+    }
+
 }
@@ -15,6 +15,8 @@
  ******************************************************************************/
 package com.impetus.kundera.proxy.cglib;
 
+import java.util.Properties;
+
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
@@ -27,6 +29,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.impetus.kundera.CoreTestUtilities;
+import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.entity.PersonnelDTO;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
@@ -160,5 +163,58 @@ public class CglibLazyInitializerTest
         
         em = emf.createEntityManager();
     }
-        
+
+    @Test
+    public void testBatchInitialization() throws Exception
+    {
+        PersistenceDelegator delegator = CoreTestUtilities.getDelegator(em);
+        em.persist(new PersonnelDTO("b1", "vivek", "mishra"));
+        em.persist(new PersonnelDTO("b2", "amresh", "singh"));
+        em.persist(new PersonnelDTO("b3", "kuldeep", "mishra"));
+        em.clear();
+
+        Properties puProperties = kunderaMetadata.getApplicationMetadata()
+                .getPersistenceUnitMetadata("kunderatest").getProperties();
+        LazyInitializerFactory factory = kunderaMetadata.getCoreMetadata().getLazyInitializerFactory();
+        try
+        {
+            puProperties.put(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE, "2");
+
+            LazyInitializer li1 = newPendingProxy(factory, delegator, "b1");
+            LazyInitializer li2 = newPendingProxy(factory, delegator, "b2");
+            LazyInitializer li3 = newPendingProxy(factory, delegator, "b3");
+
+            li1.initialize();
+
+            // next pending proxy is initialized along, third exceeds batch.
+            Assert.assertEquals("vivek", ((PersonnelDTO) ((CglibLazyInitializer) li1).getTarget()).getFirstName());
+            Assert.assertFalse(li2.isUninitialized());
+            Assert.assertEquals("amresh", ((PersonnelDTO) ((CglibLazyInitializer) li2).getTarget()).getFirstName());
+            Assert.assertTrue(li3.isUninitialized());
+
+            li3.initialize();
+            Assert.assertEquals("kuldeep", ((PersonnelDTO) ((CglibLazyInitializer) li3).getTarget()).getFirstName());
+
+            puProperties.remove(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE);
+            em.clear();
+
+            li1 = newPendingProxy(factory, delegator, "b1");
+            li2 = newPendingProxy(factory, delegator, "b2");
+            li1.initialize();
+            Assert.assertTrue(li2.isUninitialized());
+        }
+        finally
+        {
+            puProperties.remove(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE);
+        }
+    }
+
+    private LazyInitializer newPendingProxy(LazyInitializerFactory factory, PersistenceDelegator delegator, String id)
+    {
+        KunderaProxy proxy = factory.getProxy("personnel_" + id + "#dto", PersonnelDTO.class, null, null, id,
+                delegator);
+        LazyInitializer li = proxy.getKunderaLazyInitializer();
+        delegator.getPersistenceCache().getPendingProxies().add(li);
+        return li;
+    }
 }
@@ -33,6 +33,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.impetus.kundera.CoreTestUtilities;
+import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.client.DummyDatabase;
 import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.EntityMetadata;
@@ -225,6 +226,35 @@ public class QueryImplTest
 
     }
 
+    @Test
+    public void testFetchBatchSizeHint() throws Exception
+    {
+        PersistenceDelegator delegator = CoreTestUtilities.getDelegator(em);
+        CoreQuery query = new CoreQuery(parseQuery("Select p from Person p"), delegator, kunderaMetadata);
+        EntityMetadata m = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, Person.class);
+
+        query.setHint(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE, " 20 ");
+        Assert.assertEquals(20, query.getFetchBatchSize(m));
+        query.setHint(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE, 5);
+        Assert.assertEquals(5, query.getFetchBatchSize(m));
+
+        for (Object invalid : new Object[] { "ten", -1 })
+        {
+            query.setHint(PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE, invalid);
+            try
+            {
+                query.getFetchBatchSize(m);
+                Assert.fail("Should have gone to catch block!");
+            }
+            catch (IllegalArgumentException iaex)
+            {
+                Assert.assertEquals("Invalid value " + invalid + " of query hint "
+                        + PersistenceProperties.KUNDERA_FETCH_BATCH_SIZE + ", it must be numeric and >= 0",
+                        iaex.getMessage());
+            }
+        }
+    }
+
     @Test
     public void testGetColumns()
     {
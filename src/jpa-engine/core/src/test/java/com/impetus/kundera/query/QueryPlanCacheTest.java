@@ -0,0 +1,182 @@
+/*******************************************************************************
+ *  * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.kundera.query;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.impetus.kundera.PersistenceProperties;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
+
+/**
+ * Test case for {@link QueryPlanCache}.
+ */
+public class QueryPlanCacheTest
+{
+    /** The Constant PU. */
+    private static final String PU = "patest";
+
+    /** The emf. */
+    private EntityManagerFactory emf;
+
+    /** The em. */
+    private EntityManager em;
+
+    /**
+     * Test cached query gets own parameter bindings.
+     */
+    @Test
+    public void testCachedQuery() throws Exception
+    {
+        init(null);
+        QueryPlanCache planCache = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance().getQueryPlanCache();
+        Assert.assertTrue(planCache.isEnabled());
+
+        String query = "Select p from Person p where p.personName = :name and p.age = :age";
+        QueryImpl first = (QueryImpl) em.createQuery(query);
+        Assert.assertEquals(0, planCache.getHitCount());
+        Assert.assertEquals(1, planCache.getMissCount());
+        Assert.assertEquals(1, planCache.size());
+
+        first.setParameter("name", "vivek");
+        first.setParameter("age", 32);
+
+        QueryImpl second = (QueryImpl) em.createQuery(query);
+        Assert.assertEquals(1, planCache.getHitCount());
+        Assert.assertEquals(1, planCache.size());
+
+        KunderaQuery firstQuery = first.getKunderaQuery();
+        KunderaQuery secondQuery = second.getKunderaQuery();
+        Assert.assertNotSame(firstQuery, secondQuery);
+
+        // copies parse expression tree only when walked.
+        Field expression = KunderaQuery.class.getDeclaredField("jpqlExpression");
+        expression.setAccessible(true);
+        Assert.assertNull(expression.get(secondQuery));
+        Assert.assertNotNull(secondQuery.getJpqlExpression());
+        Assert.assertNotSame(firstQuery.getJpqlExpression(), secondQuery.getJpqlExpression());
+        Assert.assertNotSame(firstQuery.getSelectStatement(), secondQuery.getSelectStatement());
+        Assert.assertEquals(Person.class, secondQuery.getEntityClass());
+        Assert.assertEquals(firstQuery.getFilterClauseQueue().size(), secondQuery.getFilterClauseQueue().size());
+        Assert.assertEquals(2, secondQuery.getParameters().size());
+        Assert.assertTrue(secondQuery.getParametersMap().isEmpty());
+        Assert.assertEquals(Arrays.asList(":name"), secondQuery.getClauseValue(":name"));
+
+        second.setParameter("name", "mishra");
+        Assert.assertEquals(Arrays.asList("mishra"), secondQuery.getClauseValue(":name"));
+        Assert.assertEquals(Arrays.asList("vivek"), firstQuery.getClauseValue(":name"));
+        Assert.assertEquals(Arrays.asList(32), firstQuery.getClauseValue(":age"));
+    }
+
+    /**
+     * Test cached update query.
+     */
+    @Test
+    public void testCachedUpdateQuery()
+    {
+        init(null);
+        String query = "Update Person p set p.personName = :name where p.age = :age";
+        QueryImpl first = (QueryImpl) em.createQuery(query);
+        first.setParameter("name", "vivek");
+
+        QueryImpl second = (QueryImpl) em.createQuery(query);
+        second.setParameter("name", "mishra");
+
+        Assert.assertEquals("vivek", first.getKunderaQuery().getUpdateClauseQueue().peek().getValue());
+        Assert.assertEquals("mishra", second.getKunderaQuery().getUpdateClauseQueue().peek().getValue());
+    }
+
+    /**
+     * Test disabled cache.
+     */
+    @Test
+    public void testDisabledCache()
+    {
+        Map<String, String> properties = new HashMap<String, String>();
+        properties.put(PersistenceProperties.KUNDERA_QUERY_PLAN_CACHE_SIZE, "0");
+        init(properties);
+
+        QueryPlanCache planCache = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance().getQueryPlanCache();
+        Assert.assertFalse(planCache.isEnabled());
+
+        em.createQuery("Select p from Person p");
+        em.createQuery("Select p from Person p");
+        Assert.assertEquals(0, planCache.size());
+        Assert.assertEquals(0, planCache.getHitCount());
+        Assert.assertEquals(0, planCache.getMissCount());
+    }
+
+    /**
+     * Test cache size stays within bounds, evicting least recently used plans.
+     */
+    @Test
+    public void testBoundedCache()
+    {
+        Map<String, String> properties = new HashMap<String, String>();
+        properties.put(PersistenceProperties.KUNDERA_QUERY_PLAN_CACHE_SIZE, "2");
+        init(properties);
+
+        QueryPlanCache planCache = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance().getQueryPlanCache();
+        em.createQuery("Select p from Person p");
+        em.createQuery("Select p from Person p where p.age = 32");
+        em.createQuery("Select p from Person p");
+        em.createQuery("Select p from Person p where p.age = 33");
+        Assert.assertEquals(2, planCache.size());
+        Assert.assertEquals(3, planCache.getMissCount());
+        Assert.assertEquals(1, planCache.getHitCount());
+
+        // recently used plan is kept, least recently used one is evicted.
+        em.createQuery("Select p from Person p");
+        Assert.assertEquals(2, planCache.getHitCount());
+        em.createQuery("Select p from Person p where p.age = 32");
+        Assert.assertEquals(4, planCache.getMissCount());
+    }
+
+    private void init(Map<String, String> properties)
+    {
+        emf = Persistence.createEntityManagerFactory(PU, properties);
+        em = emf.createEntityManager();
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        if (em != null)
+        {
+            em.close();
+        }
+        if (emf != null)
+        {
+            emf.close();
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.util.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -385,6 +386,9 @@ public abstract class DocumentIndexer implements com.impetus.kundera.index.lucen
             // Field.Store.YES/*, Field.Index.ANALYZED_NO_NORMS*/);
             document.add(luceneField);
 
+            // untokenized kundera id, to update or delete by term
+            document.add(new StringField(IndexingConstants.ENTITY_UID_FIELD, getKunderaId(metadata, id), Store.NO));
+
             // index entity class
             luceneField =
                 new Field(IndexingConstants.ENTITY_CLASS_FIELD, metadata.getEntityClazz().getCanonicalName()
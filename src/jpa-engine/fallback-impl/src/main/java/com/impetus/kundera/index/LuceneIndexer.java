@@ -19,10 +19,15 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.EmbeddableType;
@@ -31,25 +36,30 @@ import javax.persistence.metamodel.EntityType;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexNotFoundException;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogDocMergePolicy;
+import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 import org.apache.lucene.store.RAMDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.impetus.kundera.Constants;
+import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.cache.ElementCollectionCacheManager;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.MetamodelImpl;
@@ -60,10 +70,13 @@ import com.impetus.kundera.property.PropertyAccessException;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.query.KunderaQuery;
 import com.impetus.kundera.utils.KunderaCoreUtils;
+import com.impetus.kundera.utils.KunderaThreadFactory;
 import com.impetus.kundera.utils.ReflectUtils;
 
 /**
- * Provides indexing functionality using lucene library.
+ * Provides indexing functionality using lucene library. A single long lived
+ * writer is kept open, searches are served by near real time searchers over it
+ * and changes are committed in groups, by count or by time.
  * 
  * @author amresh.singh
  */
@@ -76,24 +89,64 @@ public class LuceneIndexer extends DocumentIndexer
     /** The w. */
     private static IndexWriter w;
 
-    /** The reader. */
-    private static IndexReader reader;
+    /** The searcher manager, serving near real time searchers. */
+    private static SearcherManager searcherManager;
 
     /** The index. */
     private static Directory index;
 
-    /** The is initialized. */
-    private static boolean isInitialized;
+    /** Whether index is modified since searcher was refreshed. */
+    private static volatile boolean stale;
+
+    /**
+     * Whether index was created by an older version, which did not index
+     * kundera id of entities. Documents of such an index are deleted by
+     * class and id as well.
+     */
+    private static boolean legacyIndex;
 
     /** The indexer. */
     private static LuceneIndexer indexer;
 
-    /** The ready for commit. */
-    private static boolean readyForCommit;
+    /** Number of changes since last commit. */
+    private static final AtomicInteger uncommitted = new AtomicInteger();
+
+    /** Interval to refresh searcher in background, 0 to refresh on search. */
+    private static long refreshInterval;
+
+    /** Number of changes to commit together, 0 to not commit by count. */
+    private static long commitBatchSize;
+
+    /** The scheduler, refreshing searcher and committing in background. */
+    private static ScheduledExecutorService scheduler;
 
     /** The lucene dir path. */
     private static String luceneDirPath;
 
+    /** Number of users (client factories) of shared instance, not closed yet. */
+    private static int users;
+
+    /** In memory directory, loaded from index home directory. */
+    public static final String DIRECTORY_RAM = "ram";
+
+    /** Memory mapped directory. */
+    public static final String DIRECTORY_MMAP = "mmap";
+
+    /** NIO file system directory. */
+    public static final String DIRECTORY_NIO = "nio";
+
+    /** File system directory, best suited for platform. */
+    public static final String DIRECTORY_FS = "fs";
+
+    /** Max size of merged segment cached in memory, in MB. */
+    private static final double NRT_CACHE_MAX_MERGE_SIZE_MB = 5.0;
+
+    /** Max size of all segments cached in memory, in MB. */
+    private static final double NRT_CACHE_MAX_SIZE_MB = 60.0;
+
+    /** Commit user data, marking index of documents with kundera id. */
+    static final String KUNDERA_ID_MARKER = "kundera.id.indexed";
+
     /**
      * Instantiates a new lucene indexer.
      * 
@@ -101,28 +154,18 @@ public class LuceneIndexer extends DocumentIndexer
      *            the analyzer
      * @param lucDirPath
      *            the luc dir path
+     * @param properties
+     *            the indexer properties
      */
-    private LuceneIndexer(String lucDirPath)
+    private LuceneIndexer(String lucDirPath, Map<String, Object> properties)
     {
         try
         {
             luceneDirPath = lucDirPath;
-            File file = new File(luceneDirPath);
-            if (file.exists())
-            {
-                FSDirectory sourceDir = FSDirectory.open(getIndexDirectory().toPath());
-
-                // TODO initialize context.
-                index = new RAMDirectory(sourceDir, IOContext.DEFAULT);
-            }
-            else
-            {
-                index = new RAMDirectory();
-            }
-            /*
-             * FSDirectory.open(getIndexDirectory( ))
-             */
-            // isInitialized
+            index = openDirectory(getProperty(properties, PersistenceProperties.KUNDERA_INDEX_DIRECTORY),
+                    Boolean.parseBoolean(getProperty(properties, PersistenceProperties.KUNDERA_INDEX_NRT_CACHING)));
+            legacyIndex = DirectoryReader.indexExists(index)
+                    && !Boolean.parseBoolean(SegmentInfos.readLatestCommit(index).getUserData().get(KUNDERA_ID_MARKER));
             /* writer */
             IndexWriterConfig indexWriterConfig = new IndexWriterConfig(analyzer);
             LogDocMergePolicy logDocMergePolicy = new LogDocMergePolicy();
@@ -130,6 +173,15 @@ public class LuceneIndexer extends DocumentIndexer
             indexWriterConfig.setMergePolicy(logDocMergePolicy);
             w = new IndexWriter(index, indexWriterConfig);
             w.getConfig().setRAMBufferSizeMB(32);
+            if (!legacyIndex)
+            {
+                w.setCommitData(Collections.singletonMap(KUNDERA_ID_MARKER, Boolean.TRUE.toString()));
+            }
+            searcherManager = new SearcherManager(w, true, null);
+
+            refreshInterval = getProperty(properties, PersistenceProperties.KUNDERA_INDEX_REFRESH_INTERVAL, 0);
+            commitBatchSize = getProperty(properties, PersistenceProperties.KUNDERA_INDEX_COMMIT_BATCH_SIZE, 1000);
+            schedule(getProperty(properties, PersistenceProperties.KUNDERA_INDEX_COMMIT_INTERVAL, 1000));
         }
         catch (Exception e)
         {
@@ -138,6 +190,159 @@ public class LuceneIndexer extends DocumentIndexer
         }
     }
 
+    /**
+     * Opens index directory of given type. In memory directory is loaded from
+     * file system, other types work on index files in place.
+     * 
+     * @param type
+     *            directory type, in memory if null.
+     * @param nrtCaching
+     *            whether to cache small segments of near real time searchers
+     *            in memory, for file system directories.
+     * @return the directory
+     */
+    private Directory openDirectory(String type, boolean nrtCaching) throws IOException
+    {
+        if (type == null || DIRECTORY_RAM.equalsIgnoreCase(type))
+        {
+            File file = new File(luceneDirPath);
+            if (file.exists())
+            {
+                FSDirectory sourceDir = FSDirectory.open(getIndexDirectory().toPath());
+                try
+                {
+                    // TODO initialize context.
+                    return new RAMDirectory(sourceDir, IOContext.DEFAULT);
+                }
+                finally
+                {
+                    sourceDir.close();
+                }
+            }
+            return new RAMDirectory();
+        }
+
+        Directory directory;
+        if (DIRECTORY_MMAP.equalsIgnoreCase(type))
+        {
+            directory = new MMapDirectory(getIndexDirectory().toPath());
+        }
+        else if (DIRECTORY_NIO.equalsIgnoreCase(type))
+        {
+            directory = new NIOFSDirectory(getIndexDirectory().toPath());
+        }
+        else if (DIRECTORY_FS.equalsIgnoreCase(type))
+        {
+            directory = FSDirectory.open(getIndexDirectory().toPath());
+        }
+        else
+        {
+            throw new LuceneIndexingException("Invalid index directory type " + type + ", supported types are "
+                    + DIRECTORY_RAM + ", " + DIRECTORY_MMAP + ", " + DIRECTORY_NIO + " and " + DIRECTORY_FS + ".");
+        }
+        return nrtCaching ? new NRTCachingDirectory(directory, NRT_CACHE_MAX_MERGE_SIZE_MB, NRT_CACHE_MAX_SIZE_MB)
+                : directory;
+    }
+
+    /**
+     * Schedules background refresh of searcher and time based commit.
+     * 
+     * @param commitInterval
+     *            the commit interval
+     */
+    private void schedule(long commitInterval)
+    {
+        if (refreshInterval > 0 || commitInterval > 0)
+        {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new KunderaThreadFactory(LuceneIndexer.class
+                    .getName()));
+        }
+
+        if (refreshInterval > 0)
+        {
+            scheduler.scheduleWithFixedDelay(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        searcherManager.maybeRefresh();
+                    }
+                    catch (Exception e)
+                    {
+                        log.warn("Error while refreshing Lucene searcher, Caused by: ", e);
+                    }
+                }
+            }, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+        }
+
+        if (commitInterval > 0)
+        {
+            scheduler.scheduleWithFixedDelay(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        commit();
+                    }
+                    catch (Exception e)
+                    {
+                        log.warn("Error while committing Lucene indexes, Caused by: ", e);
+                    }
+                }
+            }, commitInterval, commitInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns value of given numeric property, default value if not set or
+     * invalid.
+     * 
+     * @param properties
+     *            the properties
+     * @param name
+     *            the property name
+     * @param defaultValue
+     *            the default value
+     * @return the value
+     */
+    private static long getProperty(Map<String, Object> properties, String name, long defaultValue)
+    {
+        String value = getProperty(properties, name);
+        if (value == null)
+        {
+            return defaultValue;
+        }
+
+        try
+        {
+            return Long.parseLong(value);
+        }
+        catch (NumberFormatException e)
+        {
+            log.warn("Invalid value {} of {}, using default {}.", value, name, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns value of given property, null if not set or blank.
+     * 
+     * @param properties
+     *            the properties
+     * @param name
+     *            the property name
+     * @return the value
+     */
+    private static String getProperty(Map<String, Object> properties, String name)
+    {
+        Object value = properties != null ? properties.get(name) : null;
+        return value == null || value.toString().trim().isEmpty() ? null : value.toString().trim();
+    }
+
     /**
      * Gets the single instance of LuceneIndexer.
      * 
@@ -147,14 +352,34 @@ public class LuceneIndexer extends DocumentIndexer
      *            the luc dir path
      * @return single instance of LuceneIndexer
      */
-    public static synchronized LuceneIndexer getInstance(String lucDirPath)
+    public static LuceneIndexer getInstance(String lucDirPath)
+    {
+        return getInstance(lucDirPath, null);
+    }
+
+    /**
+     * Gets the single instance of LuceneIndexer. Properties are used by first
+     * call only, as instance is shared. Every call must be paired with a
+     * {@link #close()}, which releases the instance.
+     * 
+     * @param lucDirPath
+     *            the luc dir path
+     * @param properties
+     *            the indexer properties
+     * @return single instance of LuceneIndexer
+     */
+    public static synchronized LuceneIndexer getInstance(String lucDirPath, Map<String, Object> properties)
     {
         // super(analyzer);
         if (indexer == null && lucDirPath != null)
         {
-            indexer = new LuceneIndexer(lucDirPath);
+            indexer = new LuceneIndexer(lucDirPath, properties);
 
         }
+        if (indexer != null)
+        {
+            users++;
+        }
         return indexer;
     }
 
@@ -169,36 +394,35 @@ public class LuceneIndexer extends DocumentIndexer
     }
 
     /**
-     * Returns default index reader.
+     * Acquires searcher, refreshing it first if index is modified and searcher
+     * is not refreshed in background. Searcher must be released after use.
      * 
-     * @return index reader.
+     * @return index searcher.
      */
-    private IndexReader getIndexReader()
+    private IndexSearcher acquireSearcher() throws IOException
     {
-        // removed flushInternal() call while reading
-        if (reader == null)
+        if (refreshInterval <= 0 && stale)
         {
-            try
-            {
-                if (!isInitialized)
-                {
-                    Directory sourceDir = FSDirectory.open(getIndexDirectory().toPath());
-                    copy(sourceDir, index);
-                    isInitialized = true;
-                }
-                reader = DirectoryReader.open(index);
-            }
-            catch (IndexNotFoundException infex)
-            {
-                log.warn("No index found in given directory, caused by:", infex.getMessage());
-            }
-            catch (Exception e)
-            {
-                log.error("Error while instantiating LuceneIndexer, Caused by :.", e);
-                throw new LuceneIndexingException(e);
-            }
+            stale = false;
+            searcherManager.maybeRefreshBlocking();
         }
-        return reader;
+        return searcherManager.acquire();
+    }
+
+    /**
+     * Parses given lucene query, as used to delete documents.
+     * 
+     * @param luceneQuery
+     *            the lucene query
+     * @return the query
+     */
+    private Query parseQuery(String luceneQuery) throws ParseException
+    {
+        QueryParser qp = new QueryParser(DEFAULT_SEARCHABLE_FIELD, new StandardAnalyzer());
+
+        qp.setLowercaseExpandedTerms(false);
+        qp.setAllowLeadingWildcard(true);
+        return qp.parse(luceneQuery);
     }
 
     /**
@@ -243,24 +467,23 @@ public class LuceneIndexer extends DocumentIndexer
 
         try
         {
-            QueryParser qp = new QueryParser(DEFAULT_SEARCHABLE_FIELD, new StandardAnalyzer());
-
-            qp.setLowercaseExpandedTerms(false);
-            qp.setAllowLeadingWildcard(true);
-            luceneQuery = getLuceneQuery(metadata, id, isEmbeddedId, metaModel, parentClazz);
-            Query q = qp.parse(luceneQuery);
-
-            w.deleteDocuments(q);
-            w.commit();
-            w.close();
-            IndexWriterConfig indexWriterConfig = new IndexWriterConfig(analyzer);
-            LogDocMergePolicy logDocMergePolicy = new LogDocMergePolicy();
-            logDocMergePolicy.setMergeFactor(1000);
-            indexWriterConfig.setMergePolicy(logDocMergePolicy);
-            w = new IndexWriter(index, indexWriterConfig);
-
-            w.getConfig().setRAMBufferSizeMB(32);
-            // flushInternal();
+            if (parentClazz == null)
+            {
+                Object key = isEmbeddedId ? KunderaCoreUtils.prepareCompositeKey(metadata.getIdAttribute(),
+                        metaModel, id) : id;
+                w.deleteDocuments(new Term(IndexingConstants.ENTITY_UID_FIELD, getKunderaId(metadata, key)));
+                if (legacyIndex)
+                {
+                    // may be indexed without kundera id, match by class and id.
+                    w.deleteDocuments(parseQuery(getLuceneQuery(metadata, id, isEmbeddedId, metaModel, null)));
+                }
+            }
+            else
+            {
+                luceneQuery = getLuceneQuery(metadata, id, isEmbeddedId, metaModel, parentClazz);
+                w.deleteDocuments(parseQuery(luceneQuery));
+            }
+            onCommit();
         }
         catch (Exception e)
         {
@@ -385,8 +608,6 @@ public class LuceneIndexer extends DocumentIndexer
                     metadata.getPersistenceUnit());
             isEmbeddedId = metaModel.isEmbeddable(metadata.getIdAttribute().getBindableJavaType());
         }
-        reader = getIndexReader();
-
         if (Constants.INVALID == count)
         {
             count = 100;
@@ -400,15 +621,8 @@ public class LuceneIndexer extends DocumentIndexer
         // Set<String> entityIds = new HashSet<String>();
         Map<String, Object> indexCol = new HashMap<String, Object>();
 
-        if (reader == null)
-        {
-
-            return indexCol;
-            // throw new
-            // LuceneIndexingException("Index reader is not initialized!");
-        }
         QueryParser qp = null;
-        IndexSearcher searcher = new IndexSearcher(reader);
+        IndexSearcher searcher = null;
 
         qp = new QueryParser(DEFAULT_SEARCHABLE_FIELD, new StandardAnalyzer());
 
@@ -420,6 +634,8 @@ public class LuceneIndexer extends DocumentIndexer
             // qp.set
             Query q = qp.parse(luceneQuery);
 
+            searcher = acquireSearcher();
+
             TopDocs docs = searcher.search(q, count);
 
             int nullCount = 0;
@@ -455,8 +671,11 @@ public class LuceneIndexer extends DocumentIndexer
             log.error("Error while parsing Lucene Query {} ", luceneQuery, e);
             throw new LuceneIndexingException(e);
         }
+        finally
+        {
+            release(searcher);
+        }
 
-        reader = null;
         return indexCol;
     }
 
@@ -530,48 +749,162 @@ public class LuceneIndexer extends DocumentIndexer
     }
 
     /**
-     * Flush internal.
+     * Replaces documents having kundera id of given document with it.
+     * Documents indexed by an older version without kundera id are matched by
+     * entity class and id instead.
+     * 
+     * @param metadata
+     *            the metadata
+     * @param metaModel
+     *            the meta model
+     * @param entity
+     *            the entity
+     * @param document
+     *            the document
      */
-    private void flushInternal()
+    private void updateDocument(EntityMetadata metadata, MetamodelImpl metaModel, Object entity, Document document)
     {
+        if (log.isDebugEnabled())
+        {
+            log.debug("Updating indexed document: {} for in file system using Lucene", document);
+        }
+
         try
         {
-            if (w != null && readyForCommit)
+            Term term = new Term(IndexingConstants.ENTITY_UID_FIELD, document.get(IndexingConstants.ENTITY_UID_FIELD));
+            if (legacyIndex)
             {
-                // w.optimize();
-                w.commit();
-                copy(index, FSDirectory.open(getIndexDirectory().toPath()));
-                readyForCommit = false;
-                reader = null;
-                isInitialized = false;
+                // may be indexed without kundera id, match by class and id.
+                Object id = PropertyAccessorHelper.getId(entity, metadata);
+                boolean isEmbeddedId = metaModel.isEmbeddable(metadata.getIdAttribute().getBindableJavaType());
+                getIndexWriter().deleteDocuments(
+                        parseQuery(getLuceneQuery(metadata, id, isEmbeddedId, metaModel, null)));
             }
+            getIndexWriter().updateDocument(term, document);
+        }
+        catch (IOException ioe)
+        {
+            log.error("Error while updating document {} into Lucene, Caused by:{} ", document, ioe);
+            throw new LuceneIndexingException("Error while updating document " + document + " into Lucene.", ioe);
+        }
+        catch (ParseException pe)
+        {
+            log.error("Error while updating document {} into Lucene, Caused by:{} ", document, pe);
+            throw new LuceneIndexingException("Error while updating document " + document + " into Lucene.", pe);
         }
+    }
 
-        catch (Exception e)
+    /**
+     * Releases acquired searcher.
+     * 
+     * @param searcher
+     *            the searcher, may be null.
+     */
+    private void release(IndexSearcher searcher)
+    {
+        if (searcher != null)
         {
-            log.error("Error while Flushing Lucene Indexes, Caused by: ", e);
-            throw new LuceneIndexingException("Error while Flushing Lucene Indexes", e);
+            try
+            {
+                searcherManager.release(searcher);
+            }
+            catch (IOException e)
+            {
+                log.warn("Error while releasing Lucene searcher, Caused by: ", e);
+            }
         }
     }
 
     /**
-     * Close of transaction.
+     * Commits changes made since last commit.
      */
-    public void close()
+    private synchronized void commit()
     {
         try
         {
-            if (w != null && readyForCommit)
+            if (w != null && w.hasUncommittedChanges())
             {
+                uncommitted.set(0);
                 w.commit();
-                copy(index, FSDirectory.open(getIndexDirectory().toPath()));
             }
         }
-
         catch (Exception e)
         {
-            log.error("Error while closing lucene indexes, Caused by: ", e);
-            throw new LuceneIndexingException("Error while closing lucene indexes.", e);
+            log.error("Error while committing Lucene Indexes, Caused by: ", e);
+            throw new LuceneIndexingException("Error while committing Lucene Indexes", e);
+        }
+    }
+
+    /**
+     * Close of transaction, commits pending changes. Writer is kept open, as
+     * instance is shared, and is closed along with searcher and scheduler once
+     * last user of instance closes it. A later {@link #getInstance} opens the
+     * index again.
+     */
+    public void close()
+    {
+        synchronized (LuceneIndexer.class)
+        {
+            commit();
+            if (indexer == this && --users <= 0)
+            {
+                shutdown();
+            }
+        }
+    }
+
+    /**
+     * Stops scheduler and closes searcher, writer and directory of shared
+     * instance. In memory index is saved to index home directory.
+     */
+    private static void shutdown()
+    {
+        if (scheduler != null)
+        {
+            scheduler.shutdown();
+            try
+            {
+                scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try
+        {
+            searcherManager.close();
+            w.close();
+            if (index instanceof RAMDirectory)
+            {
+                FSDirectory to = FSDirectory.open(indexer.getIndexDirectory().toPath());
+                try
+                {
+                    copy(index, to);
+                }
+                finally
+                {
+                    to.close();
+                }
+            }
+            index.close();
+        }
+        catch (IOException e)
+        {
+            log.warn("Error while closing Lucene indexes, Caused by: ", e);
+        }
+        finally
+        {
+            scheduler = null;
+            searcherManager = null;
+            w = null;
+            index = null;
+            indexer = null;
+            users = 0;
+            stale = false;
+            legacyIndex = false;
+            uncommitted.set(0);
         }
     }
 
@@ -689,7 +1022,6 @@ public class LuceneIndexer extends DocumentIndexer
     private Document updateOrCreateIndex(EntityMetadata metadata, final MetamodelImpl metaModel, Object entity,
             String parentId, Class<?> clazz, boolean isUpdate)
     {
-        boolean isEmbeddedId = metaModel.isEmbeddable(metadata.getIdAttribute().getBindableJavaType());
         if (!metadata.isIndexable())
         {
             return null;
@@ -752,8 +1084,7 @@ public class LuceneIndexer extends DocumentIndexer
         }
         else
         {
-            document = updateOrCreateIndexNonSuperColumnFamily(metadata, metaModel, entity, parentId, clazz, isUpdate,
-                    isEmbeddedId, rowKey);
+            document = updateOrCreateIndexNonSuperColumnFamily(metadata, metaModel, entity, parentId, clazz, isUpdate);
         }
         return document;
 
@@ -768,12 +1099,10 @@ public class LuceneIndexer extends DocumentIndexer
      * @param parentId
      * @param clazz
      * @param isUpdate
-     * @param isEmbeddedId
-     * @param rowKey
      * @return
      */
     private Document updateOrCreateIndexNonSuperColumnFamily(EntityMetadata metadata, final MetamodelImpl metaModel,
-            Object entity, String parentId, Class<?> clazz, boolean isUpdate, boolean isEmbeddedId, Object rowKey)
+            Object entity, String parentId, Class<?> clazz, boolean isUpdate)
     {
 
         Document document = new Document();
@@ -789,21 +1118,8 @@ public class LuceneIndexer extends DocumentIndexer
         addParentKeyToDocument(parentId, document, clazz);
         if (isUpdate)
         {
-            if (isEmbeddedId)
-            {
-                // updating delimited composite key
-                String compositeId = KunderaCoreUtils.prepareCompositeKey(metadata.getIdAttribute(), metaModel, rowKey);
-                updateDocument(compositeId, document, null);
-                // updating sub parts of composite key
-                EmbeddableType embeddableId = metaModel.embeddable(metadata.getIdAttribute().getBindableJavaType());
-                Set<Attribute> embeddedAttributes = embeddableId.getAttributes();
-
-                updateOrCreateIndexEmbeddedIdFields(embeddedAttributes, metaModel, document, metadata, rowKey);
-            }
-            else
-            {
-                updateDocument(rowKey.toString(), document, null);
-            }
+            // replaces document by kundera id, composite keys included.
+            updateDocument(metadata, metaModel, entity, document);
         }
         else
         {
@@ -812,37 +1128,6 @@ public class LuceneIndexer extends DocumentIndexer
         return document;
     }
 
-    private void updateOrCreateIndexEmbeddedIdFields(Set<Attribute> embeddedAttributes, MetamodelImpl metaModel,
-            Document document, EntityMetadata metadata, Object rowKey)
-    {
-        try
-        {
-            for (Attribute attribute : embeddedAttributes)
-            {
-                if (!ReflectUtils.isTransientOrStatic((Field) attribute.getJavaMember()))
-                {
-                    if (metaModel.isEmbeddable(attribute.getJavaType()))
-                    {
-                        EmbeddableType embeddable = metaModel.embeddable(attribute.getJavaType());
-                        updateOrCreateIndexEmbeddedIdFields(embeddable.getAttributes(), metaModel, document, metadata,
-                                ((Field) attribute.getJavaMember()).get(rowKey));
-                    }
-                    else
-                    {
-                        String columnName = ((AbstractAttribute) attribute).getJPAColumnName();
-                        Object embeddedColumn = PropertyAccessorHelper.getObject(rowKey,
-                                (Field) attribute.getJavaMember());
-                        updateDocument(embeddedColumn.toString(), document, columnName);
-                    }
-                }
-            }
-        }
-        catch (IllegalAccessException e)
-        {
-            log.error(e.getMessage());
-        }
-    }
-
     /**
      * update or create indexes when embedded object is of collection type
      * 
@@ -932,28 +1217,16 @@ public class LuceneIndexer extends DocumentIndexer
     }
 
     /**
-     * On commit.
+     * On change, marks searcher stale and commits if enough changes are
+     * pending.
      */
     private void onCommit()
     {
-        // TODO: Sadly this required to keep lucene happy, in case of indexing
-        // and searching with same entityManager.
-        // Other alternative would be to issue flush on each search
-        // try
-        // {
-        // w.commit();
-        isInitialized = true;
-        readyForCommit = true;
-        // }
-        // catch (CorruptIndexException e)
-        // {
-        // throw new IndexingException(e.getMessage());
-        // }
-        // catch (IOException e)
-        // {
-        // throw new IndexingException(e.getMessage());
-        // }
-        flushInternal();
+        stale = true;
+        if (commitBatchSize > 0 && uncommitted.incrementAndGet() >= commitBatchSize)
+        {
+            commit();
+        }
     }
 
     @Override
@@ -975,11 +1248,29 @@ public class LuceneIndexer extends DocumentIndexer
         throw new UnsupportedOperationException("Method not supported");
     }
 
-    private void copy(Directory src, Directory to) throws IOException
+    /**
+     * Replaces index files of a directory with files of another.
+     * 
+     * @param src
+     *            the source directory
+     * @param to
+     *            the target directory
+     */
+    private static void copy(Directory src, Directory to) throws IOException
     {
+        for (String file : to.listAll())
+        {
+            if (!IndexWriter.WRITE_LOCK_NAME.equals(file))
+            {
+                to.deleteFile(file);
+            }
+        }
         for (String file : src.listAll())
         {
-            src.copyFrom(src, file, to.toString(), IOContext.DEFAULT);
+            if (!IndexWriter.WRITE_LOCK_NAME.equals(file))
+            {
+                to.copyFrom(src, file, file, IOContext.DEFAULT);
+            }
         }
     }
 
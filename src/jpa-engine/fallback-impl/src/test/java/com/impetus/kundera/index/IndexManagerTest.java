@@ -104,6 +104,7 @@ public class IndexManagerTest
         {
             Assert.fail();
         }
+        indexer.close();
     }
 
 
@@ -136,7 +137,7 @@ public class IndexManagerTest
         Map<String, Object> results = ixManager.search(metadata.getEntityClazz(), luceneQuery, 0, 10, false);
         
         Assert.assertFalse(results.isEmpty());
-        
+        indexer.close();
     }
     
     @Test
@@ -200,6 +201,8 @@ public class IndexManagerTest
     @After
     public void tearDown()
     {
+        em.close();
+        emf.close();
         LuceneCleanupUtilities.cleanDir(LUCENE_DIR_PATH);
     }
 
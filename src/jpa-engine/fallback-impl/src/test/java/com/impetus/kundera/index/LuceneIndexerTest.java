@@ -15,6 +15,8 @@
  ******************************************************************************/
 package com.impetus.kundera.index;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +25,13 @@ import javax.persistence.Persistence;
 
 import junit.framework.Assert;
 
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +40,7 @@ import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.MetamodelImpl;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
 import com.impetus.kundera.query.Person;
 import com.impetus.kundera.query.Person.Day;
 import com.impetus.kundera.utils.LuceneCleanupUtilities;
@@ -145,6 +155,159 @@ public class LuceneIndexerTest
         indexer.close();
     }
 
+    @Test
+    public void testUpdateAndUnindex()
+    {
+        LuceneIndexer indexer = LuceneIndexer.getInstance(LUCENE_DIR_PATH);
+        KunderaMetadata kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel("patest");
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, Person.class);
+
+        Person p = new Person();
+        p.setAge(41);
+        p.setDay(Day.MONDAY);
+        p.setPersonId("Person_U1");
+        indexer.index(metadata, metaModel, p);
+
+        // changes are searchable without commit.
+        String query = "+Person.AGE:41 AND +entity.class:com.impetus.kundera.query.Person";
+        Assert.assertEquals(1, indexer.search(query, 0, 10, false, kunderaMetadata, metadata).size());
+
+        p.setAge(42);
+        indexer.update(metadata, metaModel, p, p.getPersonId(), null);
+        Assert.assertTrue(indexer.search(query, 0, 10, false, kunderaMetadata, metadata).isEmpty());
+        String updatedQuery = "+Person.AGE:42 AND +entity.class:com.impetus.kundera.query.Person";
+        Assert.assertEquals(1, indexer.search(updatedQuery, 0, 10, false, kunderaMetadata, metadata).size());
+
+        indexer.unindex(metadata, p.getPersonId(), kunderaMetadata, null);
+        Assert.assertTrue(indexer.search(updatedQuery, 0, 10, false, kunderaMetadata, metadata).isEmpty());
+
+        indexer.close();
+    }
+
+    @Test
+    public void testUpdateAndUnindexWithoutKunderaId() throws IOException
+    {
+        // index created by an older version, without kundera id marker.
+        emf.close();
+        LuceneCleanupUtilities.cleanDir(LUCENE_DIR_PATH);
+        Directory directory = FSDirectory.open(new File(LUCENE_DIR_PATH).toPath());
+        IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()));
+        writer.commit();
+        writer.close();
+        directory.close();
+        emf = Persistence.createEntityManagerFactory("patest");
+
+        LuceneIndexer indexer = LuceneIndexer.getInstance(LUCENE_DIR_PATH);
+        KunderaMetadata kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel("patest");
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, Person.class);
+
+        Person p = new Person();
+        p.setAge(51);
+        p.setDay(Day.MONDAY);
+        p.setPersonId("Person_L1");
+        indexLegacyDocument(indexer, metadata, metaModel, p);
+
+        p.setAge(52);
+        indexer.update(metadata, metaModel, p, p.getPersonId(), null);
+        String query = "+Person.AGE:51 AND +entity.class:com.impetus.kundera.query.Person";
+        Assert.assertTrue(indexer.search(query, 0, 10, false, kunderaMetadata, metadata).isEmpty());
+        String updatedQuery = "+Person.AGE:52 AND +entity.class:com.impetus.kundera.query.Person";
+        Assert.assertEquals(1, indexer.search(updatedQuery, 0, 10, false, kunderaMetadata, metadata).size());
+
+        Person other = new Person();
+        other.setAge(53);
+        other.setDay(Day.MONDAY);
+        other.setPersonId("Person_L2");
+        indexLegacyDocument(indexer, metadata, metaModel, other);
+
+        indexer.unindex(metadata, other.getPersonId(), kunderaMetadata, null);
+        String otherQuery = "+Person.AGE:53 AND +entity.class:com.impetus.kundera.query.Person";
+        Assert.assertTrue(indexer.search(otherQuery, 0, 10, false, kunderaMetadata, metadata).isEmpty());
+
+        indexer.close();
+    }
+
+    @Test
+    public void testCloseSharedInstance()
+    {
+        KunderaMetadata kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel("patest");
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, Person.class);
+        String query = "+Person.AGE:61 AND +entity.class:com.impetus.kundera.query.Person";
+
+        LuceneIndexer indexer = LuceneIndexer.getInstance(LUCENE_DIR_PATH);
+        LuceneIndexer shared = LuceneIndexer.getInstance(LUCENE_DIR_PATH);
+        Assert.assertSame(indexer, shared);
+        indexer.close();
+
+        // still open for other user.
+        Person p = new Person();
+        p.setAge(61);
+        p.setDay(Day.FRIDAY);
+        p.setPersonId("Person_C1");
+        shared.index(metadata, metaModel, p);
+        Assert.assertEquals(1, shared.search(query, 0, 10, false, kunderaMetadata, metadata).size());
+        shared.close();
+
+        // opened again, if closed by last user.
+        LuceneIndexer reopened = LuceneIndexer.getInstance(LUCENE_DIR_PATH);
+        Assert.assertEquals(1, reopened.search(query, 0, 10, false, kunderaMetadata, metadata).size());
+        reopened.close();
+    }
+
+    @Test
+    public void testSaveInMemoryIndexOnClose() throws IOException
+    {
+        KunderaMetadata kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel("patest");
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, Person.class);
+
+        LuceneIndexer indexer = LuceneIndexer.getInstance(LUCENE_DIR_PATH);
+        Person p = new Person();
+        p.setAge(71);
+        p.setDay(Day.SUNDAY);
+        p.setPersonId("Person_S1");
+        indexer.index(metadata, metaModel, p);
+        indexer.close();
+        emf.close();
+
+        // saved with marker of kundera id, so it is not a legacy index.
+        Directory directory = FSDirectory.open(new File(LUCENE_DIR_PATH).toPath());
+        try
+        {
+            Assert.assertEquals(Boolean.TRUE.toString(),
+                    SegmentInfos.readLatestCommit(directory).getUserData().get(LuceneIndexer.KUNDERA_ID_MARKER));
+        }
+        finally
+        {
+            directory.close();
+        }
+
+        emf = Persistence.createEntityManagerFactory("patest");
+        kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, Person.class);
+        LuceneIndexer reopened = LuceneIndexer.getInstance(LUCENE_DIR_PATH);
+        Assert.assertNotSame(indexer, reopened);
+        String query = "+Person.AGE:71 AND +entity.class:com.impetus.kundera.query.Person";
+        Assert.assertEquals(1, reopened.search(query, 0, 10, false, kunderaMetadata, metadata).size());
+        reopened.close();
+    }
+
+    /**
+     * Indexes entity as older versions did, without kundera id.
+     */
+    private void indexLegacyDocument(LuceneIndexer indexer, EntityMetadata metadata, MetamodelImpl metaModel,
+            Person p)
+    {
+        Document document = new Document();
+        indexer.addEntityClassToDocument(metadata, p, document, metaModel);
+        indexer.addEntityFieldsToDocument(metadata, p, document, metaModel);
+        document.removeField(IndexingConstants.ENTITY_UID_FIELD);
+        indexer.indexDocument(metadata, document);
+    }
+
     @Test
     public void testOnUnsupportedMethods()
     {
@@ -183,11 +346,13 @@ public class LuceneIndexerTest
             Assert.assertNotNull(uoex);
         }
 
+        indexer.close();
     }
 
     @After
     public void tearDown()
     {
+        emf.close();
         LuceneCleanupUtilities.cleanDir(LUCENE_DIR_PATH);
     }
 
@@ -41,6 +41,7 @@ import com.impetus.kundera.CoreTestUtilities;
 import com.impetus.kundera.client.Client;
 import com.impetus.kundera.client.DummyDatabase;
 import com.impetus.kundera.metadata.model.ApplicationMetadata;
+import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
 import com.impetus.kundera.persistence.PersistenceDelegator;
@@ -464,8 +465,11 @@ public class QueryImplTest
     public void tearDown()
     {
         DummyDatabase.INSTANCE.dropDatabase();
-        LuceneCleanupUtilities.cleanLuceneDirectory(((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance()
-                .getApplicationMetadata().getPersistenceUnitMetadata(PU));
+        PersistenceUnitMetadata puMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance()
+                .getApplicationMetadata().getPersistenceUnitMetadata(PU);
+        em.close();
+        emf.close();
+        LuceneCleanupUtilities.cleanLuceneDirectory(puMetadata);
     }
 
     /**
@@ -74,6 +74,7 @@ import org.slf4j.LoggerFactory;
 
 import com.impetus.client.cassandra.common.CassandraConstants;
 import com.impetus.client.cassandra.common.CassandraUtilities;
+import com.impetus.client.cassandra.common.TimeUUIDGenerator;
 import com.impetus.client.cassandra.config.CassandraPropertyReader;
 import com.impetus.client.cassandra.datahandler.CassandraDataHandler;
 import com.impetus.client.cassandra.schemamanager.CassandraDataTranslator;
@@ -1137,8 +1138,10 @@ public abstract class CassandraClientBase extends ClientBase implements ClientPr
     {
         List<String> insert_Queries = new ArrayList<String>();
         CQLTranslator translator = new CQLTranslator();
+        // insert is an upsert, on partial update only modified columns are
+        // written.
         HashMap<TranslationType, Map<String, StringBuilder>> translation = translator.prepareColumnOrColumnValues(
-                entity, entityMetadata, TranslationType.ALL, externalProperties, kunderaMetadata);
+                entity, entityMetadata, TranslationType.ALL, externalProperties, kunderaMetadata, modifiedAttributes);
 
         Map<String, StringBuilder> columnNamesMap = translation.get(TranslationType.COLUMN);
         Map<String, StringBuilder> columnValuesMap = translation.get(TranslationType.VALUE);
@@ -1409,6 +1412,16 @@ public abstract class CassandraClientBase extends ClientBase implements ClientPr
         return !closed;
     }
 
+    /**
+     * Gets generator of time based uuids for auto generated ids.
+     * 
+     * @return the time uuid generator
+     */
+    public TimeUUIDGenerator getTimeUUIDGenerator()
+    {
+        return TimeUUIDGenerator.getInstance();
+    }
+
     /**
      * Gets the consistency level.
      * 
@@ -1434,7 +1447,29 @@ public abstract class CassandraClientBase extends ClientBase implements ClientPr
      */
     protected String onDeleteQuery(EntityMetadata metadata, String tableName, MetamodelImpl metaModel, Object keyObject)
     {
-        CQLTranslator translator = new CQLTranslator();
+        return onDeleteQuery(metadata, tableName, metaModel, keyObject, null);
+    }
+
+    /**
+     * On delete query, with key values bound to markers if bound values are
+     * given.
+     * 
+     * @param metadata
+     *            the metadata
+     * @param tableName
+     *            the table name
+     * @param metaModel
+     *            the meta model
+     * @param keyObject
+     *            the compound key object
+     * @param boundValues
+     *            list to collect bound values into, null to inline values.
+     * @return the string
+     */
+    protected String onDeleteQuery(EntityMetadata metadata, String tableName, MetamodelImpl metaModel,
+            Object keyObject, List<Object> boundValues)
+    {
+        CQLTranslator translator = new CQLTranslator(boundValues);
         String deleteQuery = CQLTranslator.DELETE_QUERY;
 
         deleteQuery = StringUtils.replace(deleteQuery, CQLTranslator.COLUMN_FAMILY,
@@ -1558,6 +1593,32 @@ public abstract class CassandraClientBase extends ClientBase implements ClientPr
      */
     public abstract List executeQuery(Class clazz, List<String> relationalField, boolean isNative, String cqlQuery);
 
+    /**
+     * Executes query with values bound to its markers. Clients not supporting
+     * prepared statements execute only queries without bound values.
+     * 
+     * @param clazz
+     *            the clazz
+     * @param relationalField
+     *            the relational field
+     * @param isNative
+     *            the is native
+     * @param cqlQuery
+     *            the cql query
+     * @param boundValues
+     *            values in order of bind markers, may be null.
+     * @return the list
+     */
+    public List executeQuery(Class clazz, List<String> relationalField, boolean isNative, String cqlQuery,
+            List<Object> boundValues)
+    {
+        if (boundValues != null && !boundValues.isEmpty())
+        {
+            throw new UnsupportedOperationException("Bound values are not supported by " + getClass().getSimpleName());
+        }
+        return executeQuery(clazz, relationalField, isNative, cqlQuery);
+    }
+
     /**
      * Find.
      * 
@@ -1761,6 +1822,7 @@ public abstract class CassandraClientBase extends ClientBase implements ClientPr
                     }
                     persistenceUnit = metadata.getPersistenceUnit();
                     isUpdate = node.isUpdate();
+                    modifiedAttributes = null;
 
                     MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
                             metadata.getPersistenceUnit());
@@ -16,9 +16,7 @@
 package com.impetus.client.cassandra;
 
 import java.nio.ByteBuffer;
-import java.util.UUID;
 
-import org.apache.cassandra.db.marshal.TimeUUIDType;
 import org.apache.cassandra.thrift.Cassandra;
 import org.apache.cassandra.thrift.ColumnParent;
 import org.apache.cassandra.thrift.ColumnPath;
@@ -48,9 +46,6 @@ import com.impetus.kundera.metadata.model.TableGeneratorDiscriptor;
 public class CassandraIdGenerator implements AutoGenerator, TableGenerator
 {
 
-    /** The Constant SYSTEM. */
-    private static final String SYSTEM = "system";
-
     /** The Constant UUID. */
     private static final String UUID = "uuid";
 
@@ -67,17 +62,10 @@ public class CassandraIdGenerator implements AutoGenerator, TableGenerator
     @Override
     public Object generate(Client<?> client, String dataType)
     {
-        CqlResult cqlResult = ((CassandraClientBase) client).execute("SELECT NOW() FROM system_schema.columns LIMIT 1",
-                ((CassandraClientBase) client).getRawClient(SYSTEM));
-
-        CqlRow cqlRow = cqlResult.getRowsIterator().next();
-        TimeUUIDType t = TimeUUIDType.instance;
-        UUID timeUUID = t.compose(ByteBuffer.wrap(cqlRow.getColumns().get(0).getValue()));
-
         switch (dataType.toLowerCase())
         {
         case UUID:
-            return timeUUID;
+            return ((CassandraClientBase) client).getTimeUUIDGenerator().generate();
 
         default:
             return java.util.UUID.randomUUID();
@@ -16,6 +16,7 @@
 package com.impetus.client.cassandra.common;
 
 import java.util.Map;
+import java.util.UUID;
 
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
@@ -41,9 +42,15 @@ public abstract class CassandraClientFactory extends GenericClientFactory
     /** The logger. */
     private static Logger logger = LoggerFactory.getLogger(CassandraClientFactory.class);
 
+    /** Maximum tolerated skew between local and server clock, in millis. */
+    private static final long MAX_CLOCK_SKEW = 1000;
+
     /** The Timestamp Generator. */
     protected TimestampGenerator timestampGenerator = new DefaultTimestampGenerator();;
 
+    /** The time uuid generator. */
+    protected TimeUUIDGenerator timeUUIDGenerator = TimeUUIDGenerator.getInstance();
+
     /**
      * Add cassandra host.
      * 
@@ -82,4 +89,82 @@ public abstract class CassandraClientFactory extends GenericClientFactory
             }
         }
     }
+
+    /**
+     * Initialize time uuid generator, with node id if configured.
+     * 
+     * @param externalProperty
+     */
+    protected void initializeTimeUUIDGenerator(Map<String, Object> externalProperty)
+    {
+        String node = getProperty(externalProperty, CassandraConstants.UUID_NODE);
+        if (!StringUtils.isBlank(node))
+        {
+            timeUUIDGenerator = new TimeUUIDGenerator(Long.decode(node.trim()));
+        }
+    }
+
+    /**
+     * Returns true, if locally generated time uuids are to be verified against
+     * server.
+     * 
+     * @param externalProperty
+     * @return true, if verification is enabled
+     */
+    protected boolean isTimeUUIDVerificationEnabled(Map<String, Object> externalProperty)
+    {
+        return Boolean.parseBoolean(getProperty(externalProperty, CassandraConstants.UUID_VERIFY));
+    }
+
+    /**
+     * Verifies locally generated time uuids against a time uuid generated by
+     * server, warns if clocks differ beyond tolerance.
+     * 
+     * @param serverUUID
+     *            time uuid generated by server, using now().
+     */
+    protected void verifyTimeUUIDGenerator(UUID serverUUID)
+    {
+        UUID localUUID = timeUUIDGenerator.generate();
+        if (serverUUID.version() != localUUID.version())
+        {
+            throw new KunderaException("Server generated uuid " + serverUUID + " is not time based.");
+        }
+
+        long skew = Math.abs(TimeUUIDGenerator.getUnixTimestamp(localUUID)
+                - TimeUUIDGenerator.getUnixTimestamp(serverUUID));
+        if (skew > MAX_CLOCK_SKEW)
+        {
+            logger.warn("Local clock differs from server clock by {} ms, locally generated time uuids may be out of"
+                    + " order with server generated ones.", skew);
+        }
+    }
+
+    /**
+     * Gets the time uuid generator.
+     * 
+     * @return the time uuid generator
+     */
+    public TimeUUIDGenerator getTimeUUIDGenerator()
+    {
+        return timeUUIDGenerator;
+    }
+
+    /**
+     * Gets property from external properties, else from datastore properties.
+     * 
+     * @param externalProperty
+     * @param name
+     * @return the property value
+     */
+    private String getProperty(Map<String, Object> externalProperty, String name)
+    {
+        String value = externalProperty != null ? (String) externalProperty.get(name) : null;
+        if (value == null)
+        {
+            value = CassandraPropertyReader.csmd != null ? CassandraPropertyReader.csmd.getDatastoreProperties()
+                    .getProperty(name, null) : null;
+        }
+        return value;
+    }
 }
@@ -95,4 +95,10 @@ public interface CassandraConstants
     public static final String SOCKET_TIMEOUT = "socket.timeout";
 
     public static final String MAX_WAIT = "max.wait";
+
+    /** Node id of locally generated time uuids. */
+    public static final String UUID_NODE = "uuid.node";
+
+    /** Whether to verify local time uuids against server clock at startup. */
+    public static final String UUID_VERIFY = "uuid.verify";
 }
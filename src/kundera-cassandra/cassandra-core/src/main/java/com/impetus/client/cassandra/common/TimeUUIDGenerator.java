@@ -0,0 +1,168 @@
+/*******************************************************************************
+ *  * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.cassandra.common;
+
+import java.net.NetworkInterface;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Enumeration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates time based (version 1) UUIDs locally, as Cassandra's now() does.
+ * Timestamps are strictly increasing within a generator, so generated UUIDs
+ * are unique and ordered even if many are generated per millisecond or system
+ * clock goes backwards. Generator is thread safe.
+ */
+public final class TimeUUIDGenerator
+{
+    /** The logger. */
+    private static final Logger logger = LoggerFactory.getLogger(TimeUUIDGenerator.class);
+
+    /** Offset between UUID epoch (1582-10-15) and unix epoch, in 100ns. */
+    private static final long UUID_EPOCH_OFFSET = 0x01B21DD213814000L;
+
+    /** Number of 100ns intervals per millisecond. */
+    private static final long INTERVALS_PER_MILLI = 10000L;
+
+    /** Shared instance, with node derived from network interfaces. */
+    private static final TimeUUIDGenerator INSTANCE = new TimeUUIDGenerator(defaultNode());
+
+    /** Last generated timestamp, in 100ns since UUID epoch. */
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    /** Least significant bits, holding variant, clock sequence and node. */
+    private final long leastSigBits;
+
+    /**
+     * Instantiates a new time uuid generator.
+     *
+     * @param node
+     *            node id, lower 48 bits are used.
+     */
+    public TimeUUIDGenerator(long node)
+    {
+        long clockSequence = new SecureRandom().nextInt() & 0x3FFFL;
+        this.leastSigBits = 0x8000000000000000L | (clockSequence << 48) | (node & 0xFFFFFFFFFFFFL);
+    }
+
+    /**
+     * Gets shared instance, with node id derived from hardware addresses of
+     * this host.
+     *
+     * @return the instance
+     */
+    public static TimeUUIDGenerator getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Generates a new time based UUID.
+     *
+     * @return the uuid
+     */
+    public UUID generate()
+    {
+        long timestamp = nextTimestamp();
+        long mostSigBits = (timestamp << 32) // time_low
+                | ((timestamp & 0xFFFF00000000L) >>> 16) // time_mid
+                | 0x1000L // version
+                | ((timestamp >>> 48) & 0x0FFFL); // time_hi
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns next timestamp, greater than any returned before.
+     *
+     * @return timestamp in 100ns since UUID epoch.
+     */
+    private long nextTimestamp()
+    {
+        long now = System.currentTimeMillis() * INTERVALS_PER_MILLI + UUID_EPOCH_OFFSET;
+        while (true)
+        {
+            long last = lastTimestamp.get();
+            long next = now > last ? now : last + 1;
+            if (lastTimestamp.compareAndSet(last, next))
+            {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Returns unix timestamp of given time based UUID.
+     *
+     * @param uuid
+     *            time based uuid
+     * @return milliseconds since unix epoch
+     */
+    public static long getUnixTimestamp(UUID uuid)
+    {
+        return (uuid.timestamp() - UUID_EPOCH_OFFSET) / INTERVALS_PER_MILLI;
+    }
+
+    /**
+     * Derives node id by hashing hardware addresses of network interfaces,
+     * random if none is available. Multicast bit is set as per RFC 4122 for
+     * node ids not being an IEEE 802 address.
+     *
+     * @return the node id
+     */
+    private static long defaultNode()
+    {
+        byte[] hash = null;
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            boolean found = false;
+            Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (interfaces != null && interfaces.hasMoreElements())
+            {
+                byte[] address = interfaces.nextElement().getHardwareAddress();
+                if (address != null)
+                {
+                    digest.update(address);
+                    found = true;
+                }
+            }
+            hash = found ? digest.digest() : null;
+        }
+        catch (Exception e)
+        {
+            logger.warn("Unable to read hardware addresses, using random node id for time uuids, caused by {}.",
+                    e.getMessage());
+        }
+
+        if (hash == null)
+        {
+            hash = new byte[6];
+            new SecureRandom().nextBytes(hash);
+        }
+
+        long node = 0;
+        for (int i = 0; i < 6; i++)
+        {
+            node = (node << 8) | (hash[i] & 0xFF);
+        }
+        return node | 0x010000000000L;
+    }
+}
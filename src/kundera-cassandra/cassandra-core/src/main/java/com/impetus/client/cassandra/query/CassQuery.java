@@ -143,8 +143,7 @@ public class CassQuery extends QueryImpl
         else if (!isNative && ((CassandraClientBase) client).isCql3Enabled(m)
                 && MetadataUtils.useSecondryIndex(((ClientBase) client).getClientMetadata()))
         {
-            result = ((CassandraClientBase) client).executeQuery(m.getEntityClazz(), null, isNative,
-                    onQueryOverCQL3(m, client, metaModel, null));
+            result = executeOverCQL3(m, client, metaModel, null, isNative);
         }
         else
         {
@@ -206,8 +205,7 @@ public class CassQuery extends QueryImpl
         List<Object> result = new ArrayList<Object>();
         if (((CassandraClientBase) client).isCql3Enabled(m))
         {
-            result = ((CassandraClientBase) client).executeQuery(m.getEntityClazz(), m.getRelationNames(), false,
-                    onQueryOverCQL3(m, client, metaModel, m.getRelationNames()));
+            result = executeOverCQL3(m, client, metaModel, m.getRelationNames(), false);
         }
         else
         {
@@ -254,9 +252,7 @@ public class CassQuery extends QueryImpl
             // check if lucene or indexer are enabled then populate
             if (MetadataUtils.useSecondryIndex(((ClientBase) client).getClientMetadata()))
             {
-                ls = ((CassandraClientBase) client).executeQuery(m.getEntityClazz(), m.getRelationNames(), isNative,
-
-                onQueryOverCQL3(m, client, metaModel, m.getRelationNames()));
+                ls = executeOverCQL3(m, client, metaModel, m.getRelationNames(), isNative);
             }
             else
             {
@@ -676,6 +672,41 @@ public class CassQuery extends QueryImpl
         }
     }
 
+    /**
+     * Executes query over composite columns, binding condition values if
+     * supported.
+     * 
+     * @param m
+     *            the m
+     * @param client
+     *            the client
+     * @param metaModel
+     *            the meta model
+     * @param relations
+     *            the relations
+     * @param isNative
+     *            the is native
+     * @return the list
+     */
+    private List executeOverCQL3(EntityMetadata m, Client client, MetamodelImpl metaModel, List<String> relations,
+            boolean isNative)
+    {
+        List<Object> boundValues = isBindingSupported() ? new ArrayList<Object>() : null;
+        String cqlQuery = onQueryOverCQL3(m, client, metaModel, relations, boundValues);
+        return ((CassandraClientBase) client).executeQuery(m.getEntityClazz(), relations, isNative, cqlQuery,
+                boundValues);
+    }
+
+    /**
+     * Returns true, if client executes queries with values bound to markers.
+     * 
+     * @return true, if binding is supported
+     */
+    protected boolean isBindingSupported()
+    {
+        return false;
+    }
+
     /**
      * On query over composite columns.
      * 
@@ -690,6 +721,28 @@ public class CassQuery extends QueryImpl
      * @return the list
      */
     public String onQueryOverCQL3(EntityMetadata m, Client client, MetamodelImpl metaModel, List<String> relations)
+    {
+        return onQueryOverCQL3(m, client, metaModel, relations, null);
+    }
+
+    /**
+     * On query over composite columns, with condition values bound to markers
+     * if bound values are given.
+     * 
+     * @param m
+     *            the m
+     * @param client
+     *            the client
+     * @param metaModel
+     *            the meta model
+     * @param relations
+     *            the relations
+     * @param boundValues
+     *            list to collect bound values into, null to inline values.
+     * @return the string
+     */
+    public String onQueryOverCQL3(EntityMetadata m, Client client, MetamodelImpl metaModel, List<String> relations,
+            List<Object> boundValues)
     {
         // select column will always be of entity field only!
         // where clause ordering
@@ -712,7 +765,7 @@ public class CassQuery extends QueryImpl
         List<String> columns = getColumnList(m, metaModel, getKunderaQuery().getResult(), compoundKey);
         String selectQuery = setSelectQuery(columns);
 
-        CQLTranslator translator = new CQLTranslator();
+        CQLTranslator translator = new CQLTranslator(boundValues);
 
         selectQuery = StringUtils.replace(selectQuery, CQLTranslator.COLUMN_FAMILY,
                 translator.ensureCase(new StringBuilder(), m.getTableName(), false).toString());
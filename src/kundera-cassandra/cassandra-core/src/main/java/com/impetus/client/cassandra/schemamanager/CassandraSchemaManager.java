@@ -132,6 +132,15 @@ public class CassandraSchemaManager extends AbstractSchemaManager implements Sch
     /** The created userTypes. */
     private List<String> createdPuEmbeddables = new ArrayList<String>();
 
+    /** Milliseconds to wait for schema agreement after schema changes. */
+    private static final long SCHEMA_AGREEMENT_TIMEOUT = 10000;
+
+    /** Schema version reported for unreachable nodes. */
+    private static final String UNREACHABLE = "UNREACHABLE";
+
+    /** Schema of keyspace read up front, null if not read or not available. */
+    private CassandraSchemaSnapshot schemaSnapshot;
+
     /**
      * Instantiates a new cassandra schema manager.
      * 
@@ -275,8 +284,52 @@ public class CassandraSchemaManager extends AbstractSchemaManager implements Sch
      */
     private void createOrUpdateKeyspace(List<TableInfo> tableInfos) throws Exception
     {
+        long start = System.currentTimeMillis();
         KsDef ksDef = onCreateKeyspace(); // create keyspace event.
+
+        // existing tables are diffed against a single read of keyspace schema.
+        schemaSnapshot = operation.equalsIgnoreCase(SchemaOperationType.update.name()) ? CassandraSchemaSnapshot
+                .read(cassandra_client, databaseName, showQuery) : null;
+        log.info("Read schema of keyspace {} in {} ms.", databaseName, System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
         createColumnFamilies(tableInfos, ksDef); // create column family event.
+        log.info("Created/updated {} tables of keyspace {} in {} ms.", new Object[] { tableInfos.size(),
+                databaseName, System.currentTimeMillis() - start });
+
+        waitForSchemaAgreement();
+        schemaSnapshot = null;
+    }
+
+    /**
+     * Waits till all reachable nodes agree on schema version, or
+     * {@link #SCHEMA_AGREEMENT_TIMEOUT} elapses. Called once after all schema
+     * changes are issued, rather than per change.
+     * 
+     * @throws Exception
+     *             the exception
+     */
+    private void waitForSchemaAgreement() throws Exception
+    {
+        long start = System.currentTimeMillis();
+        while (true)
+        {
+            Map<String, List<String>> versions = cassandra_client.describe_schema_versions();
+            int versionCount = versions.size() - (versions.containsKey(UNREACHABLE) ? 1 : 0);
+            long elapsed = System.currentTimeMillis() - start;
+            if (versionCount <= 1)
+            {
+                log.info("Schema agreement of keyspace {} reached in {} ms.", databaseName, elapsed);
+                return;
+            }
+            if (elapsed > SCHEMA_AGREEMENT_TIMEOUT)
+            {
+                log.warn("Schema agreement of keyspace {} not reached in {} ms, schema versions are {}.",
+                        new Object[] { databaseName, elapsed, versions.keySet() });
+                return;
+            }
+            Thread.sleep(200);
+        }
     }
 
     /**
@@ -425,7 +478,20 @@ public class CassandraSchemaManager extends AbstractSchemaManager implements Sch
     {
         for (TableInfo tableInfo : tableInfos)
         {
-            if (isCql3Enabled(tableInfo))
+            if (isCql3Enabled(tableInfo) && schemaSnapshot != null
+                    && schemaSnapshot.hasTable(tableInfo.getTableName()))
+            {
+                // table exists, add missing columns only.
+                for (ColumnInfo column : tableInfo.getColumnMetadatas())
+                {
+                    if (!schemaSnapshot.hasColumn(tableInfo.getTableName(), column.getColumnName()))
+                    {
+                        addColumnToTable(tableInfo, column);
+                    }
+                }
+                createIndexUsingCql(tableInfo);
+            }
+            else if (isCql3Enabled(tableInfo))
             {
                 createOrUpdateUsingCQL3(tableInfo, ksDef);
                 createIndexUsingCql(tableInfo);
@@ -655,14 +721,25 @@ public class CassandraSchemaManager extends AbstractSchemaManager implements Sch
     {
         try
         {
+            long start = System.currentTimeMillis();
             KsDef ksDef = cassandra_client.describe_keyspace(databaseName);
+            schemaSnapshot = CassandraSchemaSnapshot.read(cassandra_client, databaseName, showQuery);
+            log.info("Read schema of keyspace {} in {} ms.", databaseName, System.currentTimeMillis() - start);
+
+            start = System.currentTimeMillis();
             onValidateTables(tableInfos, ksDef);
+            log.info("Validated {} tables of keyspace {} in {} ms.", new Object[] { tableInfos.size(), databaseName,
+                    System.currentTimeMillis() - start });
         }
         catch (Exception ex)
         {
             log.error("Error occurred while validating {}, Caused by: .", databaseName, ex);
             throw new SchemaGenerationException(ex);
         }
+        finally
+        {
+            schemaSnapshot = null;
+        }
     }
 
     /**
@@ -1713,7 +1790,12 @@ public class CassandraSchemaManager extends AbstractSchemaManager implements Sch
         cassandra_client.set_keyspace(ksDef.getName());
         for (TableInfo tableInfo : tableInfos)
         {
-            if (isCql3Enabled(tableInfo) && !tableInfo.getType().equals(Type.SUPER_COLUMN_FAMILY.name()))
+            if (isCql3Enabled(tableInfo) && !tableInfo.getType().equals(Type.SUPER_COLUMN_FAMILY.name())
+                    && schemaSnapshot != null)
+            {
+                onValidateTable(tableInfo);
+            }
+            else if (isCql3Enabled(tableInfo) && !tableInfo.getType().equals(Type.SUPER_COLUMN_FAMILY.name()))
             {
                 CqlMetadata metadata = new CqlMetadata();
                 Map<ByteBuffer, String> name_types = new HashMap<ByteBuffer, String>();
@@ -1788,6 +1870,90 @@ public class CassandraSchemaManager extends AbstractSchemaManager implements Sch
         }
     }
 
+    /**
+     * Validates cql3 table against schema snapshot of keyspace.
+     * 
+     * @param tableInfo
+     *            the table info
+     */
+    private void onValidateTable(TableInfo tableInfo)
+    {
+        if (!schemaSnapshot.hasTable(tableInfo.getTableName()))
+        {
+            throw new SchemaGenerationException("Column family " + tableInfo.getTableName()
+                    + " does not exist in keyspace " + databaseName + "", "Cassandra", databaseName,
+                    tableInfo.getTableName());
+        }
+
+        if (containsCompositeKey(tableInfo))
+        {
+            for (ColumnInfo columnInfo : tableInfo.getEmbeddedColumnMetadatas().get(0).getColumns())
+            {
+                onValidateColumn(tableInfo, columnInfo.getColumnName(), getCQLType(columnInfo.getType()));
+            }
+        }
+        else
+        {
+            onValidateColumn(tableInfo, tableInfo.getIdColumnName(), getCQLType(tableInfo.getTableIdType()));
+            for (EmbeddedColumnInfo embeddedColumnInfo : tableInfo.getEmbeddedColumnMetadatas())
+            {
+                onValidateColumn(tableInfo, embeddedColumnInfo.getEmbeddedColumnName(), null);
+            }
+        }
+
+        boolean isCounterColumnType = isCounterColumnType(tableInfo, null);
+        for (ColumnInfo columnInfo : tableInfo.getColumnMetadatas())
+        {
+            onValidateColumn(tableInfo, columnInfo.getColumnName(),
+                    isCounterColumnType ? CQLTranslator.getCQLType(CounterColumnType.class.getSimpleName())
+                            : getCQLType(columnInfo.getType()));
+        }
+
+        for (CollectionColumnInfo collectionColumnInfo : tableInfo.getCollectionColumnMetadatas())
+        {
+            onValidateColumn(tableInfo, collectionColumnInfo.getCollectionColumnName(), null);
+        }
+    }
+
+    /**
+     * Validates existence and type of a cql3 column against schema snapshot
+     * of keyspace.
+     * 
+     * @param tableInfo
+     *            the table info
+     * @param columnName
+     *            the column name
+     * @param cqlType
+     *            expected cql type, null to check existence only
+     */
+    private void onValidateColumn(TableInfo tableInfo, String columnName, String cqlType)
+    {
+        if (!schemaSnapshot.hasColumn(tableInfo.getTableName(), columnName))
+        {
+            throw new SchemaGenerationException("Column " + columnName + " does not exist in column family "
+                    + tableInfo.getTableName() + "", "Cassandra", databaseName, tableInfo.getTableName());
+        }
+        if (!schemaSnapshot.hasColumn(tableInfo.getTableName(), columnName, cqlType))
+        {
+            throw new SchemaGenerationException("Column " + columnName + " of column family "
+                    + tableInfo.getTableName() + " is of type "
+                    + schemaSnapshot.getColumnType(tableInfo.getTableName(), columnName) + ", expected " + cqlType,
+                    "Cassandra", databaseName, tableInfo.getTableName());
+        }
+    }
+
+    /**
+     * Gets cql3 type of given java type.
+     * 
+     * @param clazz
+     *            the java type
+     * @return the cql type, null if not known
+     */
+    private String getCQLType(Class<?> clazz)
+    {
+        return CQLTranslator.getCQLType(CassandraValidationClassMapper.getValidationClass(clazz, true));
+    }
+
     /**
      * On validate table.
      * 
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.cassandra.schemamanager;
+
+import java.nio.charset.CharacterCodingException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.cassandra.thrift.Cassandra;
+import org.apache.cassandra.thrift.Column;
+import org.apache.cassandra.thrift.Compression;
+import org.apache.cassandra.thrift.ConsistencyLevel;
+import org.apache.cassandra.thrift.CqlResult;
+import org.apache.cassandra.thrift.CqlRow;
+import org.apache.cassandra.thrift.InvalidRequestException;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.thrift.TException;
+
+import com.impetus.client.cassandra.common.CassandraConstants;
+import com.impetus.kundera.utils.KunderaCoreUtils;
+
+/**
+ * Columns of all tables of a keyspace, read with a single query on
+ * <code>system_schema.columns</code>, so that tables can be validated and
+ * diffed in memory instead of querying the server per table and per column.
+ */
+final class CassandraSchemaSnapshot
+{
+    /** Query to read columns of a keyspace. */
+    private static final String SCHEMA_COLUMNS_QUERY = "select table_name, column_name, type from system_schema.columns where keyspace_name = '$KEYSPACE'";
+
+    /** CQL types of columns, keyed by table and column name. */
+    private final Map<String, Map<String, String>> tables = new HashMap<String, Map<String, String>>();
+
+    CassandraSchemaSnapshot()
+    {
+    }
+
+    /**
+     * Reads schema of given keyspace.
+     *
+     * @param client
+     *            the cassandra client
+     * @param keyspace
+     *            the keyspace
+     * @param showQuery
+     *            true, if query should be printed
+     * @return snapshot of keyspace, or null if server does not expose
+     *         <code>system_schema</code> tables (prior to Cassandra 3.0).
+     * @throws TException
+     *             the t exception
+     * @throws CharacterCodingException
+     *             the character coding exception
+     */
+    static CassandraSchemaSnapshot read(Cassandra.Client client, String keyspace, boolean showQuery)
+            throws TException, CharacterCodingException
+    {
+        String query = SCHEMA_COLUMNS_QUERY.replace("$KEYSPACE", keyspace);
+        KunderaCoreUtils.printQuery(query, showQuery);
+
+        CqlResult result;
+        try
+        {
+            client.set_cql_version(CassandraConstants.CQL_VERSION_3_0);
+            result = client.execute_cql3_query(ByteBufferUtil.bytes(query), Compression.NONE,
+                    ConsistencyLevel.ONE);
+        }
+        catch (InvalidRequestException irex)
+        {
+            return null;
+        }
+
+        CassandraSchemaSnapshot snapshot = new CassandraSchemaSnapshot();
+        if (result.getRows() != null)
+        {
+            for (CqlRow row : result.getRows())
+            {
+                String table = null;
+                String column = null;
+                String type = null;
+                for (Column c : row.getColumns())
+                {
+                    String name = ByteBufferUtil.string(c.bufferForName());
+                    String value = c.isSetValue() ? ByteBufferUtil.string(c.bufferForValue()) : null;
+                    if ("table_name".equals(name))
+                    {
+                        table = value;
+                    }
+                    else if ("column_name".equals(name))
+                    {
+                        column = value;
+                    }
+                    else if ("type".equals(name))
+                    {
+                        type = value;
+                    }
+                }
+                snapshot.addColumn(table, column, type);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Adds a column.
+     *
+     * @param table
+     *            the table name
+     * @param column
+     *            the column name
+     * @param type
+     *            the CQL type
+     */
+    void addColumn(String table, String column, String type)
+    {
+        if (table == null || column == null)
+        {
+            return;
+        }
+
+        Map<String, String> columns = tables.get(table);
+        if (columns == null)
+        {
+            columns = new HashMap<String, String>();
+            tables.put(table, columns);
+        }
+        columns.put(column, type);
+    }
+
+    /**
+     * Checks if table exists.
+     *
+     * @param table
+     *            the table name
+     * @return true, if table exists
+     */
+    boolean hasTable(String table)
+    {
+        return tables.containsKey(table);
+    }
+
+    /**
+     * Checks if column exists in table.
+     *
+     * @param table
+     *            the table name
+     * @param column
+     *            the column name
+     * @return true, if column exists
+     */
+    boolean hasColumn(String table, String column)
+    {
+        Map<String, String> columns = tables.get(table);
+        return columns != null && columns.containsKey(column);
+    }
+
+    /**
+     * Checks if column exists in table with given CQL type. Type is not
+     * compared, if <code>cqlType</code> is null.
+     *
+     * @param table
+     *            the table name
+     * @param column
+     *            the column name
+     * @param cqlType
+     *            expected CQL type
+     * @return true, if column exists with same type
+     */
+    boolean hasColumn(String table, String column, String cqlType)
+    {
+        if (!hasColumn(table, column))
+        {
+            return false;
+        }
+        return cqlType == null || normalize(cqlType).equals(normalize(tables.get(table).get(column)));
+    }
+
+    /**
+     * Returns CQL type of column, or null if column does not exist.
+     *
+     * @param table
+     *            the table name
+     * @param column
+     *            the column name
+     * @return the CQL type
+     */
+    String getColumnType(String table, String column)
+    {
+        Map<String, String> columns = tables.get(table);
+        return columns != null ? columns.get(column) : null;
+    }
+
+    private static String normalize(String cqlType)
+    {
+        String type = cqlType != null ? cqlType.trim().toLowerCase() : "";
+        return "varchar".equals(type) ? "text" : type;
+    }
+}
@@ -16,6 +16,7 @@
 package com.impetus.client.cassandra.thrift;
 
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -210,12 +211,33 @@ public final class CQLTranslator
     /** The Constant BEGIN_BATCH. */
     public static final String BEGIN_BATCH = "BEGIN BATCH";
 
+    /** The bind marker. */
+    public static final String BIND_MARKER = "?";
+
+    /** Values bound to bind markers, null if values are inlined. */
+    private final List<Object> boundValues;
+
     /**
      * Instantiates a new CQL translator.
      */
     public CQLTranslator()
     {
+        this(null);
+    }
 
+    /**
+     * Instantiates a new CQL translator, which appends bind markers in place
+     * of values and collects values into given list, in order of their
+     * markers. Applies to values appended via
+     * {@link #appendValue(StringBuilder, Class, Object, boolean, boolean)}
+     * and where clauses.
+     * 
+     * @param boundValues
+     *            list to collect bound values into, null to inline values.
+     */
+    public CQLTranslator(List<Object> boundValues)
+    {
+        this.boundValues = boundValues;
     }
 
     /**
@@ -251,6 +273,32 @@ public final class CQLTranslator
     public HashMap<TranslationType, Map<String, StringBuilder>> prepareColumnOrColumnValues(final Object record,
             final EntityMetadata entityMetadata, TranslationType type, Map<String, Object> externalProperties,
             final KunderaMetadata kunderaMetadata)
+    {
+        return prepareColumnOrColumnValues(record, entityMetadata, type, externalProperties, kunderaMetadata, null);
+    }
+
+    /**
+     * Prepares column name or column values for given attributes only. Id
+     * columns are always included.
+     * 
+     * @param record
+     *            entity.
+     * @param entityMetadata
+     *            entity meta data
+     * @param type
+     *            translation type.
+     * @param externalProperties
+     *            the external properties
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @param attributeNames
+     *            names of attributes to translate, null to translate all.
+     * @return Map containing translation type as key and string as translated
+     *         CQL string.
+     */
+    public HashMap<TranslationType, Map<String, StringBuilder>> prepareColumnOrColumnValues(final Object record,
+            final EntityMetadata entityMetadata, TranslationType type, Map<String, Object> externalProperties,
+            final KunderaMetadata kunderaMetadata, Set<String> attributeNames)
     {
         HashMap<TranslationType, Map<String, StringBuilder>> parsedColumnOrColumnValue = new HashMap<CQLTranslator.TranslationType, Map<String, StringBuilder>>();
         if (type == null)
@@ -266,7 +314,7 @@ public final class CQLTranslator
         Map<String, StringBuilder> columnBuilders = new HashMap<String, StringBuilder>();
 
         onTranslation(record, entityMetadata, type, metaModel, entityClazz, entityType, builders, columnBuilders,
-                externalProperties, kunderaMetadata);
+                externalProperties, kunderaMetadata, attributeNames);
 
         for (String tableName : columnBuilders.keySet())
         {
@@ -337,11 +385,13 @@ public final class CQLTranslator
      *            the external properties
      * @param kunderaMetadata
      *            the kundera metadata
+     * @param attributeNames
+     *            names of attributes to translate, null to translate all.
      */
     private void onTranslation(final Object record, final EntityMetadata m, TranslationType type,
             MetamodelImpl metaModel, Class entityClazz, EntityType entityType, Map<String, StringBuilder> builders,
             Map<String, StringBuilder> columnBuilders, Map<String, Object> externalProperties,
-            final KunderaMetadata kunderaMetadata)
+            final KunderaMetadata kunderaMetadata, Set<String> attributeNames)
     {
         Set<Attribute> attributes = entityType.getAttributes();
         Iterator<Attribute> iterator = attributes.iterator();
@@ -367,7 +417,8 @@ public final class CQLTranslator
                 builders.put(tableName, builder);
             }
             Field field = (Field) attribute.getJavaMember();
-            if (!attribute.equals(m.getIdAttribute())
+            if ((attributeNames == null || attributeNames.contains(attribute.getName()))
+                    && !attribute.equals(m.getIdAttribute())
                     && !((AbstractAttribute) attribute).getJPAColumnName().equals(
                             ((AbstractAttribute) m.getIdAttribute()).getJPAColumnName()))
             {
@@ -1103,6 +1154,12 @@ public final class CQLTranslator
     public boolean appendValue(StringBuilder builder, Class fieldClazz, Object value, boolean isPresent,
             boolean useToken)
     {
+        if (boundValues != null)
+        {
+            appendBindMarker(builder, value, useToken);
+            return true;
+        }
+
         if (List.class.isAssignableFrom(fieldClazz))
         {
             isPresent = appendList(builder, value != null ? value : new ArrayList());
@@ -1309,6 +1366,35 @@ public final class CQLTranslator
         }
     }
 
+    /**
+     * Appends bind marker and collects value to be bound to it.
+     * 
+     * @param builder
+     *            the builder
+     * @param value
+     *            the value
+     * @param useToken
+     *            the use token
+     */
+    private void appendBindMarker(StringBuilder builder, Object value, boolean useToken)
+    {
+        if (useToken)
+        {
+            builder.append(TOKEN);
+        }
+        builder.append(BIND_MARKER);
+        if (useToken)
+        {
+            builder.append(CLOSE_BRACKET);
+        }
+
+        if (value instanceof byte[])
+        {
+            value = ByteBuffer.wrap((byte[]) value);
+        }
+        boundValues.add(value);
+    }
+
     /**
      * Appends column name and ensure case sensitivity.
      * 
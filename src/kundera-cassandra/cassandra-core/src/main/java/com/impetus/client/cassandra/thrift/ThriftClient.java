@@ -58,6 +58,7 @@ import com.impetus.client.cassandra.CassandraClientBase;
 import com.impetus.client.cassandra.CassandraIdGenerator;
 import com.impetus.client.cassandra.common.CassandraConstants;
 import com.impetus.client.cassandra.common.CassandraUtilities;
+import com.impetus.client.cassandra.common.TimeUUIDGenerator;
 import com.impetus.client.cassandra.datahandler.CassandraDataHandler;
 import com.impetus.client.cassandra.index.InvertedIndexHandler;
 import com.impetus.client.cassandra.query.CassQuery;
@@ -1321,6 +1322,18 @@ public class ThriftClient extends CassandraClientBase implements Client<CassQuer
         clientFactory.releaseConnection(((Connection) conn).getPool(), ((Connection) conn).getClient());
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * com.impetus.client.cassandra.CassandraClientBase#getTimeUUIDGenerator()
+     */
+    @Override
+    public TimeUUIDGenerator getTimeUUIDGenerator()
+    {
+        return clientFactory.getTimeUUIDGenerator();
+    }
+
     /*
      * (non-Javadoc)
      * 
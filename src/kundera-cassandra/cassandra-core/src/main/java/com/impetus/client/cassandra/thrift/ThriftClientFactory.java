@@ -141,6 +141,9 @@ public class ThriftClientFactory extends CassandraClientFactory
 
         // initialize timestamp generator.
         initializeTimestampGenerator(externalProperty);
+
+        // initialize time uuid generator.
+        initializeTimeUUIDGenerator(externalProperty);
     }
 
     /* (non-Javadoc)
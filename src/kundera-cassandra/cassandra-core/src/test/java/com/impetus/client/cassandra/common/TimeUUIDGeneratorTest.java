@@ -0,0 +1,61 @@
+/*******************************************************************************
+ *  * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.cassandra.common;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link TimeUUIDGenerator}.
+ */
+public class TimeUUIDGeneratorTest
+{
+    @Test
+    public void testGenerate()
+    {
+        TimeUUIDGenerator generator = new TimeUUIDGenerator(0x0A0B0C0D0E0FL);
+        long before = System.currentTimeMillis();
+        UUID uuid = generator.generate();
+        long after = System.currentTimeMillis();
+
+        Assert.assertEquals(1, uuid.version());
+        Assert.assertEquals(2, uuid.variant());
+        Assert.assertEquals(0x0A0B0C0D0E0FL, uuid.node());
+        long timestamp = TimeUUIDGenerator.getUnixTimestamp(uuid);
+        Assert.assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    public void testUniqueAndOrdered()
+    {
+        TimeUUIDGenerator generator = TimeUUIDGenerator.getInstance();
+        Set<UUID> uuids = new HashSet<UUID>();
+        long last = 0;
+        for (int i = 0; i < 100000; i++)
+        {
+            UUID uuid = generator.generate();
+            Assert.assertTrue(uuid.timestamp() > last);
+            last = uuid.timestamp();
+            uuids.add(uuid);
+        }
+        Assert.assertEquals(100000, uuids.size());
+    }
+}
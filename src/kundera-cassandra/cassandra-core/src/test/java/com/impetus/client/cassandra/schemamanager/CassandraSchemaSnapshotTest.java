@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.cassandra.schemamanager;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link CassandraSchemaSnapshot}, without a cassandra server.
+ */
+public class CassandraSchemaSnapshotTest
+{
+    @Test
+    public void testColumns()
+    {
+        CassandraSchemaSnapshot snapshot = new CassandraSchemaSnapshot();
+        snapshot.addColumn("users", "user_id", "text");
+        snapshot.addColumn("users", "age", "int");
+        snapshot.addColumn("users", "name", "varchar");
+        snapshot.addColumn(null, "ignored", "int");
+
+        Assert.assertTrue(snapshot.hasTable("users"));
+        Assert.assertFalse(snapshot.hasTable("addresses"));
+        Assert.assertTrue(snapshot.hasColumn("users", "age"));
+        Assert.assertFalse(snapshot.hasColumn("users", "email"));
+        Assert.assertFalse(snapshot.hasColumn("addresses", "age"));
+        Assert.assertEquals("int", snapshot.getColumnType("users", "age"));
+        Assert.assertNull(snapshot.getColumnType("users", "email"));
+    }
+
+    @Test
+    public void testColumnTypes()
+    {
+        CassandraSchemaSnapshot snapshot = new CassandraSchemaSnapshot();
+        snapshot.addColumn("users", "age", "int");
+        snapshot.addColumn("users", "name", "varchar");
+        snapshot.addColumn("users", "email", "text");
+
+        Assert.assertTrue(snapshot.hasColumn("users", "age", "INT"));
+        Assert.assertFalse(snapshot.hasColumn("users", "age", "bigint"));
+        Assert.assertTrue(snapshot.hasColumn("users", "age", null));
+        Assert.assertTrue(snapshot.hasColumn("users", "name", "text"));
+        Assert.assertTrue(snapshot.hasColumn("users", "email", "varchar"));
+        Assert.assertFalse(snapshot.hasColumn("users", "phone", null));
+    }
+}
@@ -15,7 +15,10 @@
  ******************************************************************************/
 package com.impetus.client.crud.compositeType;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -85,6 +88,23 @@ public class CQLTranslatorTest
 //        Assert.assertEquals(columnAsCsv, translatedSql);
     }
     
+    @Test
+    public void testBoundWhereClause()
+    {
+        List<Object> values = new ArrayList<Object>();
+        CQLTranslator translator = new CQLTranslator(values);
+        StringBuilder builder = new StringBuilder();
+        translator.buildWhereClause(builder, String.class, "userId", "mevivs", CQLTranslator.EQ_CLAUSE, false);
+        translator.buildWhereClause(builder, Integer.class, "tweetId", 1, CQLTranslator.EQ_CLAUSE, true);
+        translator.buildWhereClause(builder, byte[].class, "body", new byte[] { 1, 2 }, CQLTranslator.EQ_CLAUSE, false);
+
+        Assert.assertEquals("\"userId\" = ? AND token(\"tweetId\") = token(?) AND \"body\" = ? AND ", builder.toString());
+        Assert.assertEquals(3, values.size());
+        Assert.assertEquals("mevivs", values.get(0));
+        Assert.assertEquals(1, values.get(1));
+        Assert.assertEquals(ByteBuffer.wrap(new byte[] { 1, 2 }), values.get(2));
+    }
+
     @Test
     public void testGetKeyword()
     {
@@ -35,6 +35,17 @@ public class DSCassQuery extends CassQuery
         super(kunderaQuery, persistenceDelegator, kunderaMetadata);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.impetus.client.cassandra.query.CassQuery#isBindingSupported()
+     */
+    @Override
+    protected boolean isBindingSupported()
+    {
+        return true;
+    }
+
     /*
      * (non-Javadoc)
      * 
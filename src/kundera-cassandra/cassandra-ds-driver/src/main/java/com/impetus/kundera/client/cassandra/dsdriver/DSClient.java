@@ -39,18 +39,23 @@ import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.ColumnMetadata;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import com.impetus.client.cassandra.CassandraClientBase;
 import com.impetus.client.cassandra.common.CassandraConstants;
+import com.impetus.client.cassandra.common.TimeUUIDGenerator;
 import com.impetus.client.cassandra.datahandler.CassandraDataHandler;
 import com.impetus.client.cassandra.thrift.CQLTranslator;
 import com.impetus.kundera.KunderaException;
@@ -69,8 +74,6 @@ import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
 import com.impetus.kundera.persistence.EntityReader;
 import com.impetus.kundera.persistence.api.Batcher;
 import com.impetus.kundera.persistence.context.jointable.JoinTableData;
-import com.impetus.kundera.property.PropertyAccessor;
-import com.impetus.kundera.property.PropertyAccessorFactory;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.utils.KunderaCoreUtils;
 import com.impetus.kundera.utils.TimestampGenerator;
@@ -167,8 +170,9 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
     public Object find(Class entityClass, Object rowId)
     {
         EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClass);
-        StringBuilder builder = createSelectQuery(rowId, metadata, metadata.getTableName());
-        ResultSet rSet = this.execute(builder.toString(), null);
+        List<Object> values = new ArrayList<Object>();
+        StringBuilder builder = createSelectQuery(rowId, metadata, metadata.getTableName(), values);
+        ResultSet rSet = executeBound(builder.toString(), values);
         List results = iterateAndReturn(rSet, metadata);
         return results.isEmpty() ? null : results.get(0);
     }
@@ -182,14 +186,17 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
      *            the metadata
      * @param tableName
      *            the table name
+     * @param values
+     *            list to collect bound values into
      * @return the string builder
      */
-    private StringBuilder createSelectQuery(Object rowId, EntityMetadata metadata, String tableName)
+    private StringBuilder createSelectQuery(Object rowId, EntityMetadata metadata, String tableName,
+            List<Object> values)
     {
         MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
                 metadata.getPersistenceUnit());
 
-        CQLTranslator translator = new CQLTranslator();
+        CQLTranslator translator = new CQLTranslator(values);
 
         String select_Query = translator.SELECTALL_QUERY;
         select_Query = StringUtils.replace(select_Query, CQLTranslator.COLUMN_FAMILY,
@@ -214,23 +221,68 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
     public final <E> List<E> findAll(Class<E> entityClass, String[] columnsToSelect, Object... rowIds)
     {
         // TODO: need to think about selected column case.
-        // Bring in IN Clause in place of each read.
 
         List results = new ArrayList<E>();
-        if (rowIds != null)
+        if (rowIds != null && rowIds.length > 0)
         {
-            for (Object rowId : rowIds)
+            EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClass);
+            Session session = factory.getConnection();
+            int maxInFlight = factory.getMaxInFlightReads();
+
+            // keep at most maxInFlight reads pending, collect in key order.
+            List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(rowIds.length);
+            int collected = 0;
+            try
             {
-                Object result = find(entityClass, rowId);
-                if (result != null)
+                for (Object rowId : rowIds)
                 {
-                    results.add(result);
+                    if (futures.size() - collected >= maxInFlight)
+                    {
+                        collectResult(futures.get(collected++), metadata, results);
+                    }
+                    List<Object> values = new ArrayList<Object>();
+                    String query = createSelectQuery(rowId, metadata, metadata.getTableName(), values).toString();
+                    KunderaCoreUtils.printQuery(query, showQuery);
+                    futures.add(session.executeAsync(bind(query, values)));
+                }
+
+                while (collected < futures.size())
+                {
+                    collectResult(futures.get(collected++), metadata, results);
                 }
             }
+            catch (Exception e)
+            {
+                for (ResultSetFuture future : futures.subList(collected, futures.size()))
+                {
+                    future.cancel(true);
+                }
+                log.error("Error while finding {} rows of {}.", rowIds.length, entityClass.getSimpleName());
+                throw new KunderaException(e);
+            }
         }
         return results;
     }
 
+    /**
+     * Waits for result of a row read and adds found entity to results.
+     * 
+     * @param future
+     *            the future
+     * @param metadata
+     *            the metadata
+     * @param results
+     *            the results
+     */
+    private void collectResult(ResultSetFuture future, EntityMetadata metadata, List results)
+    {
+        List found = iterateAndReturn(future.getUninterruptibly(), metadata);
+        if (!found.isEmpty())
+        {
+            results.add(found.get(0));
+        }
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -259,16 +311,11 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
         String invJoinColumnName = joinTableData.getInverseJoinColumnName();
         Map<Object, Set<Object>> joinTableRecords = joinTableData.getJoinTableRecords();
 
-        EntityMetadata entityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata,
-                joinTableData.getEntityClass());
-
         // need to bring in an insert query for this
         // add columns & execute query
 
         CQLTranslator translator = new CQLTranslator();
 
-        String batch_Query = CQLTranslator.BATCH_QUERY;
-
         String insert_Query = translator.INSERT_QUERY;
 
         StringBuilder builder = new StringBuilder();
@@ -283,47 +330,44 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
 
         insert_Query = StringUtils.replace(insert_Query, CQLTranslator.COLUMNS, builder.toString());
 
-        StringBuilder columnValueBuilder = new StringBuilder();
+        insert_Query = StringUtils.replace(insert_Query, CQLTranslator.COLUMN_VALUES, CQLTranslator.BIND_MARKER
+                + CQLTranslator.COMMA_STR + CQLTranslator.BIND_MARKER + CQLTranslator.COMMA_STR
+                + CQLTranslator.BIND_MARKER);
 
-        StringBuilder statements = new StringBuilder();
+        BatchStatement batch = new BatchStatement();
 
         // insert query for each row key and
         for (Object key : joinTableRecords.keySet())
         {
-            PropertyAccessor accessor = PropertyAccessorFactory.getPropertyAccessor((Field) entityMetadata
-                    .getIdAttribute().getJavaMember());
-
             Set<Object> values = joinTableRecords.get(key); // join column value
 
             for (Object value : values)
             {
                 if (value != null)
                 {
-                    String insertQuery = insert_Query;
-                    columnValueBuilder.append(CQLTranslator.QUOTE_STR);
-                    columnValueBuilder.append(PropertyAccessorHelper.getString(key) + "\001"
+                    List<Object> columnValues = new ArrayList<Object>(3);
+                    columnValues.add(PropertyAccessorHelper.getString(key) + "\001"
                             + PropertyAccessorHelper.getString(value));
-                    columnValueBuilder.append(CQLTranslator.QUOTE_STR);
-                    columnValueBuilder.append(CQLTranslator.COMMA_STR);
-                    translator.appendValue(columnValueBuilder, key.getClass(), key, true, false);
-                    columnValueBuilder.append(CQLTranslator.COMMA_STR);
-                    translator.appendValue(columnValueBuilder, value.getClass(), value, true, false);
-
-                    insertQuery = StringUtils.replace(insertQuery, CQLTranslator.COLUMN_VALUES,
-                            columnValueBuilder.toString());
-                    statements.append(insertQuery);
-                    statements.append(" ");
+                    columnValues.add(key);
+                    columnValues.add(value);
+                    batch.add(bind(insert_Query, columnValues));
                 }
             }
         }
 
-        if (!StringUtils.isBlank(statements.toString()))
+        if (batch.size() > 0)
         {
-            batch_Query = StringUtils.replace(batch_Query, CQLTranslator.STATEMENT, statements.toString());
-            StringBuilder batchBuilder = new StringBuilder();
-            batchBuilder.append(batch_Query);
-            batchBuilder.append(CQLTranslator.APPLY_BATCH);
-            execute(batchBuilder.toString(), null);
+            batch.setConsistencyLevel(ConsistencyLevel.valueOf(this.consistencyLevel.name()));
+            KunderaCoreUtils.printQuery(insert_Query, showQuery);
+            try
+            {
+                factory.getConnection().execute(batch);
+            }
+            catch (Exception e)
+            {
+                log.error("Error while persisting join table {}.", joinTableName);
+                throw new KunderaException(e);
+            }
         }
     }
 
@@ -341,7 +385,8 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
         // select columnName from tableName where pKeyColumnName =
         // pKeyColumnValue
         List results = new ArrayList();
-        CQLTranslator translator = new CQLTranslator();
+        List<Object> values = new ArrayList<Object>();
+        CQLTranslator translator = new CQLTranslator(values);
         String selectQuery = translator.SELECT_QUERY;
         selectQuery = StringUtils.replace(selectQuery, CQLTranslator.COLUMN_FAMILY,
                 translator.ensureCase(new StringBuilder(), tableName, false).toString());
@@ -357,7 +402,7 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
         selectQueryBuilder
                 .delete(selectQueryBuilder.lastIndexOf(CQLTranslator.AND_CLAUSE), selectQueryBuilder.length());
 
-        ResultSet rSet = execute(selectQueryBuilder.toString(), null);
+        ResultSet rSet = executeBound(selectQueryBuilder.toString(), values);
 
         Iterator<Row> rowIter = rSet.iterator();
         while (rowIter.hasNext())
@@ -400,7 +445,8 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
     {
         Session session = factory.getConnection();
         String rowKeyName = null;
-        CQLTranslator translator = new CQLTranslator();
+        List<Object> values = new ArrayList<Object>();
+        CQLTranslator translator = new CQLTranslator(values);
         try
         {
             List<ColumnMetadata> primaryKeys = session.getCluster().getMetadata().getKeyspace("\"" + schemaName + "\"")
@@ -427,7 +473,8 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
                 deleteQueryBuilder = translator.ensureCase(deleteQueryBuilder, rowKeyName, false);
                 deleteQueryBuilder.append(CQLTranslator.EQ_CLAUSE);
                 translator.appendValue(deleteQueryBuilder, rowKey.getClass(), rowKey, false, false);
-                this.execute(deleteQueryBuilder.toString(), null);
+                executeBound(deleteQueryBuilder.toString(), values);
+                values.clear();
             }
         }
     }
@@ -442,7 +489,8 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
     public List<Object> findByRelation(String colName, Object colValue, Class entityClazz)
     {
         EntityMetadata m = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClazz);
-        CQLTranslator translator = new CQLTranslator();
+        List<Object> values = new ArrayList<Object>();
+        CQLTranslator translator = new CQLTranslator(values);
         String selectQuery = translator.SELECTALL_QUERY;
         selectQuery = StringUtils.replace(selectQuery, CQLTranslator.COLUMN_FAMILY,
                 translator.ensureCase(new StringBuilder(), m.getTableName(), false).toString());
@@ -455,7 +503,7 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
         selectQueryBuilder
                 .delete(selectQueryBuilder.lastIndexOf(CQLTranslator.AND_CLAUSE), selectQueryBuilder.length());
 
-        ResultSet rSet = (ResultSet) this.execute(selectQueryBuilder.toString(), null);
+        ResultSet rSet = executeBound(selectQueryBuilder.toString(), values);
 
         return iterateAndReturn(rSet, m);
     }
@@ -531,12 +579,81 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
         return iterateAndReturn(rSet, metadata);
     }
     
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * com.impetus.client.cassandra.CassandraClientBase#executeQuery(java.lang
+     * .Class, java.util.List, boolean, java.lang.String, java.util.List)
+     */
+    @Override
+    public List executeQuery(Class clazz, List<String> relationalField, boolean isNative, String cqlQuery,
+            List<Object> boundValues)
+    {
+        if (boundValues == null)
+        {
+            return executeQuery(clazz, relationalField, isNative, cqlQuery);
+        }
+        ResultSet rSet = executeBound(cqlQuery, boundValues);
+        if (clazz == null)
+        {
+            return iterateAndReturn(rSet);
+        }
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, clazz);
+        return iterateAndReturn(rSet, metadata);
+    }
+
     public ResultSet executeStatement(Statement st){
         
         Session session = factory.getConnection();
         return session.execute(st);
     }
 
+    /**
+     * Binds values to statement prepared for given cql. Statements are
+     * prepared once per cql and cached by factory, bound statements carry
+     * routing key for token aware load balancing.
+     * 
+     * @param cql
+     *            the cql with bind markers
+     * @param values
+     *            values in order of bind markers
+     * @return the bound statement
+     */
+    BoundStatement bind(String cql, List<Object> values)
+    {
+        PreparedStatement statement = factory.getPreparedStatement(cql);
+        BoundStatement boundStatement = statement.bind(DSClientUtilities.toBindValues(values,
+                statement.getVariables()));
+        boundStatement.setConsistencyLevel(ConsistencyLevel.valueOf(this.consistencyLevel.name()));
+        return boundStatement;
+    }
+
+    /**
+     * Executes cql with values bound to its markers.
+     * 
+     * @param cql
+     *            the cql with bind markers
+     * @param values
+     *            values in order of bind markers
+     * @return the result set
+     */
+    private ResultSet executeBound(String cql, List<Object> values)
+    {
+        Session session = factory.getConnection();
+        try
+        {
+            Statement statement = bind(cql, values);
+            KunderaCoreUtils.printQuery(cql, showQuery);
+            return session.execute(statement);
+        }
+        catch (Exception e)
+        {
+            log.error("Error while executing query {}.", cql);
+            throw new KunderaException(e);
+        }
+    }
+
     /**
      * Iterate and return.
      * 
@@ -662,7 +779,8 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
 
         for (String tableName : secondaryTables)
         {
-            this.execute(onDeleteQuery(m, tableName, metaModel, pKey), null);
+            List<Object> values = new ArrayList<Object>();
+            executeBound(onDeleteQuery(m, tableName, metaModel, pKey, values), values);
         }
     }
 
@@ -845,8 +963,9 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
 
         for (String tableName : secondaryTables)
         {
-            StringBuilder builder = createSelectQuery(rowId, metadata, tableName);
-            ResultSet rSet = this.execute(builder.toString(), null);
+            List<Object> values = new ArrayList<Object>();
+            StringBuilder builder = createSelectQuery(rowId, metadata, tableName, values);
+            ResultSet rSet = executeBound(builder.toString(), values);
 
             Iterator<Row> rowIter = rSet.iterator();
 
@@ -1045,6 +1164,18 @@ public class DSClient extends CassandraClientBase implements Client<DSCassQuery>
         return compoundKeyObject;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * com.impetus.client.cassandra.CassandraClientBase#getTimeUUIDGenerator()
+     */
+    @Override
+    public TimeUUIDGenerator getTimeUUIDGenerator()
+    {
+        return factory.getTimeUUIDGenerator();
+    }
+
     /*
      * (non-Javadoc)
      * 
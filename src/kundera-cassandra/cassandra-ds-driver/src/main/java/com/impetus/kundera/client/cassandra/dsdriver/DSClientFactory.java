@@ -20,8 +20,11 @@ import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
@@ -31,6 +34,7 @@ import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Cluster.Builder;
 import com.datastax.driver.core.HostDistance;
 import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ProtocolOptions.Compression;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SocketOptions;
@@ -79,6 +83,18 @@ public class DSClientFactory extends CassandraClientFactory
     /** The Constant CUSTOM_RETRY_POLICY. */
     private static final String CUSTOM_RETRY_POLICY = "customRetryPolicy";
 
+    /** The Constant PREPARED_STATEMENT_CACHE_SIZE. */
+    private static final String PREPARED_STATEMENT_CACHE_SIZE = "preparedStatementCacheSize";
+
+    /** The Constant DEFAULT_PREPARED_STATEMENT_CACHE_SIZE. */
+    private static final int DEFAULT_PREPARED_STATEMENT_CACHE_SIZE = 1000;
+
+    /** The Constant MAX_IN_FLIGHT_READS. */
+    private static final String MAX_IN_FLIGHT_READS = "maxInFlightReads";
+
+    /** The Constant DEFAULT_MAX_IN_FLIGHT_READS. */
+    private static final int DEFAULT_MAX_IN_FLIGHT_READS = 64;
+
     /** The logger. */
     private static Logger logger = LoggerFactory.getLogger(DSClientFactory.class);
 
@@ -91,6 +107,15 @@ public class DSClientFactory extends CassandraClientFactory
     /** The session. */
     private Session session;
 
+    /** Statements prepared on session, keyed by cql. */
+    private final ConcurrentMap<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<String, PreparedStatement>();
+
+    /** Maximum number of cached prepared statements. */
+    private int preparedStatementCacheSize = DEFAULT_PREPARED_STATEMENT_CACHE_SIZE;
+
+    /** Maximum number of concurrent reads issued by a multi-get. */
+    private int maxInFlightReads = DEFAULT_MAX_IN_FLIGHT_READS;
+
     /*
      * (non-Javadoc)
      * 
@@ -132,6 +157,7 @@ public class DSClientFactory extends CassandraClientFactory
         }
         schemaManager = null;
         externalProperties = null;
+        preparedStatements.clear();
         releaseConnection(this.session);
         ((Cluster) getConnectionPoolOrConnection()).closeAsync();
     }
@@ -170,6 +196,9 @@ public class DSClientFactory extends CassandraClientFactory
 
         // initialize timestamp generator.
         initializeTimestampGenerator(externalProperty);
+
+        // initialize time uuid generator.
+        initializeTimeUUIDGenerator(externalProperty);
     }
 
     /*
@@ -261,6 +290,18 @@ public class DSClientFactory extends CassandraClientFactory
         // PoolingOptions,
         connectionBuilder.withPoolingOptions(getPoolingOptions(connectionProperties));
 
+        String cacheSize = connectionProperties.getProperty(PREPARED_STATEMENT_CACHE_SIZE);
+        if (!StringUtils.isBlank(cacheSize))
+        {
+            preparedStatementCacheSize = Integer.parseInt(cacheSize);
+        }
+
+        String inFlightReads = connectionProperties.getProperty(MAX_IN_FLIGHT_READS);
+        if (!StringUtils.isBlank(inFlightReads))
+        {
+            maxInFlightReads = Math.max(1, Integer.parseInt(inFlightReads));
+        }
+
         // finally build cluster.
         Cluster cluster = connectionBuilder.build();
 
@@ -278,6 +319,11 @@ public class DSClientFactory extends CassandraClientFactory
             keyspace = (String) props.get(PersistenceProperties.KUNDERA_KEYSPACE);
         }
         setSessionObject(cluster); // TODO custom session
+
+        if (isTimeUUIDVerificationEnabled(externalProperties))
+        {
+            verifyTimeUUIDGenerator(session.execute("SELECT now() FROM system.local").one().getUUID(0));
+        }
         return cluster; // TODO custom cluster
     }
 
@@ -316,6 +362,48 @@ public class DSClientFactory extends CassandraClientFactory
                 + keyspace + "\"");
     }
 
+    /**
+     * Gets statement prepared on session for given cql. Statements are
+     * prepared once and cached, cache is bounded by
+     * {@value #PREPARED_STATEMENT_CACHE_SIZE} connection property.
+     * 
+     * @param cql
+     *            the cql with bind markers
+     * @return the prepared statement
+     */
+    PreparedStatement getPreparedStatement(String cql)
+    {
+        PreparedStatement statement = preparedStatements.get(cql);
+        if (statement == null)
+        {
+            statement = getConnection().prepare(cql);
+            if (preparedStatementCacheSize > 0)
+            {
+                // evict arbitrary statements to stay within bounds.
+                Iterator<String> keys = preparedStatements.keySet().iterator();
+                while (preparedStatements.size() >= preparedStatementCacheSize && keys.hasNext())
+                {
+                    keys.next();
+                    keys.remove();
+                }
+                PreparedStatement existing = preparedStatements.putIfAbsent(cql, statement);
+                statement = existing != null ? existing : statement;
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Gets maximum number of concurrent reads issued by a multi-get,
+     * configurable by {@value #MAX_IN_FLIGHT_READS} connection property.
+     * 
+     * @return the max in flight reads
+     */
+    int getMaxInFlightReads()
+    {
+        return maxInFlightReads;
+    }
+
     /**
      * Release connection.
      * 
@@ -16,8 +16,13 @@
 package com.impetus.kundera.client.cassandra.dsdriver;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
@@ -26,6 +31,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import javax.persistence.Embeddable;
 import javax.persistence.metamodel.EmbeddableType;
@@ -34,17 +40,22 @@ import javax.persistence.metamodel.EntityType;
 import org.apache.cassandra.db.marshal.BytesType;
 import org.apache.cassandra.utils.ByteBufferUtil;
 
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
+import com.datastax.driver.core.LocalDate;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.UDTValue;
 import com.impetus.client.cassandra.schemamanager.CassandraDataTranslator;
 import com.impetus.client.cassandra.schemamanager.CassandraDataTranslator.CassandraType;
 import com.impetus.client.cassandra.schemamanager.CassandraValidationClassMapper;
+import com.impetus.kundera.KunderaException;
 import com.impetus.kundera.metadata.model.EntityMetadata;
 import com.impetus.kundera.metadata.model.MetamodelImpl;
 import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.property.accessor.CharAccessor;
+import com.impetus.kundera.property.accessor.DateAccessor;
 import com.impetus.kundera.property.accessor.EnumAccessor;
 import com.impetus.kundera.utils.KunderaCoreUtils;
 
@@ -795,4 +806,175 @@ public final class DSClientUtilities
         }
     }
 
+
+    /**
+     * Converts values collected against bind markers into java types of their
+     * bind variables.
+     * 
+     * @param values
+     *            values in order of bind markers
+     * @param variables
+     *            bind variables of prepared statement
+     * @return values to bind
+     */
+    static Object[] toBindValues(List<Object> values, ColumnDefinitions variables)
+    {
+        Object[] bindValues = new Object[values.size()];
+        for (int i = 0; i < bindValues.length; i++)
+        {
+            bindValues[i] = toBindValue(values.get(i), variables.getType(i));
+        }
+        return bindValues;
+    }
+
+    /**
+     * Converts value into java type of given cassandra data type. Values of
+     * unknown types are returned as is.
+     * 
+     * @param value
+     *            the value
+     * @param dataType
+     *            the data type
+     * @return value to bind
+     */
+    static Object toBindValue(Object value, DataType dataType)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+
+        switch (dataType.getName())
+        {
+        case ASCII:
+        case TEXT:
+        case VARCHAR:
+            return value instanceof Enum ? ((Enum) value).name() : value.toString();
+
+        case BIGINT:
+        case COUNTER:
+        case TIME:
+            return toNumber(value).longValue();
+
+        case INT:
+            return toNumber(value).intValue();
+
+        case SMALLINT:
+            return toNumber(value).shortValue();
+
+        case TINYINT:
+            return toNumber(value).byteValue();
+
+        case DOUBLE:
+            return toNumber(value).doubleValue();
+
+        case FLOAT:
+            return toNumber(value).floatValue();
+
+        case VARINT:
+            return value instanceof BigInteger ? value : new BigDecimal(toNumber(value).toString()).toBigInteger();
+
+        case DECIMAL:
+            return value instanceof BigDecimal ? value : new BigDecimal(toNumber(value).toString());
+
+        case BOOLEAN:
+            return value instanceof Boolean ? value : Boolean.valueOf(value.toString());
+
+        case TIMESTAMP:
+            if (value instanceof String)
+            {
+                return DateAccessor.getDateByPattern((String) value);
+            }
+            return value instanceof Date ? value : new Date(toNumber(value).longValue());
+
+        case DATE:
+            return value instanceof LocalDate ? value : LocalDate.fromMillisSinceEpoch(toNumber(value).longValue());
+
+        case UUID:
+        case TIMEUUID:
+            return value instanceof UUID ? value : UUID.fromString(value.toString());
+
+        case BLOB:
+            return value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value;
+
+        case INET:
+            return value instanceof InetAddress ? value : toInetAddress(value.toString());
+
+        case LIST:
+            List<Object> list = new ArrayList<Object>();
+            for (Object element : (Collection) value)
+            {
+                list.add(toBindValue(element, dataType.getTypeArguments().get(0)));
+            }
+            return list;
+
+        case SET:
+            Set<Object> set = new HashSet<Object>();
+            for (Object element : (Collection) value)
+            {
+                set.add(toBindValue(element, dataType.getTypeArguments().get(0)));
+            }
+            return set;
+
+        case MAP:
+            Map<Object, Object> map = new HashMap<Object, Object>();
+            for (Object entry : ((Map) value).entrySet())
+            {
+                map.put(toBindValue(((Map.Entry) entry).getKey(), dataType.getTypeArguments().get(0)),
+                        toBindValue(((Map.Entry) entry).getValue(), dataType.getTypeArguments().get(1)));
+            }
+            return map;
+
+        default:
+            return value;
+        }
+    }
+
+    /**
+     * Converts numeric, date or string value to number.
+     * 
+     * @param value
+     *            the value
+     * @return the number
+     */
+    private static Number toNumber(Object value)
+    {
+        if (value instanceof Number)
+        {
+            return (Number) value;
+        }
+        else if (value instanceof Date)
+        {
+            return ((Date) value).getTime();
+        }
+        else if (value instanceof Calendar)
+        {
+            return ((Calendar) value).getTimeInMillis();
+        }
+        else if (value instanceof Character)
+        {
+            return (int) ((Character) value).charValue();
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    /**
+     * Converts host name or address to inet address.
+     * 
+     * @param host
+     *            the host
+     * @return the inet address
+     */
+    private static InetAddress toInetAddress(String host)
+    {
+        try
+        {
+            return InetAddress.getByName(host);
+        }
+        catch (UnknownHostException e)
+        {
+            throw new KunderaException(e);
+        }
+    }
+
 }
@@ -15,9 +15,6 @@
  ******************************************************************************/
 package com.impetus.kundera.client.cassandra.dsdriver;
 
-import java.util.UUID;
-
-import com.datastax.driver.core.ResultSet;
 import com.impetus.kundera.client.Client;
 import com.impetus.kundera.generator.AutoGenerator;
 
@@ -39,11 +36,6 @@ public class DSIdGenerator implements AutoGenerator
     @Override
     public Object generate(Client<?> client, String dataType)
     {
-
-        final String generatedId = "Select now() from system_schema.columns";
-        ResultSet rSet = ((DSClient) client).execute(generatedId, null);
-
-        UUID uuid = rSet.iterator().next().getUUID(0);
-        return uuid;
+        return ((DSClient) client).getTimeUUIDGenerator().generate();
     }
 }
@@ -12,7 +12,6 @@ import javax.persistence.metamodel.EntityType;
 
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import com.impetus.client.cassandra.query.ResultIterator;
 import com.impetus.kundera.client.Client;
@@ -128,8 +127,9 @@ public class DSResultIterator<E> extends ResultIterator<E>
         Map<String, Object> relationalValues = new HashMap<String, Object>();
         if (rSet == null)
         {
-            String parsedQuery = query.onQueryOverCQL3(m, client, metaModel, null);
-            Statement statement = new SimpleStatement(parsedQuery);
+            List<Object> values = new ArrayList<Object>();
+            String parsedQuery = query.onQueryOverCQL3(m, client, metaModel, null, values);
+            Statement statement = ((DSClient) client).bind(parsedQuery, values);
             statement.setFetchSize(fetchSize);
             rSet = ((DSClient) client).executeStatement(statement);
             rowIter = rSet.iterator();
@@ -60,6 +60,7 @@ import com.impetus.client.cassandra.CassandraClientBase;
 import com.impetus.client.cassandra.CassandraIdGenerator;
 import com.impetus.client.cassandra.common.CassandraConstants;
 import com.impetus.client.cassandra.common.CassandraUtilities;
+import com.impetus.client.cassandra.common.TimeUUIDGenerator;
 import com.impetus.client.cassandra.datahandler.CassandraDataHandler;
 import com.impetus.client.cassandra.index.InvertedIndexHandler;
 import com.impetus.client.cassandra.query.CassQuery;
@@ -1149,6 +1150,18 @@ public class PelopsClient extends CassandraClientBase implements Client<CassQuer
         return entities;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * com.impetus.client.cassandra.CassandraClientBase#getTimeUUIDGenerator()
+     */
+    @Override
+    public TimeUUIDGenerator getTimeUUIDGenerator()
+    {
+        return clientFactory.getTimeUUIDGenerator();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -84,6 +84,9 @@ public class PelopsClientFactory extends CassandraClientFactory
 
         // initialize timestamp generator.
         initializeTimestampGenerator(externalProperty);
+
+        // initialize time uuid generator.
+        initializeTimeUUIDGenerator(externalProperty);
     }
 
     @Override
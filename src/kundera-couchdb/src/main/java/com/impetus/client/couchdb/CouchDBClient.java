@@ -15,6 +15,7 @@
  ******************************************************************************/
 package com.impetus.client.couchdb;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,6 +52,7 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.impetus.kundera.Constants;
 import com.impetus.kundera.KunderaException;
@@ -81,7 +84,8 @@ import com.impetus.kundera.utils.KunderaCoreUtils;
  * @author Kuldeep Mishra
  * 
  */
-public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, Batcher, ClientPropertiesSetter
+public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, Batcher, ClientPropertiesSetter,
+        Flushable
 {
     /** the log used by this class. */
     private static Logger log = LoggerFactory.getLogger(CouchDBClient.class);
@@ -104,6 +108,18 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
     /** The reader. */
     private EntityReader reader;
 
+    /** Revisions of documents, shared by clients of factory. */
+    private CouchDBRevisionCache revisionCache;
+
+    /** Number of persisted documents sent in one bulk request, 0 to disable. */
+    private int bulkPersistSize;
+
+    /** Documents buffered for bulk persist, keyed by database. */
+    private Map<String, List<JsonObject>> bulkDocuments = new LinkedHashMap<String, List<JsonObject>>();
+
+    /** Number of documents buffered for bulk persist. */
+    private int bufferedDocuments;
+
     /**
      * Instantiates a new couch db client.
      * 
@@ -134,7 +150,10 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
         this.reader = reader;
         this.indexManager = factory.getIndexManager();
         this.clientMetadata = clientMetadata;
+        this.revisionCache = factory.getRevisionCache() != null ? factory.getRevisionCache()
+                : new CouchDBRevisionCache(0);
         this.setBatchSize(persistenceUnit, externalProperties);
+        this.setBulkPersistSize(persistenceUnit, externalProperties);
     }
 
     /*
@@ -148,26 +167,10 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
     {
         HttpResponse response = null;
         EntityMetadata entityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClass);
-        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
-                entityMetadata.getPersistenceUnit());
         try
         {
-            if (key instanceof JsonElement)
-            {
-                key = ((JsonElement) key).getAsString();
-            }
-            String _id = null;
-            if (metaModel.isEmbeddable(entityMetadata.getIdAttribute().getBindableJavaType()))
-            {
-                Field field = (Field) entityMetadata.getIdAttribute().getJavaMember();
-                EmbeddableType embeddableType = metaModel.embeddable(entityMetadata.getIdAttribute()
-                        .getBindableJavaType());
-                _id = CouchDBObjectMapper.get_Id(field, key, embeddableType, entityMetadata.getTableName());
-            }
-            else
-            {
-                _id = entityMetadata.getTableName() + PropertyAccessorHelper.getString(key);
-            }
+            flushBulkDocuments();
+            String _id = getDocumentId(entityMetadata, key);
 
             URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
                     CouchDBConstants.URL_SEPARATOR + entityMetadata.getSchema().toLowerCase()
@@ -186,6 +189,7 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
             {
                 return null;
             }
+            cacheRevision(entityMetadata.getSchema(), _id, jsonObject.get("_rev"));
 
             return CouchDBObjectMapper.getEntityFromJson(entityClass, entityMetadata, jsonObject,
                     entityMetadata.getRelationNames(), kunderaMetadata);
@@ -211,17 +215,185 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
     public <E> List<E> findAll(Class<E> entityClass, String[] columnsToSelect, Object... keys)
     {
         List results = new ArrayList();
-        for (Object key : keys)
+        if (keys == null || keys.length == 0)
+        {
+            return results;
+        }
+        HttpResponse response = null;
+        EntityMetadata entityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClass);
+        try
         {
-            Object object = find(entityClass, key);
-            if (object != null)
+            flushBulkDocuments();
+            JsonArray ids = new JsonArray();
+            for (Object key : keys)
             {
-                results.add(object);
+                ids.add(gson.toJsonTree(getDocumentId(entityMetadata, key)));
             }
+            JsonObject body = new JsonObject();
+            body.add("keys", ids);
+
+            URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
+                    CouchDBConstants.URL_SEPARATOR + entityMetadata.getSchema().toLowerCase()
+                            + CouchDBConstants.URL_SEPARATOR + CouchDBConstants.ALL_DOCS, "include_docs=true", null);
+            response = post(uri, body.toString());
+
+            JsonArray rows = getJsonFromResponse(response);
+            if (rows == null)
+            {
+                return results;
+            }
+            String idColumnName = ((AbstractAttribute) entityMetadata.getIdAttribute()).getJPAColumnName();
+            for (JsonElement row : rows)
+            {
+                JsonElement doc = row.getAsJsonObject().get("doc");
+                // Missing and deleted documents have no doc.
+                if (doc == null || doc.isJsonNull() || doc.getAsJsonObject().get(idColumnName) == null)
+                {
+                    continue;
+                }
+                JsonObject jsonObject = doc.getAsJsonObject();
+                cacheRevision(entityMetadata.getSchema(), row.getAsJsonObject().get("id").getAsString(),
+                        jsonObject.get("_rev"));
+                Object object = CouchDBObjectMapper.getEntityFromJson(entityClass, entityMetadata, jsonObject,
+                        entityMetadata.getRelationNames(), kunderaMetadata);
+                if (object != null)
+                {
+                    results.add(object);
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            log.error("Error while finding objects by keys {}, Caused by {}.", Arrays.toString(keys), e);
+            throw new KunderaException(e);
+        }
+        finally
+        {
+            closeContent(response);
         }
         return results;
     }
 
+    /**
+     * Gets id of document holding entity of given key.
+     * 
+     * @param entityMetadata
+     *            the entity metadata
+     * @param key
+     *            the key
+     * @return the document id
+     */
+    private String getDocumentId(EntityMetadata entityMetadata, Object key)
+    {
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
+                entityMetadata.getPersistenceUnit());
+        if (key instanceof JsonElement)
+        {
+            key = ((JsonElement) key).getAsString();
+        }
+        if (metaModel.isEmbeddable(entityMetadata.getIdAttribute().getBindableJavaType()))
+        {
+            Field field = (Field) entityMetadata.getIdAttribute().getJavaMember();
+            EmbeddableType embeddableType = metaModel.embeddable(entityMetadata.getIdAttribute()
+                    .getBindableJavaType());
+            return CouchDBObjectMapper.get_Id(field, key, embeddableType, entityMetadata.getTableName());
+        }
+        return entityMetadata.getTableName() + PropertyAccessorHelper.getString(key);
+    }
+
+    /**
+     * Caches revision of document, if present.
+     * 
+     * @param database
+     *            the database
+     * @param _id
+     *            the document id
+     * @param rev
+     *            the revision
+     */
+    private void cacheRevision(String database, String _id, JsonElement rev)
+    {
+        if (rev != null && !rev.isJsonNull())
+        {
+            revisionCache.put(database, _id, rev.getAsString());
+        }
+    }
+
+    /**
+     * Reads revision of document from database and caches it.
+     * 
+     * @param database
+     *            the database
+     * @param _id
+     *            the document id
+     * @return the revision, or null if document does not exist
+     * @throws URISyntaxException
+     *             the URI syntax exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private JsonElement fetchRevision(String database, String _id) throws URISyntaxException, IOException
+    {
+        URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
+                CouchDBConstants.URL_SEPARATOR + database.toLowerCase() + CouchDBConstants.URL_SEPARATOR + _id, null,
+                null);
+        HttpGet get = new HttpGet(uri);
+        get.addHeader("Accept", "application/json");
+        HttpResponse response = httpClient.execute(httpHost, get, CouchDBUtils.getContext(httpHost));
+        try
+        {
+            InputStream content = response.getEntity().getContent();
+            Reader reader = new InputStreamReader(content);
+            JsonObject jsonObject = gson.fromJson(reader, JsonObject.class);
+            JsonElement rev = jsonObject.get("_rev");
+            cacheRevision(database, _id, rev);
+            return rev;
+        }
+        finally
+        {
+            closeContent(response);
+        }
+    }
+
+    /**
+     * Returns revision of document, read from database only if not cached.
+     * 
+     * @param database
+     *            the database
+     * @param _id
+     *            the document id
+     * @return the revision
+     * @throws URISyntaxException
+     *             the URI syntax exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private JsonElement getRevision(String database, String _id) throws URISyntaxException, IOException
+    {
+        String rev = revisionCache.get(database, _id);
+        return rev != null ? gson.toJsonTree(rev) : fetchRevision(database, _id);
+    }
+
+    /**
+     * Posts json to given uri.
+     * 
+     * @param uri
+     *            the uri
+     * @param json
+     *            the json
+     * @return the response
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private HttpResponse post(URI uri, String json) throws IOException
+    {
+        HttpPost post = new HttpPost(uri);
+        StringEntity entity = new StringEntity(json, Constants.CHARSET_UTF8);
+        entity.setContentType("application/json");
+        post.setEntity(entity);
+        return httpClient.execute(httpHost, post, CouchDBUtils.getContext(httpHost));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -242,6 +414,7 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
     @Override
     public void close()
     {
+        flushBulkDocuments();
         externalProperties = null;
     }
 
@@ -257,21 +430,14 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
         HttpResponse response = null;
         try
         {
+            flushBulkDocuments();
             EntityMetadata entityMetadata = KunderaMetadataManager
                     .getEntityMetadata(kunderaMetadata, entity.getClass());
-            MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
-                    entityMetadata.getPersistenceUnit());
-            String _id = null;
-            if (metaModel.isEmbeddable(entityMetadata.getIdAttribute().getBindableJavaType()))
+            String _id = getDocumentId(entityMetadata, pKey);
+            String rev = revisionCache.get(entityMetadata.getSchema(), _id);
+            if (rev != null && deleteDocument(entityMetadata.getSchema(), _id, rev) != HttpStatus.SC_CONFLICT)
             {
-                Field field = (Field) entityMetadata.getIdAttribute().getJavaMember();
-                EmbeddableType embeddableType = metaModel.embeddable(entityMetadata.getIdAttribute()
-                        .getBindableJavaType());
-                _id = CouchDBObjectMapper.get_Id(field, pKey, embeddableType, entityMetadata.getTableName());
-            }
-            else
-            {
-                _id = entityMetadata.getTableName() + PropertyAccessorHelper.getString(pKey);
+                return;
             }
             URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
                     CouchDBConstants.URL_SEPARATOR + entityMetadata.getSchema().toLowerCase()
@@ -484,6 +650,7 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
         HttpResponse response = null;
         try
         {
+            flushBulkDocuments();
             String q = "key=" + CouchDBUtils.appendQuotes(columnValue);
             uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
                     CouchDBConstants.URL_SEPARATOR + schemaName.toLowerCase() + CouchDBConstants.URL_SEPARATOR
@@ -544,23 +711,45 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
     private void onDelete(String schemaName, Object pKey, HttpResponse response, JsonObject jsonObject)
             throws URISyntaxException, IOException, ClientProtocolException
     {
-        URI uri;
-        String q;
         JsonElement rev = jsonObject.get("_rev");
+        deleteDocument(schemaName, pKey, rev.getAsString());
+    }
 
+    /**
+     * Deletes revision of document.
+     * 
+     * @param schemaName
+     *            the schema name
+     * @param pKey
+     *            the document id
+     * @param rev
+     *            the revision
+     * @return the status code
+     * @throws URISyntaxException
+     *             the URI syntax exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     * @throws ClientProtocolException
+     *             the client protocol exception
+     */
+    private int deleteDocument(String schemaName, Object pKey, String rev) throws URISyntaxException, IOException,
+            ClientProtocolException
+    {
         StringBuilder builder = new StringBuilder();
         builder.append("rev=");
-        builder.append(rev.getAsString());
-        q = builder.toString();
+        builder.append(rev);
+        String q = builder.toString();
 
-        uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
+        URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
                 CouchDBConstants.URL_SEPARATOR + schemaName.toLowerCase() + CouchDBConstants.URL_SEPARATOR + pKey, q,
                 null);
 
         HttpDelete delete = new HttpDelete(uri);
 
-        response = httpClient.execute(delete);
+        HttpResponse response = httpClient.execute(delete);
         closeContent(response);
+        revisionCache.remove(schemaName, pKey.toString());
+        return response.getStatusLine().getStatusCode();
     }
 
     /*
@@ -630,46 +819,229 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
                     kunderaMetadata);
 
             String _id = object.get("_id").getAsString();
+            String database = entityMetadata.getSchema();
 
-            URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
-                    CouchDBConstants.URL_SEPARATOR + entityMetadata.getSchema().toLowerCase()
-                            + CouchDBConstants.URL_SEPARATOR + _id, null, null);
-
-            HttpPut put = new HttpPut(uri);
+            if (isUpdate)
+            {
+                object.add("_rev", getRevision(database, _id));
+            }
+            object.addProperty("_id", entityMetadata.getTableName() + id);
 
-            StringEntity stringEntity = null;
+            if (bulkPersistSize > 0)
+            {
+                bufferDocument(database, object);
+                return;
+            }
 
-            if (isUpdate)
+            response = put(database, _id, object);
+            if (isUpdate && response.getStatusLine().getStatusCode() == HttpStatus.SC_CONFLICT)
             {
-                HttpGet get = new HttpGet(uri);
-                get.addHeader("Accept", "application/json");
-                response = httpClient.execute(httpHost, get, CouchDBUtils.getContext(httpHost));
+                // cached revision is stale.
+                closeContent(response);
+                object.add("_rev", fetchRevision(database, _id));
+                response = put(database, _id, object);
+            }
+            onPut(database, _id, response);
+        }
+        catch (Exception e)
+        {
+            log.error("Error while persisting entity with id {}, caused by {}. ", id, e);
+            throw new KunderaException(e);
+        }
+        finally
+        {
+            closeContent(response);
+        }
+    }
+
+    /**
+     * Puts document.
+     * 
+     * @param database
+     *            the database
+     * @param _id
+     *            the document id
+     * @param object
+     *            the document
+     * @return the response
+     * @throws URISyntaxException
+     *             the URI syntax exception
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private HttpResponse put(String database, String _id, JsonObject object) throws URISyntaxException, IOException
+    {
+        URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
+                CouchDBConstants.URL_SEPARATOR + database.toLowerCase() + CouchDBConstants.URL_SEPARATOR + _id, null,
+                null);
+        HttpPut put = new HttpPut(uri);
+        StringEntity stringEntity = new StringEntity(object.toString(), Constants.CHARSET_UTF8);
+        stringEntity.setContentType("application/json");
+        put.setEntity(stringEntity);
+        return httpClient.execute(httpHost, put, CouchDBUtils.getContext(httpHost));
+    }
+
+    /**
+     * Caches revision written by a put.
+     * 
+     * @param database
+     *            the database
+     * @param _id
+     *            the document id
+     * @param response
+     *            the response
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private void onPut(String database, String _id, HttpResponse response) throws IOException
+    {
+        int status = response.getStatusLine().getStatusCode();
+        if (status == HttpStatus.SC_CREATED || status == HttpStatus.SC_ACCEPTED)
+        {
+            Reader reader = new InputStreamReader(response.getEntity().getContent());
+            JsonObject json = gson.fromJson(reader, JsonObject.class);
+            cacheRevision(database, _id, json.get("rev"));
+        }
+        else
+        {
+            revisionCache.remove(database, _id);
+        }
+    }
+
+    /**
+     * Buffers document for bulk persist, sent once buffer is full.
+     * 
+     * @param database
+     *            the database
+     * @param object
+     *            the document
+     */
+    private void bufferDocument(String database, JsonObject object)
+    {
+        List<JsonObject> documents = bulkDocuments.get(database);
+        if (documents == null)
+        {
+            documents = new ArrayList<JsonObject>();
+            bulkDocuments.put(database, documents);
+        }
+        documents.add(object);
+        if (++bufferedDocuments >= bulkPersistSize)
+        {
+            flushBulkDocuments();
+        }
+    }
 
+    /**
+     * Sends documents buffered for bulk persist, one _bulk_docs request per
+     * database.
+     */
+    private void flushBulkDocuments()
+    {
+        if (bufferedDocuments == 0)
+        {
+            return;
+        }
+        Map<String, List<JsonObject>> documents = bulkDocuments;
+        bulkDocuments = new LinkedHashMap<String, List<JsonObject>>();
+        bufferedDocuments = 0;
+        for (Map.Entry<String, List<JsonObject>> entry : documents.entrySet())
+        {
+            bulkSave(entry.getKey(), entry.getValue(), false);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.io.Flushable#flush()
+     */
+    @Override
+    public void flush()
+    {
+        flushBulkDocuments();
+    }
+
+    /**
+     * Saves documents by one _bulk_docs request and caches their new
+     * revisions. Documents rejected for a stale revision are put again with
+     * revision read from database.
+     * 
+     * @param database
+     *            the database
+     * @param documents
+     *            the documents
+     * @param allOrNothing
+     *            whether documents are saved all or nothing
+     */
+    private void bulkSave(String database, List<JsonObject> documents, boolean allOrNothing)
+    {
+        HttpResponse response = null;
+        try
+        {
+            URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
+                    CouchDBConstants.URL_SEPARATOR + database.toLowerCase() + CouchDBConstants.URL_SEPARATOR
+                            + CouchDBConstants.BULK_DOCS, null, null);
+            String object = String.format("{%s%s}", allOrNothing ? "\"all_or_nothing\": true," : "",
+                    "\"docs\": " + gson.toJson(documents));
+            response = post(uri, object);
+
+            JsonElement json = gson.fromJson(new InputStreamReader(response.getEntity().getContent()),
+                    JsonElement.class);
+            if (json == null || !json.isJsonArray())
+            {
+                return;
+            }
+            Map<String, JsonObject> conflicts = new LinkedHashMap<String, JsonObject>();
+            List<String> errors = new ArrayList<String>();
+            JsonArray results = json.getAsJsonArray();
+            for (int i = 0; i < results.size(); i++)
+            {
+                JsonObject result = results.get(i).getAsJsonObject();
+                String _id = result.get("id").getAsString();
+                if (result.get("rev") != null && result.get("error") == null)
+                {
+                    cacheRevision(database, _id, result.get("rev"));
+                }
+                else if ("conflict".equals(getAsString(result.get("error"))) && !allOrNothing)
+                {
+                    conflicts.put(_id, documents.get(i));
+                }
+                else if (result.get("error") != null)
+                {
+                    revisionCache.remove(database, _id);
+                    errors.add(_id + ": " + getAsString(result.get("reason")));
+                }
+            }
+            closeContent(response);
+            response = null;
+            for (Map.Entry<String, JsonObject> conflict : conflicts.entrySet())
+            {
+                JsonObject document = conflict.getValue();
+                document.add("_rev", fetchRevision(database, conflict.getKey()));
+                HttpResponse putResponse = put(database, conflict.getKey(), document);
                 try
                 {
-                    InputStream content = response.getEntity().getContent();
-                    Reader reader = new InputStreamReader(content);
-                    JsonObject jsonObject = gson.fromJson(reader, JsonObject.class);
-                    JsonElement rev = jsonObject.get("_rev");
-                    object.add("_rev", rev);
+                    onPut(database, conflict.getKey(), putResponse);
                 }
                 finally
                 {
-                    closeContent(response);
+                    closeContent(putResponse);
                 }
             }
-            object.addProperty("_id", entityMetadata.getTableName() + id);
-            stringEntity = new StringEntity(object.toString(), Constants.CHARSET_UTF8);
-            stringEntity.setContentType("application/json");
-            put.setEntity(stringEntity);
-
-            response = httpClient.execute(httpHost, put, CouchDBUtils.getContext(httpHost));
-
+            if (!errors.isEmpty())
+            {
+                throw new KunderaException("Error while saving documents " + errors);
+            }
+        }
+        catch (KunderaException e)
+        {
+            log.error("Error while executing bulk save, caused by {}. ", e);
+            throw e;
         }
         catch (Exception e)
         {
-            log.error("Error while persisting entity with id {}, caused by {}. ", id, e);
-            throw new KunderaException(e);
+            log.error("Error while executing bulk save, caused by {}. ", e);
+            throw new KunderaException("Error while executing bulk save. caused by :" + e);
         }
         finally
         {
@@ -677,6 +1049,18 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
         }
     }
 
+    /**
+     * Gets json element as string.
+     * 
+     * @param element
+     *            the element
+     * @return the string, or null if absent
+     */
+    private String getAsString(JsonElement element)
+    {
+        return element == null || element instanceof JsonNull ? null : element.getAsString();
+    }
+
     /**
      * Close content.
      * 
@@ -728,7 +1112,6 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
     public int executeBatch()
     {
         List<JsonObject> objectsToPersist = new ArrayList<JsonObject>();
-        HttpResponse response = null;
         String databaseName = null;
         boolean isbulk = false;
         try
@@ -750,6 +1133,12 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
                         databaseName = metadata.getSchema();
                         JsonObject asJsonObject = CouchDBObjectMapper.getJsonOfEntity(metadata, node.getData(),
                                 node.getEntityId(), getRelationHolders(node), kunderaMetadata);
+                        String rev = node.isUpdate() ? revisionCache.get(databaseName, asJsonObject.get("_id")
+                                .getAsString()) : null;
+                        if (rev != null)
+                        {
+                            asJsonObject.addProperty("_rev", rev);
+                        }
                         objectsToPersist.add(asJsonObject);
                         isbulk = true;
                     }
@@ -759,35 +1148,13 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
 
             if (isbulk)
             {
-                try
-                {
-                    URI uri = new URI(CouchDBConstants.PROTOCOL, null, httpHost.getHostName(), httpHost.getPort(),
-                            CouchDBConstants.URL_SEPARATOR + databaseName.toLowerCase()
-                                    + CouchDBConstants.URL_SEPARATOR + "_bulk_docs", null, null);
-
-                    HttpPost post = new HttpPost(uri);
-                    String object = String.format("{%s%s}", "\"all_or_nothing\": true,",
-                            "\"docs\": " + gson.toJson(objectsToPersist));
-                    StringEntity entity = new StringEntity(object, "UTF-8");
-                    entity.setContentType("application/json");
-                    post.setEntity(entity);
-                    response = httpClient.execute(httpHost, post, CouchDBUtils.getContext(httpHost));
-                }
-                catch (Exception e)
-                {
-                    log.error("Error while executing batch, caused by {}. ", e);
-                    throw new KunderaException("Error while executing batch. caused by :" + e);
-                }
+                bulkSave(databaseName, objectsToPersist, true);
             }
         }
         catch (OperationNotSupportedException e)
         {
             throw new KunderaException(e.getMessage());
         }
-        finally
-        {
-            CouchDBUtils.closeContent(response);
-        }
 
         return nodes.size();
     }
@@ -844,6 +1211,7 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
         List results = new ArrayList();
         try
         {
+            flushBulkDocuments();
             MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
                     m.getPersistenceUnit());
             StringBuilder q = new StringBuilder();
@@ -1248,6 +1616,45 @@ public class CouchDBClient extends ClientBase implements Client<CouchDBQuery>, B
         this.batchSize = batch_Size;
     }
 
+    /**
+     * Sets the bulk persist size.
+     * 
+     * @param persistenceUnit
+     *            the persistence unit
+     * @param puProperties
+     *            the pu properties
+     */
+    private void setBulkPersistSize(String persistenceUnit, Map<String, Object> puProperties)
+    {
+        Object bulkSize = puProperties != null ? puProperties.get(CouchDbDBClientProperties.BULK_PERSIST_SIZE)
+                : null;
+        if (bulkSize == null)
+        {
+            bulkSize = KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata, persistenceUnit)
+                    .getProperty(CouchDbDBClientProperties.BULK_PERSIST_SIZE);
+        }
+        if (bulkSize != null)
+        {
+            setBulkPersistSize(Integer.valueOf(bulkSize.toString().trim()));
+        }
+    }
+
+    /**
+     * Sets number of persisted documents sent in one _bulk_docs request.
+     * Buffered documents are also sent on flush, before reads and deletes.
+     * 
+     * @param bulkPersistSize
+     *            the bulk persist size, 0 to send each document on persist
+     */
+    void setBulkPersistSize(int bulkPersistSize)
+    {
+        this.bulkPersistSize = bulkPersistSize;
+        if (bulkPersistSize <= 0)
+        {
+            flushBulkDocuments();
+        }
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -66,6 +66,9 @@ public class CouchDBClientFactory extends GenericClientFactory
     /** The http host. */
     private HttpHost httpHost;
 
+    /** Revisions of documents, shared by clients. */
+    private CouchDBRevisionCache revisionCache;
+
     /*
      * (non-Javadoc)
      * 
@@ -102,6 +105,10 @@ public class CouchDBClientFactory extends GenericClientFactory
         }
         schemaManager = null;
         externalProperties = null;
+        if (revisionCache != null)
+        {
+            revisionCache.clear();
+        }
         httpClient.getConnectionManager().shutdown();
 
     }
@@ -140,6 +147,7 @@ public class CouchDBClientFactory extends GenericClientFactory
         String userName = null;
         String password = null;
         String maxConnections = null;
+        String revisionCacheSize = null;
         if (externalProperties != null)
         {
             contactNode = (String) externalProperties.get(PersistenceProperties.KUNDERA_NODES);
@@ -149,6 +157,7 @@ public class CouchDBClientFactory extends GenericClientFactory
             userName = (String) externalProperties.get(PersistenceProperties.KUNDERA_USERNAME);
             password = (String) externalProperties.get(PersistenceProperties.KUNDERA_PASSWORD);
             maxConnections = (String) externalProperties.get(PersistenceProperties.KUNDERA_POOL_SIZE_MAX_TOTAL);
+            revisionCacheSize = (String) externalProperties.get(CouchDBConstants.REVISION_CACHE_SIZE);
         }
         if (contactNode == null)
         {
@@ -171,6 +180,12 @@ public class CouchDBClientFactory extends GenericClientFactory
             userName = props.getProperty(PersistenceProperties.KUNDERA_USERNAME);
             password = props.getProperty(PersistenceProperties.KUNDERA_PASSWORD);
         }
+        if (revisionCacheSize == null)
+        {
+            revisionCacheSize = props.getProperty(CouchDBConstants.REVISION_CACHE_SIZE);
+        }
+        revisionCache = new CouchDBRevisionCache(!StringUtils.isBlank(revisionCacheSize) ? Integer
+                .parseInt(revisionCacheSize.trim()) : CouchDBConstants.DEFAULT_REVISION_CACHE_SIZE);
 
         onValidation(contactNode, defaultPort);
         try
@@ -291,4 +306,14 @@ public class CouchDBClientFactory extends GenericClientFactory
     {
         return indexManager;
     }
+
+    /**
+     * Gets the revision cache.
+     * 
+     * @return the revision cache
+     */
+    CouchDBRevisionCache getRevisionCache()
+    {
+        return revisionCache;
+    }
 }
\ No newline at end of file
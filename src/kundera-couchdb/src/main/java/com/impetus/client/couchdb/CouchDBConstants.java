@@ -68,4 +68,16 @@ public interface CouchDBConstants
 
     /** The Constant AGGREGATIONS. */
     public static final String AGGREGATIONS = "aggregations";
+
+    /** Number of document revisions cached per factory, 0 to disable. */
+    public static final String REVISION_CACHE_SIZE = "couchdb.revision.cache.size";
+
+    /** Default number of document revisions cached. */
+    public static final int DEFAULT_REVISION_CACHE_SIZE = 10000;
+
+    /** The Constant BULK_DOCS. */
+    public static final String BULK_DOCS = "_bulk_docs";
+
+    /** The Constant ALL_DOCS. */
+    public static final String ALL_DOCS = "_all_docs";
 }
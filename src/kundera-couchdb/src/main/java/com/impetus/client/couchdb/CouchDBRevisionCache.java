@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.couchdb;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of document revisions, populated from reads and
+ * writes so that updates and deletes need not read a document just for its
+ * <code>_rev</code>. A cached revision may be stale, in which case CouchDB
+ * answers with a conflict and revision is read again.
+ */
+final class CouchDBRevisionCache
+{
+    /** Maximum number of revisions held. */
+    private final int maxSize;
+
+    /** Revisions, keyed by database and document id. */
+    private final Map<String, String> revisions;
+
+    /**
+     * Instantiates a new revision cache.
+     * 
+     * @param maxSize
+     *            maximum number of revisions held, 0 to disable caching
+     */
+    CouchDBRevisionCache(final int maxSize)
+    {
+        this.maxSize = maxSize;
+        this.revisions = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+            {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Returns cached revision of document.
+     * 
+     * @param database
+     *            the database
+     * @param id
+     *            the document id
+     * @return the revision, or null if not cached
+     */
+    String get(String database, String id)
+    {
+        return revisions.get(getKey(database, id));
+    }
+
+    /**
+     * Caches revision of document.
+     * 
+     * @param database
+     *            the database
+     * @param id
+     *            the document id
+     * @param rev
+     *            the revision
+     */
+    void put(String database, String id, String rev)
+    {
+        if (maxSize > 0 && rev != null)
+        {
+            revisions.put(getKey(database, id), rev);
+        }
+    }
+
+    /**
+     * Removes revision of document, on its delete.
+     * 
+     * @param database
+     *            the database
+     * @param id
+     *            the document id
+     */
+    void remove(String database, String id)
+    {
+        revisions.remove(getKey(database, id));
+    }
+
+    /**
+     * Number of revisions held.
+     * 
+     * @return the size
+     */
+    int size()
+    {
+        return revisions.size();
+    }
+
+    /**
+     * Clears all revisions.
+     */
+    void clear()
+    {
+        revisions.clear();
+    }
+
+    /**
+     * Gets the key.
+     * 
+     * @param database
+     *            the database
+     * @param id
+     *            the document id
+     * @return the key
+     */
+    private String getKey(String database, String id)
+    {
+        return database.toLowerCase() + CouchDBConstants.URL_SEPARATOR + id;
+    }
+}
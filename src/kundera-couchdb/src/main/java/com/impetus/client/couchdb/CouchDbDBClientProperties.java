@@ -35,6 +35,12 @@ public class CouchDbDBClientProperties
     /** The Constant BATCH_SIZE. */
     public static final String BATCH_SIZE = "batch.size";
 
+    /**
+     * Number of persisted documents buffered and sent in one _bulk_docs
+     * request, 0 (default) to send each on persist.
+     */
+    public static final String BULK_PERSIST_SIZE = "couchdb.bulk.persist.size";
+
     /** The couch db client. */
     private CouchDBClient couchDBClient;
 
@@ -61,6 +67,11 @@ public class CouchDbDBClientProperties
                     {
                         setBatchSize(value);
                     }
+                    else if (key.equals(BULK_PERSIST_SIZE))
+                    {
+                        this.couchDBClient.setBulkPersistSize(value instanceof Integer ? (Integer) value : Integer
+                                .valueOf(value.toString().trim()));
+                    }
                 }
                 // Add more properties as needed
             }
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.couchdb;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Junit for {@link CouchDBRevisionCache}.
+ */
+public class CouchDBRevisionCacheTest
+{
+    @Test
+    public void testLeastRecentlyUsedEviction()
+    {
+        CouchDBRevisionCache cache = new CouchDBRevisionCache(2);
+        cache.put("CouchDatabase", "PERSON1", "1-a");
+        cache.put("couchdatabase", "PERSON2", "1-b");
+        Assert.assertEquals("1-a", cache.get("couchdatabase", "PERSON1"));
+
+        // PERSON2 is least recently used now.
+        cache.put("couchdatabase", "PERSON3", "1-c");
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNull(cache.get("couchdatabase", "PERSON2"));
+        Assert.assertEquals("1-a", cache.get("couchdatabase", "PERSON1"));
+        Assert.assertEquals("1-c", cache.get("couchdatabase", "PERSON3"));
+
+        cache.put("couchdatabase", "PERSON1", "2-a");
+        Assert.assertEquals("2-a", cache.get("couchdatabase", "PERSON1"));
+        cache.remove("couchdatabase", "PERSON1");
+        Assert.assertNull(cache.get("couchdatabase", "PERSON1"));
+        Assert.assertNull(cache.get("otherdatabase", "PERSON3"));
+
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabledCache()
+    {
+        CouchDBRevisionCache cache = new CouchDBRevisionCache(0);
+        cache.put("couchdatabase", "PERSON1", "1-a");
+        Assert.assertNull(cache.get("couchdatabase", "PERSON1"));
+        Assert.assertEquals(0, cache.size());
+
+        cache = new CouchDBRevisionCache(10);
+        cache.put("couchdatabase", "PERSON1", null);
+        Assert.assertEquals(0, cache.size());
+    }
+}
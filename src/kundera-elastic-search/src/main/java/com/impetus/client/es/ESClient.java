@@ -35,12 +35,15 @@ import org.elasticsearch.action.bulk.BulkRequestBuilder;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetRequestBuilder;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.transport.TransportClient;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.FilteredQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -109,6 +112,9 @@ public class ESClient extends ClientBase implements Client<ESQuery>, Batcher, Cl
     /** The set reresh indexes. */
     private boolean setRereshIndexes;
 
+    /** number of documents per multi get, scroll or bulk delete request. */
+    private int pageSize = ESConstants.DEFAULT_PAGE_SIZE;
+
     /** The Constant KEY_SEPERATOR. */
     private static final String KEY_SEPERATOR = "\001";
 
@@ -141,6 +147,9 @@ public class ESClient extends ClientBase implements Client<ESQuery>, Batcher, Cl
         setRefreshIndexes(
                 kunderaMetadata.getApplicationMetadata().getPersistenceUnitMetadata(persistenceUnit).getProperties(),
                 externalProperties);
+        setPageSize(
+                kunderaMetadata.getApplicationMetadata().getPersistenceUnitMetadata(persistenceUnit).getProperties(),
+                externalProperties);
     }
 
     /*
@@ -362,6 +371,105 @@ public class ESClient extends ClientBase implements Client<ESQuery>, Batcher, Cl
                 query);
     }
 
+    /**
+     * Starts scrolling over query results, a page at a time.
+     * 
+     * @param filter
+     *            the filter
+     * @param entityMetadata
+     *            the entity metadata
+     * @param query
+     *            the query
+     * @return first page
+     */
+    SearchResponse startScroll(QueryBuilder filter, final EntityMetadata entityMetadata, KunderaQuery query)
+    {
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata()
+                .getMetamodel(entityMetadata.getPersistenceUnit());
+
+        SearchRequestBuilder builder = txClient.prepareSearch(entityMetadata.getSchema().toLowerCase())
+                .setTypes(entityMetadata.getTableName());
+
+        addFieldsToBuilder(query.getResult(), entityMetadata.getEntityClazz(), metaModel, builder);
+        builder.setQuery(QueryBuilders.filteredQuery(null, filter));
+        addSortOrder(builder, query, entityMetadata);
+        builder.setScroll(new TimeValue(ESConstants.SCROLL_KEEP_ALIVE)).setSize(getPageSize());
+        logger.debug("Query generated: " + builder);
+
+        try
+        {
+            return builder.execute().actionGet();
+        }
+        catch (ElasticsearchException e)
+        {
+            logger.error("Exception occured while executing query on Elasticsearch.", e);
+            throw new KunderaException("Exception occured while executing query on Elasticsearch.", e);
+        }
+    }
+
+    /**
+     * Fetches next page of a scroll.
+     * 
+     * @param scrollId
+     *            the scroll id
+     * @return next page, with no hits once scroll is complete
+     */
+    SearchResponse scroll(String scrollId)
+    {
+        try
+        {
+            return txClient.prepareSearchScroll(scrollId).setScroll(new TimeValue(ESConstants.SCROLL_KEEP_ALIVE))
+                    .execute().actionGet();
+        }
+        catch (ElasticsearchException e)
+        {
+            logger.error("Exception occured while scrolling on Elasticsearch.", e);
+            throw new KunderaException("Exception occured while scrolling on Elasticsearch.", e);
+        }
+    }
+
+    /**
+     * Releases a scroll, before its keep alive expires.
+     * 
+     * @param scrollId
+     *            the scroll id
+     */
+    void clearScroll(String scrollId)
+    {
+        if (scrollId != null)
+        {
+            try
+            {
+                txClient.prepareClearScroll().addScrollId(scrollId).execute().actionGet();
+            }
+            catch (ElasticsearchException e)
+            {
+                // scroll is released on expiry anyway.
+                logger.warn("Error while clearing scroll {}, Caused by :.", scrollId, e);
+            }
+        }
+    }
+
+    /**
+     * Parses a page of scroll.
+     * 
+     * @param response
+     *            the response
+     * @param entityMetadata
+     *            the entity metadata
+     * @param query
+     *            the query
+     * @return entities, or selected fields of them
+     */
+    List parseScrollResponse(SearchResponse response, final EntityMetadata entityMetadata, KunderaQuery query)
+    {
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata()
+                .getMetamodel(entityMetadata.getPersistenceUnit());
+
+        return esResponseReader.parseResponse(response, null, query.getResult(), metaModel,
+                entityMetadata.getEntityClazz(), entityMetadata, query);
+    }
+
     /**
      * Adds the sort order.
      * 
@@ -429,7 +537,55 @@ public class ESClient extends ClientBase implements Client<ESQuery>, Batcher, Cl
     @Override
     public <E> List<E> findAll(Class<E> entityClass, String[] columnsToSelect, Object... keys)
     {
-        return null;
+        EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClass);
+
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata()
+                .getMetamodel(metadata.getPersistenceUnit());
+
+        EntityType entityType = metaModel.entity(metadata.getEntityClazz());
+
+        List results = new ArrayList();
+        int pageSize = getPageSize();
+        for (int start = 0; start < keys.length; start += pageSize)
+        {
+            int end = Math.min(start + pageSize, keys.length);
+            MultiGetRequestBuilder request = txClient.prepareMultiGet();
+            for (int i = start; i < end; i++)
+            {
+                request.add(metadata.getSchema().toLowerCase(), metadata.getTableName(),
+                        getKeyAsString(keys[i], metadata, metaModel));
+            }
+
+            MultiGetItemResponse[] items = null;
+            try
+            {
+                items = request.execute().actionGet().getResponses();
+            }
+            catch (ElasticsearchException e)
+            {
+                logger.error("Error while find records of {}, Caused by :.", entityClass.getSimpleName(), e);
+                throw new PersistenceException(e);
+            }
+
+            for (int i = 0; i < items.length; i++)
+            {
+                if (items[i].isFailed())
+                {
+                    logger.error("Error while find record of {}, Caused by : {}.", entityClass.getSimpleName(),
+                            items[i].getFailure().getMessage());
+                    throw new PersistenceException(items[i].getFailure().getMessage());
+                }
+
+                GetResponse get = items[i].getResponse();
+                if (get.isExists())
+                {
+                    Object result = KunderaCoreUtils.createNewInstance(entityClass);
+                    PropertyAccessorHelper.setId(result, metadata, keys[start + i]);
+                    results.add(esResponseReader.wrapFindResult(get.getSource(), entityType, result, metadata, true));
+                }
+            }
+        }
+        return results;
     }
 
     /*
@@ -636,15 +792,35 @@ public class ESClient extends ClientBase implements Client<ESQuery>, Batcher, Cl
     @Override
     public void deleteByColumn(String schemaName, String tableName, String columnName, Object columnValue)
     {
-        // TODO: implement using scroll/scan and bulk delete requests
-        // Map<String, Object> querySource = new HashMap<String, Object>();
-        // querySource.put(columnName, columnValue);
-        //
-        // DeleteByQueryRequestBuilder deleteQueryBuilder =
-        // txClient.prepareDeleteByQuery(schemaName.toLowerCase())
-        // .setSource(querySource).setTypes(tableName);
-        //
-        // deleteQueryBuilder.execute().actionGet();
+        // scroll over matching ids and delete them a page at a time.
+        SearchResponse response = txClient.prepareSearch(schemaName.toLowerCase()).setTypes(tableName)
+                .setQuery(QueryBuilders.termQuery(columnName, columnValue)).setFetchSource(false)
+                .setScroll(new TimeValue(ESConstants.SCROLL_KEEP_ALIVE)).setSize(getPageSize()).execute()
+                .actionGet();
+        try
+        {
+            while (response.getHits().getHits().length > 0)
+            {
+                BulkRequestBuilder bulkRequest = txClient.prepareBulk().setRefresh(isRefreshIndexes());
+                for (SearchHit hit : response.getHits().getHits())
+                {
+                    bulkRequest.add(new DeleteRequest(hit.getIndex(), hit.getType(), hit.getId()));
+                }
+
+                BulkResponse bulkResponse = bulkRequest.execute().actionGet();
+                if (bulkResponse.hasFailures())
+                {
+                    logger.error("Error while deleting records of {}, Caused by : {}.", tableName,
+                            bulkResponse.buildFailureMessage());
+                    throw new KunderaException(bulkResponse.buildFailureMessage());
+                }
+                response = scroll(response.getScrollId());
+            }
+        }
+        finally
+        {
+            clearScroll(response.getScrollId());
+        }
     }
 
     /*
@@ -993,6 +1169,48 @@ public class ESClient extends ClientBase implements Client<ESQuery>, Batcher, Cl
         }
     }
 
+    /**
+     * Sets the page size.
+     *
+     * @param puProps
+     *            the pu props
+     * @param externalProperties
+     *            the external properties
+     */
+    private void setPageSize(Properties puProps, Map<String, Object> externalProperties)
+    {
+        Object size = externalProperties != null ? externalProperties.get(ESConstants.KUNDERA_ES_PAGE_SIZE) : null;
+
+        if (size == null)
+        {
+            size = puProps.get(ESConstants.KUNDERA_ES_PAGE_SIZE);
+        }
+
+        if (size != null)
+        {
+            this.pageSize = Integer.parseInt(size.toString().trim());
+            if (this.pageSize <= 0)
+            {
+                throw new IllegalArgumentException(ESConstants.KUNDERA_ES_PAGE_SIZE
+                        + " property must be numeric and > 0.");
+            }
+        }
+    }
+
+    /**
+     * Gets number of documents per multi get, scroll or bulk delete request.
+     *
+     * @return the page size
+     */
+    int getPageSize()
+    {
+        if (clientProperties != null && clientProperties.get(ESConstants.ES_PAGE_SIZE) != null)
+        {
+            return Integer.parseInt(clientProperties.get(ESConstants.ES_PAGE_SIZE).toString().trim());
+        }
+        return this.pageSize;
+    }
+
     /**
      * Checks if is refresh indexes.
      *
@@ -57,4 +57,16 @@ public interface ESConstants
     
     /** The Constant KUNDERA_ES_REFRESH_INDEXES. */
     public static final String KUNDERA_ES_REFRESH_INDEXES = "kundera.es.refresh.indexes";
+
+    /** The Constant ES_PAGE_SIZE. */
+    public static final String ES_PAGE_SIZE = "es.page.size";
+
+    /** The Constant KUNDERA_ES_PAGE_SIZE. */
+    public static final String KUNDERA_ES_PAGE_SIZE = "kundera.es.page.size";
+
+    /** The Constant DEFAULT_PAGE_SIZE. */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    /** The Constant SCROLL_KEEP_ALIVE, in milliseconds. */
+    public static final long SCROLL_KEEP_ALIVE = 60000;
 }
@@ -113,10 +113,8 @@ public class ESQuery<E> extends QueryImpl
         MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
                 m.getPersistenceUnit());
         EntityType entity = metaModel.entity(m.getEntityClazz());
-        Expression whereExpression = KunderaQueryUtils.getWhereClause(kunderaQuery.getJpqlExpression());
 
-        QueryBuilder filter = whereExpression == null || whereExpression instanceof NullExpression ? null
-                : esFilterBuilder.populateFilterBuilder(((WhereClause) whereExpression).getConditionalExpression(), m);
+        QueryBuilder filter = buildFilter(m);
 
         return ((ESClient) client).executeQuery(filter, buildAggregation(kunderaQuery, m, filter), m,
                 getKunderaQuery(),this.firstResult, this.maxResult);
@@ -178,7 +176,29 @@ public class ESQuery<E> extends QueryImpl
     @Override
     public Iterator<E> iterate()
     {
-        return null;
+        EntityMetadata m = getEntityMetadata();
+        QueryBuilder filter = buildFilter(m);
+        if (buildAggregation(kunderaQuery, m, filter) != null)
+        {
+            throw new UnsupportedOperationException("Scrolling over aggregated query is unsupported in Elasticsearch");
+        }
+        return new ResultIterator<E>((ESClient) persistenceDelegeator.getClient(m), m, persistenceDelegeator, filter,
+                getKunderaQuery(), getFetchSize() != null ? getFetchSize() : this.maxResult);
+    }
+
+    /**
+     * Builds filter of where clause.
+     * 
+     * @param m
+     *            the entity metadata
+     * @return the filter, or null if there is no where clause
+     */
+    private QueryBuilder buildFilter(EntityMetadata m)
+    {
+        Expression whereExpression = KunderaQueryUtils.getWhereClause(kunderaQuery.getJpqlExpression());
+
+        return whereExpression == null || whereExpression instanceof NullExpression ? null : esFilterBuilder
+                .populateFilterBuilder(((WhereClause) whereExpression).getConditionalExpression(), m);
     }
 
     /**
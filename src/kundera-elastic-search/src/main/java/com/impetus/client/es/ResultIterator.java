@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.es;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.index.query.QueryBuilder;
+
+import com.impetus.kundera.client.Client;
+import com.impetus.kundera.client.EnhanceEntity;
+import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.persistence.PersistenceDelegator;
+import com.impetus.kundera.property.PropertyAccessorHelper;
+import com.impetus.kundera.query.IResultIterator;
+import com.impetus.kundera.query.KunderaQuery;
+
+/**
+ * The Class ResultIterator.
+ * 
+ *         Implementation of Elasticsearch result iteration, over a scroll
+ *         fetched a page at a time.
+ * @param <E>
+ *            the element type
+ */
+class ResultIterator<E> implements IResultIterator<E>
+{
+    /** The client. */
+    private ESClient client;
+
+    /** The m. */
+    private EntityMetadata m;
+
+    /** The persistence delegator. */
+    private PersistenceDelegator persistenceDelegator;
+
+    /** The filter. */
+    private QueryBuilder filter;
+
+    /** The query. */
+    private KunderaQuery query;
+
+    /** The fetch size. */
+    private int fetchSize;
+
+    /** The count. */
+    private int count;
+
+    /** The scroll id. */
+    private String scrollId;
+
+    /** The page. */
+    private List page = Collections.EMPTY_LIST;
+
+    /** The index within page. */
+    private int index;
+
+    /** The scroll complete. */
+    private boolean scrollComplete;
+
+    /**
+     * Instantiates a new result iterator.
+     * 
+     * @param client
+     *            the client
+     * @param m
+     *            the m
+     * @param pd
+     *            the pd
+     * @param filter
+     *            the filter
+     * @param query
+     *            the query
+     * @param fetchSize
+     *            the fetch size
+     */
+    ResultIterator(ESClient client, EntityMetadata m, PersistenceDelegator pd, QueryBuilder filter,
+            KunderaQuery query, Integer fetchSize)
+    {
+        this.client = client;
+        this.m = m;
+        this.persistenceDelegator = pd;
+        this.filter = filter;
+        this.query = query;
+        this.fetchSize = fetchSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext()
+    {
+        if (fetchSize <= 0 || count >= fetchSize)
+        {
+            onComplete();
+            return false;
+        }
+        if (index >= page.size() && !scrollComplete)
+        {
+            fetchPage();
+        }
+        return index < page.size();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public E next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException("Nothing to scroll further for:" + m.getEntityClazz());
+        }
+        Object object = page.get(index++);
+        count++;
+        if (isProjection() || (!m.isRelationViaJoinTable() && (m.getRelationNames() == null || (m.getRelationNames()
+                .isEmpty()))))
+        {
+            return (E) object;
+        }
+        return setRelationEntities(object, client, m);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.impetus.kundera.query.IResultIterator#next(int)
+     */
+    @Override
+    public List<E> next(int chunkSize)
+    {
+        List<E> chunk = new ArrayList<E>(chunkSize);
+        while (chunk.size() < chunkSize && hasNext())
+        {
+            chunk.add(next());
+        }
+        return chunk;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.util.Iterator#remove()
+     */
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException("remove method is not supported over pagination");
+    }
+
+    /**
+     * Fetches next page of scroll.
+     */
+    private void fetchPage()
+    {
+        SearchResponse response = scrollId == null ? client.startScroll(filter, m, query) : client.scroll(scrollId);
+        scrollId = response.getScrollId();
+        page = client.parseScrollResponse(response, m, query);
+        index = 0;
+        if (page.isEmpty())
+        {
+            onComplete();
+        }
+    }
+
+    /**
+     * Releases scroll, once nothing is left to fetch.
+     */
+    private void onComplete()
+    {
+        if (!scrollComplete)
+        {
+            scrollComplete = true;
+            client.clearScroll(scrollId);
+            scrollId = null;
+        }
+    }
+
+    /**
+     * Checks if query selects fields rather than entities.
+     * 
+     * @return true, if is projection
+     */
+    private boolean isProjection()
+    {
+        String[] fieldsToSelect = query.getResult();
+        return fieldsToSelect != null && fieldsToSelect.length > 1 && fieldsToSelect[1] != null;
+    }
+
+    /**
+     * Sets the relation entities.
+     * 
+     * @param enhanceEntity
+     *            the enhance entity
+     * @param client
+     *            the client
+     * @param m
+     *            the m
+     * @return the e
+     */
+    private E setRelationEntities(Object enhanceEntity, Client client, EntityMetadata m)
+    {
+        // Enhance entities can contain or may not contain relation.
+        // if it contain a relation means it is a child
+        // if it does not then it means it is a parent.
+        E result = null;
+        if (enhanceEntity != null)
+        {
+            if (!(enhanceEntity instanceof EnhanceEntity))
+            {
+                enhanceEntity = new EnhanceEntity(enhanceEntity, PropertyAccessorHelper.getId(enhanceEntity, m), null);
+            }
+            EnhanceEntity ee = (EnhanceEntity) enhanceEntity;
+
+            result = (E) client.getReader().recursivelyFindEntities(ee.getEntity(), ee.getRelations(), m,
+                    persistenceDelegator, false, new HashMap<Object, Object>());
+        }
+        return result;
+    }
+}
@@ -25,6 +25,7 @@ import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.Client;
 import org.elasticsearch.client.transport.TransportClient;
 import org.elasticsearch.common.transport.InetSocketTransportAddress;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.FilteredQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -168,17 +169,31 @@ public class ESIndexer implements Indexer
             log.info("Executing lucene query " + luceneQuery);
         }
 
+        // scroll over all matching ids, rather than a single capped page.
+        TimeValue keepAlive = new TimeValue(ESConstants.SCROLL_KEEP_ALIVE);
         ListenableActionFuture<SearchResponse> listenableActionFuture = client
                 .prepareSearch(m.getSchema().toLowerCase()).setQuery(QueryBuilders.queryStringQuery(luceneQuery))
-                .setSize(40000).execute();
+                .setFetchSource(false).setScroll(keepAlive).setSize(ESConstants.DEFAULT_PAGE_SIZE).execute();
         SearchResponse response = listenableActionFuture.actionGet();
 
         Map<String, Object> results = new HashMap<String, Object>();
-        for (SearchHit hit : response.getHits())
+        try
         {
-            Object id = PropertyAccessorHelper.fromSourceToTargetClass(
-                    ((AbstractAttribute) m.getIdAttribute()).getBindableJavaType(), String.class, hit.getId());
-            results.put(hit.getId(), id);
+            while (response.getHits().getHits().length > 0)
+            {
+                for (SearchHit hit : response.getHits())
+                {
+                    Object id = PropertyAccessorHelper.fromSourceToTargetClass(
+                            ((AbstractAttribute) m.getIdAttribute()).getBindableJavaType(), String.class, hit.getId());
+                    results.put(hit.getId(), id);
+                }
+                response = client.prepareSearchScroll(response.getScrollId()).setScroll(keepAlive).execute()
+                        .actionGet();
+            }
+        }
+        finally
+        {
+            client.prepareClearScroll().addScrollId(response.getScrollId()).execute().actionGet();
         }
         return results;
     }
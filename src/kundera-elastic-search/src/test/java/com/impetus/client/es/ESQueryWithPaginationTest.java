@@ -18,7 +18,10 @@ package com.impetus.client.es;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -36,6 +39,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.impetus.client.es.PersonES.Day;
+import com.impetus.kundera.client.Client;
 
 import junit.framework.Assert;
 
@@ -93,7 +97,9 @@ public class ESQueryWithPaginationTest {
 	@Before
 	public void setup() {
 
-		emf = Persistence.createEntityManagerFactory("es-pu");
+		Map<String, String> props = new HashMap<String, String>();
+		props.put(ESConstants.KUNDERA_ES_PAGE_SIZE, "7");
+		emf = Persistence.createEntityManagerFactory("es-pu", props);
 		em = emf.createEntityManager();
 		init();
 	}
@@ -126,6 +132,55 @@ public class ESQueryWithPaginationTest {
 
 	}
 
+	/**
+	 * Test iterate, scrolling over more than one page.
+	 */
+	@Test
+	public void testIterate() {
+
+		com.impetus.kundera.query.Query qry = (com.impetus.kundera.query.Query) em.createQuery(
+				"select p from PersonES p where p.age > 10 order by p.age", PersonES.class);
+		qry.setFetchSize(15);
+
+		Iterator<PersonES> iter = qry.iterate();
+		int age = 11;
+		while (iter.hasNext()) {
+			PersonES person = iter.next();
+			Assert.assertEquals(Integer.valueOf(age), person.getAge());
+			Assert.assertEquals("dev_" + age, person.getPersonName());
+			age++;
+		}
+		Assert.assertEquals(26, age);
+
+		qry.setFetchSize(100);
+		Assert.assertEquals(20, ((com.impetus.kundera.query.IResultIterator) qry.iterate()).next(100)
+				.size());
+	}
+
+	/**
+	 * Test find all, by multi get over more than one page.
+	 */
+	@Test
+	public void testFindAll() {
+
+		Map<String, Client> clients = (Map<String, Client>) em.getDelegate();
+		ESClient client = (ESClient) clients.get("es-pu");
+
+		Object[] keys = new Object[17];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = (i + 1) + "";
+		}
+		// not persisted.
+		keys[16] = "31";
+
+		List<PersonES> persons = client.findAll(PersonES.class, null, keys);
+		Assert.assertEquals(16, persons.size());
+		for (int i = 0; i < persons.size(); i++) {
+			Assert.assertEquals((i + 1) + "", persons.get(i).getPersonId());
+			Assert.assertEquals("dev_" + (i + 1), persons.get(i).getPersonName());
+		}
+	}
+
 	/**
 	 * Tear down.
 	 */
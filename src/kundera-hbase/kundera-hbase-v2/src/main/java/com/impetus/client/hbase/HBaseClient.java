@@ -15,18 +15,23 @@
  ******************************************************************************/
 package com.impetus.client.hbase;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.persistence.PersistenceException;
 import javax.persistence.metamodel.EntityType;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Row;
 import org.apache.hadoop.hbase.filter.CompareFilter.CompareOp;
@@ -69,7 +74,8 @@ import com.impetus.kundera.utils.KunderaCoreUtils;
  * 
  * @author Devender Yadav
  */
-public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batcher, ClientPropertiesSetter
+public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batcher, ClientPropertiesSetter,
+        Flushable
 {
     /** the log used by this class. */
     private static Logger log = LoggerFactory.getLogger(HBaseClient.class);
@@ -86,6 +92,27 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
     /** The batch size. */
     private int batchSize;
 
+    /** Number of concurrent region scans. */
+    private int scanParallelism = 1;
+
+    /** Whether parallel scan results keep row key order. */
+    private boolean orderedScan = true;
+
+    /** The executor, to run region scans on. */
+    private ExecutorService scanExecutor;
+
+    /** The scheduler, to flush buffered writes on. */
+    private ScheduledExecutorService flushScheduler;
+
+    /** Interval of periodic flush of buffered writes in millis. */
+    private long flushInterval;
+
+    /** Scan and write properties, read from persistence unit. */
+    private static final String[] PU_PROPERTIES = { HBaseConstants.SCAN_CACHING, HBaseConstants.SCAN_CACHE_BLOCKS,
+            HBaseConstants.SCAN_PARALLELISM, HBaseConstants.SCAN_ORDERED, HBaseConstants.WRITE_BUFFERED,
+            HBaseConstants.WRITE_BUFFER_SIZE, HBaseConstants.WRITE_FLUSH_INTERVAL,
+            HBaseConstants.WRITE_EXCEPTION_LISTENER };
+
     /**
      * Instantiates a new h base client.
      * 
@@ -116,6 +143,7 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
         this.reader = reader;
         this.clientMetadata = clientMetadata;
         this.batchSize = getBatchSize(persistenceUnit, this.externalProperties);
+        populatePersistenceUnitProperties(persistenceUnit, this.externalProperties);
     }
 
     /*
@@ -354,7 +382,7 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
         String tableName = HBaseUtils.getHTableName(entityMetadata.getSchema(), entityMetadata.getTableName());
         try
         {
-            handler.writeData(tableName, entityMetadata, entity, id, relations, showQuery);
+            handler.writeData(tableName, entityMetadata, entity, id, relations, modifiedAttributes, showQuery);
         }
         catch (IOException e)
         {
@@ -660,6 +688,192 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
                 kunderaMetadata, persistenceUnit).getBatchSize();
     }
 
+    /**
+     * Populates scan and write properties, external properties taking
+     * precedence over persistence unit ones.
+     * 
+     * @param persistenceUnit
+     *            the persistence unit
+     * @param puProperties
+     *            the pu properties
+     */
+    private void populatePersistenceUnitProperties(String persistenceUnit, Map<String, Object> puProperties)
+    {
+        Properties properties = KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata, persistenceUnit)
+                .getProperties();
+        Map<String, Object> scanProperties = new HashMap<String, Object>();
+        for (String property : PU_PROPERTIES)
+        {
+            Object value = puProperties != null ? puProperties.get(property) : null;
+            scanProperties.put(property, value != null ? value : properties.getProperty(property));
+        }
+        populateClientProperties(this, scanProperties);
+    }
+
+    /**
+     * Sets number of rows fetched per scanner round trip.
+     * 
+     * @param scanCaching
+     *            the scan caching
+     */
+    public void setScanCaching(int scanCaching)
+    {
+        ((HBaseDataHandler) handler).setScanCaching(scanCaching);
+    }
+
+    /**
+     * Sets whether scans fill region server's block cache.
+     * 
+     * @param cacheBlocks
+     *            the cache blocks
+     */
+    public void setCacheBlocks(boolean cacheBlocks)
+    {
+        ((HBaseDataHandler) handler).setCacheBlocks(cacheBlocks);
+    }
+
+    /**
+     * Sets number of concurrent region scans for range queries.
+     * 
+     * @param scanParallelism
+     *            the scan parallelism
+     */
+    public void setScanParallelism(int scanParallelism)
+    {
+        this.scanParallelism = scanParallelism;
+        ((HBaseDataHandler) handler).setParallelScan(scanExecutor, scanParallelism, orderedScan);
+    }
+
+    /**
+     * Sets whether parallel scan results keep row key order.
+     * 
+     * @param orderedScan
+     *            the ordered scan
+     */
+    public void setOrderedScan(boolean orderedScan)
+    {
+        this.orderedScan = orderedScan;
+        ((HBaseDataHandler) handler).setParallelScan(scanExecutor, scanParallelism, orderedScan);
+    }
+
+    /**
+     * Sets executor for parallel region scans, shared by clients of a
+     * factory.
+     * 
+     * @param scanExecutor
+     *            the scan executor
+     */
+    void setScanExecutor(ExecutorService scanExecutor)
+    {
+        this.scanExecutor = scanExecutor;
+        ((HBaseDataHandler) handler).setParallelScan(scanExecutor, scanParallelism, orderedScan);
+    }
+
+    /**
+     * Sets whether writes go through buffered mutators instead of a put per
+     * row. Buffered writes are sent on flush, on reaching write buffer size
+     * or periodically, if flush interval is set.
+     * 
+     * @param bufferedWrites
+     *            the buffered writes
+     */
+    public void setBufferedWrites(boolean bufferedWrites)
+    {
+        try
+        {
+            ((HBaseDataHandler) handler).setBufferedWrites(bufferedWrites);
+        }
+        catch (IOException ioex)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", ioex);
+            throw new KunderaException("Error while flushing buffered writes, Caused by: .", ioex);
+        }
+    }
+
+    /**
+     * Sets write buffer size of buffered writes.
+     * 
+     * @param writeBufferSize
+     *            the write buffer size in bytes
+     */
+    public void setWriteBufferSize(long writeBufferSize)
+    {
+        try
+        {
+            ((HBaseDataHandler) handler).setWriteBufferSize(writeBufferSize);
+        }
+        catch (IOException ioex)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", ioex);
+            throw new KunderaException("Error while flushing buffered writes, Caused by: .", ioex);
+        }
+    }
+
+    /**
+     * Sets interval of periodic flush of buffered writes.
+     * 
+     * @param flushInterval
+     *            the flush interval in millis, 0 to disable
+     */
+    public void setFlushInterval(long flushInterval)
+    {
+        this.flushInterval = flushInterval;
+        try
+        {
+            ((HBaseDataHandler) handler).setFlushInterval(flushScheduler, flushInterval);
+        }
+        catch (IOException ioex)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", ioex);
+            throw new KunderaException("Error while flushing buffered writes, Caused by: .", ioex);
+        }
+    }
+
+    /**
+     * Sets listener of buffered writes failed in background.
+     * 
+     * @param exceptionListener
+     *            the exception listener
+     */
+    public void setExceptionListener(BufferedMutator.ExceptionListener exceptionListener)
+    {
+        try
+        {
+            ((HBaseDataHandler) handler).setExceptionListener(exceptionListener);
+        }
+        catch (IOException ioex)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", ioex);
+            throw new KunderaException("Error while flushing buffered writes, Caused by: .", ioex);
+        }
+    }
+
+    /**
+     * Sets scheduler for periodic flush of buffered writes, shared by clients
+     * of a factory.
+     * 
+     * @param flushScheduler
+     *            the flush scheduler
+     */
+    void setFlushScheduler(ScheduledExecutorService flushScheduler)
+    {
+        this.flushScheduler = flushScheduler;
+        setFlushInterval(flushInterval);
+    }
+
+    /**
+     * Sends buffered writes, invoked on flush and commit of persistence
+     * context.
+     * 
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        ((HBaseDataHandler) handler).flush();
+    }
+
     /**
      * Sets the batch size.
      * 
@@ -17,6 +17,9 @@ package com.impetus.client.hbase;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.HBaseConfiguration;
@@ -34,6 +37,7 @@ import com.impetus.kundera.configure.schema.api.SchemaManager;
 import com.impetus.kundera.loader.GenericClientFactory;
 import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
+import com.impetus.kundera.utils.KunderaThreadFactory;
 
 /**
  * HBaseClientFactory, instantiates client for HBase.
@@ -53,6 +57,12 @@ public class HBaseClientFactory extends GenericClientFactory
     /** The connection. */
     private org.apache.hadoop.hbase.client.Connection connection;
 
+    /** The executor, to run parallel region scans on. */
+    private ExecutorService scanExecutor;
+
+    /** The scheduler, to flush buffered writes on. */
+    private ScheduledExecutorService flushScheduler;
+
     /** The Constant DEFAULT_ZOOKEEPER_PORT. */
     private static final String DEFAULT_ZOOKEEPER_PORT = "2181";
 
@@ -113,6 +123,9 @@ public class HBaseClientFactory extends GenericClientFactory
         }
         conf = HBaseConfiguration.create(hadoopConf);
         reader = new HBaseEntityReader(kunderaMetadata);
+        scanExecutor = Executors.newCachedThreadPool(new KunderaThreadFactory(HBaseClientFactory.class.getName()));
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(new KunderaThreadFactory(
+                HBaseClientFactory.class.getName()));
     }
 
     /*
@@ -146,8 +159,11 @@ public class HBaseClientFactory extends GenericClientFactory
     @Override
     protected Client instantiateClient(String persistenceUnit)
     {
-        return new HBaseClient(indexManager, conf, connection, reader, persistenceUnit, externalProperties,
-                clientMetadata, kunderaMetadata);
+        HBaseClient client = new HBaseClient(indexManager, conf, connection, reader, persistenceUnit,
+                externalProperties, clientMetadata, kunderaMetadata);
+        client.setScanExecutor(scanExecutor);
+        client.setFlushScheduler(flushScheduler);
+        return client;
     }
 
     /*
@@ -177,6 +193,16 @@ public class HBaseClientFactory extends GenericClientFactory
             }
             externalProperties = null;
             schemaManager = null;
+            if (scanExecutor != null)
+            {
+                scanExecutor.shutdownNow();
+                scanExecutor = null;
+            }
+            if (flushScheduler != null)
+            {
+                flushScheduler.shutdownNow();
+                flushScheduler = null;
+            }
             connection.close();
 
         }
@@ -232,4 +258,4 @@ public class HBaseClientFactory extends GenericClientFactory
         throw new UnsupportedOperationException("Load balancing feature is not supported in "
                 + this.getClass().getSimpleName());
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -17,10 +17,13 @@ package com.impetus.client.hbase;
 
 import java.util.Map;
 
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.filter.Filter;
 
+import com.impetus.kundera.KunderaException;
 import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.client.Client;
+import com.impetus.kundera.utils.KunderaCoreUtils;
 
 /**
  * The Class HBaseClientProperties.
@@ -65,6 +68,38 @@ class HBaseClientProperties
                     {
                         setBatchSize(value);
                     }
+                    else if (key.equals(HBaseConstants.SCAN_CACHING))
+                    {
+                        this.hbaseClient.setScanCaching(toInt(value));
+                    }
+                    else if (key.equals(HBaseConstants.SCAN_CACHE_BLOCKS))
+                    {
+                        this.hbaseClient.setCacheBlocks(toBoolean(value));
+                    }
+                    else if (key.equals(HBaseConstants.SCAN_PARALLELISM))
+                    {
+                        this.hbaseClient.setScanParallelism(toInt(value));
+                    }
+                    else if (key.equals(HBaseConstants.SCAN_ORDERED))
+                    {
+                        this.hbaseClient.setOrderedScan(toBoolean(value));
+                    }
+                    else if (key.equals(HBaseConstants.WRITE_BUFFERED))
+                    {
+                        this.hbaseClient.setBufferedWrites(toBoolean(value));
+                    }
+                    else if (key.equals(HBaseConstants.WRITE_BUFFER_SIZE))
+                    {
+                        this.hbaseClient.setWriteBufferSize(toLong(value));
+                    }
+                    else if (key.equals(HBaseConstants.WRITE_FLUSH_INTERVAL))
+                    {
+                        this.hbaseClient.setFlushInterval(toLong(value));
+                    }
+                    else if (key.equals(HBaseConstants.WRITE_EXCEPTION_LISTENER))
+                    {
+                        setExceptionListener(value);
+                    }
                 }
             }
         }
@@ -89,6 +124,68 @@ class HBaseClientProperties
 
     }
 
+    /**
+     * Converts property value to int.
+     * 
+     * @param value
+     *            the value
+     * @return the int
+     */
+    private int toInt(Object value)
+    {
+        return value instanceof Integer ? (Integer) value : Integer.parseInt(value.toString().trim());
+    }
+
+    /**
+     * Converts property value to long.
+     * 
+     * @param value
+     *            the value
+     * @return the long
+     */
+    private long toLong(Object value)
+    {
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+    }
+
+    /**
+     * Sets the exception listener, given as an instance or a class name.
+     * 
+     * @param value
+     *            the value
+     */
+    private void setExceptionListener(Object value)
+    {
+        if (value instanceof BufferedMutator.ExceptionListener)
+        {
+            this.hbaseClient.setExceptionListener((BufferedMutator.ExceptionListener) value);
+        }
+        else if (value instanceof String)
+        {
+            try
+            {
+                this.hbaseClient.setExceptionListener((BufferedMutator.ExceptionListener) KunderaCoreUtils
+                        .createNewInstance(Class.forName(((String) value).trim())));
+            }
+            catch (ClassNotFoundException e)
+            {
+                throw new KunderaException("Invalid exception listener class " + value, e);
+            }
+        }
+    }
+
+    /**
+     * Converts property value to boolean.
+     * 
+     * @param value
+     *            the value
+     * @return the boolean
+     */
+    private boolean toBoolean(Object value)
+    {
+        return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString().trim());
+    }
+
     /**
      * Check null.
      * 
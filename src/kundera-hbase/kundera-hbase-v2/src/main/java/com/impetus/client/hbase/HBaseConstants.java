@@ -31,4 +31,28 @@ public final class HBaseConstants
 
     /** The Constant ZOOKEEPER_HOST. */
     public static final String ZOOKEEPER_HOST = "zookeeper.host";
+
+    /** Rows fetched per scanner round trip. */
+    public static final String SCAN_CACHING = "hbase.scan.caching";
+
+    /** Whether scans fill region server's block cache, true by default. */
+    public static final String SCAN_CACHE_BLOCKS = "hbase.scan.cache.blocks";
+
+    /** Number of concurrent region scans for range queries, 1 by default. */
+    public static final String SCAN_PARALLELISM = "hbase.scan.parallelism";
+
+    /** Whether parallel scan results keep row key order, true by default. */
+    public static final String SCAN_ORDERED = "hbase.scan.ordered";
+
+    /** Whether writes go through buffered mutators, false by default. */
+    public static final String WRITE_BUFFERED = "hbase.write.buffered";
+
+    /** Write buffer size of buffered mutators in bytes. */
+    public static final String WRITE_BUFFER_SIZE = "hbase.write.buffer.size";
+
+    /** Interval of periodic flush of buffered writes in millis. */
+    public static final String WRITE_FLUSH_INTERVAL = "hbase.write.flush.interval";
+
+    /** Listener of failed buffered writes, an instance or class name. */
+    public static final String WRITE_EXCEPTION_LISTENER = "hbase.write.exception.listener";
 }
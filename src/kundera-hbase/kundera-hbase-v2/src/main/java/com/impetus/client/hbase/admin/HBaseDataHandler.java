@@ -22,6 +22,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.PersistenceException;
 import javax.persistence.metamodel.Attribute;
@@ -31,6 +35,8 @@ import org.apache.hadoop.hbase.HColumnDescriptor;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.MasterNotRunningException;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.HBaseAdmin;
@@ -93,6 +99,27 @@ public class HBaseDataHandler implements DataHandler
     /** The filters. */
     private Map<String, FilterList> filters = new ConcurrentHashMap<String, FilterList>();
 
+    /** Buffered mutators, keyed by table name. */
+    private Map<String, BufferedMutator> mutators = new ConcurrentHashMap<String, BufferedMutator>();
+
+    /** Whether writes go through buffered mutators. */
+    private boolean bufferedWrites;
+
+    /** Write buffer size of mutators in bytes, 0 for hbase default. */
+    private long writeBufferSize;
+
+    /** Listener of failed buffered mutations, null for hbase default. */
+    private BufferedMutator.ExceptionListener exceptionListener;
+
+    /** Scheduler of periodic mutator flushes. */
+    private ScheduledExecutorService flushScheduler;
+
+    /** Interval of periodic mutator flushes in millis, 0 to disable. */
+    private long flushInterval;
+
+    /** Periodic flush task, scheduled on first buffered write. */
+    private ScheduledFuture<?> flushTask;
+
     /** The kundera metadata. */
     private KunderaMetadata kunderaMetadata;
 
@@ -227,9 +254,9 @@ public class HBaseDataHandler implements DataHandler
      */
     @Override
     public void writeData(String tableName, EntityMetadata m, Object entity, Object rowId,
-            List<RelationHolder> relations, boolean showQuery) throws IOException
+            List<RelationHolder> relations, Set<String> attributeNames, boolean showQuery) throws IOException
     {
-        HBaseRow hbaseRow = createHbaseRow(m, entity, rowId, relations);
+        HBaseRow hbaseRow = createHbaseRow(m, entity, rowId, relations, attributeNames);
         writeHbaseRowInATable(tableName, hbaseRow);
     }
 
@@ -250,11 +277,34 @@ public class HBaseDataHandler implements DataHandler
      */
     public HBaseRow createHbaseRow(EntityMetadata m, Object entity, Object rowId, List<RelationHolder> relations)
             throws IOException
+    {
+        return createHbaseRow(m, entity, rowId, relations, null);
+    }
+
+    /**
+     * Creates the hbase row out of given attributes.
+     * 
+     * @param m
+     *            the m
+     * @param entity
+     *            the entity
+     * @param rowId
+     *            the row id
+     * @param relations
+     *            the relations
+     * @param attributeNames
+     *            names of attributes to add, null to add all
+     * @return the hBase row
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public HBaseRow createHbaseRow(EntityMetadata m, Object entity, Object rowId, List<RelationHolder> relations,
+            Set<String> attributeNames) throws IOException
     {
         MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
                 m.getPersistenceUnit());
         EntityType entityType = metaModel.entity(m.getEntityClazz());
-        Set<Attribute> attributes = entityType.getAttributes();
+        Set<Attribute> attributes = HBaseUtils.getAttributes(entityType, m, attributeNames);
         if (metaModel.isEmbeddable(m.getIdAttribute().getBindableJavaType()))
         {
             rowId = KunderaCoreUtils.prepareCompositeKey(m, rowId);
@@ -315,6 +365,11 @@ public class HBaseDataHandler implements DataHandler
      */
     private void writeHbaseRowInATable(String tableName, HBaseRow hbaseRow) throws IOException
     {
+        if (bufferedWrites)
+        {
+            ((HBaseWriter) hbaseWriter).writeRow(getMutator(tableName), hbaseRow);
+            return;
+        }
         Table hTable = gethTable(tableName);
         ((HBaseWriter) hbaseWriter).writeRow(hTable, hbaseRow);
         hTable.close();
@@ -403,6 +458,11 @@ public class HBaseDataHandler implements DataHandler
     public void writeJoinTableData(String tableName, Object rowId, Map<String, Object> columns, String columnFamilyName)
             throws IOException
     {
+        if (bufferedWrites)
+        {
+            ((HBaseWriter) hbaseWriter).writeColumns(getMutator(tableName), rowId, columns, columnFamilyName);
+            return;
+        }
         Table hTable = gethTable(tableName);
 
         hbaseWriter.writeColumns(hTable, rowId, columns, columnFamilyName);
@@ -501,6 +561,177 @@ public class HBaseDataHandler implements DataHandler
     @Override
     public void shutdown()
     {
+        try
+        {
+            closeMutators();
+        }
+        catch (IOException e)
+        {
+            logger.error("Error while flushing buffered mutations, Caused by: .", e);
+            throw new KunderaException(e);
+        }
+    }
+
+    /**
+     * Gets buffered mutator of table, created on first use.
+     * 
+     * @param tableName
+     *            the table name
+     * @return the mutator
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private synchronized BufferedMutator getMutator(final String tableName) throws IOException
+    {
+        BufferedMutator mutator = mutators.get(tableName);
+        if (mutator == null)
+        {
+            BufferedMutatorParams params = new BufferedMutatorParams(TableName.valueOf(tableName));
+            if (writeBufferSize > 0)
+            {
+                params.writeBufferSize(writeBufferSize);
+            }
+            if (exceptionListener != null)
+            {
+                params.listener(exceptionListener);
+            }
+            mutator = connection.getBufferedMutator(params);
+            mutators.put(tableName, mutator);
+            schedulePeriodicFlush();
+        }
+        return mutator;
+    }
+
+    /**
+     * Schedules periodic flush of mutators, if flush interval is set.
+     */
+    private void schedulePeriodicFlush()
+    {
+        if (flushTask == null && flushScheduler != null && flushInterval > 0)
+        {
+            flushTask = flushScheduler.scheduleWithFixedDelay(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        flush();
+                    }
+                    catch (IOException e)
+                    {
+                        logger.error("Error during periodic flush of buffered mutations, Caused by: .", e);
+                    }
+                }
+            }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends buffered mutations of all tables.
+     * 
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void flush() throws IOException
+    {
+        for (BufferedMutator mutator : mutators.values())
+        {
+            mutator.flush();
+        }
+    }
+
+    /**
+     * Flushes and closes mutators, next buffered write opens new ones.
+     * 
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private synchronized void closeMutators() throws IOException
+    {
+        if (flushTask != null)
+        {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        IOException error = null;
+        for (BufferedMutator mutator : mutators.values())
+        {
+            try
+            {
+                mutator.close();
+            }
+            catch (IOException e)
+            {
+                error = error == null ? e : error;
+            }
+        }
+        mutators.clear();
+        if (error != null)
+        {
+            throw error;
+        }
+    }
+
+    /**
+     * Sets whether writes go through buffered mutators, flushed on
+     * {@link #flush()}, on reaching write buffer size or periodically.
+     * 
+     * @param bufferedWrites
+     *            the buffered writes
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void setBufferedWrites(final boolean bufferedWrites) throws IOException
+    {
+        closeMutators();
+        this.bufferedWrites = bufferedWrites;
+    }
+
+    /**
+     * Sets write buffer size of mutators.
+     * 
+     * @param writeBufferSize
+     *            the write buffer size in bytes
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void setWriteBufferSize(final long writeBufferSize) throws IOException
+    {
+        closeMutators();
+        this.writeBufferSize = writeBufferSize;
+    }
+
+    /**
+     * Sets listener of mutations failed in background.
+     * 
+     * @param exceptionListener
+     *            the exception listener
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void setExceptionListener(final BufferedMutator.ExceptionListener exceptionListener) throws IOException
+    {
+        closeMutators();
+        this.exceptionListener = exceptionListener;
+    }
+
+    /**
+     * Sets periodic flush of mutators.
+     * 
+     * @param flushScheduler
+     *            the flush scheduler
+     * @param flushInterval
+     *            the flush interval in millis, 0 to disable
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void setFlushInterval(final ScheduledExecutorService flushScheduler, final long flushInterval)
+            throws IOException
+    {
+        closeMutators();
+        this.flushScheduler = flushScheduler;
+        this.flushInterval = flushInterval;
     }
 
     /**
@@ -667,6 +898,11 @@ public class HBaseDataHandler implements DataHandler
     @Override
     public void deleteRow(Object rowKey, String colName, String colFamily, String tableName) throws IOException
     {
+        if (bufferedWrites)
+        {
+            ((HBaseWriter) hbaseWriter).delete(getMutator(tableName), rowKey);
+            return;
+        }
         Table hTable = gethTable(tableName);
         hbaseWriter.delete(hTable, rowKey, colFamily, colName);
         closeHTable(hTable);
@@ -997,6 +1233,44 @@ public class HBaseDataHandler implements DataHandler
         ((HBaseReader) hbaseReader).setFetchSize(fetchSize);
     }
 
+    /**
+     * Sets number of rows fetched per scanner round trip.
+     * 
+     * @param scanCaching
+     *            the scan caching
+     */
+    public void setScanCaching(final int scanCaching)
+    {
+        ((HBaseReader) hbaseReader).setScanCaching(scanCaching);
+    }
+
+    /**
+     * Sets whether scans fill region server's block cache.
+     * 
+     * @param cacheBlocks
+     *            the cache blocks
+     */
+    public void setCacheBlocks(final boolean cacheBlocks)
+    {
+        ((HBaseReader) hbaseReader).setCacheBlocks(cacheBlocks);
+    }
+
+    /**
+     * Sets parallel scan of range queries, split by region boundaries.
+     * 
+     * @param scanExecutor
+     *            the executor
+     * @param scanParallelism
+     *            number of concurrent region scans
+     * @param orderedScan
+     *            whether results keep row key order
+     */
+    public void setParallelScan(final ExecutorService scanExecutor, final int scanParallelism,
+            final boolean orderedScan)
+    {
+        ((HBaseReader) hbaseReader).setParallelScan(connection, scanExecutor, scanParallelism, orderedScan);
+    }
+
     /**
      * Next.
      * 
@@ -1063,6 +1337,7 @@ public class HBaseDataHandler implements DataHandler
         HBaseDataHandler handler = new HBaseDataHandler(this.kunderaMetadata, this.connection);
         handler.filter = this.filter;
         handler.filters = this.filters;
+        ((HBaseReader) handler.hbaseReader).copyScanSettings((HBaseReader) this.hbaseReader);
         return handler;
     }
 
@@ -16,20 +16,31 @@
 package com.impetus.client.hbase.service;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Pair;
 
 import com.impetus.client.hbase.HBaseDataWrapper;
 import com.impetus.client.hbase.Reader;
@@ -58,6 +69,24 @@ public class HBaseReader implements Reader
     /** The table name. */
     private String tableName = null;
 
+    /** Rows fetched per scanner round trip, 0 for hbase default. */
+    private int scanCaching;
+
+    /** Whether scanned blocks go to region server's block cache. */
+    private boolean cacheBlocks = true;
+
+    /** Number of concurrent region scans, 1 for a single scanner. */
+    private int scanParallelism = 1;
+
+    /** Whether parallel scan results keep row key order. */
+    private boolean orderedScan = true;
+
+    /** The connection, to open a table per region scan. */
+    private Connection connection;
+
+    /** The executor, to run region scans on. */
+    private ExecutorService scanExecutor;
+
     /**
      * Sets the table name.
      * 
@@ -107,6 +136,10 @@ public class HBaseReader implements Reader
                 scan.setStopRow(endRow);
             }
             setScanCriteria(scan, columnFamily, outputColumns, filter);
+            if (isParallelScan())
+            {
+                return parallelScan(hTable.getName(), scan, results);
+            }
             scanner = hTable.getScanner(scan);
             resultsIter = scanner.iterator();
         }
@@ -132,6 +165,207 @@ public class HBaseReader implements Reader
         {
             scan.setFilter(filter);
         }
+        setScanCaching(scan);
+    }
+
+    /**
+     * Sets caching and block caching of scan. While iterating, no more rows
+     * than fetch size are fetched per round trip.
+     * 
+     * @param scan
+     *            the scan
+     */
+    private void setScanCaching(Scan scan)
+    {
+        int caching = scanCaching;
+        if (fetchSize != null && fetchSize > 0)
+        {
+            caching = caching > 0 ? Math.min(caching, fetchSize) : fetchSize;
+        }
+        if (caching > 0)
+        {
+            scan.setCaching(caching);
+        }
+        scan.setCacheBlocks(cacheBlocks);
+    }
+
+    /**
+     * Checks if scan is to be split into concurrent region scans. Iteration
+     * always goes through a single scanner.
+     * 
+     * @return true, if parallel scan
+     */
+    private boolean isParallelScan()
+    {
+        return fetchSize == null && scanParallelism > 1 && scanExecutor != null && connection != null;
+    }
+
+    /**
+     * Splits scan by region boundaries and runs region scans concurrently,
+     * each task scanning a contiguous run of regions. Results are merged in
+     * row key order, or in order of completion if ordered scan is off.
+     * 
+     * @param name
+     *            the table name
+     * @param scan
+     *            the scan
+     * @param results
+     *            the results
+     * @return the list
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private List<HBaseDataWrapper> parallelScan(final TableName name, Scan scan, List<HBaseDataWrapper> results)
+            throws IOException
+    {
+        List<Scan> regionScans = splitByRegions(name, scan);
+        int tasks = Math.min(scanParallelism, regionScans.size());
+        if (tasks <= 1)
+        {
+            results.addAll(scanRegions(name, regionScans));
+            return results;
+        }
+
+        CompletionService<List<HBaseDataWrapper>> completionService = new ExecutorCompletionService<List<HBaseDataWrapper>>(
+                scanExecutor);
+        List<Future<List<HBaseDataWrapper>>> futures = new ArrayList<Future<List<HBaseDataWrapper>>>(tasks);
+        int chunk = (regionScans.size() + tasks - 1) / tasks;
+        for (int i = 0; i < regionScans.size(); i += chunk)
+        {
+            final List<Scan> scans = regionScans.subList(i, Math.min(i + chunk, regionScans.size()));
+            futures.add(completionService.submit(new Callable<List<HBaseDataWrapper>>()
+            {
+                @Override
+                public List<HBaseDataWrapper> call() throws IOException
+                {
+                    return scanRegions(name, scans);
+                }
+            }));
+        }
+
+        try
+        {
+            for (int i = 0; i < futures.size(); i++)
+            {
+                Future<List<HBaseDataWrapper>> future = orderedScan ? futures.get(i) : completionService.take();
+                results.addAll(future.get());
+            }
+        }
+        catch (InterruptedException e)
+        {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while scanning table " + name.getNameAsString());
+        }
+        catch (ExecutionException e)
+        {
+            cancel(futures);
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+        return results;
+    }
+
+    /**
+     * Splits scan into one scan per region overlapping its key range.
+     * 
+     * @param name
+     *            the table name
+     * @param scan
+     *            the scan
+     * @return region scans, in row key order
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private List<Scan> splitByRegions(TableName name, Scan scan) throws IOException
+    {
+        Pair<byte[][], byte[][]> keys;
+        RegionLocator locator = connection.getRegionLocator(name);
+        try
+        {
+            keys = locator.getStartEndKeys();
+        }
+        finally
+        {
+            locator.close();
+        }
+
+        byte[] startRow = scan.getStartRow();
+        byte[] stopRow = scan.getStopRow();
+        List<Scan> scans = new ArrayList<Scan>(keys.getFirst().length);
+        for (int i = 0; i < keys.getFirst().length; i++)
+        {
+            byte[] regionStart = keys.getFirst()[i];
+            byte[] regionEnd = keys.getSecond()[i];
+            boolean beforeStop = stopRow.length == 0 || Bytes.compareTo(regionStart, stopRow) < 0;
+            boolean afterStart = regionEnd.length == 0 || Bytes.compareTo(regionEnd, startRow) > 0;
+            if (beforeStop && afterStart)
+            {
+                Scan regionScan = new Scan(scan);
+                regionScan.setStartRow(Bytes.compareTo(regionStart, startRow) > 0 ? regionStart : startRow);
+                regionScan.setStopRow(regionEnd.length > 0
+                        && (stopRow.length == 0 || Bytes.compareTo(regionEnd, stopRow) < 0) ? regionEnd : stopRow);
+                scans.add(regionScan);
+            }
+        }
+        return scans;
+    }
+
+    /**
+     * Runs given scans one after other, on a table of its own.
+     * 
+     * @param name
+     *            the table name
+     * @param scans
+     *            the scans
+     * @return the list
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private List<HBaseDataWrapper> scanRegions(TableName name, List<Scan> scans) throws IOException
+    {
+        List<HBaseDataWrapper> results = new ArrayList<HBaseDataWrapper>();
+        String regionTableName = name.getNameAsString();
+        Table hTable = connection.getTable(name);
+        try
+        {
+            for (Scan scan : scans)
+            {
+                ResultScanner regionScanner = hTable.getScanner(scan);
+                try
+                {
+                    for (Result result : regionScanner)
+                    {
+                        HBaseDataWrapper data = new HBaseDataWrapper(regionTableName, result.getRow());
+                        data.setColumns(result.listCells());
+                        results.add(data);
+                    }
+                }
+                finally
+                {
+                    regionScanner.close();
+                }
+            }
+        }
+        finally
+        {
+            hTable.close();
+        }
+        return results;
+    }
+
+    /**
+     * Cancels region scans still running.
+     * 
+     * @param futures
+     *            the futures
+     */
+    private void cancel(List<Future<List<HBaseDataWrapper>>> futures)
+    {
+        for (Future<List<HBaseDataWrapper>> future : futures)
+        {
+            future.cancel(true);
+        }
     }
 
     /**
@@ -182,6 +416,7 @@ public class HBaseReader implements Reader
             Scan s = new Scan();
             s.setFilter(filter);
             s.addColumn(Bytes.toBytes(columnFamilyName), Bytes.toBytes(columnName));
+            setScanCaching(s);
             scanner = hTable.getScanner(s);
             resultsIter = scanner.iterator();
         }
@@ -257,6 +492,64 @@ public class HBaseReader implements Reader
         this.fetchSize = fetchSize;
     }
 
+    /**
+     * Sets number of rows fetched per scanner round trip.
+     * 
+     * @param scanCaching
+     *            the scan caching, 0 for hbase default
+     */
+    public void setScanCaching(final int scanCaching)
+    {
+        this.scanCaching = scanCaching;
+    }
+
+    /**
+     * Sets whether scanned blocks go to region server's block cache. Turning
+     * it off keeps large one-off scans from evicting hot blocks.
+     * 
+     * @param cacheBlocks
+     *            the cache blocks
+     */
+    public void setCacheBlocks(final boolean cacheBlocks)
+    {
+        this.cacheBlocks = cacheBlocks;
+    }
+
+    /**
+     * Enables parallel scan, with range scans split by region boundaries and
+     * run concurrently on given executor.
+     * 
+     * @param connection
+     *            the connection
+     * @param scanExecutor
+     *            the executor
+     * @param scanParallelism
+     *            number of concurrent region scans, 1 to disable
+     * @param orderedScan
+     *            whether results keep row key order
+     */
+    public void setParallelScan(final Connection connection, final ExecutorService scanExecutor,
+            final int scanParallelism, final boolean orderedScan)
+    {
+        this.connection = connection;
+        this.scanExecutor = scanExecutor;
+        this.scanParallelism = scanParallelism;
+        this.orderedScan = orderedScan;
+    }
+
+    /**
+     * Copies scan settings of given reader.
+     * 
+     * @param reader
+     *            the reader
+     */
+    public void copyScanSettings(final HBaseReader reader)
+    {
+        this.scanCaching = reader.scanCaching;
+        this.cacheBlocks = reader.cacheBlocks;
+        setParallelScan(reader.connection, reader.scanExecutor, reader.scanParallelism, reader.orderedScan);
+    }
+
     /**
      * Next.
      * 
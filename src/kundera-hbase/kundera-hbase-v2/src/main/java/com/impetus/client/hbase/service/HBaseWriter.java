@@ -20,6 +20,7 @@ import java.util.Map;
 
 import javax.persistence.PersistenceException;
 
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Table;
@@ -56,6 +57,22 @@ public class HBaseWriter implements Writer
         hTable.put(p);
     }
 
+    /**
+     * Writes row through a buffered mutator, to be sent along with other
+     * buffered mutations of the table.
+     * 
+     * @param mutator
+     *            the mutator
+     * @param hbaseRow
+     *            the hbase row
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void writeRow(BufferedMutator mutator, HBaseRow hbaseRow) throws IOException
+    {
+        mutator.mutate(preparePut(hbaseRow));
+    }
+
     /**
      * Prepare put.
      * 
@@ -90,16 +107,55 @@ public class HBaseWriter implements Writer
     {
         if (columns != null && !columns.isEmpty())
         {
-            Put p = new Put(HBaseUtils.getBytes(rowKey));
-            for (String columnName : columns.keySet())
-            {
-                p.addColumn(columnFamilyName.getBytes(), Bytes.toBytes(columnName),
-                        HBaseUtils.getBytes(columns.get(columnName)));
-            }
-            htable.put(p);
+            htable.put(prepareColumnsPut(rowKey, columns, columnFamilyName));
         }
     }
 
+    /**
+     * Writes columns through a buffered mutator.
+     * 
+     * @param mutator
+     *            the mutator
+     * @param rowKey
+     *            the row key
+     * @param columns
+     *            the columns
+     * @param columnFamilyName
+     *            the column family name
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void writeColumns(BufferedMutator mutator, Object rowKey, Map<String, Object> columns,
+            String columnFamilyName) throws IOException
+    {
+        if (columns != null && !columns.isEmpty())
+        {
+            mutator.mutate(prepareColumnsPut(rowKey, columns, columnFamilyName));
+        }
+    }
+
+    /**
+     * Prepare put of columns.
+     * 
+     * @param rowKey
+     *            the row key
+     * @param columns
+     *            the columns
+     * @param columnFamilyName
+     *            the column family name
+     * @return the put
+     */
+    private Put prepareColumnsPut(Object rowKey, Map<String, Object> columns, String columnFamilyName)
+    {
+        Put p = new Put(HBaseUtils.getBytes(rowKey));
+        for (String columnName : columns.keySet())
+        {
+            p.addColumn(columnFamilyName.getBytes(), Bytes.toBytes(columnName),
+                    HBaseUtils.getBytes(columns.get(columnName)));
+        }
+        return p;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -122,4 +178,26 @@ public class HBaseWriter implements Writer
             throw new PersistenceException("Could not perform delete. Caused by: ", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Deletes row through a buffered mutator, so it is applied in order with
+     * puts buffered before it.
+     * 
+     * @param mutator
+     *            the mutator
+     * @param rowKey
+     *            the row key
+     */
+    public void delete(BufferedMutator mutator, Object rowKey)
+    {
+        try
+        {
+            mutator.mutate(new Delete(HBaseUtils.getBytes(rowKey)));
+        }
+        catch (IOException e)
+        {
+            logger.error("Error while delete on hbase for : " + rowKey);
+            throw new PersistenceException("Could not perform delete. Caused by: ", e);
+        }
+    }
+}
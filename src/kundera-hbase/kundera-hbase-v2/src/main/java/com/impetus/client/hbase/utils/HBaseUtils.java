@@ -16,8 +16,13 @@
 package com.impetus.client.hbase.utils;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
 
 import org.apache.hadoop.hbase.filter.CompareFilter.CompareOp;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -327,4 +332,33 @@ public final class HBaseUtils
         return ((String) HBaseUtils.fromBytes(row, String.class)).equals(AUTO_ID_ROW);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns attributes of entity type to be written. Id attribute is always
+     * included.
+     * 
+     * @param entityType
+     *            the entity type
+     * @param m
+     *            the entity metadata
+     * @param attributeNames
+     *            names of attributes to include, null to include all
+     * @return the attributes
+     */
+    public static Set<Attribute> getAttributes(EntityType entityType, EntityMetadata m, Set<String> attributeNames)
+    {
+        Set<Attribute> attributes = entityType.getAttributes();
+        if (attributeNames == null)
+        {
+            return attributes;
+        }
+        Set<Attribute> modified = new HashSet<Attribute>();
+        for (Attribute attribute : attributes)
+        {
+            if (attribute.equals(m.getIdAttribute()) || attributeNames.contains(attribute.getName()))
+            {
+                modified.add(attribute);
+            }
+        }
+        return modified;
+    }
+}
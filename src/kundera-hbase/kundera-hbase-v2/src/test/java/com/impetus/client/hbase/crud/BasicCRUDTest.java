@@ -15,6 +15,8 @@
  ******************************************************************************/
 package com.impetus.client.hbase.crud;
 
+import java.util.List;
+
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
@@ -27,6 +29,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.impetus.client.hbase.HBaseConstants;
 import com.impetus.client.hbase.crud.PersonHBase.Day;
 import com.impetus.client.hbase.crud.PersonHBase.Month;
 import com.impetus.client.hbase.testingutil.HBaseTestingUtils;
@@ -88,6 +91,82 @@ public class BasicCRUDTest
         testRemove();
     }
 
+    /**
+     * Test range query with scanner caching and parallel region scans.
+     * 
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    public void testParallelScan() throws Exception
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            PersonHBase p = new PersonHBase();
+            p.setPersonId("scan_" + i);
+            p.setPersonName("scan");
+            p.setAge(i);
+            em.persist(p);
+        }
+        em.clear();
+        em.setProperty(HBaseConstants.SCAN_CACHING, "3");
+        em.setProperty(HBaseConstants.SCAN_PARALLELISM, "4");
+
+        List<PersonHBase> results = em.createQuery("Select p from PersonHBase p").getResultList();
+        Assert.assertEquals(10, results.size());
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals("scan_" + i, results.get(i).getPersonId());
+        }
+
+        em.setProperty(HBaseConstants.SCAN_ORDERED, "false");
+        em.setProperty(HBaseConstants.SCAN_CACHE_BLOCKS, "false");
+        Assert.assertEquals(10, em.createQuery("Select p from PersonHBase p").getResultList().size());
+
+        for (PersonHBase p : results)
+        {
+            em.remove(p);
+        }
+    }
+
+    /**
+     * Test persist and remove through buffered mutators, visible after flush.
+     * 
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    public void testBufferedWrites() throws Exception
+    {
+        em.setProperty(HBaseConstants.WRITE_BUFFERED, "true");
+        em.setProperty(HBaseConstants.WRITE_BUFFER_SIZE, "1048576");
+        for (int i = 0; i < 5; i++)
+        {
+            PersonHBase p = new PersonHBase();
+            p.setPersonId("buffered_" + i);
+            p.setPersonName("buffered");
+            p.setAge(i);
+            em.persist(p);
+        }
+        em.flush();
+        em.clear();
+
+        EntityManager reader = emf.createEntityManager();
+        for (int i = 0; i < 5; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), reader.find(PersonHBase.class, "buffered_" + i).getAge());
+        }
+
+        for (int i = 0; i < 5; i++)
+        {
+            em.remove(em.find(PersonHBase.class, "buffered_" + i));
+        }
+        em.flush();
+        reader.clear();
+        Assert.assertNull(reader.find(PersonHBase.class, "buffered_0"));
+        reader.close();
+    }
+
     /**
      * Test insert.
      * 
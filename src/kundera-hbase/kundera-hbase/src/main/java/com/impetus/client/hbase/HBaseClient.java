@@ -15,6 +15,7 @@
  ******************************************************************************/
 package com.impetus.client.hbase;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -23,8 +24,10 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.persistence.PersistenceException;
 import javax.persistence.metamodel.Attribute;
@@ -78,7 +81,8 @@ import com.impetus.kundera.utils.KunderaCoreUtils;
  * 
  * @author impetus
  */
-public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batcher, ClientPropertiesSetter
+public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batcher, ClientPropertiesSetter,
+        Flushable
 {
     /** the log used by this class. */
     private static Logger log = LoggerFactory.getLogger(HBaseClient.class);
@@ -95,6 +99,16 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
     /** The batch size. */
     private int batchSize;
 
+    /** The scheduler, to flush buffered writes on. */
+    private ScheduledExecutorService flushScheduler;
+
+    /** Interval of periodic flush of buffered writes in millis. */
+    private long flushInterval;
+
+    /** Write properties, read from persistence unit. */
+    private static final String[] WRITE_PROPERTIES = { HBaseConstants.WRITE_BUFFERED,
+            HBaseConstants.WRITE_BUFFER_SIZE, HBaseConstants.WRITE_FLUSH_INTERVAL };
+
     /**
      * Instantiates a new hbase client.
      * 
@@ -127,6 +141,7 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
         this.reader = reader;
         this.clientMetadata = clientMetadata;
         getBatchSize(persistenceUnit, this.externalProperties);
+        populateWriteProperties(persistenceUnit, this.externalProperties);
     }
 
     /*
@@ -532,7 +547,7 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
         try
         {
             // Write data to HBase
-            handler.writeData(tableName, entityMetadata, entity, id, relations, showQuery);
+            handler.writeData(tableName, entityMetadata, entity, id, relations, modifiedAttributes, showQuery);
         }
         catch (IOException e)
         {
@@ -945,6 +960,114 @@ public class HBaseClient extends ClientBase implements Client<HBaseQuery>, Batch
         this.batchSize = batch_Size;
     }
 
+    /**
+     * Populates write properties, external properties taking precedence over
+     * persistence unit ones.
+     * 
+     * @param persistenceUnit
+     *            the persistence unit
+     * @param puProperties
+     *            the pu properties
+     */
+    private void populateWriteProperties(String persistenceUnit, Map<String, Object> puProperties)
+    {
+        Properties properties = KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata, persistenceUnit)
+                .getProperties();
+        Map<String, Object> writeProperties = new HashMap<String, Object>();
+        for (String property : WRITE_PROPERTIES)
+        {
+            Object value = puProperties != null ? puProperties.get(property) : null;
+            writeProperties.put(property, value != null ? value : properties.getProperty(property));
+        }
+        populateClientProperties(this, writeProperties);
+    }
+
+    /**
+     * Sets whether writes are buffered on client side instead of a put per
+     * row. Buffered writes are sent on flush, on reaching write buffer size or
+     * periodically, if flush interval is set.
+     * 
+     * @param bufferedWrites
+     *            the buffered writes
+     */
+    public void setBufferedWrites(boolean bufferedWrites)
+    {
+        try
+        {
+            ((HBaseDataHandler) handler).setBufferedWrites(bufferedWrites);
+        }
+        catch (IOException ioex)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", ioex);
+            throw new KunderaException("Error while flushing buffered writes, Caused by: .", ioex);
+        }
+    }
+
+    /**
+     * Sets write buffer size of buffered writes.
+     * 
+     * @param writeBufferSize
+     *            the write buffer size in bytes
+     */
+    public void setWriteBufferSize(long writeBufferSize)
+    {
+        try
+        {
+            ((HBaseDataHandler) handler).setWriteBufferSize(writeBufferSize);
+        }
+        catch (IOException ioex)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", ioex);
+            throw new KunderaException("Error while flushing buffered writes, Caused by: .", ioex);
+        }
+    }
+
+    /**
+     * Sets interval of periodic flush of buffered writes.
+     * 
+     * @param flushInterval
+     *            the flush interval in millis, 0 to disable
+     */
+    public void setFlushInterval(long flushInterval)
+    {
+        this.flushInterval = flushInterval;
+        try
+        {
+            ((HBaseDataHandler) handler).setFlushInterval(flushScheduler, flushInterval);
+        }
+        catch (IOException ioex)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", ioex);
+            throw new KunderaException("Error while flushing buffered writes, Caused by: .", ioex);
+        }
+    }
+
+    /**
+     * Sets scheduler for periodic flush of buffered writes, shared by clients
+     * of a factory.
+     * 
+     * @param flushScheduler
+     *            the flush scheduler
+     */
+    void setFlushScheduler(ScheduledExecutorService flushScheduler)
+    {
+        this.flushScheduler = flushScheduler;
+        setFlushInterval(flushInterval);
+    }
+
+    /**
+     * Sends buffered writes, invoked on flush and commit of persistence
+     * context.
+     * 
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        ((HBaseDataHandler) handler).flush();
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -16,6 +16,8 @@
 package com.impetus.client.hbase;
 
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.conf.Configuration;
@@ -33,6 +35,7 @@ import com.impetus.kundera.configure.schema.api.SchemaManager;
 import com.impetus.kundera.loader.GenericClientFactory;
 import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.PersistenceUnitMetadata;
+import com.impetus.kundera.utils.KunderaThreadFactory;
 
 /**
  * HBaseClientFactory, instantiates client for HBase
@@ -57,6 +60,9 @@ public class HBaseClientFactory extends GenericClientFactory
     /** The pool size. */
     private int poolSize;
 
+    /** The scheduler, to flush buffered writes on. */
+    private ScheduledExecutorService flushScheduler;
+
     @Override
     public void initialize(Map<String, Object> externalProperty)
     {
@@ -120,6 +126,8 @@ public class HBaseClientFactory extends GenericClientFactory
         }
         conf = HBaseConfiguration.create(hadoopConf);
         reader = new HBaseEntityReader(kunderaMetadata);
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(new KunderaThreadFactory(
+                HBaseClientFactory.class.getName()));
     }
 
     @Override
@@ -132,7 +140,10 @@ public class HBaseClientFactory extends GenericClientFactory
     @Override
     protected Client instantiateClient(String persistenceUnit)
     {
-        return new HBaseClient(indexManager, conf, hTablePool, reader, persistenceUnit, externalProperties, clientMetadata, kunderaMetadata);
+        HBaseClient client = new HBaseClient(indexManager, conf, hTablePool, reader, persistenceUnit,
+                externalProperties, clientMetadata, kunderaMetadata);
+        client.setFlushScheduler(flushScheduler);
+        return client;
     }
 
     @Override
@@ -148,6 +159,11 @@ public class HBaseClientFactory extends GenericClientFactory
         // hTablePool = null;
 
         // indexManager.close();
+        if (flushScheduler != null)
+        {
+            flushScheduler.shutdownNow();
+            flushScheduler = null;
+        }
         if (schemaManager != null)
         {
             schemaManager.dropSchema();
@@ -59,6 +59,19 @@ class HBaseClientProperties
                     {
                         setBatchSize(value);
                     }
+                    else if (key.equals(HBaseConstants.WRITE_BUFFERED))
+                    {
+                        this.hbaseClient.setBufferedWrites(value instanceof Boolean ? (Boolean) value : Boolean
+                                .parseBoolean(value.toString().trim()));
+                    }
+                    else if (key.equals(HBaseConstants.WRITE_BUFFER_SIZE))
+                    {
+                        this.hbaseClient.setWriteBufferSize(toLong(value));
+                    }
+                    else if (key.equals(HBaseConstants.WRITE_FLUSH_INTERVAL))
+                    {
+                        this.hbaseClient.setFlushInterval(toLong(value));
+                    }
                     // Add more
                 }
             }
@@ -78,6 +91,14 @@ class HBaseClientProperties
 
     }
 
+    /**
+     * Converts property value to long.
+     */
+    private long toLong(Object value)
+    {
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+    }
+
     /**
      * check key value map not null
      */
@@ -28,4 +28,13 @@ public final class HBaseConstants
     public static final String ZOOKEEPER_PORT = "zookeeper.port";
 
     public static final String ZOOKEEPER_HOST = "zookeeper.host";
+
+    /** Whether writes are buffered on client side, false by default. */
+    public static final String WRITE_BUFFERED = "hbase.write.buffered";
+
+    /** Write buffer size of buffered tables in bytes. */
+    public static final String WRITE_BUFFER_SIZE = "hbase.write.buffer.size";
+
+    /** Interval of periodic flush of buffered writes in millis. */
+    public static final String WRITE_FLUSH_INTERVAL = "hbase.write.flush.interval";
 }
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import com.impetus.client.hbase.admin.HBaseDataHandler;
 import com.impetus.kundera.KunderaException;
 import com.impetus.kundera.client.ClientBase;
+import com.impetus.kundera.generator.HiLoAllocator;
 import com.impetus.kundera.generator.TableGenerator;
 import com.impetus.kundera.metadata.model.TableGeneratorDiscriptor;
 
@@ -46,26 +47,46 @@ public class HBaseIdGenerator implements TableGenerator
      * com.impetus.kundera.client.ClientBase, java.lang.Object)
      */
     @Override
-    public Object generate(TableGeneratorDiscriptor discriptor, ClientBase client, String dataType)
+    public Object generate(final TableGeneratorDiscriptor discriptor, final ClientBase client, String dataType)
+    {
+        if (discriptor.getAllocationSize() <= 1)
+        {
+            long latestCount = increment(discriptor, client);
+            return latestCount == 1 ? (long) discriptor.getInitialValue() : latestCount + discriptor.getInitialValue();
+        }
+
+        // counter holds number of blocks, ids within a block are handed out
+        // locally.
+        return client.getIdAllocator().next(
+                client.getPersistenceUnit() + "." + discriptor.getTable() + "." + discriptor.getPkColumnValue(),
+                discriptor.getInitialValue(), discriptor.getAllocationSize(), new HiLoAllocator.BlockSource()
+                {
+                    @Override
+                    public long nextBlock()
+                    {
+                        return increment(discriptor, client);
+                    }
+                });
+    }
+
+    /**
+     * Increments counter of given generator.
+     * 
+     * @param discriptor
+     *            the table generator discriptor
+     * @param client
+     *            the client
+     * @return incremented value of counter
+     */
+    private long increment(TableGeneratorDiscriptor discriptor, ClientBase client)
     {
         try
         {
             HTableInterface hTable = ((HBaseDataHandler) ((HBaseClient) client).handler).gethTable(discriptor
                     .getSchema());
-            Long latestCount = hTable.incrementColumnValue(discriptor.getPkColumnValue().getBytes(), discriptor
+            long latestCount = hTable.incrementColumnValue(discriptor.getPkColumnValue().getBytes(), discriptor
                     .getTable().getBytes(), discriptor.getValueColumnName().getBytes(), 1);
-            if (latestCount == 1)
-            {
-                return (long) discriptor.getInitialValue();
-            }
-            else if (discriptor.getAllocationSize() == 1)
-            {
-                return latestCount + discriptor.getInitialValue();
-            }
-            else
-            {
-                return (latestCount - 1) * discriptor.getAllocationSize() + discriptor.getInitialValue();
-            }
+            return latestCount;
         }
         catch (IOException ioex)
         {
@@ -25,6 +25,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.ElementCollection;
 import javax.persistence.Embedded;
@@ -39,6 +42,7 @@ import org.apache.hadoop.hbase.HColumnDescriptor;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.MasterNotRunningException;
 import org.apache.hadoop.hbase.client.HBaseAdmin;
+import org.apache.hadoop.hbase.client.HTable;
 import org.apache.hadoop.hbase.client.HTableInterface;
 import org.apache.hadoop.hbase.client.HTablePool;
 import org.apache.hadoop.hbase.filter.Filter;
@@ -102,6 +106,24 @@ public class HBaseDataHandler implements DataHandler
 
     private KunderaMetadata kunderaMetadata;
 
+    /** Tables with client side write buffer, keyed by table name. */
+    private Map<String, HTableInterface> bufferedTables = new HashMap<String, HTableInterface>();
+
+    /** Whether writes go through buffered tables. */
+    private boolean bufferedWrites;
+
+    /** Write buffer size of buffered tables in bytes, 0 for hbase default. */
+    private long writeBufferSize;
+
+    /** Scheduler of periodic flushes of buffered tables. */
+    private ScheduledExecutorService flushScheduler;
+
+    /** Interval of periodic flushes in millis, 0 to disable. */
+    private long flushInterval;
+
+    /** Periodic flush task, scheduled on first buffered write. */
+    private ScheduledFuture<?> flushTask;
+
     /**
      * Instantiates a new h base data handler.
      * 
@@ -347,17 +369,17 @@ public class HBaseDataHandler implements DataHandler
      * java.lang.String, java.util.List)
      */
     @Override
-    public void writeData(String tableName, EntityMetadata m, Object entity, Object rowId,
-            List<RelationHolder> relations, boolean showQuery) throws IOException
+    public synchronized void writeData(String tableName, EntityMetadata m, Object entity, Object rowId,
+            List<RelationHolder> relations, Set<String> attributeNames, boolean showQuery) throws IOException
     {
-        HTableInterface hTable = gethTable(tableName);
+        HTableInterface hTable = getWriteTable(tableName);
 
         MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
                 m.getPersistenceUnit());
 
         EntityType entityType = metaModel.entity(m.getEntityClazz());
 
-        Set<Attribute> attributes = entityType.getAttributes();
+        Set<Attribute> attributes = HBaseUtils.getAttributes(entityType, m, attributeNames);
 
         if (metaModel.isEmbeddable(m.getIdAttribute().getBindableJavaType()))
         {
@@ -401,7 +423,7 @@ public class HBaseDataHandler implements DataHandler
             hbaseWriter.writeRelations(hTable, rowId, containsEmbeddedObjectsOnly, discriminator, m.getTableName());
         }
 
-        puthTable(hTable);
+        putWriteTable(hTable);
     }
 
     private void writeColumnData(HTableInterface hTable, Object entity, Map<String, HBaseDataWrapper> columnWrappers)
@@ -424,14 +446,14 @@ public class HBaseDataHandler implements DataHandler
      * .String, java.lang.String, java.util.Map)
      */
     @Override
-    public void writeJoinTableData(String tableName, Object rowId, Map<String, Object> columns, String columnFamilyName)
-            throws IOException
+    public synchronized void writeJoinTableData(String tableName, Object rowId, Map<String, Object> columns,
+            String columnFamilyName) throws IOException
     {
-        HTableInterface hTable = gethTable(tableName);
+        HTableInterface hTable = getWriteTable(tableName);
 
         hbaseWriter.writeColumns(hTable, rowId, columns, columnFamilyName);
 
-        puthTable(hTable);
+        putWriteTable(hTable);
     }
 
     /*
@@ -527,6 +549,173 @@ public class HBaseDataHandler implements DataHandler
         hTablePool.putTable(hTable);
     }
 
+    /**
+     * Gets table to write to, the buffered table if writes are buffered or
+     * else a table from the pool.
+     * 
+     * @param tableName
+     *            Name of HBase table
+     * @return the h table
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private HTableInterface getWriteTable(final String tableName) throws IOException
+    {
+        if (!bufferedWrites)
+        {
+            return gethTable(tableName);
+        }
+        HTableInterface hTable = bufferedTables.get(tableName);
+        if (hTable == null)
+        {
+            // pooled tables are shared, so buffer on a table of own.
+            hTable = new HTable(conf, tableName);
+            hTable.setAutoFlush(false, true);
+            if (writeBufferSize > 0)
+            {
+                hTable.setWriteBufferSize(writeBufferSize);
+            }
+            bufferedTables.put(tableName, hTable);
+            schedulePeriodicFlush();
+        }
+        return hTable;
+    }
+
+    /**
+     * Releases table got by {@link #getWriteTable(String)}, buffered tables
+     * are kept until closed.
+     * 
+     * @param hTable
+     *            HBase Table instance
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private void putWriteTable(HTableInterface hTable) throws IOException
+    {
+        if (!bufferedTables.containsValue(hTable))
+        {
+            puthTable(hTable);
+        }
+    }
+
+    /**
+     * Schedules periodic flush of buffered tables, if flush interval is set.
+     */
+    private void schedulePeriodicFlush()
+    {
+        if (flushTask == null && flushScheduler != null && flushInterval > 0)
+        {
+            flushTask = flushScheduler.scheduleWithFixedDelay(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        flush();
+                    }
+                    catch (IOException e)
+                    {
+                        log.error("Error during periodic flush of buffered writes, Caused by: .", e);
+                    }
+                }
+            }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends buffered writes of all tables.
+     * 
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public synchronized void flush() throws IOException
+    {
+        for (HTableInterface hTable : bufferedTables.values())
+        {
+            hTable.flushCommits();
+        }
+    }
+
+    /**
+     * Flushes and closes buffered tables, next buffered write opens new ones.
+     * 
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private synchronized void closeBufferedTables() throws IOException
+    {
+        if (flushTask != null)
+        {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        IOException error = null;
+        for (HTableInterface hTable : bufferedTables.values())
+        {
+            try
+            {
+                hTable.close();
+            }
+            catch (IOException e)
+            {
+                error = error == null ? e : error;
+            }
+        }
+        bufferedTables.clear();
+        if (error != null)
+        {
+            throw error;
+        }
+    }
+
+    /**
+     * Sets whether writes are buffered on client side, flushed on
+     * {@link #flush()}, on reaching write buffer size or periodically.
+     * 
+     * @param bufferedWrites
+     *            the buffered writes
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void setBufferedWrites(final boolean bufferedWrites) throws IOException
+    {
+        closeBufferedTables();
+        this.bufferedWrites = bufferedWrites;
+    }
+
+    /**
+     * Sets write buffer size of buffered tables.
+     * 
+     * @param writeBufferSize
+     *            the write buffer size in bytes
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void setWriteBufferSize(final long writeBufferSize) throws IOException
+    {
+        closeBufferedTables();
+        this.writeBufferSize = writeBufferSize;
+    }
+
+    /**
+     * Sets periodic flush of buffered tables.
+     * 
+     * @param flushScheduler
+     *            the flush scheduler
+     * @param flushInterval
+     *            the flush interval in millis, 0 to disable
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void setFlushInterval(final ScheduledExecutorService flushScheduler, final long flushInterval)
+            throws IOException
+    {
+        closeBufferedTables();
+        this.flushScheduler = flushScheduler;
+        this.flushInterval = flushInterval;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -535,6 +724,15 @@ public class HBaseDataHandler implements DataHandler
     @Override
     public void shutdown()
     {
+        try
+        {
+            closeBufferedTables();
+        }
+        catch (IOException e)
+        {
+            log.error("Error while flushing buffered writes, Caused by: .", e);
+            throw new KunderaException(e);
+        }
 
         // TODO: Shutting down admin actually shuts down HMaster, something we
         // don't want.
@@ -820,8 +1018,14 @@ public class HBaseDataHandler implements DataHandler
      * com.impetus.client.hbase.admin.DataHandler#deleteRow(java.lang.String,
      * java.lang.String)
      */
-    public void deleteRow(Object rowKey, String tableName, String columnFamilyName) throws IOException
+    public synchronized void deleteRow(Object rowKey, String tableName, String columnFamilyName) throws IOException
     {
+        HTableInterface hTable = bufferedTables.get(tableName);
+        if (hTable != null)
+        {
+            // deletes are not buffered, so send puts buffered before it first.
+            hTable.flushCommits();
+        }
         hbaseWriter.delete(gethTable(tableName), rowKey, columnFamilyName);
     }
 
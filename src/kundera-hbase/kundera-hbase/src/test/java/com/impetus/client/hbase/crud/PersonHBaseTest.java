@@ -37,6 +37,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.impetus.client.hbase.HBaseClient;
+import com.impetus.client.hbase.HBaseConstants;
 import com.impetus.client.hbase.crud.PersonHBase.Day;
 import com.impetus.client.hbase.junits.HBaseCli;
 import com.impetus.kundera.client.Client;
@@ -316,6 +317,42 @@ public class PersonHBaseTest extends BaseTest
         Assert.assertEquals(3, results.size());
     }
 
+    /**
+     * Test persist and remove through client side write buffer, visible after
+     * flush.
+     */
+    @Test
+    public void onBufferedWrites()
+    {
+        em.setProperty(HBaseConstants.WRITE_BUFFERED, "true");
+        em.setProperty(HBaseConstants.WRITE_BUFFER_SIZE, "1048576");
+        for (int i = 0; i < 5; i++)
+        {
+            PersonHBase p = new PersonHBase();
+            p.setPersonId("buffered_" + i);
+            p.setPersonName("buffered");
+            p.setAge(i);
+            em.persist(p);
+        }
+        em.flush();
+        em.clear();
+
+        EntityManager reader = emf.createEntityManager();
+        for (int i = 0; i < 5; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), reader.find(PersonHBase.class, "buffered_" + i).getAge());
+        }
+
+        for (int i = 0; i < 5; i++)
+        {
+            em.remove(em.find(PersonHBase.class, "buffered_" + i));
+        }
+        em.flush();
+        reader.clear();
+        Assert.assertNull(reader.find(PersonHBase.class, "buffered_0"));
+        reader.close();
+    }
+
     // @Test
     // public void onMergeHbase() {
     // em.persist(prepareHbaseInstance("1", 10));
@@ -15,7 +15,11 @@
  ******************************************************************************/
 package com.impetus.client.kudu;
 
+import java.io.Flushable;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -30,26 +34,34 @@ import org.apache.kudu.ColumnSchema;
 import org.apache.kudu.Type;
 import org.apache.kudu.client.Delete;
 import org.apache.kudu.client.KuduClient;
+import org.apache.kudu.client.KuduException;
 import org.apache.kudu.client.KuduPredicate;
 import org.apache.kudu.client.KuduScanner;
 import org.apache.kudu.client.KuduScanner.KuduScannerBuilder;
 import org.apache.kudu.client.KuduSession;
 import org.apache.kudu.client.KuduTable;
 import org.apache.kudu.client.Operation;
+import org.apache.kudu.client.OperationResponse;
 import org.apache.kudu.client.PartialRow;
+import org.apache.kudu.client.RowError;
+import org.apache.kudu.client.RowErrorsAndOverflowStatus;
 import org.apache.kudu.client.RowResult;
 import org.apache.kudu.client.RowResultIterator;
+import org.apache.kudu.client.SessionConfiguration.FlushMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.impetus.client.kudu.query.KuduDBQuery;
 import com.impetus.kundera.KunderaException;
+import com.impetus.kundera.PersistenceProperties;
 import com.impetus.kundera.client.Client;
 import com.impetus.kundera.client.ClientBase;
 import com.impetus.kundera.client.ClientPropertiesSetter;
 import com.impetus.kundera.db.RelationHolder;
 import com.impetus.kundera.generator.Generator;
+import com.impetus.kundera.graph.Node;
 import com.impetus.kundera.index.IndexManager;
+import com.impetus.kundera.lifecycle.states.RemovedState;
 import com.impetus.kundera.metadata.KunderaMetadataManager;
 import com.impetus.kundera.metadata.model.ClientMetadata;
 import com.impetus.kundera.metadata.model.EntityMetadata;
@@ -57,6 +69,7 @@ import com.impetus.kundera.metadata.model.MetamodelImpl;
 import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
 import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
 import com.impetus.kundera.persistence.EntityReader;
+import com.impetus.kundera.persistence.api.Batcher;
 import com.impetus.kundera.persistence.context.jointable.JoinTableData;
 import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.utils.KunderaCoreUtils;
@@ -67,7 +80,8 @@ import com.impetus.kundera.utils.ReflectUtils;
  * 
  * @author karthikp.manchala
  */
-public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, ClientPropertiesSetter
+public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, ClientPropertiesSetter, Batcher,
+        Flushable
 {
 
     /** The logger. */
@@ -79,6 +93,37 @@ public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, Cli
     /** The reader. */
     private EntityReader reader;
 
+    /** The session, opened on first write and kept till close. */
+    private KuduSession session;
+
+    /** Flush mode of session. */
+    private FlushMode flushMode = FlushMode.AUTO_FLUSH_SYNC;
+
+    /** Mutation buffer space of session in operations, 0 for kudu default. */
+    private int mutationBufferSpace;
+
+    /** Background flush interval of session in millis, 0 for kudu default. */
+    private int flushInterval;
+
+    /** Operations applied since last flush, in manual flush mode. */
+    private int pendingOperations;
+
+    /** Opened tables, keyed by name. */
+    private Map<String, KuduTable> tables = new HashMap<String, KuduTable>();
+
+    /** The nodes. */
+    private List<Node> nodes = new ArrayList<Node>();
+
+    /** The batch size. */
+    private int batchSize;
+
+    /** Kudu default of mutation buffer space. */
+    private static final int DEFAULT_MUTATION_BUFFER_SPACE = 1000;
+
+    /** Session properties, read from persistence unit. */
+    private static final String[] PU_PROPERTIES = { KuduDBClientProperties.FLUSH_MODE,
+            KuduDBClientProperties.MUTATION_BUFFER_SPACE, KuduDBClientProperties.FLUSH_INTERVAL };
+
     /**
      * Instantiates a new kudu db client.
      *
@@ -106,6 +151,45 @@ public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, Cli
         this.kuduClient = kuduClient;
         this.indexManager = indexManager;
         this.clientMetadata = clientMetadata;
+        this.batchSize = getBatchSize(persistenceUnit, properties);
+        populatePersistenceUnitProperties(persistenceUnit, properties);
+    }
+
+    /**
+     * Gets the batch size.
+     * 
+     * @param persistenceUnit
+     *            the persistence unit
+     * @param puProperties
+     *            the pu properties
+     * @return the batch size
+     */
+    private int getBatchSize(String persistenceUnit, Map<String, Object> puProperties)
+    {
+        Object batchSize = puProperties != null ? puProperties.get(PersistenceProperties.KUNDERA_BATCH_SIZE) : null;
+        return batchSize != null ? Integer.valueOf(batchSize.toString()) : KunderaMetadataManager
+                .getPersistenceUnitMetadata(kunderaMetadata, persistenceUnit).getBatchSize();
+    }
+
+    /**
+     * Populates session properties, external properties taking precedence
+     * over persistence unit ones.
+     * 
+     * @param persistenceUnit
+     *            the persistence unit
+     * @param puProperties
+     *            the pu properties
+     */
+    private void populatePersistenceUnitProperties(String persistenceUnit, Map<String, Object> puProperties)
+    {
+        Map<String, Object> properties = new HashMap<String, Object>();
+        for (String property : PU_PROPERTIES)
+        {
+            Object value = puProperties != null ? puProperties.get(property) : null;
+            properties.put(property, value != null ? value : KunderaMetadataManager
+                    .getPersistenceUnitMetadata(kunderaMetadata, persistenceUnit).getProperty(property));
+        }
+        populateClientProperties(this, properties);
     }
 
     /**
@@ -135,8 +219,57 @@ public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, Cli
      */
     @Override
     public void populateClientProperties(Client client, Map<String, Object> properties)
-    { // TODO Auto-generated method stub
+    {
+        new KuduDBClientProperties().populateClientProperties(client, properties);
+    }
 
+    /**
+     * Sets flush mode of session. In background and manual flush modes,
+     * operations are buffered and sent on flush or commit, or by session as
+     * its buffer fills up.
+     * 
+     * @param flushMode
+     *            the flush mode
+     */
+    public void setFlushMode(FlushMode flushMode)
+    {
+        closeSession();
+        this.flushMode = flushMode;
+    }
+
+    /**
+     * Sets mutation buffer space of session.
+     * 
+     * @param mutationBufferSpace
+     *            number of operations buffered
+     */
+    public void setMutationBufferSpace(int mutationBufferSpace)
+    {
+        closeSession();
+        this.mutationBufferSpace = mutationBufferSpace;
+    }
+
+    /**
+     * Sets background flush interval of session.
+     * 
+     * @param flushInterval
+     *            the flush interval in millis
+     */
+    public void setFlushInterval(int flushInterval)
+    {
+        closeSession();
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Sets the batch size.
+     * 
+     * @param batchSize
+     *            the new batch size
+     */
+    public void setBatchSize(int batchSize)
+    {
+        this.batchSize = batchSize;
     }
 
     /*
@@ -407,8 +540,258 @@ public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, Cli
      */
     @Override
     public void close()
-    {// TODO Auto-generated method stub
+    {
+        closeSession();
+        tables.clear();
+        nodes.clear();
+    }
+
+    /**
+     * Gets the session, opened on first use with configured flush mode.
+     * 
+     * @return the session
+     */
+    private KuduSession getSession()
+    {
+        if (session == null || session.isClosed())
+        {
+            session = kuduClient.newSession();
+            session.setFlushMode(flushMode);
+            if (mutationBufferSpace > 0)
+            {
+                session.setMutationBufferSpace(mutationBufferSpace);
+            }
+            if (flushInterval > 0)
+            {
+                session.setFlushInterval(flushInterval);
+            }
+            pendingOperations = 0;
+        }
+        return session;
+    }
+
+    /**
+     * Flushes and closes session, next write opens a new one.
+     */
+    private void closeSession()
+    {
+        if (session != null && !session.isClosed())
+        {
+            try
+            {
+                onRowErrors(session.close());
+            }
+            catch (KuduException e)
+            {
+                logger.error("Cannot close session", e);
+                throw new KunderaException("Cannot close session", e);
+            }
+            finally
+            {
+                session = null;
+                pendingOperations = 0;
+            }
+        }
+    }
 
+    /**
+     * Gets table, opened once per client.
+     * 
+     * @param tableName
+     *            the table name
+     * @return the table
+     */
+    private KuduTable getTable(String tableName)
+    {
+        KuduTable table = tables.get(tableName);
+        if (table == null)
+        {
+            try
+            {
+                table = kuduClient.openTable(tableName);
+            }
+            catch (Exception e)
+            {
+                logger.error("Cannot open table : " + tableName, e);
+                throw new KunderaException("Cannot open table : " + tableName, e);
+            }
+            tables.put(tableName, table);
+        }
+        return table;
+    }
+
+    /**
+     * Applies operation on session. In manual flush mode, session is flushed
+     * before its buffer overflows.
+     * 
+     * @param operation
+     *            the operation
+     * @throws KuduException
+     *             the kudu exception
+     */
+    private void apply(Operation operation) throws KuduException
+    {
+        KuduSession session = getSession();
+        if (flushMode == FlushMode.MANUAL_FLUSH)
+        {
+            if (pendingOperations >= (mutationBufferSpace > 0 ? mutationBufferSpace : DEFAULT_MUTATION_BUFFER_SPACE))
+            {
+                onRowErrors(session.flush());
+                pendingOperations = 0;
+            }
+            pendingOperations++;
+        }
+        OperationResponse response = session.apply(operation);
+        if (response != null && response.hasRowError())
+        {
+            logger.error("Error on row of table " + operation.getTable().getName() + " : "
+                    + response.getRowError());
+        }
+    }
+
+    /**
+     * Sends operations buffered by session, invoked on flush and commit of
+     * persistence context.
+     * 
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        if (session != null && !session.isClosed() && flushMode != FlushMode.AUTO_FLUSH_SYNC)
+        {
+            onRowErrors(session.flush());
+            pendingOperations = 0;
+        }
+    }
+
+    /**
+     * Throws on row errors of flushed operations, including errors pending
+     * from background flushes.
+     * 
+     * @param responses
+     *            responses of flushed operations
+     */
+    private void onRowErrors(List<OperationResponse> responses)
+    {
+        List<RowError> errors = new ArrayList<RowError>();
+        if (responses != null)
+        {
+            for (OperationResponse response : responses)
+            {
+                if (response.hasRowError())
+                {
+                    errors.add(response.getRowError());
+                }
+            }
+        }
+        boolean overflowed = false;
+        if (session != null && session.countPendingErrors() > 0)
+        {
+            RowErrorsAndOverflowStatus pendingErrors = session.getPendingErrors();
+            for (RowError error : pendingErrors.getRowErrors())
+            {
+                errors.add(error);
+            }
+            overflowed = pendingErrors.isOverflowed();
+        }
+        if (!errors.isEmpty())
+        {
+            logger.error("Errors on " + errors.size() + " rows" + (overflowed ? ", some errors discarded" : "")
+                    + ", first error : " + errors.get(0));
+            throw new KunderaException("Cannot write " + errors.size() + " rows"
+                    + (overflowed ? ", some errors discarded" : "") + ", first error : " + errors.get(0));
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * com.impetus.kundera.persistence.api.Batcher#addBatch(com.impetus.kundera
+     * .graph.Node)
+     */
+    @Override
+    public void addBatch(Node node)
+    {
+        if (node != null)
+        {
+            nodes.add(node);
+        }
+        if (batchSize > 0 && batchSize == nodes.size())
+        {
+            executeBatch();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.impetus.kundera.persistence.api.Batcher#executeBatch()
+     */
+    @Override
+    public int executeBatch()
+    {
+        int executed = 0;
+        try
+        {
+            for (Node node : nodes)
+            {
+                if (node.isDirty())
+                {
+                    node.handlePreEvent();
+                    EntityMetadata m = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, node.getDataClass());
+                    if (node.isInState(RemovedState.class))
+                    {
+                        apply(prepareDelete(m, node.getData()));
+                    }
+                    else
+                    {
+                        apply(prepareUpsert(m, node.getData(), node.isUpdate()));
+                    }
+                    node.handlePostEvent();
+                    executed++;
+                }
+            }
+            if (executed > 0 && flushMode != FlushMode.AUTO_FLUSH_SYNC)
+            {
+                onRowErrors(getSession().flush());
+                pendingOperations = 0;
+            }
+            return executed;
+        }
+        catch (KuduException e)
+        {
+            logger.error("Error while executing batch insert/update/delete, Caused by: .", e);
+            throw new KunderaException("Error while executing batch insert/update/delete", e);
+        }
+        finally
+        {
+            nodes.clear();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.impetus.kundera.persistence.api.Batcher#getBatchSize()
+     */
+    @Override
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.impetus.kundera.persistence.api.Batcher#clear()
+     */
+    @Override
+    public void clear()
+    {
+        nodes.clear();
     }
 
     /*
@@ -611,42 +994,36 @@ public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, Cli
     @Override
     protected void onPersist(EntityMetadata entityMetadata, Object entity, Object id, List<RelationHolder> rlHolders)
     {
-
-        KuduSession session = kuduClient.newSession();
-        KuduTable table = null;
+        Operation operation = prepareUpsert(entityMetadata, entity, isUpdate);
         try
         {
-            table = kuduClient.openTable(entityMetadata.getTableName());
+            apply(operation);
         }
         catch (Exception e)
         {
-            logger.error("Cannot open table : " + entityMetadata.getTableName(), e);
-            throw new KunderaException("Cannot open table : " + entityMetadata.getTableName(), e);
+            logger.error("Cannot insert/update row in table : " + entityMetadata.getTableName(), e);
+            throw new KunderaException("Cannot insert/update row in table : " + entityMetadata.getTableName(), e);
         }
+    }
+
+    /**
+     * Prepares insert or update of entity.
+     * 
+     * @param entityMetadata
+     *            the entity metadata
+     * @param entity
+     *            the entity
+     * @param isUpdate
+     *            whether entity is updated
+     * @return the operation
+     */
+    private Operation prepareUpsert(EntityMetadata entityMetadata, Object entity, boolean isUpdate)
+    {
+        KuduTable table = getTable(entityMetadata.getTableName());
         Operation operation = isUpdate ? table.newUpdate() : table.newInsert();
         PartialRow row = operation.getRow();
         populatePartialRow(row, entityMetadata, entity);
-        try
-        {
-            session.apply(operation);
-        }
-        catch (Exception e)
-        {
-            logger.error("Cannot insert/update row in table : " + entityMetadata.getTableName(), e);
-            throw new KunderaException("Cannot insert/update row in table : " + entityMetadata.getTableName(), e);
-        }
-        finally
-        {
-            try
-            {
-                session.close();
-            }
-            catch (Exception e)
-            {
-                logger.error("Cannot close session", e);
-                throw new KunderaException("Cannot close session", e);
-            }
-        }
+        return operation;
     }
 
     /**
@@ -743,23 +1120,35 @@ public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, Cli
     @Override
     protected void delete(Object entity, Object pKey)
     {
-
         EntityMetadata entityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entity.getClass());
-        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata()
-                .getMetamodel(entityMetadata.getPersistenceUnit());
-        EntityType entityType = metaModel.entity(entityMetadata.getEntityClazz());
-
-        KuduSession session = kuduClient.newSession();
-        KuduTable table = null;
+        Delete delete = prepareDelete(entityMetadata, entity);
         try
         {
-            table = kuduClient.openTable(entityMetadata.getTableName());
+            apply(delete);
         }
         catch (Exception e)
         {
-            logger.error("Cannot open table : " + entityMetadata.getTableName(), e);
-            throw new KunderaException("Cannot open table : " + entityMetadata.getTableName(), e);
+            logger.error("Cannot delete row from table : " + entityMetadata.getTableName(), e);
+            throw new KunderaException("Cannot delete row from table : " + entityMetadata.getTableName(), e);
         }
+    }
+
+    /**
+     * Prepares delete of entity.
+     * 
+     * @param entityMetadata
+     *            the entity metadata
+     * @param entity
+     *            the entity
+     * @return the delete
+     */
+    private Delete prepareDelete(EntityMetadata entityMetadata, Object entity)
+    {
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata()
+                .getMetamodel(entityMetadata.getPersistenceUnit());
+        EntityType entityType = metaModel.entity(entityMetadata.getEntityClazz());
+
+        KuduTable table = getTable(entityMetadata.getTableName());
         Delete delete = table.newDelete();
         PartialRow row = delete.getRow();
         String idColumnName = ((AbstractAttribute) entityMetadata.getIdAttribute()).getName();
@@ -781,28 +1170,7 @@ public class KuduDBClient extends ClientBase implements Client<KuduDBQuery>, Cli
             KuduDBDataHandler.addToRow(row, ((AbstractAttribute) entityMetadata.getIdAttribute()).getJPAColumnName(),
                     value, idType);
         }
-
-        try
-        {
-            session.apply(delete);
-        }
-        catch (Exception e)
-        {
-            logger.error("Cannot delete row from table : " + entityMetadata.getTableName(), e);
-            throw new KunderaException("Cannot delete row from table : " + entityMetadata.getTableName(), e);
-        }
-        finally
-        {
-            try
-            {
-                session.close();
-            }
-            catch (Exception e)
-            {
-                logger.error("Cannot close session", e);
-                throw new KunderaException("Cannot close session", e);
-            }
-        }
+        return delete;
     }
 
     /**
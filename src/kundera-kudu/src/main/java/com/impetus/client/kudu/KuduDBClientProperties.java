@@ -0,0 +1,98 @@
+/*******************************************************************************
+ *  * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.kudu;
+
+import java.util.Map;
+
+import org.apache.kudu.client.SessionConfiguration.FlushMode;
+
+import com.impetus.kundera.PersistenceProperties;
+import com.impetus.kundera.client.Client;
+
+/**
+ * Kudu client properties, set through persistence unit, external properties
+ * or {@link javax.persistence.EntityManager#setProperty(String, Object)}.
+ */
+public class KuduDBClientProperties
+{
+    /**
+     * Flush mode of session, one of AUTO_FLUSH_SYNC (default),
+     * AUTO_FLUSH_BACKGROUND and MANUAL_FLUSH.
+     */
+    public static final String FLUSH_MODE = "kudu.flush.mode";
+
+    /** Number of operations buffered by session. */
+    public static final String MUTATION_BUFFER_SPACE = "kudu.mutation.buffer.space";
+
+    /** Background flush interval of session in millis. */
+    public static final String FLUSH_INTERVAL = "kudu.flush.interval";
+
+    /** The kudu client. */
+    private KuduDBClient kuduClient;
+
+    /**
+     * Populate client properties.
+     * 
+     * @param client
+     *            the client
+     * @param properties
+     *            the properties
+     */
+    public void populateClientProperties(Client client, Map<String, Object> properties)
+    {
+        this.kuduClient = (KuduDBClient) client;
+
+        if (properties != null)
+        {
+            for (String key : properties.keySet())
+            {
+                Object value = properties.get(key);
+                if (key != null && value != null)
+                {
+                    if (key.equals(FLUSH_MODE))
+                    {
+                        kuduClient.setFlushMode(value instanceof FlushMode ? (FlushMode) value : FlushMode
+                                .valueOf(value.toString().trim().toUpperCase()));
+                    }
+                    else if (key.equals(MUTATION_BUFFER_SPACE))
+                    {
+                        kuduClient.setMutationBufferSpace(toInt(value));
+                    }
+                    else if (key.equals(FLUSH_INTERVAL))
+                    {
+                        kuduClient.setFlushInterval(toInt(value));
+                    }
+                    else if (key.equals(PersistenceProperties.KUNDERA_BATCH_SIZE))
+                    {
+                        kuduClient.setBatchSize(toInt(value));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts property value to int.
+     * 
+     * @param value
+     *            the value
+     * @return the int
+     */
+    private int toInt(Object value)
+    {
+        return value instanceof Integer ? (Integer) value : Integer.parseInt(value.toString().trim());
+    }
+}
@@ -25,7 +25,9 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.impetus.client.kudu.KuduDBClientProperties;
 import com.impetus.client.kudu.entities.Person;
+import com.impetus.kundera.PersistenceProperties;
 
 import junit.framework.Assert;
 
@@ -79,6 +81,37 @@ public class KuduCRUDTest
         testDelete();
     }
 
+    /**
+     * Test batched writes through a long lived session in manual flush mode.
+     */
+    @Test
+    public void testBatchedWrites()
+    {
+        em.setProperty(KuduDBClientProperties.FLUSH_MODE, "MANUAL_FLUSH");
+        em.setProperty(KuduDBClientProperties.MUTATION_BUFFER_SPACE, "3");
+        em.setProperty(PersistenceProperties.KUNDERA_BATCH_SIZE, "4");
+        for (int i = 0; i < 10; i++)
+        {
+            em.persist(new Person("batch_" + i, "dev", i, 1000.0));
+        }
+        em.flush();
+        em.clear();
+        for (int i = 0; i < 10; i++)
+        {
+            Person p = em.find(Person.class, "batch_" + i);
+            Assert.assertNotNull(p);
+            Assert.assertEquals(i, p.getAge());
+        }
+
+        for (int i = 0; i < 10; i++)
+        {
+            em.remove(em.find(Person.class, "batch_" + i));
+        }
+        em.flush();
+        em.clear();
+        Assert.assertNull(em.find(Person.class, "batch_0"));
+    }
+
     /**
      * Test insert.
      */
@@ -0,0 +1,449 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.mongodb;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EmbeddableType;
+import javax.persistence.metamodel.EntityType;
+
+import org.bson.BSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.impetus.client.mongodb.utils.MongoDBUtils;
+import com.impetus.kundera.db.RelationHolder;
+import com.impetus.kundera.metadata.KunderaMetadataManager;
+import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.metadata.model.MetamodelImpl;
+import com.impetus.kundera.metadata.model.annotation.DefaultEntityAnnotationProcessor;
+import com.impetus.kundera.metadata.model.attributes.AbstractAttribute;
+import com.impetus.kundera.metadata.model.attributes.AttributeType;
+import com.impetus.kundera.metadata.model.type.AbstractManagedType;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.impetus.kundera.property.FieldAccessor;
+import com.impetus.kundera.property.PropertyAccessorHelper;
+import com.impetus.kundera.property.accessor.EnumAccessor;
+import com.mongodb.DBCallback;
+import com.mongodb.DBCollection;
+import com.mongodb.DBDecoder;
+import com.mongodb.DBDecoderFactory;
+import com.mongodb.DBObject;
+import com.mongodb.DefaultDBCallback;
+import com.mongodb.DefaultDBDecoder;
+
+/**
+ * Codec of an entity class, converting entities straight into
+ * {@link EntityDocument}s and back. Attributes are classified and their
+ * accessors resolved once, when codec is built, instead of walking metamodel
+ * per entity as {@link DefaultMongoDBDataHandler} does. Documents read through
+ * {@link #getDecoderFactory()} are decoded into {@link EntityDocument}s as
+ * well.
+ *
+ * Codecs are built only for entities held in a single collection: entities
+ * with lobs, embedded ids, secondary tables or inheritance are left to
+ * {@link DefaultMongoDBDataHandler}.
+ */
+final class EntityCodec
+{
+    /** The log. */
+    private static Logger log = LoggerFactory.getLogger(EntityCodec.class);
+
+    /** The entity metadata. */
+    private final EntityMetadata metadata;
+
+    /** The metamodel. */
+    private final MetamodelImpl metaModel;
+
+    /** The id accessor. */
+    private final FieldAccessor idAccessor;
+
+    /** The id class. */
+    private final Class<?> idClass;
+
+    /** Simple (primitive and enum) columns, in document order. */
+    private final Column[] columns;
+
+    /** Index of simple columns, keyed by column name. */
+    private final Map<String, Integer> indexes;
+
+    /** Collection, map and point columns. */
+    private final List<Attribute> mappedColumns;
+
+    /** Embedded columns. */
+    private final List<Attribute> embeddedColumns;
+
+    /** Association columns. */
+    private final List<Attribute> associations;
+
+    /** Decoder factory, decoding documents into entity documents. */
+    private final DBDecoderFactory decoderFactory;
+
+    /**
+     * Instantiates a new entity codec.
+     */
+    private EntityCodec(EntityMetadata metadata, MetamodelImpl metaModel, List<Column> columns,
+            List<Attribute> mappedColumns, List<Attribute> embeddedColumns, List<Attribute> associations)
+    {
+        this.metadata = metadata;
+        this.metaModel = metaModel;
+        this.idAccessor = ((AbstractAttribute) metadata.getIdAttribute()).getFieldAccessor();
+        this.idClass = metadata.getIdAttribute().getJavaType();
+        this.columns = columns.toArray(new Column[columns.size()]);
+        this.indexes = new HashMap<String, Integer>();
+        for (int i = 0; i < this.columns.length; i++)
+        {
+            indexes.put(this.columns[i].name, i);
+        }
+        this.mappedColumns = mappedColumns;
+        this.embeddedColumns = embeddedColumns;
+        this.associations = associations;
+        this.decoderFactory = new DBDecoderFactory()
+        {
+            @Override
+            public DBDecoder create()
+            {
+                return new EntityDocumentDecoder();
+            }
+        };
+    }
+
+    /**
+     * Builds codec of given entity.
+     *
+     * @param m
+     *            entity metadata
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @return the codec, or null if entity is not held in a single document.
+     */
+    static EntityCodec build(EntityMetadata m, KunderaMetadata kunderaMetadata)
+    {
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
+                m.getPersistenceUnit());
+        EntityType entityType = metaModel.entity(m.getEntityClazz());
+        AbstractManagedType managedType = (AbstractManagedType) entityType;
+
+        if (managedType.hasLobAttribute() || managedType.isInherited() || !managedType.getSubManagedType().isEmpty()
+                || metaModel.isEmbeddable(((AbstractAttribute) m.getIdAttribute()).getBindableJavaType())
+                || !((DefaultEntityAnnotationProcessor) managedType.getEntityAnnotation()).getSecondaryTablesName()
+                        .isEmpty())
+        {
+            return null;
+        }
+
+        List<Column> columns = new ArrayList<Column>();
+        List<Attribute> mappedColumns = new ArrayList<Attribute>();
+        List<Attribute> embeddedColumns = new ArrayList<Attribute>();
+        List<Attribute> associations = new ArrayList<Attribute>();
+
+        for (Object attr : entityType.getAttributes())
+        {
+            Attribute attribute = (Attribute) attr;
+            if (attribute.equals(m.getIdAttribute()))
+            {
+                continue;
+            }
+            if (!isOwnTable((AbstractAttribute) attribute, m))
+            {
+                return null;
+            }
+
+            Class bindableType = ((AbstractAttribute) attribute).getBindableJavaType();
+            if (metaModel.isEmbeddable(bindableType))
+            {
+                EmbeddableType embeddable = metaModel.embeddable(bindableType);
+                for (Object embeddedAttr : embeddable.getAttributes())
+                {
+                    if (!isOwnTable((AbstractAttribute) embeddedAttr, m))
+                    {
+                        return null;
+                    }
+                }
+                embeddedColumns.add(attribute);
+            }
+            else if (attribute.isAssociation())
+            {
+                associations.add(attribute);
+            }
+            else
+            {
+                AttributeType type = AttributeType.getType(attribute.getJavaType());
+                if (type == AttributeType.PRIMITIVE || type == AttributeType.ENUM)
+                {
+                    columns.add(new Column(attribute, type == AttributeType.ENUM));
+                }
+                else
+                {
+                    mappedColumns.add(attribute);
+                }
+            }
+        }
+        return new EntityCodec(m, metaModel, columns, mappedColumns, embeddedColumns, associations);
+    }
+
+    /**
+     * Returns true, if attribute is held in entity's own collection.
+     */
+    private static boolean isOwnTable(AbstractAttribute attribute, EntityMetadata m)
+    {
+        return attribute.getTableName() == null || attribute.getTableName().equals(m.getTableName());
+    }
+
+    /**
+     * Gets the entity metadata.
+     *
+     * @return the entity metadata
+     */
+    EntityMetadata getEntityMetadata()
+    {
+        return metadata;
+    }
+
+    /**
+     * Gets the decoder factory, decoding top level documents into
+     * {@link EntityDocument}s.
+     *
+     * @return the decoder factory
+     */
+    DBDecoderFactory getDecoderFactory()
+    {
+        return decoderFactory;
+    }
+
+    /**
+     * Returns number of simple columns.
+     */
+    int getColumnCount()
+    {
+        return columns.length;
+    }
+
+    /**
+     * Returns name of simple column at given index.
+     */
+    String getColumnName(int index)
+    {
+        return columns[index].name;
+    }
+
+    /**
+     * Returns index of given simple column, -1 if it is not one.
+     */
+    int indexOf(String columnName)
+    {
+        Integer index = indexes.get(columnName);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Encodes entity into a document.
+     *
+     * @param entity
+     *            the entity
+     * @param relations
+     *            relation holders, may be null
+     * @return the document
+     */
+    EntityDocument encode(Object entity, List<RelationHolder> relations)
+    {
+        EntityDocument document = new EntityDocument(this);
+
+        Object id = PropertyAccessorHelper.getObject(entity, idAccessor);
+        document.put("_id", MongoDBUtils.populateValue(id, id.getClass()));
+
+        for (int i = 0; i < columns.length; i++)
+        {
+            Object value = PropertyAccessorHelper.getObject(entity, columns[i].accessor);
+            if (value != null)
+            {
+                document.setValue(i, MongoDBUtils.populateValue(value, columns[i].javaType));
+            }
+        }
+        for (Attribute column : mappedColumns)
+        {
+            DocumentObjectMapper.extractFieldValue(entity, document, column);
+        }
+        if (!embeddedColumns.isEmpty())
+        {
+            DefaultMongoDBDataHandler handler = new DefaultMongoDBDataHandler();
+            for (Attribute column : embeddedColumns)
+            {
+                handler.onEmbeddable(column, entity, metaModel, document, metadata.getTableName());
+            }
+        }
+        if (relations != null)
+        {
+            for (RelationHolder rh : relations)
+            {
+                document.put(rh.getRelationName(),
+                        MongoDBUtils.populateValue(rh.getRelationValue(), rh.getRelationValue().getClass()));
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Decodes document into given entity, same as
+     * {@link DefaultMongoDBDataHandler#getEntityFromDocument}.
+     *
+     * @param document
+     *            the document, usually an {@link EntityDocument}
+     * @param entity
+     *            entity to populate
+     * @param relations
+     *            relation names to fetch, may be null
+     * @param relationValue
+     *            relation values fetched so far, may be null
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @return relation values
+     */
+    Map<String, Object> decode(DBObject document, Object entity, List<String> relations,
+            Map<String, Object> relationValue, KunderaMetadata kunderaMetadata)
+    {
+        EntityDocument entityDocument = document instanceof EntityDocument
+                && ((EntityDocument) document).getCodec() == this ? (EntityDocument) document : null;
+
+        Object rowKey = document.get("_id");
+        Class<?> rowKeyValueClass = rowKey.getClass();
+        rowKey = MongoDBUtils.populateValue(rowKey, idClass);
+        rowKey = MongoDBUtils.getTranslatedObject(rowKey, rowKeyValueClass, idClass);
+        PropertyAccessorHelper.set(entity, idAccessor, rowKey);
+
+        for (int i = 0; i < columns.length; i++)
+        {
+            Column column = columns[i];
+            Object value = entityDocument != null ? entityDocument.getValue(i) : document.get(column.name);
+            if (value != null)
+            {
+                if (column.isEnum)
+                {
+                    value = new EnumAccessor().fromString(column.javaType, value.toString());
+                }
+                else
+                {
+                    value = MongoDBUtils.populateValue(value, value.getClass());
+                    value = MongoDBUtils.getTranslatedObject(value, value.getClass(), column.javaType);
+                }
+                PropertyAccessorHelper.set(entity, column.accessor, value);
+            }
+        }
+        for (Attribute column : mappedColumns)
+        {
+            DocumentObjectMapper.setFieldValue(document, entity, column, false);
+        }
+        if (!embeddedColumns.isEmpty())
+        {
+            DefaultMongoDBDataHandler handler = new DefaultMongoDBDataHandler();
+            for (Attribute column : embeddedColumns)
+            {
+                try
+                {
+                    handler.onViaEmbeddable(column, entity, metaModel, document);
+                }
+                catch (InstantiationException e)
+                {
+                    log.error("Error while instantiating " + column.getJavaType() + ", Caused by: ", e);
+                    return relationValue;
+                }
+                catch (IllegalAccessException e)
+                {
+                    log.error("Error while Getting entity from Document, Caused by: ", e);
+                    return relationValue;
+                }
+            }
+        }
+        if (relations != null && !associations.isEmpty())
+        {
+            if (relationValue == null)
+            {
+                relationValue = new HashMap<String, Object>();
+            }
+            for (Attribute association : associations)
+            {
+                String jpaColumnName = ((AbstractAttribute) association).getJPAColumnName();
+                if (relations.contains(jpaColumnName))
+                {
+                    Object colValue = document.get(jpaColumnName);
+                    if (colValue != null)
+                    {
+                        EntityMetadata relationMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata,
+                                ((AbstractAttribute) association).getBindableJavaType());
+                        colValue = MongoDBUtils.getTranslatedObject(colValue, colValue.getClass(), relationMetadata
+                                .getIdAttribute().getJavaType());
+                    }
+                    relationValue.put(jpaColumnName, colValue);
+                }
+            }
+        }
+        return relationValue;
+    }
+
+    /**
+     * Simple column, held in a slot of {@link EntityDocument}.
+     */
+    private static final class Column
+    {
+        /** Column name. */
+        private final String name;
+
+        /** Field accessor. */
+        private final FieldAccessor accessor;
+
+        /** Java type. */
+        private final Class javaType;
+
+        /** Is enum. */
+        private final boolean isEnum;
+
+        private Column(Attribute attribute, boolean isEnum)
+        {
+            this.name = ((AbstractAttribute) attribute).getJPAColumnName();
+            this.accessor = ((AbstractAttribute) attribute).getFieldAccessor();
+            this.javaType = attribute.getJavaType();
+            this.isEnum = isEnum;
+        }
+    }
+
+    /**
+     * Decoder creating {@link EntityDocument} for top level documents, nested
+     * documents are decoded as usual.
+     */
+    private final class EntityDocumentDecoder extends DefaultDBDecoder
+    {
+        @Override
+        public DBCallback getDBCallback(DBCollection collection)
+        {
+            return new DefaultDBCallback(collection)
+            {
+                @Override
+                public BSONObject create(boolean array, List<String> path)
+                {
+                    if (array || (path != null && !path.isEmpty()))
+                    {
+                        return super.create(array, path);
+                    }
+                    return new EntityDocument(EntityCodec.this);
+                }
+            };
+        }
+    }
+}
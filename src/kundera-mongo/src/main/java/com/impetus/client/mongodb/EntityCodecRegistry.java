@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.mongodb;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+
+/**
+ * Registry of {@link EntityCodec}s, built on first use of an entity class and
+ * shared across clients of a client factory.
+ */
+public final class EntityCodecRegistry
+{
+    /** Codecs, keyed by entity class. */
+    private final ConcurrentMap<Class<?>, EntityCodec> codecs = new ConcurrentHashMap<Class<?>, EntityCodec>();
+
+    /** Entity classes, which have no codec. */
+    private final Set<Class<?>> unsupported = Collections.newSetFromMap(new ConcurrentHashMap<Class<?>, Boolean>());
+
+    /**
+     * Returns codec of given entity.
+     *
+     * @param m
+     *            entity metadata
+     * @param kunderaMetadata
+     *            the kundera metadata
+     * @return the codec, or null if entity has to be handled by
+     *         {@link DefaultMongoDBDataHandler}.
+     */
+    EntityCodec getCodec(EntityMetadata m, KunderaMetadata kunderaMetadata)
+    {
+        Class<?> entityClass = m.getEntityClazz();
+        EntityCodec codec = codecs.get(entityClass);
+        if (codec == null && !unsupported.contains(entityClass))
+        {
+            codec = EntityCodec.build(m, kunderaMetadata);
+            if (codec == null)
+            {
+                unsupported.add(entityClass);
+            }
+            else
+            {
+                EntityCodec existing = codecs.putIfAbsent(entityClass, codec);
+                codec = existing != null ? existing : codec;
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * Clears codecs built so far.
+     */
+    public void clear()
+    {
+        codecs.clear();
+        unsupported.clear();
+    }
+}
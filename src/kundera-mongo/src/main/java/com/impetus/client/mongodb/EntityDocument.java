@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.mongodb;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BSONObject;
+
+import com.mongodb.DBObject;
+import com.mongodb.util.JSON;
+
+/**
+ * Document of an entity, laid out by its {@link EntityCodec}. Id and simple
+ * columns are held in slots resolved once per entity class, so neither
+ * encoding nor decoding goes through a hash map per field. Rest of the fields
+ * (embedded documents, collections, relations) are held in a map, created on
+ * first use.
+ */
+final class EntityDocument implements DBObject
+{
+    /** Field name of id. */
+    private static final String ID = "_id";
+
+    /** The codec. */
+    private final EntityCodec codec;
+
+    /** The id. */
+    private Object id;
+
+    /** Values of simple columns, indexed by codec. */
+    private final Object[] values;
+
+    /** Other fields, null till first put. */
+    private Map<String, Object> fields;
+
+    /** Is partial object. */
+    private boolean partial;
+
+    /**
+     * Instantiates a new entity document.
+     *
+     * @param codec
+     *            the codec
+     */
+    EntityDocument(EntityCodec codec)
+    {
+        this.codec = codec;
+        this.values = new Object[codec.getColumnCount()];
+    }
+
+    /**
+     * Gets the codec.
+     *
+     * @return the codec
+     */
+    EntityCodec getCodec()
+    {
+        return codec;
+    }
+
+    /**
+     * Returns id, as held in document.
+     *
+     * @return the id
+     */
+    Object getId()
+    {
+        return id;
+    }
+
+    /**
+     * Returns value of simple column at given index.
+     *
+     * @param index
+     *            column index
+     * @return the value
+     */
+    Object getValue(int index)
+    {
+        return values[index];
+    }
+
+    /**
+     * Sets value of simple column at given index.
+     *
+     * @param index
+     *            column index
+     * @param value
+     *            the value
+     */
+    void setValue(int index, Object value)
+    {
+        values[index] = value;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#put(java.lang.String, java.lang.Object)
+     */
+    @Override
+    public Object put(String key, Object value)
+    {
+        Object old;
+        if (ID.equals(key))
+        {
+            old = id;
+            id = value;
+            return old;
+        }
+        int index = codec.indexOf(key);
+        if (index >= 0)
+        {
+            old = values[index];
+            values[index] = value;
+            return old;
+        }
+        if (fields == null)
+        {
+            fields = new LinkedHashMap<String, Object>();
+        }
+        return fields.put(key, value);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#putAll(org.bson.BSONObject)
+     */
+    @Override
+    public void putAll(BSONObject o)
+    {
+        for (String key : o.keySet())
+        {
+            put(key, o.get(key));
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#putAll(java.util.Map)
+     */
+    @Override
+    public void putAll(Map m)
+    {
+        for (Object entry : m.entrySet())
+        {
+            put(((Map.Entry) entry).getKey().toString(), ((Map.Entry) entry).getValue());
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#get(java.lang.String)
+     */
+    @Override
+    public Object get(String key)
+    {
+        if (ID.equals(key))
+        {
+            return id;
+        }
+        int index = codec.indexOf(key);
+        if (index >= 0)
+        {
+            return values[index];
+        }
+        return fields != null ? fields.get(key) : null;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#toMap()
+     */
+    @Override
+    public Map toMap()
+    {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        for (String key : keySet())
+        {
+            map.put(key, get(key));
+        }
+        return map;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#removeField(java.lang.String)
+     */
+    @Override
+    public Object removeField(String key)
+    {
+        if (ID.equals(key) || codec.indexOf(key) >= 0)
+        {
+            return put(key, null);
+        }
+        return fields != null ? fields.remove(key) : null;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#containsKey(java.lang.String)
+     */
+    @Override
+    @Deprecated
+    public boolean containsKey(String key)
+    {
+        return containsField(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.bson.BSONObject#containsField(java.lang.String)
+     */
+    @Override
+    public boolean containsField(String key)
+    {
+        if (ID.equals(key))
+        {
+            return id != null;
+        }
+        int index = codec.indexOf(key);
+        if (index >= 0)
+        {
+            return values[index] != null;
+        }
+        return fields != null && fields.containsKey(key);
+    }
+
+    /**
+     * Returns names of fields held, id first. Simple columns are held only if
+     * not null.
+     *
+     * @return field names
+     */
+    @Override
+    public Set<String> keySet()
+    {
+        Set<String> keys = new LinkedHashSet<String>();
+        if (id != null)
+        {
+            keys.add(ID);
+        }
+        for (int i = 0; i < values.length; i++)
+        {
+            if (values[i] != null)
+            {
+                keys.add(codec.getColumnName(i));
+            }
+        }
+        if (fields != null)
+        {
+            keys.addAll(fields.keySet());
+        }
+        return keys;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see com.mongodb.DBObject#markAsPartialObject()
+     */
+    @Override
+    public void markAsPartialObject()
+    {
+        partial = true;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see com.mongodb.DBObject#isPartialObject()
+     */
+    @Override
+    public boolean isPartialObject()
+    {
+        return partial;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return JSON.serialize(this);
+    }
+}
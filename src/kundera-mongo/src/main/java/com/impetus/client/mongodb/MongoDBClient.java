@@ -139,6 +139,12 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
     /** The encoder. */
     private DBEncoder encoder = DefaultDBEncoder.FACTORY.create();
 
+    /** Codecs of entities, shared across clients of factory. */
+    private EntityCodecRegistry codecRegistry = new EntityCodecRegistry();
+
+    /** Is entity codec enabled. */
+    private boolean entityCodec = true;
+
     /**
      * Instantiates a new mongo db client.
      * 
@@ -342,12 +348,14 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
         // Here you need to fetch by sub managed type.
 
         EntityType entityType = metaModel.entity(entityMetadata.getEntityClazz());
+        EntityCodec codec = getCodec(entityMetadata);
 
         for (String tableName : secondaryTables)
         {
             DBCollection dbCollection = mongoDb.getCollection(tableName);
             KunderaCoreUtils.printQuery("Find document:" + query, showQuery);
-            DBObject fetchedDocument = dbCollection.findOne(query);
+            DBObject fetchedDocument = codec != null ? findOne(dbCollection, query, codec) : dbCollection
+                    .findOne(query);
 
             if (fetchedDocument != null)
             {
@@ -377,8 +385,10 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
                 else
                 {
                     enhancedEntity = instantiateEntity(entityClass, enhancedEntity);
-                    relationValue = handler.getEntityFromDocument(entityMetadata.getEntityClazz(), enhancedEntity,
-                            entityMetadata, fetchedDocument, relationNames, relationValue, kunderaMetadata);
+                    relationValue = codec != null ? codec.decode(fetchedDocument, enhancedEntity, relationNames,
+                            relationValue, kunderaMetadata) : handler.getEntityFromDocument(
+                            entityMetadata.getEntityClazz(), enhancedEntity, entityMetadata, fetchedDocument,
+                            relationNames, relationValue, kunderaMetadata);
                 }
 
             }
@@ -468,7 +478,7 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
 
         query.put("_id", new BasicDBObject("$in", keys));
 
-        DBCursor cursor = dbCollection.find(query);
+        DBCursor cursor = decodeAsEntities(dbCollection.find(query), entityMetadata);
         KunderaCoreUtils.printQuery("Find collection:" + query, showQuery);
         List entities = new ArrayList<E>();
         while (cursor.hasNext())
@@ -785,7 +795,7 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
         }
         else
         {
-            cursor = (DBCursor) object;
+            cursor = decodeAsEntities((DBCursor) object, entityMetadata);
         }
 
         if (results != null && results.length > 0)
@@ -1028,7 +1038,7 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
 
         query.put(colName, MongoDBUtils.populateValue(colValue, colValue.getClass()));
         KunderaCoreUtils.printQuery("Find by relation:" + query, showQuery);
-        DBCursor cursor = dbCollection.find(query);
+        DBCursor cursor = decodeAsEntities(dbCollection.find(query), m);
         DBObject fetchedDocument = null;
         List<Object> results = new ArrayList<Object>();
         while (cursor.hasNext())
@@ -1276,10 +1286,25 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
                     List<RelationHolder> relationHolders = getRelationHolders(node);
                     EntityMetadata metadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata,
                             node.getDataClass());
-                    Map<String, DBObject> documents = handler.getDocumentFromEntity(metadata, node.getData(),
-                            relationHolders, kunderaMetadata);
+                    Map<String, DBObject> documents = getDocuments(metadata, node.getData(), relationHolders);
+                    Set<String> modified = node.isUpdate() && isPartialUpdate(metadata) ? node
+                            .getModifiedAttributes() : null;
+                    MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
+                            metadata.getPersistenceUnit());
                     for (String tableName : documents.keySet())
                     {
+                        DBObject update = null;
+                        if (modified != null)
+                        {
+                            // write modified fields only, skip documents with nothing to write.
+                            update = getModifiedFields(metadata, metaModel, documents.get(tableName),
+                                    relationHolders, modified);
+                            if (update.keySet().isEmpty())
+                            {
+                                continue;
+                            }
+                        }
+
                         if (!bulkWriteOperationMap.containsKey(tableName))
                         {
                             DBCollection collection = mongoDb.getCollection(tableName);
@@ -1300,6 +1325,11 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
                             bulkWriteOperationMap.get(tableName).insert(documents.get(tableName));
                         }
 
+                        else if (update != null)
+                        {
+                            bulkWriteOperationMap.get(tableName).find(new BasicDBObject("_id", node.getEntityId()))
+                                    .updateOne(update);
+                        }
                         else
                         {
                             bulkWriteOperationMap.get(tableName).find(new BasicDBObject("_id", node.getEntityId()))
@@ -1393,8 +1423,7 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
             EntityMetadata metadata, List<RelationHolder> relationHolders, boolean isUpdate)
     {
         persistenceUnit = metadata.getPersistenceUnit();
-        Map<String, DBObject> documents = handler.getDocumentFromEntity(metadata, entity, relationHolders,
-                kunderaMetadata);
+        Map<String, DBObject> documents = getDocuments(metadata, entity, relationHolders);
 
         if (isUpdate)
         {
@@ -1416,7 +1445,20 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
                 DBCollection dbCollection = mongoDb.getCollection(documentName);
                 KunderaCoreUtils.printQuery("Persist collection:" + documentName, showQuery);
 
-                dbCollection.save(documents.get(documentName), getWriteConcern());
+                if (modifiedAttributes != null)
+                {
+                    // write modified fields only.
+                    DBObject update = getModifiedFields(metadata, metaModel, documents.get(documentName),
+                            relationHolders, modifiedAttributes);
+                    if (!update.keySet().isEmpty())
+                    {
+                        dbCollection.update(query, update, false, false, getWriteConcern());
+                    }
+                }
+                else
+                {
+                    dbCollection.save(documents.get(documentName), getWriteConcern());
+                }
             }
         }
         else
@@ -1442,6 +1484,150 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
         return collections;
     }
 
+    /**
+     * Returns documents of entity, keyed by collection name. Entities held in
+     * a single collection are encoded by their codec, rest by handler.
+     * 
+     * @param metadata
+     *            entity metadata
+     * @param entity
+     *            the entity
+     * @param relationHolders
+     *            relation holders
+     * @return documents of entity
+     */
+    private Map<String, DBObject> getDocuments(EntityMetadata metadata, Object entity,
+            List<RelationHolder> relationHolders)
+    {
+        EntityCodec codec = getCodec(metadata);
+        if (codec == null)
+        {
+            return handler.getDocumentFromEntity(metadata, entity, relationHolders, kunderaMetadata);
+        }
+        Map<String, DBObject> documents = new HashMap<String, DBObject>(2);
+        documents.put(metadata.getTableName(), codec.encode(entity, relationHolders));
+        return documents;
+    }
+
+    /**
+     * Gets codec of entity.
+     * 
+     * @param metadata
+     *            entity metadata
+     * @return the codec, null if disabled or entity is not supported by
+     *         codecs.
+     */
+    private EntityCodec getCodec(EntityMetadata metadata)
+    {
+        return entityCodec ? codecRegistry.getCodec(metadata, kunderaMetadata) : null;
+    }
+
+    /**
+     * Sets decoder of entity codec on cursor, if any, so documents are read
+     * straight into entity documents.
+     * 
+     * @param cursor
+     *            the cursor
+     * @param metadata
+     *            entity metadata
+     * @return the cursor
+     */
+    private DBCursor decodeAsEntities(DBCursor cursor, EntityMetadata metadata)
+    {
+        EntityCodec codec = getCodec(metadata);
+        if (codec != null)
+        {
+            cursor.setDecoderFactory(codec.getDecoderFactory());
+        }
+        return cursor;
+    }
+
+    /**
+     * Finds first document matching query, decoded by given codec.
+     * 
+     * @param dbCollection
+     *            the db collection
+     * @param query
+     *            the query
+     * @param codec
+     *            the codec
+     * @return the document, null if not found.
+     */
+    private DBObject findOne(DBCollection dbCollection, DBObject query, EntityCodec codec)
+    {
+        DBCursor cursor = dbCollection.find(query).limit(-1).setDecoderFactory(codec.getDecoderFactory());
+        try
+        {
+            return cursor.hasNext() ? cursor.next() : null;
+        }
+        finally
+        {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Returns update object with $set of modified fields present in document
+     * and $unset of modified fields which are null now.
+     * 
+     * @param metadata
+     *            entity metadata
+     * @param metaModel
+     *            the meta model
+     * @param document
+     *            document populated from entity
+     * @param relationHolders
+     *            relation holders
+     * @param modifiedAttributes
+     *            names of modified attributes
+     * @return update object.
+     */
+    private DBObject getModifiedFields(EntityMetadata metadata, MetamodelImpl metaModel, DBObject document,
+            List<RelationHolder> relationHolders, Set<String> modifiedAttributes)
+    {
+        EntityType entityType = metaModel.entity(metadata.getEntityClazz());
+        BasicDBObject set = new BasicDBObject();
+        BasicDBObject unset = new BasicDBObject();
+        for (String attributeName : modifiedAttributes)
+        {
+            AbstractAttribute attribute = (AbstractAttribute) entityType.getAttribute(attributeName);
+            if (!attribute.isAssociation() && !attribute.equals(metadata.getIdAttribute()))
+            {
+                String fieldName = attribute.getJPAColumnName();
+                if (document.containsField(fieldName))
+                {
+                    set.put(fieldName, document.get(fieldName));
+                }
+                else
+                {
+                    unset.put(fieldName, "");
+                }
+            }
+        }
+
+        if (relationHolders != null)
+        {
+            for (RelationHolder rh : relationHolders)
+            {
+                if (document.containsField(rh.getRelationName()))
+                {
+                    set.put(rh.getRelationName(), document.get(rh.getRelationName()));
+                }
+            }
+        }
+
+        BasicDBObject update = new BasicDBObject();
+        if (!set.isEmpty())
+        {
+            update.put("$set", set);
+        }
+        if (!unset.isEmpty())
+        {
+            update.put("$unset", unset);
+        }
+        return update;
+    }
+
     /**
      * Check on batch limit.
      */
@@ -1532,6 +1718,29 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
         return encoder;
     }
 
+    /**
+     * Sets the codec registry.
+     * 
+     * @param codecRegistry
+     *            the codec registry to set
+     */
+    public void setCodecRegistry(EntityCodecRegistry codecRegistry)
+    {
+        this.codecRegistry = codecRegistry;
+    }
+
+    /**
+     * Enables or disables entity codecs. If disabled, entities are converted
+     * by {@link DefaultMongoDBDataHandler}.
+     * 
+     * @param entityCodec
+     *            true, to enable entity codecs
+     */
+    public void setEntityCodec(boolean entityCodec)
+    {
+        this.entityCodec = entityCodec;
+    }
+
     /**
      * Gets the write concern.
      * 
@@ -1896,9 +2105,11 @@ public class MongoDBClient extends ClientBase implements Client<MongoDBQuery>, B
             else
             {
                 enhancedEntity = instantiateEntity(entityMetadata.getEntityClazz(), enhancedEntity);
-                relationValue = handler.getEntityFromDocument(entityMetadata.getEntityClazz(), enhancedEntity,
-                        entityMetadata, fetchedDocument, entityMetadata.getRelationNames(), relationValue,
-                        kunderaMetadata);
+                EntityCodec codec = getCodec(entityMetadata);
+                relationValue = codec != null ? codec.decode(fetchedDocument, enhancedEntity,
+                        entityMetadata.getRelationNames(), relationValue, kunderaMetadata) : handler
+                        .getEntityFromDocument(entityMetadata.getEntityClazz(), enhancedEntity, entityMetadata,
+                                fetchedDocument, entityMetadata.getRelationNames(), relationValue, kunderaMetadata);
             }
 
             if (relationValue != null && !relationValue.isEmpty())
@@ -70,6 +70,9 @@ public class MongoDBClientFactory extends GenericClientFactory
     /** The mongo db. */
     private DB mongoDB;
 
+    /** Codecs of entities, shared across clients. */
+    private final EntityCodecRegistry codecRegistry = new EntityCodecRegistry();
+
     /*
      * (non-Javadoc)
      * 
@@ -107,8 +110,10 @@ public class MongoDBClientFactory extends GenericClientFactory
     @Override
     protected Client instantiateClient(String persistenceUnit)
     {
-        return new MongoDBClient(mongoDB, indexManager, reader, persistenceUnit, externalProperties, clientMetadata,
-                kunderaMetadata);
+        MongoDBClient client = new MongoDBClient(mongoDB, indexManager, reader, persistenceUnit, externalProperties,
+                clientMetadata, kunderaMetadata);
+        client.setCodecRegistry(codecRegistry);
+        return client;
     }
 
     /**
@@ -343,6 +348,7 @@ public class MongoDBClientFactory extends GenericClientFactory
         {
             logger.warn("Can't close connection to MONGODB, it was already disconnected");
         }
+        codecRegistry.clear();
         externalProperties = null;
         schemaManager = null;
     }
@@ -48,6 +48,9 @@ public class MongoDBClientProperties
     /** The Constant ORDERED_BULK_OPERATION. */
     public static final String ORDERED_BULK_OPERATION = "ordered.bulk.operation";
 
+    /** The Constant ENTITY_CODEC. */
+    public static final String ENTITY_CODEC = "entity.codec";
+
     /** The mongo db client. */
     private MongoDBClient mongoDBClient;
 
@@ -82,6 +85,11 @@ public class MongoDBClientProperties
                     {
                         setBatchSize(value);
                     }
+                    else if (key.equals(ENTITY_CODEC))
+                    {
+                        this.mongoDBClient.setEntityCodec(value instanceof Boolean ? (Boolean) value : Boolean
+                                .parseBoolean(value.toString()));
+                    }
                     else if (key.equals(ORDERED_BULK_OPERATION))
                     {
                         try
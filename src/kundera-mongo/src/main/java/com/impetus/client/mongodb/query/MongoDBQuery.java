@@ -65,6 +65,7 @@ import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
 import com.impetus.kundera.persistence.EntityReader;
 import com.impetus.kundera.persistence.PersistenceDelegator;
 import com.impetus.kundera.property.PropertyAccessorFactory;
+import com.impetus.kundera.property.PropertyAccessorHelper;
 import com.impetus.kundera.query.JPQLParseException;
 import com.impetus.kundera.query.KunderaQuery;
 import com.impetus.kundera.query.KunderaQuery.FilterClause;
@@ -90,6 +91,21 @@ public class MongoDBQuery extends QueryImpl
     /** The is single result. */
     private boolean isSingleResult;
 
+    /**
+     * Query hint for seek (keyset) pagination, holding last entity read by
+     * previous page, or its id if query is not ordered. Query resumes right
+     * after it on sort keys (order by columns followed by id) instead of
+     * skipping documents, so deep pages cost the same as the first one. Set it
+     * to null for the first page, to get the same ordering.
+     */
+    public static final String SEEK_AFTER = "kundera.mongodb.seek.after";
+
+    /**
+     * Query hint, number of documents fetched from server per round trip by
+     * {@link #iterate()}.
+     */
+    public static final String BATCH_SIZE = "kundera.mongodb.batch.size";
+
     /**
      * Instantiates a new mongo db query.
      * 
@@ -173,9 +189,8 @@ public class MongoDBQuery extends QueryImpl
                 }
                 else
                 {
-                    BasicDBObject orderByClause = getOrderByClause(m);
-                    return ((MongoDBClient) client).loadData(m,
-                            createMongoQuery(m, getKunderaQuery().getFilterClauseQueue()), null, orderByClause,
+                    BasicDBObject orderByClause = getSortClause(m);
+                    return ((MongoDBClient) client).loadData(m, getQuery(m), null, orderByClause,
                             isSingleResult ? 1 : maxResult, firstResult, isCountQuery(),
                             getKeys(m, getKunderaQuery().getResult()), getKunderaQuery().getResult());
                 }
@@ -256,10 +271,9 @@ public class MongoDBQuery extends QueryImpl
                 }
                 else
                 {
-                    BasicDBObject orderByClause = getOrderByClause(m);
-                    ls = ((MongoDBClient) client).loadData(m,
-                            createMongoQuery(m, getKunderaQuery().getFilterClauseQueue()), m.getRelationNames(),
-                            orderByClause, isSingleResult ? 1 : maxResult, firstResult, isCountQuery(),
+                    BasicDBObject orderByClause = getSortClause(m);
+                    ls = ((MongoDBClient) client).loadData(m, getQuery(m), m.getRelationNames(), orderByClause,
+                            isSingleResult ? 1 : maxResult, firstResult, isCountQuery(),
                             getKeys(m, getKunderaQuery().getResult()), getKunderaQuery().getResult());
                 }
             }
@@ -1213,10 +1227,198 @@ public class MongoDBQuery extends QueryImpl
     {
         EntityMetadata m = getEntityMetadata();
         Client client = persistenceDelegeator.getClient(m);
-        return new ResultIterator((MongoDBClient) client, m,
-                createMongoQuery(m, getKunderaQuery().getFilterClauseQueue()), getOrderByClause(m),
-                getKeys(m, getKunderaQuery().getResult()), persistenceDelegeator,
-                getFetchSize() != null ? getFetchSize() : this.maxResult);
+        Object batchSize = getHints().get(BATCH_SIZE);
+        return new ResultIterator((MongoDBClient) client, m, getQuery(m), getSortClause(m), getKeys(m,
+                getKunderaQuery().getResult()), persistenceDelegeator, getFetchSize() != null ? getFetchSize()
+                : this.maxResult, batchSize == null ? 0 : batchSize instanceof Number ? ((Number) batchSize)
+                .intValue() : Integer.parseInt(batchSize.toString()));
+    }
+
+    /**
+     * Returns true, if query is paginated by seek, i.e. {@link #SEEK_AFTER}
+     * hint is set.
+     * 
+     * @return true, if seek pagination is enabled.
+     */
+    private boolean isSeek()
+    {
+        return getHints().containsKey(SEEK_AFTER);
+    }
+
+    /**
+     * Creates mongo query, resuming after {@link #SEEK_AFTER} document if
+     * set.
+     * 
+     * @param m
+     *            the entity metadata
+     * @return the query
+     */
+    private BasicDBObject getQuery(EntityMetadata m)
+    {
+        BasicDBObject query = createMongoQuery(m, getKunderaQuery().getFilterClauseQueue());
+        Object seekAfter = getHints().get(SEEK_AFTER);
+        if (seekAfter == null)
+        {
+            return query;
+        }
+        BasicDBList clauses = new BasicDBList();
+        clauses.add(query);
+        clauses.add(getSeekClause(m, seekAfter));
+        return new BasicDBObject("$and", clauses);
+    }
+
+    /**
+     * Returns order by clause, followed by id if paginated by seek so sort
+     * keys are unique.
+     * 
+     * @param m
+     *            the entity metadata
+     * @return the sort clause
+     */
+    private BasicDBObject getSortClause(EntityMetadata m)
+    {
+        BasicDBObject orderByClause = getOrderByClause(m);
+        if (isSeek())
+        {
+            orderByClause = orderByClause != null ? orderByClause : new BasicDBObject();
+            if (!orderByClause.containsField("_id"))
+            {
+                orderByClause.append("_id", 1);
+            }
+        }
+        return orderByClause;
+    }
+
+    /**
+     * Creates clause matching documents past given one in sort order, i.e. for
+     * sort keys k1..kn: k1 > v1 or (k1 = v1 and k2 > v2) and so on. Null (or
+     * missing) values sort before any other value and are not matched by $gt
+     * or $lt, so a null vi is passed by ki != null in ascending order and by
+     * nothing in descending order, while ki = null is past any other vi in
+     * descending order.
+     * 
+     * @param m
+     *            the entity metadata
+     * @param seekAfter
+     *            last entity read, or its id
+     * @return the seek clause
+     */
+    private BasicDBObject getSeekClause(EntityMetadata m, Object seekAfter)
+    {
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
+                m.getPersistenceUnit());
+        if (((AbstractManagedType) metaModel.entity(m.getEntityClazz())).hasLobAttribute())
+        {
+            throw new QueryHandlerException("Seek pagination is not supported for entities with lob, "
+                    + m.getEntityClazz());
+        }
+        BasicDBObject sort = getSortClause(m);
+        List<String> keys = new ArrayList<String>(sort.keySet());
+        List<Object> values = new ArrayList<Object>(keys.size());
+        for (String key : keys)
+        {
+            values.add(getSeekValue(m, metaModel, key, seekAfter, keys.size()));
+        }
+
+        // id is never null, so there is at least one clause.
+        BasicDBList clauses = new BasicDBList();
+        for (int i = 0; i < keys.size(); i++)
+        {
+            String key = keys.get(i);
+            Object value = values.get(i);
+            boolean descending = ((Number) sort.get(key)).intValue() < 0;
+            if (value == null)
+            {
+                if (!descending)
+                {
+                    clauses.add(getSeekPrefix(keys, values, i).append(key, new BasicDBObject("$ne", null)));
+                }
+            }
+            else
+            {
+                clauses.add(getSeekPrefix(keys, values, i).append(key,
+                        new BasicDBObject(descending ? "$lt" : "$gt", value)));
+                if (descending)
+                {
+                    clauses.add(getSeekPrefix(keys, values, i).append(key, null));
+                }
+            }
+        }
+        return new BasicDBObject("$or", clauses);
+    }
+
+    /**
+     * Returns clause matching documents equal to last read one on first sort
+     * keys.
+     * 
+     * @param keys
+     *            sort keys
+     * @param values
+     *            values of sort keys in last read entity
+     * @param count
+     *            number of sort keys to match
+     * @return the clause
+     */
+    private BasicDBObject getSeekPrefix(List<String> keys, List<Object> values, int count)
+    {
+        BasicDBObject clause = new BasicDBObject();
+        for (int j = 0; j < count; j++)
+        {
+            clause.append(keys.get(j), values.get(j));
+        }
+        return clause;
+    }
+
+    /**
+     * Returns value of sort key in last read entity, as held in document.
+     * 
+     * @param m
+     *            the entity metadata
+     * @param metaModel
+     *            the meta model
+     * @param key
+     *            sort key
+     * @param seekAfter
+     *            last entity read, or its id
+     * @param keyCount
+     *            number of sort keys
+     * @return the value
+     */
+    private Object getSeekValue(EntityMetadata m, MetamodelImpl metaModel, String key, Object seekAfter,
+            int keyCount)
+    {
+        if (!m.getEntityClazz().isInstance(seekAfter))
+        {
+            if (keyCount > 1)
+            {
+                throw new QueryHandlerException("Ordered query can be paginated by seek after an entity only, got "
+                        + seekAfter.getClass());
+            }
+            return seekAfter instanceof DBObject ? seekAfter : MongoDBUtils.populateValue(seekAfter,
+                    seekAfter.getClass());
+        }
+        if ("_id".equals(key))
+        {
+            Object id = PropertyAccessorHelper.getId(seekAfter, m);
+            BasicDBObject idObject = new BasicDBObject();
+            if (metaModel.isEmbeddable(m.getIdAttribute().getBindableJavaType()))
+            {
+                MongoDBUtils.populateCompoundKey(idObject, m, metaModel, id);
+            }
+            else
+            {
+                idObject.put("_id", MongoDBUtils.populateValue(id, id.getClass()));
+            }
+            return idObject.get("_id");
+        }
+        String fieldName = m.getFieldName(key);
+        Attribute attribute = fieldName != null ? metaModel.entity(m.getEntityClazz()).getAttribute(fieldName) : null;
+        if (attribute == null)
+        {
+            throw new QueryHandlerException("Seek pagination is supported on entity attributes only, got " + key);
+        }
+        Object value = PropertyAccessorHelper.getObject(seekAfter, (Field) attribute.getJavaMember());
+        return value != null ? MongoDBUtils.populateValue(value, attribute.getJavaType()) : null;
     }
 
     /**
@@ -55,8 +55,16 @@ class ResultIterator<E> implements IResultIterator<E>
 
     private PersistenceDelegator persistenceDelegator;
 
+    /**
+     * Instantiates iterator over a cursor, documents are pulled from server in
+     * batches as iterated.
+     * 
+     * @param batchSize
+     *            number of documents fetched per round trip, 0 for driver
+     *            default.
+     */
     ResultIterator(MongoDBClient client, EntityMetadata m, BasicDBObject basicDBObject, BasicDBObject orderByClause,
-            BasicDBObject keys, PersistenceDelegator pd, int fetchSize)
+            BasicDBObject keys, PersistenceDelegator pd, int fetchSize, int batchSize)
     {
         this.m = m;
         this.client = client;
@@ -65,22 +73,39 @@ class ResultIterator<E> implements IResultIterator<E>
         this.handler = new DefaultMongoDBDataHandler();
         this.cursor = (DBCursor) client.getDBCursorInstance(basicDBObject, orderByClause, fetchSize, 0, keys,
                 m.getTableName(), false);
+        if (batchSize > 0)
+        {
+            this.cursor.batchSize(batchSize);
+        }
     }
 
     @Override
     public boolean hasNext()
     {
-        if (cursor != null && fetchSize != 0)
+        if (cursor != null && fetchSize != 0 && cursor.hasNext())
         {
-            return cursor.hasNext();
+            return true;
         }
+        close();
         return false;
     }
 
+    /**
+     * Closes cursor, once exhausted.
+     */
+    private void close()
+    {
+        if (cursor != null)
+        {
+            cursor.close();
+            cursor = null;
+        }
+    }
+
     @Override
     public E next()
     {
-        if (!cursor.hasNext() || fetchSize == 0)
+        if (!hasNext())
         {
             throw new NoSuchElementException("Nothing to scroll further for:" + m.getEntityClazz());
         }
@@ -137,7 +162,12 @@ class ResultIterator<E> implements IResultIterator<E>
     @Override
     public List<E> next(int chunkSize)
     {
-        throw new UnsupportedOperationException("Fetch in chunks is not yet supported");
+        List<E> chunk = new ArrayList<E>(Math.min(chunkSize, 1024));
+        while (chunk.size() < chunkSize && hasNext())
+        {
+            chunk.add(next());
+        }
+        return chunk;
     }
 
     /**
@@ -16,6 +16,7 @@
 package com.impetus.client.crud;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import javax.persistence.EntityManager;
@@ -30,6 +31,7 @@ import org.junit.Test;
 import com.impetus.client.crud.entities.MongoToken;
 import com.impetus.client.crud.entities.MongoTokenClient;
 import com.impetus.client.crud.entities.PersonMongo;
+import com.impetus.client.mongodb.query.MongoDBQuery;
 import com.impetus.kundera.query.IResultIterator;
 import com.impetus.kundera.query.Query;
 
@@ -70,6 +72,42 @@ public class ResultIteratorTest extends BaseTest
         assertOnTokenScroll();
     }
 
+    @Test
+    public void testSeek() throws Exception
+    {
+        em.persist(prepareMongoInstance("1", 10));
+        em.persist(prepareMongoInstance("2", 20));
+        em.persist(prepareMongoInstance("3", 15));
+        em.flush();
+        em.clear();
+
+        javax.persistence.Query query = em.createQuery("Select p from PersonMongo p order by p.age",
+                PersonMongo.class);
+        query.setHint(MongoDBQuery.SEEK_AFTER, null);
+        query.setMaxResults(2);
+        List<PersonMongo> results = query.getResultList();
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("1", results.get(0).getPersonId());
+        Assert.assertEquals("3", results.get(1).getPersonId());
+
+        // next page resumes after last entity of previous one.
+        query.setHint(MongoDBQuery.SEEK_AFTER, results.get(1));
+        results = query.getResultList();
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("2", results.get(0).getPersonId());
+
+        query.setHint(MongoDBQuery.SEEK_AFTER, results.get(0));
+        Assert.assertTrue(query.getResultList().isEmpty());
+
+        // streamed in batches of one, read in chunks.
+        query = em.createQuery("Select p from PersonMongo p", PersonMongo.class);
+        query.setHint(MongoDBQuery.BATCH_SIZE, 1);
+        IResultIterator<PersonMongo> iter = (IResultIterator) ((Query) query).iterate();
+        Assert.assertEquals(2, iter.next(2).size());
+        Assert.assertEquals(1, iter.next(2).size());
+        Assert.assertTrue(iter.next(2).isEmpty());
+    }
+
     private void assertOnTokenScroll()
     {
         MongoToken token1 = new MongoToken();
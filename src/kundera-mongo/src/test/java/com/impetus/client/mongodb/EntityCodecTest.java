@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.mongodb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import junit.framework.Assert;
+
+import org.bson.BasicBSONEncoder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.impetus.client.crud.entities.AppUser;
+import com.impetus.client.crud.entities.Day;
+import com.impetus.client.crud.entities.PersonMongo;
+import com.impetus.client.crud.entities.PersonMongo.Month;
+import com.impetus.client.crud.entities.PhoneDirectory;
+import com.impetus.kundera.metadata.KunderaMetadataManager;
+import com.impetus.kundera.metadata.model.EntityMetadata;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl;
+import com.impetus.kundera.persistence.EntityManagerFactoryImpl.KunderaMetadata;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+
+/**
+ * Test case for {@link EntityCodec}, encoding and decoding without a mongo
+ * server.
+ */
+public class EntityCodecTest
+{
+    private EntityManagerFactory emf;
+
+    private KunderaMetadata kunderaMetadata;
+
+    private EntityCodecRegistry registry;
+
+    @Before
+    public void setUp()
+    {
+        Map<String, String> props = new HashMap<String, String>();
+        props.put("kundera.ddl.auto.prepare", "");
+        emf = Persistence.createEntityManagerFactory("mongoTest", props);
+        kunderaMetadata = ((EntityManagerFactoryImpl) emf).getKunderaMetadataInstance();
+        registry = new EntityCodecRegistry();
+    }
+
+    @Test
+    public void testSimpleColumns()
+    {
+        EntityMetadata m = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, PersonMongo.class);
+        EntityCodec codec = registry.getCodec(m, kunderaMetadata);
+        Assert.assertNotNull(codec);
+        Assert.assertSame(codec, registry.getCodec(m, kunderaMetadata));
+
+        PersonMongo person = new PersonMongo();
+        person.setPersonId("1");
+        person.setPersonName("vivek");
+        person.setAge(32);
+        person.setDay(Day.FRIDAY);
+        person.setMonth(Month.JAN);
+        Map<String, Month> map = new HashMap<String, Month>();
+        map.put("first", Month.FEB);
+        person.setMap(map);
+
+        EntityDocument document = codec.encode(person, null);
+        assertSameDocument(m, person, document);
+
+        PersonMongo decoded = new PersonMongo();
+        codec.decode(roundTrip(codec, document), decoded, m.getRelationNames(), null, kunderaMetadata);
+        Assert.assertEquals("1", decoded.getPersonId());
+        Assert.assertEquals("vivek", decoded.getPersonName());
+        Assert.assertEquals(Integer.valueOf(32), decoded.getAge());
+        Assert.assertEquals(Day.FRIDAY, decoded.getDay());
+        Assert.assertEquals(Month.JAN, decoded.getMonth());
+        Assert.assertEquals(1, decoded.getMap().size());
+    }
+
+    @Test
+    public void testEmbeddedAndCollectionColumns()
+    {
+        EntityMetadata m = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, AppUser.class);
+        EntityCodec codec = registry.getCodec(m, kunderaMetadata);
+        Assert.assertNotNull(codec);
+
+        AppUser user = new AppUser();
+        user.setId("u1");
+        Map<String, String> contactMap = new HashMap<String, String>();
+        contactMap.put("home", "123");
+        user.setPropertyContainer(new PhoneDirectory("home", new ArrayList<String>(Arrays.asList("amresh")),
+                contactMap, new HashSet<String>(Arrays.asList("123"))));
+
+        EntityDocument document = codec.encode(user, null);
+        assertSameDocument(m, user, document);
+
+        AppUser decoded = new AppUser();
+        decoded.getTags().clear();
+        decoded.getFriendList().clear();
+        codec.decode(roundTrip(codec, document), decoded, m.getRelationNames(), null, kunderaMetadata);
+        Assert.assertEquals("u1", decoded.getId());
+        Assert.assertEquals(user.getTags(), decoded.getTags());
+        Assert.assertEquals(user.getFriendList(), decoded.getFriendList());
+        Assert.assertEquals(user.getNickName(), decoded.getNickName());
+        Assert.assertEquals(user.getPropertyKeys(), decoded.getPropertyKeys());
+        Assert.assertEquals("home", decoded.getPhoneDirectory().getPhoneDirectoryName());
+        Assert.assertEquals(contactMap, decoded.getPhoneDirectory().getContactMap());
+    }
+
+    /**
+     * Asserts document matches the one built by data handler.
+     */
+    private void assertSameDocument(EntityMetadata m, Object entity, EntityDocument document)
+    {
+        DBObject expected = new DefaultMongoDBDataHandler().getDocumentFromEntity(m, entity, null, kunderaMetadata)
+                .get(m.getTableName());
+        Assert.assertEquals(expected.toMap(), document.toMap());
+        Assert.assertEquals(expected.keySet(), document.keySet());
+    }
+
+    /**
+     * Encodes document into bson and decodes it back by codec's decoder.
+     */
+    private DBObject roundTrip(EntityCodec codec, EntityDocument document)
+    {
+        byte[] bytes = new BasicBSONEncoder().encode(document);
+        DBObject decoded = codec.getDecoderFactory().create().decode(bytes, (DBCollection) null);
+        Assert.assertTrue(decoded instanceof EntityDocument);
+        Assert.assertEquals(document.toMap(), decoded.toMap());
+        return decoded;
+    }
+
+    @After
+    public void tearDown()
+    {
+        emf.close();
+    }
+}
@@ -19,7 +19,9 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +35,7 @@ import javax.persistence.metamodel.EmbeddableType;
 import javax.persistence.metamodel.EntityType;
 
 import oracle.kv.Consistency;
+import oracle.kv.Direction;
 import oracle.kv.Durability;
 import oracle.kv.DurabilityException;
 import oracle.kv.FaultException;
@@ -43,12 +46,15 @@ import oracle.kv.table.FieldDef;
 import oracle.kv.table.FieldValue;
 import oracle.kv.table.Index;
 import oracle.kv.table.IndexKey;
+import oracle.kv.table.MultiRowOptions;
 import oracle.kv.table.PrimaryKey;
+import oracle.kv.table.ReadOptions;
 import oracle.kv.table.RecordValue;
 import oracle.kv.table.ReturnRow.Choice;
 import oracle.kv.table.Row;
 import oracle.kv.table.Table;
 import oracle.kv.table.TableAPI;
+import oracle.kv.table.TableIteratorOptions;
 import oracle.kv.table.TableOpExecutionException;
 import oracle.kv.table.TableOperation;
 
@@ -131,6 +137,15 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
     /** The consistency. */
     private Consistency consistency = OracleNOSQLConstants.DEFAULT_CONSISTENCY;
 
+    /**
+     * Maximum number of concurrent requests of a table iteration, 0 to let
+     * store decide.
+     */
+    private int maxConcurrentRequests;
+
+    /** Number of rows fetched per request of a table iteration, 0 for default. */
+    private int resultsBatchSize;
+
     /** The table api. */
     private TableAPI tableAPI;
 
@@ -229,7 +244,7 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
 
         try
         {
-            Iterator<Row> rowsIter = tableAPI.tableIterator(rowKey, null, null);
+            Iterator<Row> rowsIter = tableAPI.tableIterator(rowKey, null, getIteratorOptions(schemaTable, rowKey));
             // iterator and build entity
             entities = scrollAndPopulate(key, entityMetadata, metamodel, schemaTable, rowsIter, relationMap,
                     columnsToSelect);
@@ -511,7 +526,9 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
             Table schemaTable = tableAPI.getTable(entityMetadata.getTableName());
             // KunderaCoreUtils.showQuery("Get all records for " +
             // entityMetadata.getTableName(), showQuery);
-            Iterator<Row> rowsIter = tableAPI.tableIterator(schemaTable.createPrimaryKey(), null, null);
+            // Full scan, unordered so that shards are scanned in parallel.
+            Iterator<Row> rowsIter = tableAPI.tableIterator(schemaTable.createPrimaryKey(), null,
+                    getIteratorOptions(Direction.UNORDERED));
 
             Map<String, Object> relationMap = initialize(entityMetadata);
 
@@ -528,16 +545,214 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
         }
         else
         {
+            results = findByKeys(entityClass, Arrays.asList(columnsToSelect), keys);
+        }
 
-            for (Object key : keys)
+        return results;
+    }
+
+    /**
+     * Finds entities of given keys, in order of keys (null for missing rows).
+     * Keys sharing a shard key are fetched with a single multi get, bounded
+     * to range of their first key component beyond shard key, others with a
+     * get each.
+     * 
+     * @param <E>
+     *            the element type
+     * @param entityClass
+     *            the entity class
+     * @param columnsToSelect
+     *            the columns to select
+     * @param keys
+     *            the primary keys
+     * @return the list
+     */
+    private <E> List<E> findByKeys(Class<E> entityClass, List<String> columnsToSelect, Object... keys)
+    {
+        EntityMetadata entityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, entityClass);
+        MetamodelImpl metamodel = (MetamodelImpl) KunderaMetadataManager.getMetamodel(kunderaMetadata,
+                entityMetadata.getPersistenceUnit());
+        Table schemaTable = tableAPI.getTable(entityMetadata.getTableName());
+
+        List<PrimaryKey> rowKeys = new ArrayList<PrimaryKey>(keys.length);
+        Map<PrimaryKey, Set<PrimaryKey>> rowKeysByShardKey = new LinkedHashMap<PrimaryKey, Set<PrimaryKey>>();
+        for (Object key : keys)
+        {
+            PrimaryKey rowKey = schemaTable.createPrimaryKey();
+            if (metamodel.isEmbeddable(entityMetadata.getIdAttribute().getBindableJavaType()))
             {
-                results.add((E) find(entityClass, key, Arrays.asList(columnsToSelect)));
+                readEmbeddable(key, null, entityMetadata, metamodel, schemaTable, rowKey,
+                        entityMetadata.getIdAttribute());
             }
+            else
+            {
+                String idColumnName = ((AbstractAttribute) entityMetadata.getIdAttribute()).getJPAColumnName();
+                NoSqlDBUtils.add(schemaTable.getField(idColumnName), rowKey, key, idColumnName);
+            }
+            rowKeys.add(rowKey);
+
+            PrimaryKey shardKey = getShardKey(schemaTable, rowKey);
+            Set<PrimaryKey> group = rowKeysByShardKey.get(shardKey);
+            if (group == null)
+            {
+                group = new HashSet<PrimaryKey>();
+                rowKeysByShardKey.put(shardKey, group);
+            }
+            group.add(rowKey);
         }
 
+        KunderaCoreUtils.printQuery("Fetch data from " + entityMetadata.getTableName() + " for PKs "
+                + Arrays.toString(keys), showQuery);
+
+        List<E> results = new ArrayList<E>(keys.length);
+        try
+        {
+            ReadOptions readOptions = new ReadOptions(consistency, 0, timeUnit);
+            Map<PrimaryKey, Row> rows = new HashMap<PrimaryKey, Row>();
+            for (Map.Entry<PrimaryKey, Set<PrimaryKey>> group : rowKeysByShardKey.entrySet())
+            {
+                MultiRowOptions keyRange = group.getValue().size() > 1 ? getKeyRange(schemaTable, group.getValue())
+                        : null;
+                if (keyRange != null)
+                {
+                    // single round trip for rows of a shard key, reading
+                    // only rows within range of keys.
+                    for (Row row : tableAPI.multiGet(group.getKey(), keyRange, readOptions))
+                    {
+                        PrimaryKey rowKey = row.createPrimaryKey();
+                        if (group.getValue().contains(rowKey))
+                        {
+                            rows.put(rowKey, row);
+                        }
+                    }
+                }
+                else
+                {
+                    for (PrimaryKey rowKey : group.getValue())
+                    {
+                        Row row = tableAPI.get(rowKey, readOptions);
+                        if (row != null)
+                        {
+                            rows.put(rowKey, row);
+                        }
+                    }
+                }
+            }
+
+            Map<String, Object> relationMap = initialize(entityMetadata);
+            for (int i = 0; i < keys.length; i++)
+            {
+                Row row = rows.get(rowKeys.get(i));
+                List entities = row == null ? null : scrollAndPopulate(keys[i], entityMetadata, metamodel,
+                        schemaTable, Arrays.asList(row).iterator(), relationMap, columnsToSelect);
+                results.add(entities == null || entities.isEmpty() ? null : (E) entities.get(0));
+            }
+        }
+        catch (Exception e)
+        {
+            log.error("Error while finding data for Keys " + Arrays.toString(keys) + ", Caused By :" + e + ".");
+            throw new PersistenceException(e);
+        }
         return results;
     }
 
+    /**
+     * Returns shard key part of given primary key.
+     * 
+     * @param schemaTable
+     *            the schema table
+     * @param rowKey
+     *            the primary key
+     * @return the shard key
+     */
+    private PrimaryKey getShardKey(Table schemaTable, PrimaryKey rowKey)
+    {
+        PrimaryKey shardKey = schemaTable.createPrimaryKey();
+        for (String field : schemaTable.getShardKey())
+        {
+            shardKey.put(field, rowKey.get(field));
+        }
+        return shardKey;
+    }
+
+    /**
+     * Returns multi row options restricting multi get of a shard key to range
+     * (min to max) of given keys' first component beyond shard key, or null
+     * if shard key is the whole primary key, so that there is no such range.
+     * 
+     * @param schemaTable
+     *            the schema table
+     * @param rowKeys
+     *            primary keys sharing a shard key
+     * @return the multi row options
+     */
+    private MultiRowOptions getKeyRange(Table schemaTable, Set<PrimaryKey> rowKeys)
+    {
+        List<String> primaryKey = schemaTable.getPrimaryKey();
+        int shardKeySize = schemaTable.getShardKey().size();
+        if (shardKeySize >= primaryKey.size())
+        {
+            return null;
+        }
+
+        String field = primaryKey.get(shardKeySize);
+        FieldValue min = null;
+        FieldValue max = null;
+        for (PrimaryKey rowKey : rowKeys)
+        {
+            FieldValue value = rowKey.get(field);
+            if (value == null)
+            {
+                return null;
+            }
+            if (min == null || value.compareTo(min) < 0)
+            {
+                min = value;
+            }
+            if (max == null || value.compareTo(max) > 0)
+            {
+                max = value;
+            }
+        }
+        return new MultiRowOptions(schemaTable.createFieldRange(field).setStart(min, true).setEnd(max, true));
+    }
+
+    /**
+     * Returns table iterator options for given primary key, ordered only if
+     * key holds complete shard key.
+     * 
+     * @param schemaTable
+     *            the schema table
+     * @param rowKey
+     *            the primary key
+     * @return the table iterator options
+     */
+    private TableIteratorOptions getIteratorOptions(Table schemaTable, PrimaryKey rowKey)
+    {
+        for (String field : schemaTable.getShardKey())
+        {
+            if (rowKey.get(field) == null)
+            {
+                return getIteratorOptions(Direction.UNORDERED);
+            }
+        }
+        return getIteratorOptions(Direction.FORWARD);
+    }
+
+    /**
+     * Returns table iterator options with configured consistency, concurrency
+     * and batch size.
+     * 
+     * @param direction
+     *            the direction
+     * @return the table iterator options
+     */
+    private TableIteratorOptions getIteratorOptions(Direction direction)
+    {
+        return new TableIteratorOptions(direction, consistency, 0, timeUnit, maxConcurrentRequests,
+                resultsBatchSize, 0);
+    }
+
     /**
      * On JPQL query execution.
      * 
@@ -639,7 +854,7 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
         KunderaCoreUtils.printQuery(
                 "Get columns by id from:" + tableName + " for column:" + columnName + " where value:" + pKeyColumnValue,
                 showQuery);
-        Iterator<Row> rowsIter = tableAPI.tableIterator(indexKey, null, null);
+        Iterator<Row> rowsIter = tableAPI.tableIterator(indexKey, null, getIteratorOptions(Direction.FORWARD));
 
         while (rowsIter.hasNext())
         {
@@ -730,14 +945,14 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
         {
             PrimaryKey rowKey = schemaTable.createPrimaryKey();
             NoSqlDBUtils.add(schemaTable.getField(colName), rowKey, colValue, colName);
-            rowsIter = tableAPI.tableIterator(rowKey, null, null);
+            rowsIter = tableAPI.tableIterator(rowKey, null, getIteratorOptions(schemaTable, rowKey));
         }
         else
         {
             Index index = schemaTable.getIndex(colName);
             IndexKey indexKey = index.createIndexKey();
             NoSqlDBUtils.add(schemaTable.getField(colName), indexKey, colValue, colName);
-            rowsIter = tableAPI.tableIterator(indexKey, null, null);
+            rowsIter = tableAPI.tableIterator(indexKey, null, getIteratorOptions(Direction.FORWARD));
         }
 
         try
@@ -980,6 +1195,28 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
         this.consistency = consistency;
     }
 
+    /**
+     * Sets maximum number of concurrent requests of a table iteration.
+     * 
+     * @param maxConcurrentRequests
+     *            the maxConcurrentRequests to set, 0 to let store decide
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests)
+    {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Sets number of rows fetched per request of a table iteration.
+     * 
+     * @param resultsBatchSize
+     *            the resultsBatchSize to set, 0 for default
+     */
+    public void setResultsBatchSize(int resultsBatchSize)
+    {
+        this.resultsBatchSize = resultsBatchSize;
+    }
+
     /**
      * Gets the timeout.
      * 
@@ -1020,6 +1257,26 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
         return consistency;
     }
 
+    /**
+     * Gets maximum number of concurrent requests of a table iteration.
+     * 
+     * @return the maxConcurrentRequests
+     */
+    public int getMaxConcurrentRequests()
+    {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Gets number of rows fetched per request of a table iteration.
+     * 
+     * @return the resultsBatchSize
+     */
+    public int getResultsBatchSize()
+    {
+        return resultsBatchSize;
+    }
+
     /**
      * Iterate and store attributes.
      * 
@@ -1478,7 +1735,7 @@ public class OracleNoSQLClient extends ClientBase implements Client<OracleNoSQLQ
             NoSqlDBUtils.add(schemaTable.getField(indexName), indexKey, indexes.get(indexName).get(0), indexName);
         }
 
-        Iterator<Row> rowsIter = tableAPI.tableIterator(indexKey, null, null);
+        Iterator<Row> rowsIter = tableAPI.tableIterator(indexKey, null, getIteratorOptions(Direction.FORWARD));
 
         Map<String, Object> relationMap = initialize(entityMetadata);
 
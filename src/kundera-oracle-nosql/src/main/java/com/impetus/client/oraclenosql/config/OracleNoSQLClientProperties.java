@@ -47,6 +47,10 @@ public class OracleNoSQLClientProperties
 
     private static final String CONSISTENCY = "consistency";
 
+    private static final String MAX_CONCURRENT_REQUESTS = "max.concurrent.requests";
+
+    private static final String RESULTS_BATCH_SIZE = "results.batch.size";
+
     private OracleNoSQLClient oracleNoSQLClient;
 
     public void populateClientProperties(Client client, Map<String, Object> properties)
@@ -72,9 +76,17 @@ public class OracleNoSQLClientProperties
                     {
                         setTimeUnit(value);
                     }
-                    else if (key.equals(CONSISTENCY) && value instanceof Consistency)
+                    else if (key.equals(CONSISTENCY))
+                    {
+                        setConsistency(value);
+                    }
+                    else if (key.equals(MAX_CONCURRENT_REQUESTS))
                     {
-                        this.oracleNoSQLClient.setConsistency((Consistency) value);
+                        this.oracleNoSQLClient.setMaxConcurrentRequests(toInt(value));
+                    }
+                    else if (key.equals(RESULTS_BATCH_SIZE))
+                    {
+                        this.oracleNoSQLClient.setResultsBatchSize(toInt(value));
                     }
                     else if (key.equals(PersistenceProperties.KUNDERA_BATCH_SIZE))
                     {
@@ -116,6 +128,46 @@ public class OracleNoSQLClientProperties
         }
     }
 
+    /**
+     * set consistency, either {@link Consistency} instance or name of a
+     * constant one (ABSOLUTE, NONE_REQUIRED, NONE_REQUIRED_NO_MASTER)
+     */
+    private void setConsistency(Object value)
+    {
+        if (value instanceof Consistency)
+        {
+            this.oracleNoSQLClient.setConsistency((Consistency) value);
+        }
+        else if (value instanceof String)
+        {
+            String name = ((String) value).trim();
+            if (name.equalsIgnoreCase("ABSOLUTE"))
+            {
+                this.oracleNoSQLClient.setConsistency(Consistency.ABSOLUTE);
+            }
+            else if (name.equalsIgnoreCase("NONE_REQUIRED"))
+            {
+                this.oracleNoSQLClient.setConsistency(Consistency.NONE_REQUIRED);
+            }
+            else if (name.equalsIgnoreCase("NONE_REQUIRED_NO_MASTER"))
+            {
+                this.oracleNoSQLClient.setConsistency(Consistency.NONE_REQUIRED_NO_MASTER);
+            }
+            else
+            {
+                log.warn("Invalid consistency " + value + ", ignoring it.");
+            }
+        }
+    }
+
+    /**
+     * converts integer or string value to int
+     */
+    private int toInt(Object value)
+    {
+        return value instanceof Integer ? (Integer) value : Integer.valueOf(value.toString().trim());
+    }
+
     /**
      * set batch size
      */
@@ -116,5 +116,16 @@ public class OracleNoSQLPropertySetterTest
         Assert.assertEquals(10, client.getTimeout());
         Assert.assertEquals(TimeUnit.HOURS, client.getTimeUnit());
         Assert.assertEquals(10, client.getBatchSize());
+
+        // Set table iteration parameters into EM
+        Assert.assertEquals(0, client.getMaxConcurrentRequests());
+        Assert.assertEquals(0, client.getResultsBatchSize());
+        em.setProperty("max.concurrent.requests", 4);
+        em.setProperty("results.batch.size", "500");
+        em.setProperty("consistency", "NONE_REQUIRED_NO_MASTER");
+
+        Assert.assertEquals(4, client.getMaxConcurrentRequests());
+        Assert.assertEquals(500, client.getResultsBatchSize());
+        Assert.assertEquals(Consistency.NONE_REQUIRED_NO_MASTER, client.getConsistency());
     }
 }
@@ -142,6 +142,27 @@ public class OracleNoSQLSingleEntityTest extends OracleNoSQLTestBase
 
     }
 
+    @Test
+    public void executeFindByKeysTest()
+    {
+        persistPerson("1", "person1", 10);
+        persistPerson("2", "person2", 20);
+        persistPerson("3", "person3", 30);
+        clearEm();
+
+        // results follow order of keys, null for missing ones.
+        List<PersonKVStore> persons = findAll(PersonKVStore.class, "3", "5", "1", "2");
+        assertEquals(4, persons.size());
+        assertEquals("person3", persons.get(0).getPersonName());
+        Assert.assertNull(persons.get(1));
+        assertEquals("person1", persons.get(2).getPersonName());
+        assertEquals(20, persons.get(3).getAge());
+
+        deletePerson(findById("1"));
+        deletePerson(findById("2"));
+        deletePerson(findById("3"));
+    }
+
     @Test
     public void executeJPAQueriesTest()
     {
@@ -88,6 +88,12 @@ public class OracleNoSQLTestBase
         em.remove(entity);
     }
 
+    protected <E> List<E> findAll(Class<E> entityClass, Object... keys)
+    {
+        Map<String, Client> clients = (Map<String, Client>) em.getDelegate();
+        return clients.get(PERSISTENCE_UNIT).findAll(entityClass, null, keys);
+    }
+
     protected List executeSelectQuery(String jpaQuery)
     {
         Query query = em.createQuery(jpaQuery);
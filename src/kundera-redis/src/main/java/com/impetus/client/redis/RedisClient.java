@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -109,6 +110,15 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
     /** The Constant COMPOSITE_KEY_SEPERATOR. */
     private static final String COMPOSITE_KEY_SEPERATOR = "\001";
 
+    /** Property for number of keys read in one pipeline. */
+    public static final String PIPELINE_SIZE = "kundera.redis.pipeline.size";
+
+    /** The Constant DEFAULT_PIPELINE_SIZE. */
+    private static final int DEFAULT_PIPELINE_SIZE = 100;
+
+    /** number of keys read in one pipeline, 0 to read key by key. */
+    private int pipelineSize = DEFAULT_PIPELINE_SIZE;
+
     /** The connection. */
     private Jedis connection;
 
@@ -134,6 +144,7 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
         initializeIndexer();
         this.clientMetadata = factory.getClientMetadata();
         setBatchSize(persistenceUnit, factory.getOverridenProperties());
+        setPipelineSize(persistenceUnit, factory.getOverridenProperties());
     }
 
     /*
@@ -248,25 +259,7 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
 
         EntityMetadata entityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, clazz);
 
-        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
-                entityMetadata.getPersistenceUnit());
-
-        String rowKey = null;
-        if (metaModel.isEmbeddable(entityMetadata.getIdAttribute().getBindableJavaType()))
-        {
-            if(key instanceof String && ((String) key).indexOf(COMPOSITE_KEY_SEPERATOR)>0){
-                rowKey = (String) key;
-            }
-            else{
-            rowKey = KunderaCoreUtils.prepareCompositeKey(entityMetadata, key);
-            }
-        }
-        else
-        {
-            ObjectAccessor accessor = new ObjectAccessor();
-
-            rowKey = accessor.toString(key);
-        }
+        String rowKey = getRowKey(entityMetadata, key);
 
         String hashKey = getHashKey(entityMetadata.getTableName(), rowKey);
         KunderaCoreUtils
@@ -322,6 +315,299 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
         return result;
     }
 
+    /**
+     * Retrieves entity instances of given class, row keys and specific fields.
+     * Outside of transaction, keys are read by pipelines of
+     * {@link #PIPELINE_SIZE} commands, so there is one round trip per pipeline
+     * rather than per key.
+     * 
+     * @param clazz
+     *            entity class
+     * @param connection
+     *            connection instance.
+     * @param fields
+     *            fields.
+     * @param keys
+     *            row keys
+     * @return entity instances, in order of keys.
+     * @throws InstantiationException
+     *             throws in case of runtime exception
+     * @throws IllegalAccessException
+     *             throws in case of runtime exception
+     */
+    private List fetchAll(Class clazz, Object connection, byte[][] fields, Collection<?> keys)
+            throws InstantiationException, IllegalAccessException
+    {
+        List results = new ArrayList();
+
+        // commands within MULTI are only queued, so read key by key.
+        if ((resource != null && resource.isActive()) || pipelineSize <= 0)
+        {
+            fetchEach(clazz, connection, fields, keys, results);
+            return results;
+        }
+
+        EntityMetadata entityMetadata = KunderaMetadataManager.getEntityMetadata(kunderaMetadata, clazz);
+        List<Object> chunk = new ArrayList<Object>(Math.min(pipelineSize, keys.size()));
+        for (Object key : keys)
+        {
+            chunk.add(key);
+            if (chunk.size() == pipelineSize)
+            {
+                connection = fetchChunk(entityMetadata, (Jedis) connection, fields, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty())
+        {
+            fetchChunk(entityMetadata, (Jedis) connection, fields, chunk, results);
+        }
+        return results;
+    }
+
+    /**
+     * Reads given row keys one by one and adds found entity instances to
+     * results.
+     * 
+     * @param clazz
+     *            entity class
+     * @param connection
+     *            connection instance.
+     * @param fields
+     *            fields.
+     * @param keys
+     *            row keys
+     * @param results
+     *            the results
+     * @throws InstantiationException
+     *             throws in case of runtime exception
+     * @throws IllegalAccessException
+     *             throws in case of runtime exception
+     */
+    private void fetchEach(Class clazz, Object connection, byte[][] fields, Collection<?> keys, List results)
+            throws InstantiationException, IllegalAccessException
+    {
+        for (Object key : keys)
+        {
+            connection = reInitialize(connection, null);
+            Object result = fetch(clazz, key, connection, fields);
+            if (result != null)
+            {
+                results.add(result);
+            }
+        }
+    }
+
+    /**
+     * Reads given row keys by one pipeline and adds found entity instances to
+     * results. If pipeline fails, keys are read one by one instead.
+     * 
+     * @param entityMetadata
+     *            the entity metadata
+     * @param connection
+     *            connection instance.
+     * @param fields
+     *            fields.
+     * @param keys
+     *            row keys
+     * @param results
+     *            the results
+     * @return connection to read next keys by, a new one if pipeline failed.
+     * @throws InstantiationException
+     *             throws in case of runtime exception
+     * @throws IllegalAccessException
+     *             throws in case of runtime exception
+     */
+    private Object fetchChunk(EntityMetadata entityMetadata, Jedis connection, byte[][] fields, List<Object> keys,
+            List results) throws InstantiationException, IllegalAccessException
+    {
+        KunderaCoreUtils.printQuery("Fetch data from " + entityMetadata.getTableName() + " for PKs " + keys,
+                showQuery);
+        List<Response> responses = new ArrayList<Response>(keys.size());
+        try
+        {
+            Pipeline pipeline = connection.pipelined();
+            for (Object key : keys)
+            {
+                byte[] hashKey = getEncodedBytes(getHashKey(entityMetadata.getTableName(),
+                        getRowKey(entityMetadata, key)));
+                responses.add(fields != null ? pipeline.hmget(hashKey, fields) : pipeline.hgetAll(hashKey));
+            }
+            pipeline.sync();
+        }
+        catch (JedisConnectionException jedex)
+        {
+            // connection state is unknown once pipeline fails, so discard it
+            // and read keys of this chunk one by one on a new connection.
+            logger.warn("Error during pipelined fetch from " + entityMetadata.getTableName()
+                    + ", reading keys one by one, Caused by: " + jedex.getMessage());
+            Jedis newConnection = renewConnection(connection);
+            fetchKeyByKey(entityMetadata, newConnection, fields, keys, results);
+            return newConnection;
+        }
+
+        for (int i = 0; i < keys.size(); i++)
+        {
+            Map<byte[], byte[]> columns;
+            if (fields != null)
+            {
+                columns = toColumns(fields, (List<byte[]>) responses.get(i).get());
+            }
+            else
+            {
+                columns = (Map<byte[], byte[]>) responses.get(i).get();
+            }
+
+            Object result = unwrap(entityMetadata, columns, keys.get(i));
+            if (result != null)
+            {
+                results.add(result);
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Reads given row keys one by one by given connection and adds found
+     * entity instances to results. If connection fails too, it is released as
+     * broken and read fails.
+     * 
+     * @param entityMetadata
+     *            the entity metadata
+     * @param connection
+     *            connection instance.
+     * @param fields
+     *            fields.
+     * @param keys
+     *            row keys
+     * @param results
+     *            the results
+     * @throws InstantiationException
+     *             throws in case of runtime exception
+     * @throws IllegalAccessException
+     *             throws in case of runtime exception
+     */
+    private void fetchKeyByKey(EntityMetadata entityMetadata, Jedis connection, byte[][] fields, List<Object> keys,
+            List results) throws InstantiationException, IllegalAccessException
+    {
+        try
+        {
+            for (Object key : keys)
+            {
+                byte[] hashKey = getEncodedBytes(getHashKey(entityMetadata.getTableName(),
+                        getRowKey(entityMetadata, key)));
+                Map<byte[], byte[]> columns = fields != null ? toColumns(fields, connection.hmget(hashKey, fields))
+                        : connection.hgetAll(hashKey);
+                Object result = unwrap(entityMetadata, columns, key);
+                if (result != null)
+                {
+                    results.add(result);
+                }
+            }
+        }
+        catch (JedisConnectionException jedex)
+        {
+            discardConnection(connection);
+            logger.error("Error during fetch from " + entityMetadata.getTableName() + ", Caused by: .", jedex);
+            throw new PersistenceException("Error during fetch from " + entityMetadata.getTableName(), jedex);
+        }
+    }
+
+    /**
+     * Maps given fields to their non null values.
+     * 
+     * @param fields
+     *            fields.
+     * @param fieldValues
+     *            values of fields, in order of fields.
+     * @return columns
+     */
+    private Map<byte[], byte[]> toColumns(byte[][] fields, List<byte[]> fieldValues)
+    {
+        Map<byte[], byte[]> columns = new HashMap<byte[], byte[]>();
+        if (fieldValues != null)
+        {
+            for (int i = 0; i < fields.length; i++)
+            {
+                if (fieldValues.get(i) != null)
+                {
+                    columns.put(fields[i], fieldValues.get(i));
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Releases given broken connection and borrows a new one from pool.
+     * 
+     * @param connection
+     *            broken connection
+     * @return new connection
+     */
+    private Jedis renewConnection(Jedis connection)
+    {
+        discardConnection(connection);
+        try
+        {
+            return getAndSetConnection();
+        }
+        catch (JedisConnectionException jedex)
+        {
+            logger.error("Error while getting connection, Caused by: .", jedex);
+            throw new PersistenceException("Error while getting connection", jedex);
+        }
+    }
+
+    /**
+     * Releases given broken connection, so that it is neither borrowed again
+     * nor released on cleanup.
+     * 
+     * @param connection
+     *            broken connection
+     */
+    private void discardConnection(Jedis connection)
+    {
+        if (this.connection == connection)
+        {
+            this.connection = null;
+        }
+        factory.releaseBrokenConnection(connection);
+    }
+
+    /**
+     * Returns row key of given entity id.
+     * 
+     * @param entityMetadata
+     *            the entity metadata
+     * @param key
+     *            entity id
+     * @return row key
+     */
+    private String getRowKey(EntityMetadata entityMetadata, Object key)
+    {
+        MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
+                entityMetadata.getPersistenceUnit());
+
+        String rowKey = null;
+        if (metaModel.isEmbeddable(entityMetadata.getIdAttribute().getBindableJavaType()))
+        {
+            if(key instanceof String && ((String) key).indexOf(COMPOSITE_KEY_SEPERATOR)>0){
+                rowKey = (String) key;
+            }
+            else{
+            rowKey = KunderaCoreUtils.prepareCompositeKey(entityMetadata, key);
+            }
+        }
+        else
+        {
+            ObjectAccessor accessor = new ObjectAccessor();
+
+            rowKey = accessor.toString(key);
+        }
+        return rowKey;
+    }
+
     /**
      * Gets the columns.
      * 
@@ -369,17 +655,9 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
     public <E> List<E> findAll(Class<E> entityClass, String[] columnsToSelect, Object... keys)
     {
         Object connection = getConnection();
-        List results = new ArrayList();
         try
         {
-            for (Object key : keys)
-            {
-                Object result = fetch(entityClass, key, connection, null);
-                if (result != null)
-                {
-                    results.add(result);
-                }
-            }
+            return fetchAll(entityClass, connection, null, Arrays.asList(keys));
         }
         catch (InstantiationException e)
         {
@@ -391,7 +669,10 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
             logger.error("Error during find by key:", e);
             throw new PersistenceException(e);
         }
-        return results;
+        finally
+        {
+            onCleanup(connection);
+        }
     }
 
     /*
@@ -877,10 +1158,24 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
         if (ids != null)
         {
             // just to insure uniqueness.
-
-            for (Object id : new HashSet(Arrays.asList(ids)))
+            Object connection = getConnection();
+            try
             {
-                resultSet.add(find(entityClazz, id));
+                resultSet.addAll(fetchAll(entityClazz, connection, null, new LinkedHashSet(Arrays.asList(ids))));
+            }
+            catch (InstantiationException e)
+            {
+                logger.error("Error during find by relation:", e);
+                throw new PersistenceException(e);
+            }
+            catch (IllegalAccessException e)
+            {
+                logger.error("Error during find by relation:", e);
+                throw new PersistenceException(e);
+            }
+            finally
+            {
+                onCleanup(connection);
             }
         }
 
@@ -1290,7 +1585,7 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
         {
             if (settings != null)
             {
-                ((Jedis) connection).configResetStat();
+                ((Jedis) this.connection).configResetStat();
             }
             factory.releaseConnection((Jedis) this.connection);
         }
@@ -1340,6 +1635,21 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
      * @return
      */
     private AttributeWrapper wrap(EntityMetadata entityMetadata, Object entity)
+    {
+        return wrap(entityMetadata, entity, null);
+    }
+
+    /**
+     * Wraps given entity attributes into byte[] and return instance of
+     * attribute wrapper.
+     * 
+     * @param entityMetadata
+     * @param entity
+     * @param attributeNames
+     *            names of attributes to wrap, null to wrap all.
+     * @return
+     */
+    private AttributeWrapper wrap(EntityMetadata entityMetadata, Object entity, Set<String> attributeNames)
     {
         MetamodelImpl metaModel = (MetamodelImpl) kunderaMetadata.getApplicationMetadata().getMetamodel(
                 entityMetadata.getPersistenceUnit());
@@ -1355,6 +1665,10 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
         // PropertyAccessorHelper.get(entity,
         for (Attribute attr : attributes)
         {
+            if (attributeNames != null && !attributeNames.contains(attr.getName()))
+            {
+                continue;
+            }
             if (/* !entityMetadata.getIdAttribute().equals(attr) && */!attr.isAssociation())
             {
                 if (metaModel.isEmbeddable(((AbstractAttribute) attr).getBindableJavaType()))
@@ -1788,16 +2102,9 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
                 }
             }
 
-            for (String k : rowKeys)
-            {
-                connection = reInitialize(connection, rowKeys);
-                Object record = fetch(entityClazz, k, connection, (queryParameter.getColumns() != null ? queryParameter
-                        .getColumns().toArray(new byte[][] {}) : null));
-                if (record != null)
-                {
-                    results.add(record);
-                }
-            }
+            connection = reInitialize(connection, rowKeys);
+            results = fetchAll(entityClazz, connection, (queryParameter.getColumns() != null ? queryParameter
+                    .getColumns().toArray(new byte[][] {}) : null), rowKeys);
 
         }
         catch (InstantiationException e)
@@ -1859,18 +2166,9 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
     private <E> List<E> findAllColumns(Class<E> entityClass, byte[][] columns, Object... keys)
     {
         Object connection = getConnection();
-        // connection.co
-        List results = new ArrayList();
         try
         {
-            for (Object key : keys)
-            {
-                Object result = fetch(entityClass, key, connection, columns);
-                if (result != null)
-                {
-                    results.add(result);
-                }
-            }
+            return fetchAll(entityClass, connection, columns, Arrays.asList(keys));
         }
         catch (InstantiationException e)
         {
@@ -1882,7 +2180,6 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
             logger.error("Error during find by key:", e);
             throw new PersistenceException(e);
         }
-        return results;
     }
 
     /*
@@ -1904,6 +2201,10 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
                 Integer batchSize = (Integer) value;
                 ((RedisClient) client).setBatchSize(batchSize);
             }
+            else if (key.equals(PIPELINE_SIZE) && value != null)
+            {
+                ((RedisClient) client).setPipelineSize(Integer.valueOf(value.toString().trim()));
+            }
         }
     }
 
@@ -2039,6 +2340,40 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
         this.batchSize = batch_Size;
     }
 
+    /**
+     * Sets the pipeline size.
+     * 
+     * @param persistenceUnit
+     *            the persistence unit
+     * @param puProperties
+     *            the pu properties
+     */
+    private void setPipelineSize(String persistenceUnit, Map<String, Object> puProperties)
+    {
+        Object pipeline_Size = puProperties != null ? puProperties.get(PIPELINE_SIZE) : null;
+        if (pipeline_Size == null)
+        {
+            PersistenceUnitMetadata puMetadata = KunderaMetadataManager.getPersistenceUnitMetadata(kunderaMetadata,
+                    persistenceUnit);
+            pipeline_Size = puMetadata.getProperty(PIPELINE_SIZE);
+        }
+        if (pipeline_Size != null)
+        {
+            setPipelineSize(Integer.valueOf(pipeline_Size.toString().trim()));
+        }
+    }
+
+    /**
+     * Sets number of keys read in one pipeline by find all and queries.
+     * 
+     * @param pipeline_Size
+     *            the new pipeline size, 0 to read key by key
+     */
+    private void setPipelineSize(int pipeline_Size)
+    {
+        this.pipelineSize = pipeline_Size;
+    }
+
     /**
      * On persist.
      * 
@@ -2057,7 +2392,8 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
             Object connection)
     {
         // first open a pipeline
-        AttributeWrapper wrapper = wrap(entityMetadata, entity);
+        // on partial update, only modified attributes are written into hash.
+        AttributeWrapper wrapper = wrap(entityMetadata, entity, modifiedAttributes);
 
         // add relations.
 
@@ -2117,13 +2453,17 @@ public class RedisClient extends ClientBase implements Client<RedisQuery>, Batch
 
         String hashKey = getHashKey(entityMetadata.getTableName(), rowKey);
 
-        if (resource != null && resource.isActive())
+        // nothing to write, if none of written attributes is modified.
+        if (!wrapper.getColumns().isEmpty())
         {
-            ((Transaction) connection).hmset(getEncodedBytes(hashKey), wrapper.getColumns());
-        }
-        else
-        {
-            ((Pipeline) connection).hmset(getEncodedBytes(hashKey), wrapper.getColumns());
+            if (resource != null && resource.isActive())
+            {
+                ((Transaction) connection).hmset(getEncodedBytes(hashKey), wrapper.getColumns());
+            }
+            else
+            {
+                ((Pipeline) connection).hmset(getEncodedBytes(hashKey), wrapper.getColumns());
+            }
         }
 
         // Add inverted indexes for column based search.
@@ -18,6 +18,7 @@ package com.impetus.client.redis;
 import redis.clients.jedis.Jedis;
 
 import com.impetus.kundera.client.Client;
+import com.impetus.kundera.generator.HiLoAllocator;
 import com.impetus.kundera.generator.SequenceGenerator;
 import com.impetus.kundera.metadata.model.SequenceGeneratorDiscriptor;
 
@@ -38,19 +39,21 @@ public class RedisIdGenerator implements SequenceGenerator
      * com.impetus.kundera.client.Client, java.lang.Object)
      */
     @Override
-    public Object generate(SequenceGeneratorDiscriptor discriptor, Client<?> client, String dataType)
+    public Object generate(final SequenceGeneratorDiscriptor discriptor, final Client<?> client, String dataType)
     {
-        Jedis jedis = ((RedisClient) client).factory.getConnection();
-
-        Long latestCount = jedis.incr(((RedisClient) client).getEncodedBytes(discriptor.getSequenceName()));
-        if (latestCount == 1)
-        {
-            return discriptor.getInitialValue();
-        }
-        else
-        {
-            return (latestCount - 1) * discriptor.getAllocationSize();
-        }
+        // counter holds number of blocks, ids within a block are handed out
+        // locally.
+        return ((RedisClient) client).getIdAllocator().next(
+                client.getPersistenceUnit() + "." + discriptor.getSequenceName(), discriptor.getInitialValue(),
+                discriptor.getAllocationSize(), new HiLoAllocator.BlockSource()
+                {
+                    @Override
+                    public long nextBlock()
+                    {
+                        Jedis jedis = ((RedisClient) client).factory.getConnection();
+                        return jedis.incr(((RedisClient) client).getEncodedBytes(discriptor.getSequenceName()));
+                    }
+                });
     }
 
 }
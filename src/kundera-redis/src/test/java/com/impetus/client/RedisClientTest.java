@@ -151,6 +151,41 @@ public class RedisClientTest
 
     }
 
+    @Test
+    public void testFindAllWithPipeline()
+    {
+        Map<String, String> pipelineProperty = new HashMap<String, String>(1);
+        pipelineProperty.put(RedisClient.PIPELINE_SIZE, "3");
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory(REDIS_PU, pipelineProperty);
+        EntityManager em = emf.createEntityManager();
+        Map<String, Client> clients = (Map<String, Client>) em.getDelegate();
+        RedisClient client = (RedisClient) clients.get(REDIS_PU);
+
+        Object[] keys = new Object[8];
+        for (int i = 0; i < 7; i++)
+        {
+            PersonRedis object = new PersonRedis();
+            object.setAge(20 + i);
+            object.setPersonId(ROW_KEY + i);
+            object.setPersonName("vivek");
+            em.persist(object);
+            keys[i] = ROW_KEY + i;
+        }
+        // not persisted.
+        keys[7] = ROW_KEY + 7;
+        em.clear();
+
+        List<PersonRedis> results = client.findAll(PersonRedis.class, null, keys);
+        Assert.assertEquals(7, results.size());
+        for (int i = 0; i < 7; i++)
+        {
+            Assert.assertEquals(ROW_KEY + i, results.get(i).getPersonId());
+            Assert.assertEquals(Integer.valueOf(20 + i), results.get(i).getAge());
+        }
+        em.close();
+        emf.close();
+    }
+
     @Test
     public void testPersistJoinTableData()
     {
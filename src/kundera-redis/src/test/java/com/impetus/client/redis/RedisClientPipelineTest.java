@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * * Copyright 2026 Impetus Infotech.
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ ******************************************************************************/
+package com.impetus.client.redis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.persistence.PersistenceException;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.impetus.client.entities.PersonRedis;
+import com.impetus.kundera.client.Client;
+
+/**
+ * Test case for reads of {@link RedisClient} falling back to key by key reads
+ * when a fetch pipeline fails. Connections are stubs, so no redis server is
+ * needed: a stub connection to a closed port fails on first command.
+ */
+public class RedisClientPipelineTest
+{
+    private static final String PU = "redisPipeline_pu";
+
+    /** Connections handed out by factory, in order. */
+    private static LinkedList<Jedis> connections = new LinkedList<Jedis>();
+
+    /** Connections released to factory. */
+    private static List<Jedis> released = new ArrayList<Jedis>();
+
+    /** Connections released to factory as broken. */
+    private static List<Jedis> broken = new ArrayList<Jedis>();
+
+    private EntityManagerFactory emf;
+
+    private EntityManager em;
+
+    @Before
+    public void setUp()
+    {
+        connections.clear();
+        released.clear();
+        broken.clear();
+        emf = Persistence.createEntityManagerFactory(PU);
+        em = emf.createEntityManager();
+    }
+
+    @After
+    public void tearDown()
+    {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    public void testFindAllOnPipelineFailure()
+    {
+        Jedis failing = new StubJedis(null);
+        Map<String, Map<byte[], byte[]>> rows = new HashMap<String, Map<byte[], byte[]>>();
+        rows.put("PERSON_REDIS:1", row("1", "vivek"));
+        rows.put("PERSON_REDIS:3", row("3", "kuldeep"));
+        Jedis healthy = new StubJedis(rows);
+        connections.add(failing);
+        connections.add(healthy);
+
+        List<PersonRedis> results = getClient().findAll(PersonRedis.class, null, "1", "2", "3");
+
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("1", results.get(0).getPersonId());
+        Assert.assertEquals("vivek", results.get(0).getPersonName());
+        Assert.assertEquals("3", results.get(1).getPersonId());
+        Assert.assertEquals("kuldeep", results.get(1).getPersonName());
+
+        // failed connection goes back as broken, new one is released as usual.
+        Assert.assertEquals(1, broken.size());
+        Assert.assertSame(failing, broken.get(0));
+        Assert.assertEquals(1, released.size());
+        Assert.assertSame(healthy, released.get(0));
+    }
+
+    @Test
+    public void testFindAllOnRepeatedFailure()
+    {
+        Jedis failing = new StubJedis(null);
+        Jedis alsoFailing = new StubJedis(null);
+        connections.add(failing);
+        connections.add(alsoFailing);
+
+        try
+        {
+            getClient().findAll(PersonRedis.class, null, "1", "2", "3");
+            Assert.fail("Should have failed on second broken connection");
+        }
+        catch (PersistenceException pex)
+        {
+            Assert.assertEquals(2, broken.size());
+            Assert.assertSame(failing, broken.get(0));
+            Assert.assertSame(alsoFailing, broken.get(1));
+            Assert.assertTrue(released.isEmpty());
+        }
+    }
+
+    private RedisClient getClient()
+    {
+        Map<String, Client> clients = (Map<String, Client>) em.getDelegate();
+        return (RedisClient) clients.get(PU);
+    }
+
+    private Map<byte[], byte[]> row(String id, String name)
+    {
+        Map<byte[], byte[]> columns = new HashMap<byte[], byte[]>();
+        columns.put("PERSON_ID".getBytes(), id.getBytes());
+        columns.put("PERSON_NAME".getBytes(), name.getBytes());
+        return columns;
+    }
+
+    /**
+     * Connection to a closed port, so that every command not served from
+     * given rows fails with a connection error.
+     */
+    private static class StubJedis extends Jedis
+    {
+        private final Map<String, Map<byte[], byte[]>> rows;
+
+        StubJedis(Map<String, Map<byte[], byte[]>> rows)
+        {
+            super("localhost", 1);
+            this.rows = rows;
+        }
+
+        @Override
+        public Map<byte[], byte[]> hgetAll(byte[] key)
+        {
+            if (rows == null)
+            {
+                return super.hgetAll(key);
+            }
+            Map<byte[], byte[]> columns = rows.get(new String(key));
+            return columns != null ? columns : new HashMap<byte[], byte[]>();
+        }
+    }
+
+    /**
+     * Client factory handing out stub connections instead of pooled ones.
+     */
+    public static class StubRedisClientFactory extends RedisClientFactory
+    {
+        @Override
+        protected Object createPoolOrConnection()
+        {
+            return null;
+        }
+
+        @Override
+        Jedis getConnection()
+        {
+            return connections.poll();
+        }
+
+        @Override
+        void releaseConnection(Jedis res)
+        {
+            released.add(res);
+        }
+
+        @Override
+        void releaseBrokenConnection(Jedis res)
+        {
+            broken.add(res);
+        }
+    }
+}